@@ -0,0 +1,149 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.metrics.HistogramSnapshot;
+import ch.unil.softarch.luxurycarrental.domain.metrics.LatencyHistogram;
+import ch.unil.softarch.luxurycarrental.domain.metrics.MetricsRegistry;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingPipeline;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingRequest;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingResult;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingRules;
+import ch.unil.softarch.luxurycarrental.domain.reservation.ReservationBook;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives a {@link BookingPipeline} with bursts of booking requests and reports p50/p99
+ * latency and throughput for increasing concurrency, once with the pipeline's
+ * per-task executor (virtual threads on Java 21+) and once with a fixed pool of
+ * platform threads.
+ * <p>
+ * The confirm stage sleeps to stand in for blocking I/O. Requests pick a random car
+ * of the fleet and random dates, so some of them conflict. Not a JMH benchmark, as
+ * it measures per-request latency under load; run it with
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@load-generator -Dload.args="[requests per level] [I/O millis] [fixed pool threads]"
+ * </pre>
+ */
+public final class BookingLoadGenerator {
+
+    private static final int[] CONCURRENCY = {16, 64, 256, 1024};
+    private static final int FLEET_SIZE = 2_000;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private BookingLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        long ioMillis = args.length > 1 ? Long.parseLong(args[1]) : 5;
+        int fixedThreads = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+
+        List<Car> fleet = fleet();
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        ExecutorService probe = BookingPipeline.newPerTaskExecutor();
+        String perTask = probe.getClass().getSimpleName().contains("ThreadPool") ? "cached pool" : "virtual";
+        probe.shutdown();
+
+        System.out.printf("%d requests per level, %d ms of I/O per confirmation, Java %s%n",
+                requests, ioMillis, Runtime.version().feature());
+        System.out.printf("%-22s %11s %10s %10s %12s %9s%n", "executor", "concurrency", "p50 ms", "p99 ms", "requests/s", "confirmed");
+        run(null, fleet, customer, requests, ioMillis, 64);  // Warm-up
+        for (int concurrency : CONCURRENCY) {
+            print("per-task " + perTask, concurrency,
+                    run(null, fleet, customer, requests, ioMillis, concurrency));
+            ExecutorService fixed = Executors.newFixedThreadPool(fixedThreads);
+            try {
+                print("fixed(" + fixedThreads + ")", concurrency,
+                        run(fixed, fleet, customer, requests, ioMillis, concurrency));
+            } finally {
+                fixed.shutdown();
+            }
+        }
+    }
+
+    private static final class Level {
+        final HistogramSnapshot latency;
+        final double throughput;
+        final int confirmed;
+
+        Level(HistogramSnapshot latency, double throughput, int confirmed) {
+            this.latency = latency;
+            this.throughput = throughput;
+            this.confirmed = confirmed;
+        }
+    }
+
+    /**
+     * @param executor executor of a fixed pool, or null for the pipeline's per-task executor
+     */
+    private static Level run(ExecutorService executor, List<Car> fleet, Customer customer, int requests,
+                             long ioMillis, int concurrency) throws Exception {
+        ReservationBook reservations = new ReservationBook();
+        PricingEngine pricing = new PricingEngine(new PricingRules(), START, 365);
+        BookingPipeline.Confirmation io = booking -> Thread.sleep(ioMillis);
+        BookingPipeline pipeline = executor == null
+                ? new BookingPipeline(reservations, pricing, io, concurrency)
+                : new BookingPipeline(reservations, pricing, io, concurrency, executor);
+        LatencyHistogram latency = new MetricsRegistry().histogram("booking_seconds", "Booking latency");
+        AtomicInteger confirmed = new AtomicInteger();
+        Random random = new Random(7);
+        List<CompletableFuture<Void>> done = new ArrayList<>(requests);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            LocalDate start = START.plusDays(random.nextInt(350));
+            BookingRequest request = new BookingRequest(fleet.get(random.nextInt(fleet.size())), customer,
+                    start, start.plusDays(1 + random.nextInt(7)));
+            done.add(pipeline.submit(request).thenAccept((BookingResult result) -> {
+                latency.record(result.getLatencyNanos());
+                if (result.isConfirmed()) {
+                    confirmed.incrementAndGet();
+                }
+            }));
+        }
+        CompletableFuture.allOf(done.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        pipeline.close();
+        return new Level(latency.snapshot(), requests / seconds, confirmed.get());
+    }
+
+    private static void print(String executor, int concurrency, Level level) {
+        System.out.printf("%-22s %11d %10.2f %10.2f %12.0f %9d%n", executor, concurrency,
+                level.latency.valueAtQuantile(0.5) / 1e6, level.latency.valueAtQuantile(0.99) / 1e6,
+                level.throughput, level.confirmed);
+    }
+
+    private static List<Car> fleet() {
+        CarType type = new CarType();
+        type.setId(UUID.randomUUID());
+        type.setCategory("SUV");
+        List<Car> fleet = new ArrayList<>(FLEET_SIZE);
+        for (int i = 0; i < FLEET_SIZE; i++) {
+            Car car = new Car();
+            car.setId(UUID.randomUUID());
+            car.setCarType(type);
+            car.setStatus(CarStatus.AVAILABLE);
+            car.setDailyRentalPrice(Money.of(250));
+            car.setDepositAmount(Money.of(2_000));
+            fleet.add(car);
+        }
+        return fleet;
+    }
+}
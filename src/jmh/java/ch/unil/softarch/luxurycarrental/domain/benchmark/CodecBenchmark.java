@@ -0,0 +1,209 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.codec.BinaryWriter;
+import ch.unil.softarch.luxurycarrental.domain.codec.BookingView;
+import ch.unil.softarch.luxurycarrental.domain.codec.EntityCodec;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot encoding of a {@link Car} (with its {@link CarType}) and a {@link Booking}:
+ * the binary {@link EntityCodec} against {@code Serializable} and Jackson.
+ * <p>
+ * Encoded sizes are printed once per trial. {@code bookingViewScan} sums the total
+ * cost of {@value #SCAN_SIZE} packed bookings in place with a {@link BookingView},
+ * {@code bookingDecodeScan} decodes each into an entity first.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final int SCAN_SIZE = 10_000;
+
+    private Car car;
+    private Booking booking;
+    private ObjectMapper jackson;
+    private BinaryWriter writer;
+
+    private byte[] carBinary;
+    private byte[] carJava;
+    private byte[] carJson;
+    private byte[] bookingBinary;
+    private byte[] bookingJson;
+    private ByteBuffer packedBookings;
+    private final BookingView view = new BookingView();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CarType type = new CarType("Sport", "Porsche", "911 Carrera", "3.0L Twin-Turbo", 385, 293, 4.2, 1505.0,
+                DriveType.REAR_WHEEL_DRIVE, Transmission.AUTOMATIC, 4, "Rear-engine sports car",
+                List.of("GPS", "Bluetooth", "Sport Chrono"));
+        type.setId(UUID.randomUUID());
+        car = new Car("VD-123456", type, Money.of(450), Money.of(5000), CarStatus.AVAILABLE, "https://example.com/911.jpg",
+                LocalDate.of(2023, 3, 1), LocalDate.of(2025, 6, 1), "WP0ZZZ99ZTS392124", "Guards Red",
+                LocalDate.of(2026, 3, 1));
+        car.setId(UUID.randomUUID());
+        // The binary booking references car and customer by ID, so Jackson and Java get ID-only stubs too
+        Car carRef = new Car();
+        carRef.setId(car.getId());
+        Customer customerRef = new Customer();
+        customerRef.setId(UUID.randomUUID());
+        booking = new Booking(carRef, customerRef, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 5),
+                Money.of(1800), Money.of(5000), BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+        booking.setBookingId(UUID.randomUUID());
+
+        jackson = new ObjectMapper().registerModule(new JavaTimeModule());
+        writer = new BinaryWriter();
+
+        carBinary = EntityCodec.encode(car);
+        carJava = javaSerialize(car);
+        carJson = jackson.writeValueAsBytes(car);
+        bookingBinary = EntityCodec.encode(booking);
+        bookingJson = jackson.writeValueAsBytes(booking);
+
+        BinaryWriter packed = new BinaryWriter(SCAN_SIZE * EntityCodec.BOOKING_SIZE);
+        for (int i = 0; i < SCAN_SIZE; i++) {
+            booking.setTotalCost(Money.ofMinor(i));
+            EntityCodec.write(booking, packed);
+        }
+        packedBookings = packed.toByteBuffer();
+
+        System.out.printf("%nCar: binary %d, Serializable %d, Jackson %d bytes; booking: binary %d, Serializable %d, Jackson %d bytes%n",
+                carBinary.length, carJava.length, carJson.length,
+                bookingBinary.length, javaSerialize(booking).length, bookingJson.length);
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    // -------------------------------------------------------------------------
+    // Car
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public int carEncodeBinary() {
+        writer.reset();
+        EntityCodec.write(car, writer);
+        return writer.size();
+    }
+
+    @Benchmark
+    public Car carDecodeBinary() {
+        return EntityCodec.decodeCar(carBinary);
+    }
+
+    @Benchmark
+    public byte[] carEncodeSerializable() throws IOException {
+        return javaSerialize(car);
+    }
+
+    @Benchmark
+    public Object carDecodeSerializable() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(carJava))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] carEncodeJackson() throws IOException {
+        return jackson.writeValueAsBytes(car);
+    }
+
+    @Benchmark
+    public Car carDecodeJackson() throws IOException {
+        return jackson.readValue(carJson, Car.class);
+    }
+
+    // -------------------------------------------------------------------------
+    // Booking
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public int bookingEncodeBinary() {
+        writer.reset();
+        EntityCodec.write(booking, writer);
+        return writer.size();
+    }
+
+    @Benchmark
+    public Booking bookingDecodeBinary() {
+        return EntityCodec.decodeBooking(bookingBinary);
+    }
+
+    @Benchmark
+    public byte[] bookingEncodeJackson() throws IOException {
+        return jackson.writeValueAsBytes(booking);
+    }
+
+    @Benchmark
+    public Booking bookingDecodeJackson() throws IOException {
+        return jackson.readValue(bookingJson, Booking.class);
+    }
+
+    // -------------------------------------------------------------------------
+    // Scans
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long bookingViewScan() {
+        long total = 0;
+        for (int i = 0; i < SCAN_SIZE; i++) {
+            total += view.wrap(packedBookings, i * EntityCodec.BOOKING_SIZE).getTotalCostMinorUnits();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long bookingDecodeScan() {
+        ByteBuffer buffer = packedBookings.duplicate();
+        long total = 0;
+        for (int i = 0; i < SCAN_SIZE; i++) {
+            total += EntityCodec.decodeBooking(buffer).getTotalCost().getMinorUnits();
+        }
+        return total;
+    }
+}
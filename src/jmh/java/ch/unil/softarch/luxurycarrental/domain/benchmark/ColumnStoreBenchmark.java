@@ -0,0 +1,152 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.BookingColumnStore;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard queries over historical bookings: a {@code List<Booking>} of entities
+ * against the off-heap {@link BookingColumnStore}.
+ * <p>
+ * {@code revenue} sums the total cost of completed bookings overlapping one month,
+ * {@code bookedDays} counts the car-days active bookings occupy in that month.
+ * The heap retained by the entity list and the off-heap size of the store are
+ * printed once per trial.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ColumnStoreBenchmark {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 6, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 7, 1);
+
+    @Param({"1000000"})
+    public int bookings;
+
+    private List<Booking> rows;
+    private BookingColumnStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17);
+        Car[] cars = new Car[2_000];
+        for (int i = 0; i < cars.length; i++) {
+            cars[i] = new Car();
+            cars[i].setId(UUID.randomUUID());
+        }
+        Customer[] customers = new Customer[50_000];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer();
+            customers[i].setId(UUID.randomUUID());
+        }
+        BookingStatus[] statuses = BookingStatus.values();
+        LocalDate first = LocalDate.of(2020, 1, 1);
+
+        long heapBefore = usedHeap();
+        rows = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate start = first.plusDays(random.nextInt(5 * 365));
+            BookingStatus status = statuses[random.nextInt(statuses.length)];
+            Booking booking = new Booking(cars[random.nextInt(cars.length)], customers[random.nextInt(customers.length)],
+                    start, start.plusDays(1 + random.nextInt(14)), Money.ofMinor(10_000 + random.nextInt(1_000_000)),
+                    Money.of(5_000), status,
+                    status == BookingStatus.EXPIRED ? PaymentStatus.CANCELLED : PaymentStatus.SUCCESSFUL);
+            booking.setBookingId(UUID.randomUUID());
+            rows.add(booking);
+        }
+        long listHeap = usedHeap() - heapBefore;
+
+        heapBefore = usedHeap();
+        store = new BookingColumnStore();
+        store.appendAll(rows);
+        long storeHeap = usedHeap() - heapBefore;
+
+        System.out.printf("%nList<Booking>: %,d bytes heap; BookingColumnStore: %,d bytes off-heap + %,d bytes heap%n",
+                listHeap, store.offHeapBytes(), storeHeap);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // -------------------------------------------------------------------------
+    // Revenue
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public long revenueList() {
+        long total = 0;
+        for (Booking booking : rows) {
+            if (booking.getBookingStatus() == BookingStatus.COMPLETED
+                    && booking.getStartDate().isBefore(MONTH_END) && booking.getEndDate().isAfter(MONTH_START)) {
+                total += booking.getTotalCost().getMinorUnits();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money revenueColumns() {
+        return store.select()
+                .withBookingStatus(BookingStatus.COMPLETED)
+                .overlapping(MONTH_START, MONTH_END)
+                .sumTotalCost();
+    }
+
+    // -------------------------------------------------------------------------
+    // Utilization
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public long bookedDaysList() {
+        long from = MONTH_START.toEpochDay();
+        long to = MONTH_END.toEpochDay();
+        long days = 0;
+        for (Booking booking : rows) {
+            if (booking.getBookingStatus().blocksCar()) {
+                days += Math.max(0, Math.min(booking.getEndDate().toEpochDay(), to)
+                        - Math.max(booking.getStartDate().toEpochDay(), from));
+            }
+        }
+        return days;
+    }
+
+    @Benchmark
+    public long bookedDaysColumns() {
+        return store.select()
+                .withBookingStatus(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.COMPLETED)
+                .bookedDays(MONTH_START, MONTH_END);
+    }
+}
@@ -0,0 +1,111 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.maintenance.DeadlineAlert;
+import ch.unil.softarch.luxurycarrental.domain.maintenance.FleetDeadlineScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the cars whose maintenance or insurance falls due on a day, for a fleet
+ * with two deadlines per car.
+ * <p>
+ * {@code nightlyScan} walks every car and compares both dates, as the nightly job
+ * did. {@code wheelTick} advances the {@link FleetDeadlineScheduler} by one day and
+ * renews the cars that fired, so the number of scheduled deadlines stays constant.
+ * {@code reschedule} moves the insurance deadline of one random car.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class DeadlineSchedulerBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+
+    @Param({"500000"})
+    public int cars;
+
+    private List<Car> fleet;
+    private Map<UUID, Car> byId;
+    private FleetDeadlineScheduler scheduler;
+    private LocalDate day;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(7);
+        fleet = new ArrayList<>(cars);
+        byId = new HashMap<>(cars * 2);
+        scheduler = new FleetDeadlineScheduler(START, FleetDeadlineScheduler.DEFAULT_MAINTENANCE_INTERVAL_DAYS,
+                null, cars);
+        for (int i = 0; i < cars; i++) {
+            Car car = new Car();
+            car.setId(UUID.randomUUID());
+            car.setLastMaintenanceDate(START.minusDays(random.nextInt(365)));
+            car.setInsuranceExpiryDate(START.plusDays(random.nextInt(3 * 365)));
+            fleet.add(car);
+            byId.put(car.getId(), car);
+            scheduler.schedule(car);
+        }
+        day = START;
+    }
+
+    @Benchmark
+    public int nightlyScan() {
+        LocalDate today = START.plusDays(200);
+        int due = 0;
+        for (Car car : fleet) {
+            if (!car.getLastMaintenanceDate().plusDays(365).isAfter(today)) {
+                due++;
+            }
+            if (car.getInsuranceExpiryDate().isBefore(today)) {
+                due++;
+            }
+        }
+        return due;
+    }
+
+    @Benchmark
+    public int wheelTick() {
+        day = day.plusDays(1);
+        List<DeadlineAlert> fired = scheduler.advanceTo(day);
+        for (DeadlineAlert alert : fired) {
+            Car car = byId.get(alert.getCarId());
+            car.setLastMaintenanceDate(day);
+            car.setInsuranceExpiryDate(day.plusYears(1));
+            scheduler.schedule(car);
+        }
+        return fired.size();
+    }
+
+    @Benchmark
+    public int reschedule() {
+        Car car = fleet.get(random.nextInt(fleet.size()));
+        car.setInsuranceExpiryDate(car.getInsuranceExpiryDate().plusDays(1 + random.nextInt(30)));
+        scheduler.schedule(car);
+        return scheduler.size();
+    }
+}
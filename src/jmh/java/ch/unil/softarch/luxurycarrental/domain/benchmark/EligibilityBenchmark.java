@@ -0,0 +1,107 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.eligibility.EligibilityEngine;
+import ch.unil.softarch.luxurycarrental.domain.eligibility.EligibilityRules;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One customer against every car of the fleet, as on a search page.
+ * <p>
+ * {@code perCarRules} evaluates the rules car by car through the entities, the way
+ * the checks were done before. {@code compiled} runs the column program on every
+ * call, because the customer's balance changes each time; {@code cached} reuses the
+ * customer's bitmask and only repeats the identity and licence checks.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityBenchmark {
+
+    private static final LocalDate END = LocalDate.of(2025, 7, 15);
+
+    @Param({"10000"})
+    public int cars;
+
+    private List<Car> fleet;
+    private EligibilityEngine engine;
+    private Customer customer;
+    private long balance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(3);
+        String[] categories = {"Sedan", "Sport", "SUV", "Convertible"};
+        fleet = new ArrayList<>(cars);
+        for (int i = 0; i < cars; i++) {
+            CarType type = new CarType();
+            type.setId(UUID.randomUUID());
+            type.setCategory(categories[random.nextInt(categories.length)]);
+            type.setPower(100 + random.nextInt(900));
+            Car car = new Car();
+            car.setId(UUID.randomUUID());
+            car.setCarType(type);
+            car.setDepositAmount(Money.of(random.nextInt(20) * 1_000L));
+            fleet.add(car);
+        }
+        engine = new EligibilityEngine(new EligibilityRules()
+                .requireVerifiedIdentity()
+                .requireValidLicense()
+                .minimumAge(21)
+                .minimumAge("Sport", 25)
+                .minimumAgeFromPower(700, 30)
+                .requireBalanceCoversDeposit(), fleet);
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setAge(27);
+        customer.setVerifiedIdentity(true);
+        customer.setDrivingLicenseExpiryDate(LocalDate.of(2027, 1, 1));
+        customer.setBalance(Money.of(8_000));
+    }
+
+    @Benchmark
+    public int perCarRules() {
+        int eligible = 0;
+        for (Car car : fleet) {
+            eligible += engine.explain(customer, car, END).isEmpty() ? 1 : 0;
+        }
+        return eligible;
+    }
+
+    @Benchmark
+    public BitSet compiled() {
+        customer.setBalance(Money.ofMinor(800_000 + (balance++ & 1)));  // Invalidates the cached bitmask
+        return engine.eligibleCars(customer, END);
+    }
+
+    @Benchmark
+    public BitSet cached() {
+        return engine.eligibleCars(customer, END);
+    }
+}
@@ -0,0 +1,217 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Admin;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the entity hot paths: construction, {@code toString()}, ID generation when
+ * an entity is constructed, hashing and Jackson / JSON-B serialization.
+ * <p>
+ * Run with the default GC profiler to get {@code gc.alloc.rate.norm}, the number of
+ * bytes allocated per call.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final LocalDate END = LocalDate.of(2025, 11, 5);
+
+    private CarType carType;
+    private Car car;
+    private Customer customer;
+    private Booking booking;
+    private Admin admin;
+    private ObjectMapper jackson;
+    private Jsonb jsonb;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        carType = newCarType();
+        carType.setId(UUID.randomUUID());
+        car = newCar(carType);
+        car.setId(UUID.randomUUID());
+        customer = new Customer(UUID.randomUUID(), "Alice", "Smith", "alice.smith@example.com", "secret",
+                "+41 21 000 00 00", "DL123456", null, 35, true, "Quartier UNIL-Chamberonne, Lausanne", Money.of(5000));
+        booking = newBooking(car, customer);
+        booking.setBookingId(UUID.randomUUID());
+        admin = new Admin("admin", "secret", "Admin", "admin@example.com");
+        admin.setId(UUID.randomUUID());
+
+        jackson = new ObjectMapper().registerModule(new JavaTimeModule());
+        jsonb = JsonbBuilder.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    private static CarType newCarType() {
+        return new CarType("Sport", "Porsche", "911 Carrera", "3.0L Twin-Turbo", 385, 293, 4.2, 1505.0,
+                DriveType.REAR_WHEEL_DRIVE, Transmission.AUTOMATIC, 4, "Rear-engine sports car",
+                List.of("GPS", "Bluetooth", "Sport Chrono"));
+    }
+
+    private static Car newCar(CarType type) {
+        return new Car("VD-123456", type, Money.of(450), Money.of(5000), CarStatus.AVAILABLE, "https://example.com/911.jpg",
+                LocalDate.of(2023, 3, 1), LocalDate.of(2025, 6, 1), "WP0ZZZ99ZTS392124", "Guards Red",
+                LocalDate.of(2026, 3, 1));
+    }
+
+    private static Booking newBooking(Car car, Customer customer) {
+        return new Booking(car, customer, START, END, Money.of(1800), Money.of(5000),
+                BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+    }
+
+    // -------------------------------------------------------------------------
+    // Construction
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public CarType constructCarType() {
+        return newCarType();
+    }
+
+    @Benchmark
+    public Car constructCar() {
+        return newCar(carType);
+    }
+
+    @Benchmark
+    public Booking constructBooking() {
+        return newBooking(car, customer);
+    }
+
+    // -------------------------------------------------------------------------
+    // toString
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public String carTypeToString() {
+        return carType.toString();
+    }
+
+    @Benchmark
+    public String carToString() {
+        return car.toString();
+    }
+
+    @Benchmark
+    public String bookingToString() {
+        return booking.toString();
+    }
+
+    @Benchmark
+    public String customerToString() {
+        return customer.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // ID generation (at construction)
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID newCarWithId() {
+        return new Car().getId();
+    }
+
+    @Benchmark
+    public UUID newBookingWithId() {
+        return new Booking().getBookingId();
+    }
+
+    // -------------------------------------------------------------------------
+    // Hashing
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public int adminHashCode() {
+        return admin.hashCode();
+    }
+
+    @Benchmark
+    public int carHashCode() {
+        return car.hashCode();
+    }
+
+    @Benchmark
+    public int bookingIdHashCode() {
+        return booking.getBookingId().hashCode();
+    }
+
+    // -------------------------------------------------------------------------
+    // Serialization
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public String jacksonCar() throws JsonProcessingException {
+        return jackson.writeValueAsString(car);
+    }
+
+    @Benchmark
+    public String jacksonBooking() throws JsonProcessingException {
+        return jackson.writeValueAsString(booking);
+    }
+
+    @Benchmark
+    public Booking jacksonBookingRoundTrip() throws JsonProcessingException {
+        return jackson.readValue(jackson.writeValueAsString(booking), Booking.class);
+    }
+
+    @Benchmark
+    public String jsonbCar() {
+        return jsonb.toJson(car);
+    }
+
+    @Benchmark
+    public String jsonbBooking() {
+        return jsonb.toJson(booking);
+    }
+
+    @Benchmark
+    public Booking jsonbBookingRoundTrip() {
+        return jsonb.fromJson(jsonb.toJson(booking), Booking.class);
+    }
+}
@@ -0,0 +1,75 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.logging.EntityLog;
+import ch.unil.softarch.luxurycarrental.domain.logging.LogfmtWriter;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting one booking for a log line. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}.
+ * <p>
+ * {@code toStringLine} concatenates the fields with {@code toString()}.
+ * {@code logfmtString} writes them into the thread's {@link LogfmtWriter} and copies
+ * the line out once; {@code logfmtReused} stops before that copy, as when the buffer
+ * is handed to an appender.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityLogBenchmark {
+
+    private Booking booking;
+    private LogfmtWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        booking = new Booking(car, customer, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 5),
+                Money.of(2_000), Money.of(500), BookingStatus.PENDING, PaymentStatus.PENDING);
+        booking.setBookingId(UUID.randomUUID());
+        writer = new LogfmtWriter();
+    }
+
+    @Benchmark
+    public String toStringLine() {
+        return "event=booking.created " + booking;
+    }
+
+    @Benchmark
+    public String logfmtString() {
+        return EntityLog.write(booking, LogfmtWriter.forCurrentThread().add("event", "booking.created")).toString();
+    }
+
+    @Benchmark
+    public int logfmtReused() {
+        EntityLog.write(booking, writer.reset().add("event", "booking.created"));
+        return writer.length();
+    }
+}
@@ -0,0 +1,102 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * De-duplicating bookings after a detach / merge cycle: every booking is present
+ * twice, as the original instance and as a reloaded copy with the same ID.
+ * <p>
+ * {@code identitySet} is the behaviour before entities compared by ID: it runs fast
+ * but keeps both copies. {@code idKeyedMap} is the usual workaround, a map keyed by
+ * the booking ID that hashes the {@code UUID} on every call. {@code entitySet} relies
+ * on the ID-based {@code equals} and the cached hash of the entities. Each returns
+ * the number of distinct bookings it found.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntitySetBenchmark {
+
+    @Param({"10000"})
+    public int bookings;
+
+    private List<Booking> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UuidV7Generator generator = new UuidV7Generator();
+        rows = new ArrayList<>(bookings * 2);
+        for (int i = 0; i < bookings; i++) {
+            UUID id = generator.next();
+            Booking original = new Booking();
+            original.setBookingId(id);
+            Booking reloaded = new Booking();
+            reloaded.setBookingId(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+            rows.add(original);
+            rows.add(reloaded);
+        }
+        Collections.shuffle(rows, new Random(17));
+    }
+
+    @Benchmark
+    public int identitySet() {
+        Set<Booking> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(rows);
+        return distinct.size();
+    }
+
+    @Benchmark
+    public int idKeyedMap() {
+        Map<UUID, Booking> distinct = new HashMap<>();
+        for (Booking booking : rows) {
+            distinct.putIfAbsent(booking.getBookingId(), booking);
+        }
+        return distinct.size();
+    }
+
+    @Benchmark
+    public int entitySet() {
+        Set<Booking> distinct = new HashSet<>();
+        distinct.addAll(rows);
+        return distinct.size();
+    }
+
+    @Benchmark
+    public boolean entitySetLookup() {
+        Set<Booking> distinct = new HashSet<>(rows);
+        boolean all = true;
+        for (Booking booking : rows) {
+            all &= distinct.contains(booking);
+        }
+        return all;
+    }
+}
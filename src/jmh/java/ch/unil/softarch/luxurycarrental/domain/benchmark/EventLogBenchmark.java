@@ -0,0 +1,129 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.eventlog.BookingEventLog;
+import ch.unil.softarch.luxurycarrental.domain.eventlog.BookingProjection;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Appending to and replaying the {@link BookingEventLog}.
+ * <p>
+ * {@code replayScan} reads one field of every event in place, which bounds the
+ * replay speed ({@value BookingEventLog#RECORD_SIZE} bytes per event);
+ * {@code replayProjection} rebuilds the full {@link BookingProjection}.
+ * The log lives in a temporary directory, usually in the page cache.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLogBenchmark {
+
+    @Param({"1000000"})
+    public int events;
+
+    private Path directory;
+    private BookingEventLog log;
+    private Booking booking;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-log-benchmark");
+        log = new BookingEventLog(directory);
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        booking = new Booking(car, customer, start, start.plusDays(3), Money.of(1350), Money.of(5000),
+                BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+        for (int i = 0; i < events; i++) {
+            booking.setBookingId(new UUID(1L, i));
+            log.append(booking);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        log.close();
+        delete(directory);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Separate log for appends, so that the replayed log keeps its size.
+     */
+    @State(Scope.Benchmark)
+    public static class AppendState {
+        Path directory;
+        BookingEventLog log;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("event-log-append");
+            log = new BookingEventLog(directory);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            log.close();
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long append(AppendState state) throws IOException {
+        return state.log.append(booking);
+    }
+
+    @Benchmark
+    public long replayScan() throws IOException {
+        long[] total = new long[1];
+        log.replay(1, event -> total[0] += event.getBooking().getTotalCostMinorUnits());
+        return total[0];
+    }
+
+    @Benchmark
+    public BookingProjection replayProjection() throws IOException {
+        BookingProjection projection = new BookingProjection();
+        projection.catchUp(log);
+        return projection;
+    }
+}
@@ -0,0 +1,135 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.FleetAggregator;
+import ch.unil.softarch.luxurycarrental.domain.analytics.UtilizationReport;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly utilization and revenue report over historical bookings with 1 to N
+ * fork-join workers.
+ * <p>
+ * {@code sequentialMaps} is the straightforward single-threaded version that
+ * navigates each booking to its car type and accumulates into hash maps per group.
+ * The speed-up of {@code aggregate} over {@code threads} is bounded by the number of
+ * cores of the machine running the benchmark.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class FleetAggregationBenchmark {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 6, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 7, 1);
+
+    @Param({"1000000"})
+    public int bookings;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private List<Booking> rows;
+    private FleetAggregator aggregator;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17);
+        String[] categories = {"Supercar", "Grand Tourer", "Limousine", "SUV", "Convertible"};
+        String[] brands = {"Ferrari", "Lamborghini", "Porsche", "Bentley", "Rolls-Royce", "Aston Martin", "McLaren"};
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Car car = new Car();
+            car.setId(UUID.randomUUID());
+            car.setCarType(new CarType(categories[i % categories.length], brands[i % brands.length], "Model " + i,
+                    "V8", 600, 320, 3.0, 1500, null, null, 2, "", List.of()));
+            fleet.add(car);
+        }
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        BookingStatus[] statuses = BookingStatus.values();
+        LocalDate first = LocalDate.of(2020, 1, 1);
+
+        rows = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate start = first.plusDays(random.nextInt(5 * 365));
+            BookingStatus status = statuses[random.nextInt(statuses.length)];
+            rows.add(new Booking(fleet.get(random.nextInt(fleet.size())), customer, start,
+                    start.plusDays(1 + random.nextInt(14)), Money.ofMinor(10_000 + random.nextInt(1_000_000)),
+                    Money.of(5_000), status,
+                    status == BookingStatus.EXPIRED ? PaymentStatus.CANCELLED : PaymentStatus.SUCCESSFUL));
+        }
+        aggregator = new FleetAggregator(fleet);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public UtilizationReport aggregate() {
+        return aggregator.aggregate(rows, MONTH_START, MONTH_END, pool);
+    }
+
+    @Benchmark
+    public Map<String, long[]> sequentialMaps() {
+        long from = MONTH_START.toEpochDay();
+        long to = MONTH_END.toEpochDay();
+        Map<String, long[]> byCategory = new HashMap<>();
+        Map<String, long[]> byBrand = new HashMap<>();
+        for (Booking booking : rows) {
+            if (!booking.getBookingStatus().blocksCar()) {
+                continue;
+            }
+            long start = booking.getStartDate().toEpochDay();
+            long days = Math.max(0, Math.min(booking.getEndDate().toEpochDay(), to) - Math.max(start, from));
+            long revenue = start >= from && start < to ? booking.getTotalCost().getMinorUnits() : 0;
+            if (days == 0 && revenue == 0) {
+                continue;
+            }
+            CarType type = booking.getCar().getCarType();
+            for (long[] totals : new long[][] {
+                    byCategory.computeIfAbsent(type.getCategory(), key -> new long[2]),
+                    byBrand.computeIfAbsent(type.getBrand(), key -> new long[2])}) {
+                totals[0] += days;
+                totals[1] += revenue;
+            }
+        }
+        byCategory.putAll(byBrand);
+        return byCategory;
+    }
+}
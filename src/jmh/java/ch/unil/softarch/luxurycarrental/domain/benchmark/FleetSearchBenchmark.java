@@ -0,0 +1,157 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.search.FleetQuery;
+import ch.unil.softarch.luxurycarrental.domain.search.FleetSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bitmap {@link FleetSearchIndex} with a row-by-row scan for the
+ * "available AWD automatic with at least 4 seats from Friday to Monday" search.
+ * <p>
+ * The default parameters (100k cars, 10M bookings) need a large heap; pass
+ * {@code -p cars=10000 -p bookings=1000000} for a quick run.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class FleetSearchBenchmark {
+
+    private static final LocalDate HORIZON_START = LocalDate.of(2025, 1, 1);
+    private static final int HORIZON_DAYS = 730;
+
+    @Param({"100000"})
+    public int cars;
+
+    @Param({"10000000"})
+    public int bookings;
+
+    private List<Car> fleet;
+    private List<Booking> allBookings;
+    private FleetSearchIndex index;
+    private FleetQuery query;
+    private LocalDate friday;
+    private LocalDate monday;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        String[] categories = {"SUV", "Sport", "Sedan", "Convertible", "Limousine"};
+        String[] brands = {"Audi", "BMW", "Mercedes", "Porsche", "Tesla", "Bentley", "Ferrari", "Volvo"};
+        DriveType[] driveTypes = DriveType.values();
+        Transmission[] transmissions = Transmission.values();
+
+        List<CarType> types = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            CarType type = new CarType();
+            type.setId(new UUID(random.nextLong(), random.nextLong()));
+            type.setCategory(categories[random.nextInt(categories.length)]);
+            type.setBrand(brands[random.nextInt(brands.length)]);
+            type.setModel("Model " + i);
+            type.setDriveType(driveTypes[random.nextInt(driveTypes.length)]);
+            type.setTransmission(transmissions[random.nextInt(transmissions.length)]);
+            type.setSeats(2 + random.nextInt(6));
+            types.add(type);
+        }
+
+        fleet = new ArrayList<>(cars);
+        for (int i = 0; i < cars; i++) {
+            Car car = new Car();
+            car.setId(new UUID(random.nextLong(), random.nextLong()));
+            car.setCarType(types.get(random.nextInt(types.size())));
+            car.setStatus(random.nextInt(10) == 0 ? CarStatus.UNAVAILABLE : CarStatus.AVAILABLE);
+            fleet.add(car);
+        }
+
+        BookingStatus[] statuses = BookingStatus.values();
+        allBookings = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate start = HORIZON_START.plusDays(random.nextInt(HORIZON_DAYS));
+            BookingStatus status = statuses[random.nextInt(statuses.length)];
+            Booking booking = new Booking(fleet.get(random.nextInt(cars)), null,
+                    start, start.plusDays(1 + random.nextInt(5)), Money.ZERO, Money.ZERO,
+                    status, status == BookingStatus.EXPIRED ? PaymentStatus.CANCELLED : PaymentStatus.SUCCESSFUL);
+            booking.setBookingId(new UUID(random.nextLong(), random.nextLong()));
+            allBookings.add(booking);
+        }
+
+        index = new FleetSearchIndex();
+        index.indexCars(fleet);
+        index.indexBookings(allBookings);
+
+        friday = HORIZON_START.plusDays(HORIZON_DAYS / 2);
+        while (friday.getDayOfWeek() != DayOfWeek.FRIDAY) {
+            friday = friday.plusDays(1);
+        }
+        monday = friday.plusDays(3);
+        query = new FleetQuery()
+                .status(CarStatus.AVAILABLE)
+                .driveTypes(DriveType.ALL_WHEEL_DRIVE, DriveType.ELECTRIC_AWD)
+                .transmissions(Transmission.AUTOMATIC)
+                .minSeats(4)
+                .window(friday, monday);
+    }
+
+    @Benchmark
+    public int bitmapSearch() {
+        return index.count(query);
+    }
+
+    @Benchmark
+    public int naiveScan() {
+        // Collect cars blocked during the window by walking every booking row
+        Set<UUID> blocked = new HashSet<>();
+        for (Booking booking : allBookings) {
+            if (booking.getBookingStatus().blocksCar()
+                    && booking.getStartDate().isBefore(monday)
+                    && booking.getEndDate().isAfter(friday)) {
+                blocked.add(booking.getCar().getId());
+            }
+        }
+        int count = 0;
+        for (Car car : fleet) {
+            CarType type = car.getCarType();
+            if (car.getStatus() == CarStatus.AVAILABLE
+                    && (type.getDriveType() == DriveType.ALL_WHEEL_DRIVE || type.getDriveType() == DriveType.ELECTRIC_AWD)
+                    && type.getTransmission() == Transmission.AUTOMATIC
+                    && type.getSeats() >= 4
+                    && !blocked.contains(car.getId())) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,102 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.ids.IdGenerator;
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidV7Generator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random (v4) versus time-ordered (v7) entity IDs.
+ * <p>
+ * {@code generate*} measures raw generation rate. {@code insertIntoIndex} inserts a
+ * batch of fresh IDs into a sorted map standing in for the primary-key B-tree, and
+ * reports as {@code rightEdgeInserts} how many of them landed after the current
+ * maximum key, i.e. on the last index page.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Generators {
+        final IdGenerator random = IdGenerator.RANDOM;
+        final IdGenerator v7 = new UuidV7Generator();
+    }
+
+    @State(Scope.Thread)
+    public static class Index {
+        @Param({"random", "v7"})
+        public String generator;
+
+        IdGenerator ids;
+        TreeMap<UUID, Boolean> primaryKey;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            ids = "v7".equals(generator) ? new UuidV7Generator() : IdGenerator.RANDOM;
+            primaryKey = new TreeMap<>();
+            for (int i = 0; i < 100_000; i++) {
+                primaryKey.put(ids.next(), Boolean.TRUE);
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Locality {
+        public long rightEdgeInserts;
+    }
+
+    @Benchmark
+    public UUID generateRandom(Generators generators) {
+        return generators.random.next();
+    }
+
+    @Benchmark
+    public UUID generateV7(Generators generators) {
+        return generators.v7.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateV7FourThreads(Generators generators) {
+        return generators.v7.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insertIntoIndex(Index index, Locality locality) {
+        TreeMap<UUID, Boolean> primaryKey = index.primaryKey;
+        for (int i = 0; i < BATCH; i++) {
+            UUID id = index.ids.next();
+            if (id.compareTo(primaryKey.lastKey()) > 0) {
+                locality.rightEdgeInserts++;
+            }
+            primaryKey.put(id, Boolean.TRUE);
+        }
+        return primaryKey.size();
+    }
+}
@@ -0,0 +1,70 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking a driving licence against the return day of a booking. Run with
+ * {@code -prof gc} and compare {@code gc.alloc.rate.norm}.
+ * <p>
+ * {@code legacyInstant} and {@code legacySqlDate} are the two conversions the check
+ * needed while the expiry date was a {@code java.util.Date}, through {@code Instant}
+ * and {@code ZoneId}, or through {@code java.sql.Date} for the instances JPA loads.
+ * {@code localDate} compares the {@link LocalDate} the customer now holds and
+ * {@code epochDays} the {@code int}s the eligibility engine works on.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LicenseCheckBenchmark {
+
+    private Date legacyExpiry;
+    private LocalDate expiry;
+    private LocalDate endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expiry = LocalDate.of(2027, 1, 1);
+        endDate = LocalDate.of(2026, 11, 5);
+        legacyExpiry = new Date(expiry.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Benchmark
+    public boolean legacyInstant() {
+        return !legacyExpiry.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().isBefore(endDate);
+    }
+
+    @Benchmark
+    public boolean legacySqlDate() {
+        return !new java.sql.Date(legacyExpiry.getTime()).toLocalDate().isBefore(endDate);
+    }
+
+    @Benchmark
+    public boolean localDate() {
+        return !expiry.isBefore(endDate);
+    }
+
+    @Benchmark
+    public boolean epochDays() {
+        return EpochDays.validOn(EpochDays.of(expiry), EpochDays.of(endDate));
+    }
+}
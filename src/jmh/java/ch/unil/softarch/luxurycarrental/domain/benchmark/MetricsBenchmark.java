@@ -0,0 +1,97 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.metrics.Counter;
+import ch.unil.softarch.luxurycarrental.domain.metrics.DomainMetrics;
+import ch.unil.softarch.luxurycarrental.domain.metrics.LatencyHistogram;
+import ch.unil.softarch.luxurycarrental.domain.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording one event, which must stay well below 50 ns. Run with
+ * {@code -prof gc} to confirm that recording does not allocate.
+ * <p>
+ * {@code timedEvent} is what an instrumented call adds: two {@code nanoTime()}
+ * reads and a histogram update; {@code nanoTimeBaseline} is the clock alone, whose
+ * cost depends on the machine's clock source. The category and status of the {@code DomainMetrics}
+ * benchmarks are resolved on every call, as on the real hot paths.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private Counter counter;
+    private LatencyHistogram histogram;
+    private DomainMetrics metrics;
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MetricsRegistry registry = new MetricsRegistry();
+        counter = registry.counter("events_total", "Events");
+        histogram = registry.histogram("event_seconds", "Event time");
+        metrics = new DomainMetrics(registry, new BookingStateMachine());
+    }
+
+    @Benchmark
+    public void counterIncrement() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value += 997);  // Spread over buckets
+    }
+
+    @Benchmark
+    public long nanoTimeBaseline() {
+        return System.nanoTime() - System.nanoTime();
+    }
+
+    @Benchmark
+    public void timedEvent() {
+        long started = System.nanoTime();
+        histogram.record(System.nanoTime() - started);
+    }
+
+    @Benchmark
+    public void availabilityChecked() {
+        metrics.availabilityChecked((value++ & 1) == 0, 850);
+    }
+
+    @Benchmark
+    public void priceQuoted() {
+        metrics.priceQuoted("SUV", 1_200);
+    }
+
+    @Benchmark
+    public void bookingCreated() {
+        metrics.bookingCreated("SUV", BookingStatus.PENDING, PaymentStatus.PENDING, 15_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramRecordContended() {
+        histogram.record(1_200);
+    }
+}
@@ -0,0 +1,97 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.BookingTotals;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nightly revenue aggregation: summing {@code totalCost} over an array of bookings.
+ * <p>
+ * {@code doubleSum} is the old naive sum and {@code bigDecimalSum} the old batch,
+ * which re-rounds every {@code double} row through {@link BigDecimal}. Both read the
+ * same amounts from a parallel array so that only the arithmetic differs.
+ * {@code moneySum} is {@link BookingTotals#totalCost(Booking[])} over the entities and
+ * {@code moneyPlusChain} folds with {@link Money#plus(Money)}, one allocation per row
+ * unless escape analysis removes it.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1000000"})
+    public int bookings;
+
+    private Booking[] rows;
+    private double[] doubleAmounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(11);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        rows = new Booking[bookings];
+        doubleAmounts = new double[bookings];
+        for (int i = 0; i < bookings; i++) {
+            long centimes = 5_000L + random.nextInt(2_000_000);
+            rows[i] = new Booking(null, null, start, start.plusDays(3), Money.ofMinor(centimes), Money.ZERO,
+                    BookingStatus.COMPLETED, PaymentStatus.SUCCESSFUL);
+            doubleAmounts[i] = centimes / 100.0;
+        }
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        double sum = 0.0;
+        for (double amount : doubleAmounts) {
+            sum += amount;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (double amount : doubleAmounts) {
+            sum = sum.add(BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_EVEN));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Money moneySum() {
+        return BookingTotals.totalCost(rows);
+    }
+
+    @Benchmark
+    public Money moneyPlusChain() {
+        Money sum = Money.ZERO;
+        for (Booking booking : rows) {
+            sum = sum.plus(booking.getTotalCost());
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.OccupancyView;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeping a yearly "cars out per day per category" report current after one booking
+ * changed: recomputing it from every booking against applying the change to an
+ * {@link OccupancyView}, then reading one month of car-days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OccupancyBenchmark {
+
+    private static final LocalDate YEAR_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2026, 1, 1);
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 6, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 7, 1);
+
+    @Param({"100000"})
+    public int bookings;
+
+    private List<Booking> rows;
+    private OccupancyView view;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(17);
+        String[] categories = {"Supercar", "Grand Tourer", "Limousine", "SUV", "Convertible"};
+        Car[] cars = new Car[500];
+        for (int i = 0; i < cars.length; i++) {
+            cars[i] = new Car();
+            cars[i].setId(UUID.randomUUID());
+            cars[i].setCarType(new CarType(categories[i % categories.length], "Brand", "Model", "V8",
+                    600, 320, 3.0, 1500, null, null, 2, "", List.of()));
+        }
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+
+        rows = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate start = YEAR_START.plusDays(random.nextInt(365));
+            Booking booking = new Booking(cars[random.nextInt(cars.length)], customer, start,
+                    start.plusDays(1 + random.nextInt(14)), Money.of(1_000), Money.of(5_000),
+                    BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+            booking.setBookingId(UUID.randomUUID());
+            rows.add(booking);
+        }
+        view = new OccupancyView(OccupancyView.Dimension.CATEGORY, YEAR_START, YEAR_END);
+        view.applyAll(rows);
+    }
+
+    private Booking shiftOne() {
+        Booking booking = rows.get(random.nextInt(rows.size()));
+        int days = (int) (booking.getEndDate().toEpochDay() - booking.getStartDate().toEpochDay());
+        LocalDate start = YEAR_START.plusDays(random.nextInt(365));
+        booking.setStartDate(start);
+        booking.setEndDate(start.plusDays(days));
+        return booking;
+    }
+
+    @Benchmark
+    public long recompute() {
+        shiftOne();
+        int firstDay = (int) YEAR_START.toEpochDay();
+        Map<String, int[]> perDay = new HashMap<>();
+        for (Booking booking : rows) {
+            int[] counts = perDay.computeIfAbsent(booking.getCar().getCarType().getCategory(), key -> new int[365]);
+            int end = Math.min(365, (int) booking.getEndDate().toEpochDay() - firstDay);
+            for (int day = (int) booking.getStartDate().toEpochDay() - firstDay; day < end; day++) {
+                counts[day]++;
+            }
+        }
+        long carDays = 0;
+        for (int day = (int) MONTH_START.toEpochDay() - firstDay; day < MONTH_END.toEpochDay() - firstDay; day++) {
+            carDays += perDay.get("Supercar")[day];
+        }
+        return carDays;
+    }
+
+    @Benchmark
+    public long incremental() {
+        view.apply(shiftOne());
+        return view.carDays("Supercar", MONTH_START, MONTH_END);
+    }
+}
@@ -0,0 +1,136 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.reservation.ReservationBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking attempts per second against {@link ReservationBook} as the thread count grows,
+ * compared with the same book serialized behind one global lock.
+ * <p>
+ * Each thread keeps a window of its most recent reservations and releases the
+ * oldest one when the window is full, so the book stays at a steady size.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationBenchmark {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"cas", "global-lock"})
+        public String mode;
+
+        @Param({"10000"})
+        public int cars;
+
+        ReservationBook book;
+        UUID[] carIds;
+        final Object globalLock = new Object();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            book = new ReservationBook();
+            carIds = new UUID[cars];
+            for (int i = 0; i < cars; i++) {
+                carIds[i] = UUID.randomUUID();
+            }
+        }
+
+        boolean reserve(UUID carId, UUID bookingId, LocalDate start, LocalDate end) {
+            if ("cas".equals(mode)) {
+                return book.reserve(carId, bookingId, start, end);
+            }
+            synchronized (globalLock) {
+                return book.reserve(carId, bookingId, start, end);
+            }
+        }
+
+        void release(UUID carId, UUID bookingId) {
+            if ("cas".equals(mode)) {
+                book.release(carId, bookingId);
+            } else {
+                synchronized (globalLock) {
+                    book.release(carId, bookingId);
+                }
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Window {
+        static final int SIZE = 1024;
+        final UUID[] cars = new UUID[SIZE];
+        final UUID[] bookings = new UUID[SIZE];
+        int next;
+    }
+
+    private static boolean attempt(Shared shared, Window window) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int slot = window.next++ & (Window.SIZE - 1);
+        if (window.bookings[slot] != null) {
+            shared.release(window.cars[slot], window.bookings[slot]);
+            window.bookings[slot] = null;
+        }
+        UUID carId = shared.carIds[random.nextInt(shared.carIds.length)];
+        UUID bookingId = new UUID(random.nextLong(), random.nextLong());
+        LocalDate start = BASE.plusDays(random.nextInt(365));
+        boolean reserved = shared.reserve(carId, bookingId, start, start.plusDays(1 + random.nextInt(7)));
+        if (reserved) {
+            window.cars[slot] = carId;
+            window.bookings[slot] = bookingId;
+        }
+        return reserved;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads01(Shared shared, Window window) {
+        return attempt(shared, window);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean threads02(Shared shared, Window window) {
+        return attempt(shared, window);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads04(Shared shared, Window window) {
+        return attempt(shared, window);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean threads08(Shared shared, Window window) {
+        return attempt(shared, window);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean threads16(Shared shared, Window window) {
+        return attempt(shared, window);
+    }
+}
@@ -0,0 +1,89 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of checking booking transitions with the {@link BookingStateMachine}.
+ * <p>
+ * {@code checkCounted} is what every status setter pays, including the counter
+ * update; {@code checkCountedContended} does the same from four threads.
+ * {@code validateBatch} checks {@code transitions} random transitions in one call.
+ * Run with {@code -prof gc} to confirm that none of them allocates.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateMachineBenchmark {
+
+    @Param({"1000000"})
+    public int transitions;
+
+    private final BookingStateMachine machine = new BookingStateMachine();
+    private int[] from;
+    private int[] to;
+    private boolean[] results;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(13);
+        int states = BookingStatus.values().length * PaymentStatus.values().length;
+        from = new int[transitions];
+        to = new int[transitions];
+        results = new boolean[transitions];
+        for (int i = 0; i < transitions; i++) {
+            from[i] = random.nextInt(states);
+            to[i] = random.nextInt(states);
+        }
+    }
+
+    @Benchmark
+    public boolean checkCounted() {
+        try {
+            machine.check(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL, BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean checkCountedContended() {
+        return checkCounted();
+    }
+
+    @Benchmark
+    public boolean isAllowedRandom() {
+        int i = cursor++ & (1 << 16) - 1;
+        return BookingStateMachine.isAllowed(from[i], to[i]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int validateBatch() {
+        return BookingStateMachine.validate(from, to, results);
+    }
+}
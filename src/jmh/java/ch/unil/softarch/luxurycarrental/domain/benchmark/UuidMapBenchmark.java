@@ -0,0 +1,132 @@
+package ch.unil.softarch.luxurycarrental.domain.benchmark;
+
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidMap;
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry lookups by entity ID: {@link HashMap} and {@link ConcurrentHashMap} against
+ * {@link UuidMap}, with time-ordered IDs as assigned by {@code EntityIds}.
+ * <p>
+ * Each lookup benchmark resolves {@value #LOOKUPS} IDs in random order, using copies
+ * of the keys as a request would. The heap retained by each map, UUID keys included,
+ * is printed once per trial.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class UuidMapBenchmark {
+
+    private static final int LOOKUPS = 1_024;
+
+    @Param({"1000000"})
+    public int entries;
+
+    private Map<UUID, Object> hashMap;
+    private Map<UUID, Object> concurrentMap;
+    private UuidMap<Object> uuidMap;
+    private UUID[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UuidV7Generator generator = new UuidV7Generator();
+        UUID[] ids = new UUID[entries];
+        Object[] entities = new Object[entries];
+        for (int i = 0; i < entries; i++) {
+            ids[i] = generator.next();
+            entities[i] = new Object();
+        }
+
+        long before = usedHeap();
+        hashMap = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            hashMap.put(new UUID(ids[i].getMostSignificantBits(), ids[i].getLeastSignificantBits()), entities[i]);
+        }
+        long hashMapHeap = usedHeap() - before;
+
+        before = usedHeap();
+        concurrentMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            concurrentMap.put(new UUID(ids[i].getMostSignificantBits(), ids[i].getLeastSignificantBits()), entities[i]);
+        }
+        long concurrentMapHeap = usedHeap() - before;
+
+        before = usedHeap();
+        uuidMap = new UuidMap<>();
+        for (int i = 0; i < entries; i++) {
+            uuidMap.put(ids[i], entities[i]);
+        }
+        long uuidMapHeap = usedHeap() - before;
+
+        System.out.printf("%nHashMap: %,d bytes; ConcurrentHashMap: %,d bytes; UuidMap: %,d bytes%n",
+                hashMapHeap, concurrentMapHeap, uuidMapHeap);
+
+        Random random = new Random(17);
+        probes = new UUID[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            UUID id = ids[random.nextInt(entries)];
+            probes[i] = new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int hashMapGet() {
+        int found = 0;
+        for (UUID probe : probes) {
+            found += hashMap.get(probe) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int concurrentHashMapGet() {
+        int found = 0;
+        for (UUID probe : probes) {
+            found += concurrentMap.get(probe) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int uuidMapGet() {
+        int found = 0;
+        for (UUID probe : probes) {
+            found += uuidMap.get(probe) != null ? 1 : 0;
+        }
+        return found;
+    }
+}
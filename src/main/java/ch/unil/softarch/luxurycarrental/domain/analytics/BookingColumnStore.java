@@ -0,0 +1,234 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only, off-heap columnar copy of historical bookings for dashboards.
+ * <p>
+ * Each booking becomes {@value #ROW_BYTES} bytes in primitive columns: start and end
+ * dates as epoch-day ints, total cost and deposit as minor units, statuses as
+ * ordinal bytes and car and customer as int indexes into per-store dictionaries.
+ * Columns live in direct {@link ByteBuffer} chunks of {@code chunkRows} rows, so the
+ * heap only holds the dictionaries and growing never copies existing rows.
+ * Booking IDs are not kept.
+ * </p>
+ * <p>
+ * Queries start with {@link #select()} and narrow a bitmap {@link BookingSelection}
+ * with filters, then aggregate over it. Both run as tight, branch-free loops over
+ * one column at a time. All amounts must share the store's currency.
+ * Not thread-safe: load the store, then query it from any number of threads.
+ * </p>
+ */
+public class BookingColumnStore {
+
+    public static final int DEFAULT_CHUNK_ROWS = 1 << 16;
+    public static final int ROW_BYTES = 34;
+
+    static final byte NULL_ORDINAL = -1;
+    static final int NULL_INDEX = -1;
+
+    /**
+     * Column views over one direct buffer, laid out column after column.
+     */
+    static final class Chunk {
+        final ByteBuffer memory;
+        final IntBuffer startDay;
+        final IntBuffer endDay;      // Exclusive
+        final LongBuffer totalCost;
+        final LongBuffer deposit;
+        final IntBuffer car;         // Dictionary index or NULL_INDEX
+        final IntBuffer customer;    // Dictionary index or NULL_INDEX
+        final ByteBuffer bookingStatus;
+        final ByteBuffer paymentStatus;
+
+        Chunk(int rows) {
+            memory = ByteBuffer.allocateDirect(rows * ROW_BYTES).order(ByteOrder.nativeOrder());
+            int offset = 0;
+            startDay = column(offset, rows * Integer.BYTES).asIntBuffer();
+            endDay = column(offset += rows * Integer.BYTES, rows * Integer.BYTES).asIntBuffer();
+            totalCost = column(offset += rows * Integer.BYTES, rows * Long.BYTES).asLongBuffer();
+            deposit = column(offset += rows * Long.BYTES, rows * Long.BYTES).asLongBuffer();
+            car = column(offset += rows * Long.BYTES, rows * Integer.BYTES).asIntBuffer();
+            customer = column(offset += rows * Integer.BYTES, rows * Integer.BYTES).asIntBuffer();
+            bookingStatus = column(offset += rows * Integer.BYTES, rows);
+            paymentStatus = column(offset + rows, rows);
+        }
+
+        private ByteBuffer column(int offset, int length) {
+            return memory.slice(offset, length).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private final int chunkRows;
+    private final Currency currency;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final Map<UUID, Integer> carIndexes = new HashMap<>();
+    private final List<UUID> carIds = new ArrayList<>();
+    private final Map<UUID, Integer> customerIndexes = new HashMap<>();
+    private final List<UUID> customerIds = new ArrayList<>();
+    private int size;
+
+    public BookingColumnStore() {
+        this(DEFAULT_CHUNK_ROWS, Money.DEFAULT_CURRENCY);
+    }
+
+    /**
+     * @param chunkRows rows per off-heap chunk, a positive multiple of 64
+     * @param currency  currency of all stored amounts
+     */
+    public BookingColumnStore(int chunkRows, Currency currency) {
+        if (chunkRows <= 0 || chunkRows % Long.SIZE != 0 || (long) chunkRows * ROW_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("chunkRows must be a positive multiple of 64: " + chunkRows);
+        }
+        this.chunkRows = chunkRows;
+        this.currency = currency;
+    }
+
+    // -------------------------------------------------------------------------
+    // Loading
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends one booking. Missing amounts count as zero; missing car, customer or statuses
+     * never match a filter on them.
+     *
+     * @return the row number
+     * @throws IllegalArgumentException if a date is missing or an amount is in another currency
+     */
+    public int append(Booking booking) {
+        if (booking.getStartDate() == null || booking.getEndDate() == null) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " has no dates");
+        }
+        long totalCost = minorUnits(booking.getTotalCost());
+        long deposit = minorUnits(booking.getDepositAmount());
+        if (size == chunks.size() * chunkRows) {
+            chunks.add(new Chunk(chunkRows));
+        }
+        Chunk chunk = chunks.get(size / chunkRows);
+        int row = size % chunkRows;
+        chunk.startDay.put(row, EpochDays.of(booking.getStartDate()));
+        chunk.endDay.put(row, EpochDays.of(booking.getEndDate()));
+        chunk.totalCost.put(row, totalCost);
+        chunk.deposit.put(row, deposit);
+        Car car = booking.getCar();
+        Customer customer = booking.getCustomer();
+        chunk.car.put(row, car == null ? NULL_INDEX : index(car.getId(), carIndexes, carIds));
+        chunk.customer.put(row, customer == null ? NULL_INDEX : index(customer.getId(), customerIndexes, customerIds));
+        chunk.bookingStatus.put(row, booking.getBookingStatus() == null
+                ? NULL_ORDINAL : (byte) booking.getBookingStatus().ordinal());
+        chunk.paymentStatus.put(row, booking.getPaymentStatus() == null
+                ? NULL_ORDINAL : (byte) booking.getPaymentStatus().ordinal());
+        return size++;
+    }
+
+    public void appendAll(Iterable<Booking> bookings) {
+        for (Booking booking : bookings) {
+            append(booking);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Selection of every row stored so far.
+     */
+    public BookingSelection select() {
+        return new BookingSelection(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Number of distinct cars referenced by the stored bookings.
+     */
+    public int carCount() {
+        return carIds.size();
+    }
+
+    public int customerCount() {
+        return customerIds.size();
+    }
+
+    /**
+     * Bytes of direct memory held by the column chunks.
+     */
+    public long offHeapBytes() {
+        return (long) chunks.size() * chunkRows * ROW_BYTES;
+    }
+
+    // -------------------------------------------------------------------------
+    // Package-private access for the operators
+    // -------------------------------------------------------------------------
+
+    int chunkRows() {
+        return chunkRows;
+    }
+
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    Chunk chunk(int index) {
+        return chunks.get(index);
+    }
+
+    int carIndex(UUID carId) {
+        Integer index = carIndexes.get(carId);
+        return index == null ? NULL_INDEX : index;
+    }
+
+    UUID carId(int index) {
+        return carIds.get(index);
+    }
+
+    int customerIndex(UUID customerId) {
+        Integer index = customerIndexes.get(customerId);
+        return index == null ? NULL_INDEX : index;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private long minorUnits(Money amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        if (!amount.getCurrency().equals(currency)) {
+            throw new IllegalArgumentException("Amount " + amount + " is not in " + currency);
+        }
+        return amount.getMinorUnits();
+    }
+
+    private static int index(UUID id, Map<UUID, Integer> indexes, List<UUID> ids) {
+        if (id == null) {
+            return NULL_INDEX;
+        }
+        return indexes.computeIfAbsent(id, key -> {
+            ids.add(key);
+            return ids.size() - 1;
+        });
+    }
+}
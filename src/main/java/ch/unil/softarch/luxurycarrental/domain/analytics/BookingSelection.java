@@ -0,0 +1,260 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.BookingColumnStore.Chunk;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set of rows of a {@link BookingColumnStore}, kept as one bit per row.
+ * <p>
+ * Filters AND a predicate over one column into the bitmap, 64 rows per word, and
+ * return the selection for chaining. Aggregates read only the columns they need
+ * and mask unselected rows arithmetically instead of branching. A selection covers
+ * the rows that existed when it was created.
+ * </p>
+ * <pre>
+ * Money revenue = store.select()
+ *         .withBookingStatus(BookingStatus.COMPLETED)
+ *         .overlapping(monthStart, monthEnd)
+ *         .sumTotalCost();
+ * </pre>
+ */
+public final class BookingSelection {
+
+    private final BookingColumnStore store;
+    private final int size;
+    private final long[] bits;
+
+    BookingSelection(BookingColumnStore store) {
+        this.store = store;
+        this.size = store.size();
+        this.bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (int word = 0; word < bits.length; word++) {
+            int remaining = size - word * Long.SIZE;
+            bits[word] = remaining >= Long.SIZE ? -1L : (1L << remaining) - 1;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Filters
+    // -------------------------------------------------------------------------
+
+    /**
+     * Keeps bookings whose {@code [startDate, endDate)} overlaps {@code [from, to)}.
+     */
+    public BookingSelection overlapping(LocalDate from, LocalDate to) {
+        int fromDay = EpochDays.of(from);
+        int toDay = EpochDays.of(to);
+        forEachWord((chunk, row, count, word) -> {
+            IntBuffer start = chunk.startDay;
+            IntBuffer end = chunk.endDay;
+            long mask = 0L;
+            for (int i = 0; i < count; i++) {
+                boolean hit = start.get(row + i) < toDay & end.get(row + i) > fromDay;
+                mask |= (hit ? 1L : 0L) << i;
+            }
+            bits[word] &= mask;
+        });
+        return this;
+    }
+
+    /**
+     * Keeps bookings starting in {@code [from, to)}.
+     */
+    public BookingSelection startingBetween(LocalDate from, LocalDate to) {
+        int fromDay = EpochDays.of(from);
+        int toDay = EpochDays.of(to);
+        forEachWord((chunk, row, count, word) -> {
+            IntBuffer start = chunk.startDay;
+            long mask = 0L;
+            for (int i = 0; i < count; i++) {
+                int day = start.get(row + i);
+                mask |= (day >= fromDay & day < toDay ? 1L : 0L) << i;
+            }
+            bits[word] &= mask;
+        });
+        return this;
+    }
+
+    public BookingSelection withBookingStatus(BookingStatus... statuses) {
+        long accepted = 0L;
+        for (BookingStatus status : statuses) {
+            accepted |= 1L << status.ordinal();
+        }
+        return withOrdinal(accepted, true);
+    }
+
+    public BookingSelection withPaymentStatus(PaymentStatus... statuses) {
+        long accepted = 0L;
+        for (PaymentStatus status : statuses) {
+            accepted |= 1L << status.ordinal();
+        }
+        return withOrdinal(accepted, false);
+    }
+
+    public BookingSelection forCar(UUID carId) {
+        return withIndex(store.carIndex(carId), true);
+    }
+
+    public BookingSelection forCustomer(UUID customerId) {
+        return withIndex(store.customerIndex(customerId), false);
+    }
+
+    // -------------------------------------------------------------------------
+    // Aggregates
+    // -------------------------------------------------------------------------
+
+    public int count() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public Money sumTotalCost() {
+        return Money.ofMinor(sum(true), store.getCurrency());
+    }
+
+    public Money sumDepositAmount() {
+        return Money.ofMinor(sum(false), store.getCurrency());
+    }
+
+    /**
+     * Number of car-days the selected bookings occupy within {@code [from, to)}.
+     */
+    public long bookedDays(LocalDate from, LocalDate to) {
+        int fromDay = EpochDays.of(from);
+        int toDay = EpochDays.of(to);
+        long[] total = new long[1];
+        forEachWord((chunk, row, count, word) -> {
+            IntBuffer start = chunk.startDay;
+            IntBuffer end = chunk.endDay;
+            long selected = bits[word];
+            long days = 0L;
+            for (int i = 0; i < count; i++) {
+                int overlap = Math.max(0, Math.min(end.get(row + i), toDay) - Math.max(start.get(row + i), fromDay));
+                days += overlap & -(int) (selected >>> i & 1L);
+            }
+            total[0] += days;
+        });
+        return total[0];
+    }
+
+    /**
+     * Share of the fleet's car-days in {@code [from, to)} occupied by the selected bookings.
+     *
+     * @param fleetSize number of cars available for rent in the period
+     */
+    public double utilization(LocalDate from, LocalDate to, int fleetSize) {
+        long capacity = (long) fleetSize * (to.toEpochDay() - from.toEpochDay());
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Empty period or fleet");
+        }
+        return (double) bookedDays(from, to) / capacity;
+    }
+
+    /**
+     * Total cost of the selected bookings per car. Bookings without a car are skipped.
+     */
+    public Map<UUID, Money> sumTotalCostByCar() {
+        long[] totals = new long[store.carCount()];
+        boolean[] seen = new boolean[store.carCount()];
+        forEachWord((chunk, row, count, word) -> {
+            IntBuffer car = chunk.car;
+            LongBuffer cost = chunk.totalCost;
+            long selected = bits[word];
+            while (selected != 0) {
+                int i = Long.numberOfTrailingZeros(selected);
+                int index = car.get(row + i);
+                if (index != BookingColumnStore.NULL_INDEX) {
+                    totals[index] = Math.addExact(totals[index], cost.get(row + i));
+                    seen[index] = true;
+                }
+                selected &= selected - 1;
+            }
+        });
+        Map<UUID, Money> byCar = new HashMap<>();
+        for (int index = 0; index < totals.length; index++) {
+            if (seen[index]) {
+                byCar.put(store.carId(index), Money.ofMinor(totals[index], store.getCurrency()));
+            }
+        }
+        return byCar;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Body of a scan over one 64-row word of the selection.
+     */
+    @FunctionalInterface
+    private interface WordScan {
+        void scan(Chunk chunk, int row, int count, int word);
+    }
+
+    private void forEachWord(WordScan scan) {
+        int chunkRows = store.chunkRows();
+        int wordsPerChunk = chunkRows / Long.SIZE;
+        for (int word = 0; word < bits.length; word++) {
+            Chunk chunk = store.chunk(word / wordsPerChunk);
+            int row = (word % wordsPerChunk) * Long.SIZE;
+            scan.scan(chunk, row, Math.min(Long.SIZE, size - word * Long.SIZE), word);
+        }
+    }
+
+    private long sum(boolean totalCost) {
+        long[] total = new long[1];
+        forEachWord((chunk, row, count, word) -> {
+            LongBuffer column = totalCost ? chunk.totalCost : chunk.deposit;
+            long selected = bits[word];
+            long sum = 0L;
+            for (int i = 0; i < count; i++) {
+                sum += column.get(row + i) & -(selected >>> i & 1L);
+            }
+            total[0] = Math.addExact(total[0], sum);
+        });
+        return total[0];
+    }
+
+    private BookingSelection withOrdinal(long accepted, boolean bookingStatus) {
+        forEachWord((chunk, row, count, word) -> {
+            ByteBuffer column = bookingStatus ? chunk.bookingStatus : chunk.paymentStatus;
+            long mask = 0L;
+            for (int i = 0; i < count; i++) {
+                int ordinal = column.get(row + i);  // NULL_ORDINAL shifts by 63, above every ordinal
+                mask |= (accepted >>> (ordinal & 63) & 1L) << i;
+            }
+            bits[word] &= mask;
+        });
+        return this;
+    }
+
+    private BookingSelection withIndex(int index, boolean car) {
+        if (index == BookingColumnStore.NULL_INDEX) {
+            Arrays.fill(bits, 0L);
+            return this;
+        }
+        forEachWord((chunk, row, count, word) -> {
+            IntBuffer column = car ? chunk.car : chunk.customer;
+            long mask = 0L;
+            for (int i = 0; i < count; i++) {
+                mask |= (column.get(row + i) == index ? 1L : 0L) << i;
+            }
+            bits[word] &= mask;
+        });
+        return this;
+    }
+}
@@ -0,0 +1,266 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel per-car, per-category and per-brand utilization and revenue over a period.
+ * <p>
+ * The fleet is resolved once into dense car ordinals with their category and brand
+ * group, so scanning a booking costs one lookup of its car instead of navigating
+ * {@code booking.getCar().getCarType()} and hashing group names. The booking list is split into
+ * fork-join tasks; each leaf accumulates into its own primitive {@code long[]}
+ * (bookings, booked days and revenue per car ordinal), and partial arrays are added
+ * up while joining, so workers never share a counter. Category and brand totals are
+ * folded from the per-car totals at the end.
+ * </p>
+ * <p>
+ * Only bookings whose status still blocks the car are counted: booked days are
+ * clipped to {@code [from, to)}, and revenue is the total cost of the bookings
+ * starting in the period. Bookings of cars outside the fleet are skipped.
+ * An aggregator is immutable and can serve concurrent runs.
+ * </p>
+ */
+public class FleetAggregator {
+
+    public static final int DEFAULT_SPLIT_THRESHOLD = 8192;
+    private static final int TASKS_PER_WORKER = 4;  // Enough slack for work stealing
+
+    // Accumulator layout per car ordinal
+    private static final int BOOKINGS = 0;
+    private static final int BOOKED_DAYS = 1;
+    private static final int REVENUE = 2;
+    private static final int STRIDE = 3;
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();  // Car ID -> ordinal
+    private final Map<Car, Integer> instances = new IdentityHashMap<>();  // Fleet instance -> ordinal
+    private final UUID[] carIds;
+    private final int[] categoryOf;  // Car ordinal -> index in categories
+    private final int[] brandOf;     // Car ordinal -> index in brands
+    private final List<String> categories = new ArrayList<>();
+    private final List<String> brands = new ArrayList<>();
+    private final int splitThreshold;
+    private final Currency currency;
+
+    public FleetAggregator(Collection<Car> fleet) {
+        this(fleet, DEFAULT_SPLIT_THRESHOLD, Money.DEFAULT_CURRENCY);
+    }
+
+    /**
+     * @param fleet          cars to report on; each must have an ID
+     * @param splitThreshold minimum number of bookings a task scans instead of splitting
+     * @param currency       currency of all booking costs
+     */
+    public FleetAggregator(Collection<Car> fleet, int splitThreshold, Currency currency) {
+        if (splitThreshold <= 0) {
+            throw new IllegalArgumentException("splitThreshold must be positive: " + splitThreshold);
+        }
+        this.splitThreshold = splitThreshold;
+        this.currency = currency;
+        this.carIds = new UUID[fleet.size()];
+        this.categoryOf = new int[fleet.size()];
+        this.brandOf = new int[fleet.size()];
+
+        Map<String, Integer> categoryKeys = new HashMap<>();
+        Map<String, Integer> brandKeys = new HashMap<>();
+        for (Car car : fleet) {
+            if (car.getId() == null) {
+                throw new IllegalArgumentException("Car " + car.getLicensePlate() + " has no ID");
+            }
+            int ordinal = ordinals.size();
+            if (ordinals.putIfAbsent(car.getId(), ordinal) != null) {
+                throw new IllegalArgumentException("Car " + car.getId() + " is listed twice");
+            }
+            instances.put(car, ordinal);
+            CarType type = car.getCarType();
+            carIds[ordinal] = car.getId();
+            categoryOf[ordinal] = group(type == null ? null : type.getCategory(), categoryKeys, categories);
+            brandOf[ordinal] = group(type == null ? null : type.getBrand(), brandKeys, brands);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Aggregation
+    // -------------------------------------------------------------------------
+
+    public UtilizationReport aggregate(List<Booking> bookings, LocalDate from, LocalDate to) {
+        return aggregate(bookings, from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates the bookings over {@code [from, to)} on the given pool.
+     *
+     * @throws IllegalArgumentException if the period is empty or a cost is in another currency
+     */
+    public UtilizationReport aggregate(List<Booking> bookings, LocalDate from, LocalDate to, ForkJoinPool pool) {
+        int fromDay = EpochDays.of(from);
+        int toDay = EpochDays.of(to);
+        if (toDay <= fromDay) {
+            throw new IllegalArgumentException("Empty period " + from + " - " + to);
+        }
+        List<Booking> rows = bookings instanceof RandomAccess ? bookings : new ArrayList<>(bookings);
+        // Every leaf allocates and merges a full accumulator, so split only as far as the pool can use
+        int leafSize = Math.max(splitThreshold, rows.size() / (pool.getParallelism() * TASKS_PER_WORKER) + 1);
+        long[] totals = pool.invoke(new AggregationTask(rows, 0, rows.size(), leafSize, fromDay, toDay));
+        return report(totals, from, to, toDay - fromDay);
+    }
+
+    /**
+     * Scans a range of the booking list, or splits it in two and adds up the halves.
+     */
+    private final class AggregationTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Booking> bookings;
+        private final int start;
+        private final int end;
+        private final int leafSize;
+        private final int fromDay;
+        private final int toDay;
+
+        AggregationTask(List<Booking> bookings, int start, int end, int leafSize, int fromDay, int toDay) {
+            this.bookings = bookings;
+            this.start = start;
+            this.end = end;
+            this.leafSize = leafSize;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (end - start <= leafSize) {
+                return scan();
+            }
+            int middle = (start + end) >>> 1;
+            AggregationTask left = new AggregationTask(bookings, start, middle, leafSize, fromDay, toDay);
+            left.fork();
+            long[] totals = new AggregationTask(bookings, middle, end, leafSize, fromDay, toDay).compute();
+            long[] leftTotals = left.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] = Math.addExact(totals[i], leftTotals[i]);
+            }
+            return totals;
+        }
+
+        private long[] scan() {
+            long[] totals = new long[carIds.length * STRIDE + 1];  // Last slot: skipped bookings
+            int skipped = carIds.length * STRIDE;
+            for (int i = start; i < end; i++) {
+                Booking booking = bookings.get(i);
+                if (booking.getBookingStatus() == null || !booking.getBookingStatus().blocksCar()) {
+                    continue;
+                }
+                if (booking.getStartDate() == null || booking.getEndDate() == null) {
+                    totals[skipped]++;
+                    continue;
+                }
+                int startDay = EpochDays.of(booking.getStartDate());
+                int endDay = EpochDays.of(booking.getEndDate());
+                int bookedDays = Math.max(0, Math.min(endDay, toDay) - Math.max(startDay, fromDay));
+                boolean startsInPeriod = startDay >= fromDay && startDay < toDay;
+                if (bookedDays == 0 && !startsInPeriod) {
+                    continue;
+                }
+                Integer ordinal = ordinal(booking.getCar());
+                if (ordinal == null) {
+                    totals[skipped]++;
+                    continue;
+                }
+                int base = ordinal * STRIDE;
+                totals[base + BOOKINGS]++;
+                totals[base + BOOKED_DAYS] += bookedDays;
+                if (startsInPeriod && booking.getTotalCost() != null) {
+                    totals[base + REVENUE] = Math.addExact(totals[base + REVENUE], minorUnits(booking.getTotalCost()));
+                }
+            }
+            return totals;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private UtilizationReport report(long[] totals, LocalDate from, LocalDate to, int days) {
+        long[] categoryTotals = new long[categories.size() * STRIDE];
+        long[] brandTotals = new long[brands.size() * STRIDE];
+        int[] categoryCars = new int[categories.size()];
+        int[] brandCars = new int[brands.size()];
+        long[] fleetTotals = new long[STRIDE];
+        Map<UUID, GroupStats> byCar = new LinkedHashMap<>();
+        for (int car = 0; car < carIds.length; car++) {
+            for (int field = 0; field < STRIDE; field++) {
+                long value = totals[car * STRIDE + field];
+                categoryTotals[categoryOf[car] * STRIDE + field] += value;
+                brandTotals[brandOf[car] * STRIDE + field] += value;
+                fleetTotals[field] += value;
+            }
+            categoryCars[categoryOf[car]]++;
+            brandCars[brandOf[car]]++;
+            byCar.put(carIds[car], stats(totals, car, 1, days));
+        }
+        return new UtilizationReport(from, to, stats(fleetTotals, 0, carIds.length, days), byCar,
+                groups(categories, categoryTotals, categoryCars, days), groups(brands, brandTotals, brandCars, days),
+                totals[carIds.length * STRIDE]);
+    }
+
+    private Map<String, GroupStats> groups(List<String> names, long[] totals, int[] cars, int days) {
+        Map<String, GroupStats> groups = new LinkedHashMap<>();
+        for (int group = 0; group < names.size(); group++) {
+            groups.put(names.get(group), stats(totals, group, cars[group], days));
+        }
+        return groups;
+    }
+
+    private GroupStats stats(long[] totals, int index, int cars, int days) {
+        int base = index * STRIDE;
+        return new GroupStats(cars, totals[base + BOOKINGS], totals[base + BOOKED_DAYS], (long) cars * days,
+                Money.ofMinor(totals[base + REVENUE], currency));
+    }
+
+    /**
+     * Bookings usually reference the fleet's own instances, which resolve by identity
+     * without hashing the UUID; copies fall back to the ID.
+     */
+    private Integer ordinal(Car car) {
+        if (car == null) {
+            return null;
+        }
+        Integer ordinal = instances.get(car);
+        return ordinal != null ? ordinal : ordinals.get(car.getId());
+    }
+
+    private long minorUnits(Money amount) {
+        if (!amount.getCurrency().equals(currency)) {
+            throw new IllegalArgumentException("Amount " + amount + " is not in " + currency);
+        }
+        return amount.getMinorUnits();
+    }
+
+    private static int group(String name, Map<String, Integer> keys, List<String> names) {
+        String key = name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+        return keys.computeIfAbsent(key, k -> {
+            names.add(name == null ? null : name.trim());
+            return names.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+/**
+ * Utilization and revenue of one car or group of cars over a {@link UtilizationReport}'s period.
+ */
+public final class GroupStats {
+
+    private final int cars;
+    private final long bookings;     // Active bookings overlapping the period
+    private final long bookedDays;   // Car-days occupied within the period
+    private final long calendarDays; // Car-days in the period: cars * days
+    private final Money revenue;     // Total cost of the bookings starting in the period
+
+    GroupStats(int cars, long bookings, long bookedDays, long calendarDays, Money revenue) {
+        this.cars = cars;
+        this.bookings = bookings;
+        this.bookedDays = bookedDays;
+        this.calendarDays = calendarDays;
+        this.revenue = revenue;
+    }
+
+    public int getCars() { return cars; }
+
+    public long getBookings() { return bookings; }
+
+    public long getBookedDays() { return bookedDays; }
+
+    public long getCalendarDays() { return calendarDays; }
+
+    public Money getRevenue() { return revenue; }
+
+    /**
+     * Booked days / calendar days; can exceed 1 if bookings of a car overlap.
+     */
+    public double getUtilization() {
+        return calendarDays == 0 ? 0.0 : (double) bookedDays / calendarDays;
+    }
+
+    @Override
+    public String toString() {
+        return "GroupStats{" +
+                "cars=" + cars +
+                ", bookings=" + bookings +
+                ", bookedDays=" + bookedDays +
+                ", utilization=" + String.format("%.3f", getUtilization()) +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * Day on which an {@link OccupancyView} disagrees with a full recompute.
+ */
+public final class OccupancyMismatch {
+
+    private final String group;
+    private final LocalDate day;
+    private final int expected;  // Cars out according to the recompute
+    private final int actual;    // Cars out according to the view
+
+    OccupancyMismatch(String group, LocalDate day, int expected, int actual) {
+        this.group = group;
+        this.day = day;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public String getGroup() { return group; }
+
+    public LocalDate getDay() { return day; }
+
+    public int getExpected() { return expected; }
+
+    public int getActual() { return actual; }
+
+    @Override
+    public String toString() {
+        return group + " on " + day + ": expected " + expected + " cars out, view has " + actual;
+    }
+}
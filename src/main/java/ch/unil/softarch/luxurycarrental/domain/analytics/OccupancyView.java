@@ -0,0 +1,404 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incrementally maintained "cars out per day" view over a fixed horizon, per car
+ * category or per car status.
+ * <p>
+ * Each group keeps two Fenwick trees that together support adding 1 to every day of
+ * a booking and reading both the count on one day and the car-days over a range as
+ * prefix sums, each in {@code O(log days)}. {@link #apply(Booking)} replaces the
+ * previous contribution of a booking, so creating, cancelling, completing or moving
+ * a booking costs two range updates instead of a recompute of the report.
+ * </p>
+ * <p>
+ * Like the {@code AvailabilityIndex}, only bookings whose status blocks the car are
+ * counted, dates are half-open and clipped to the horizon, and the view must be told
+ * about every change: re-apply a booking when it changes, and the bookings of a car
+ * whose category or status changed. {@link #verify(Collection)} compares the view
+ * with a full recompute. Reads and writes may come from different threads.
+ * </p>
+ */
+public class OccupancyView {
+
+    /**
+     * Attribute of the booked car the view is grouped by.
+     */
+    public enum Dimension {
+        CATEGORY,
+        CAR_STATUS
+    }
+
+    /**
+     * Days currently counted for a booking, used to undo them on updates.
+     */
+    private static final class Contribution {
+        final String key;
+        final int start;  // Offset in the horizon
+        final int end;    // Exclusive
+
+        Contribution(String key, int start, int end) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final Dimension dimension;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int firstDay;
+    private final int days;
+    private final Timeline total;
+    private final Map<String, Timeline> groups = new LinkedHashMap<>();         // Group key -> timeline
+    private final Map<UUID, Contribution> bookings = new HashMap<>();           // Booking ID -> counted days
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param from first day of the horizon
+     * @param to   day after the last day of the horizon
+     */
+    public OccupancyView(Dimension dimension, LocalDate from, LocalDate to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Empty horizon " + from + " - " + to);
+        }
+        this.dimension = dimension;
+        this.from = from;
+        this.to = to;
+        this.firstDay = EpochDays.of(from);
+        this.days = Math.subtractExact(EpochDays.of(to), firstDay);
+        this.total = new Timeline(null, days);
+    }
+
+    // -------------------------------------------------------------------------
+    // Updates
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds or refreshes a booking; bookings that no longer block their car are removed.
+     *
+     * @throws IllegalArgumentException if the booking has no ID, or blocks no car or invalid dates
+     */
+    public void apply(Booking booking) {
+        UUID bookingId = booking.getBookingId();
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking must have an ID before it can be counted");
+        }
+        Contribution updated = null;
+        String name = null;
+        if (booking.getBookingStatus() != null && booking.getBookingStatus().blocksCar()) {
+            if (booking.getCar() == null) {
+                throw new IllegalArgumentException("Booking " + bookingId + " has no car");
+            }
+            if (booking.getStartDate() == null || booking.getEndDate() == null
+                    || !booking.getEndDate().isAfter(booking.getStartDate())) {
+                throw new IllegalArgumentException("Booking " + bookingId + " has invalid dates");
+            }
+            name = groupName(booking.getCar());
+            int start = clip(booking.getStartDate().toEpochDay());
+            int end = clip(booking.getEndDate().toEpochDay());
+            updated = start < end ? new Contribution(key(name), start, end) : null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Contribution current = updated == null ? bookings.remove(bookingId) : bookings.put(bookingId, updated);
+            if (current != null) {
+                add(current, -1);
+            }
+            if (updated != null) {
+                String displayName = name;
+                groups.computeIfAbsent(updated.key, key -> new Timeline(displayName, days));
+                add(updated, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void applyAll(Iterable<Booking> bookings) {
+        for (Booking booking : bookings) {
+            apply(booking);
+        }
+    }
+
+    /**
+     * Removes a booking, e.g. after it was deleted.
+     *
+     * @return true if the booking was counted
+     */
+    public boolean remove(UUID bookingId) {
+        lock.writeLock().lock();
+        try {
+            Contribution current = bookings.remove(bookingId);
+            if (current != null) {
+                add(current, -1);
+            }
+            return current != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Number of cars of the group out on the given day.
+     *
+     * @param group a category (compared ignoring case and surrounding spaces) or a car status name
+     */
+    public int carsOut(String group, LocalDate day) {
+        lock.readLock().lock();
+        try {
+            Timeline timeline = groups.get(key(group));
+            return timeline == null ? 0 : (int) timeline.count(offset(day));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of cars of the whole fleet out on the given day.
+     */
+    public int carsOut(LocalDate day) {
+        lock.readLock().lock();
+        try {
+            return (int) total.count(offset(day));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Car-days of the group occupied in {@code [start, end)}.
+     */
+    public long carDays(String group, LocalDate start, LocalDate end) {
+        int first = rangeStart(start, end);
+        lock.readLock().lock();
+        try {
+            Timeline timeline = groups.get(key(group));
+            return timeline == null ? 0 : timeline.sum(first, end(end));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Car-days of the whole fleet occupied in {@code [start, end)}.
+     */
+    public long carDays(LocalDate start, LocalDate end) {
+        int first = rangeStart(start, end);
+        lock.readLock().lock();
+        try {
+            return total.sum(first, end(end));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups that had at least one booking, by their first seen spelling.
+     */
+    public List<String> groups() {
+        lock.readLock().lock();
+        try {
+            List<String> names = new ArrayList<>();
+            for (Timeline timeline : groups.values()) {
+                names.add(timeline.name);
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of bookings currently counted.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bookings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Dimension getDimension() { return dimension; }
+
+    public LocalDate getFrom() { return from; }
+
+    public LocalDate getTo() { return to; }
+
+    // -------------------------------------------------------------------------
+    // Consistency check
+    // -------------------------------------------------------------------------
+
+    /**
+     * Recomputes the daily counts from scratch and compares them with the view.
+     * <p>
+     * {@code bookings} must be every booking of the period, in its current state; a
+     * booking that was changed or deleted without updating the view shows up as a
+     * mismatch on the days it covers.
+     * </p>
+     *
+     * @return the differing days, ordered by group and day; empty if the view is consistent
+     */
+    public List<OccupancyMismatch> verify(Collection<Booking> bookings) {
+        Map<String, int[]> expected = new LinkedHashMap<>();
+        Map<String, String> names = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getBookingStatus() == null || !booking.getBookingStatus().blocksCar()
+                    || booking.getCar() == null || booking.getStartDate() == null || booking.getEndDate() == null) {
+                continue;
+            }
+            String name = groupName(booking.getCar());
+            int[] counts = expected.computeIfAbsent(key(name), key -> new int[days]);
+            names.putIfAbsent(key(name), name);
+            int end = clip(booking.getEndDate().toEpochDay());
+            for (int day = clip(booking.getStartDate().toEpochDay()); day < end; day++) {
+                counts[day]++;
+            }
+        }
+
+        List<OccupancyMismatch> mismatches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String key : groups.keySet()) {
+                expected.computeIfAbsent(key, k -> new int[days]);
+                names.putIfAbsent(key, groups.get(key).name);
+            }
+            for (Map.Entry<String, int[]> entry : expected.entrySet()) {
+                Timeline timeline = groups.get(entry.getKey());
+                int[] counts = entry.getValue();
+                for (int day = 0; day < days; day++) {
+                    int actual = timeline == null ? 0 : (int) timeline.count(day);
+                    if (actual != counts[day]) {
+                        mismatches.add(new OccupancyMismatch(names.get(entry.getKey()),
+                                LocalDate.ofEpochDay(firstDay + day), counts[day], actual));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return mismatches;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Daily counts of one group, with range updates and range sums over two Fenwick trees.
+     * <p>
+     * Adding {@code v} to days {@code [l, r)} adds {@code v} at {@code l} and {@code -v}
+     * at {@code r} in {@code perDay}, whose prefix sum is the count on a day. The
+     * matching corrections in {@code offsets} turn {@code prefix(perDay, i) * i - prefix(offsets, i)}
+     * into the sum of the counts of days {@code [0, i)}.
+     * </p>
+     */
+    private static final class Timeline {
+        final String name;
+        final long[] perDay;
+        final long[] offsets;
+
+        Timeline(String name, int days) {
+            this.name = name;
+            this.perDay = new long[days + 1];
+            this.offsets = new long[days + 1];
+        }
+
+        void add(int start, int end, int value) {
+            update(start, value, (long) value * start);
+            update(end, -value, -(long) value * end);
+        }
+
+        long count(int day) {
+            return prefix(perDay, day + 1);
+        }
+
+        long sum(int start, int end) {
+            return sumBefore(end) - sumBefore(start);
+        }
+
+        private long sumBefore(int day) {
+            return prefix(perDay, day) * day - prefix(offsets, day);
+        }
+
+        private void update(int day, long value, long offset) {
+            for (int i = day + 1; i < perDay.length; i += i & -i) {
+                perDay[i] += value;
+                offsets[i] += offset;
+            }
+        }
+
+        private static long prefix(long[] tree, int count) {
+            long sum = 0;
+            for (int i = count; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+
+    private void add(Contribution contribution, int value) {
+        groups.get(contribution.key).add(contribution.start, contribution.end, value);
+        total.add(contribution.start, contribution.end, value);
+    }
+
+    private String groupName(Car car) {
+        if (dimension == Dimension.CAR_STATUS) {
+            return car.getStatus() == null ? null : car.getStatus().name();
+        }
+        return car.getCarType() == null || car.getCarType().getCategory() == null
+                ? null : car.getCarType().getCategory().trim();
+    }
+
+    private static String key(String group) {
+        return group == null ? null : group.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private int clip(long epochDay) {
+        return (int) Math.max(0, Math.min(days, epochDay - firstDay));
+    }
+
+    private int offset(LocalDate day) {
+        long offset = day.toEpochDay() - firstDay;
+        if (offset < 0 || offset >= days) {
+            throw new IllegalArgumentException(day + " is outside the horizon " + from + " - " + to);
+        }
+        return (int) offset;
+    }
+
+    private int rangeStart(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End date must not be before start date: " + start + " / " + end);
+        }
+        return offset(start);
+    }
+
+    private int end(LocalDate end) {
+        long offset = end.toEpochDay() - firstDay;
+        if (offset > days) {
+            throw new IllegalArgumentException(end + " is outside the horizon " + from + " - " + to);
+        }
+        return (int) offset;
+    }
+}
@@ -0,0 +1,50 @@
+package ch.unil.softarch.luxurycarrental.domain.analytics;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result of a {@link FleetAggregator} run over {@code [from, to)}.
+ * <p>
+ * Groups are keyed by car ID, by category and by brand. Category and brand keys use
+ * the spelling of the first car seen with that value, compared case-insensitively;
+ * cars without a type are grouped under {@code null}.
+ * </p>
+ */
+public final class UtilizationReport {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final GroupStats total;
+    private final Map<UUID, GroupStats> byCar;
+    private final Map<String, GroupStats> byCategory;
+    private final Map<String, GroupStats> byBrand;
+    private final long skippedBookings;  // Bookings of cars outside the fleet
+
+    UtilizationReport(LocalDate from, LocalDate to, GroupStats total, Map<UUID, GroupStats> byCar,
+                      Map<String, GroupStats> byCategory, Map<String, GroupStats> byBrand, long skippedBookings) {
+        this.from = from;
+        this.to = to;
+        this.total = total;
+        this.byCar = Collections.unmodifiableMap(byCar);
+        this.byCategory = Collections.unmodifiableMap(byCategory);
+        this.byBrand = Collections.unmodifiableMap(byBrand);
+        this.skippedBookings = skippedBookings;
+    }
+
+    public LocalDate getFrom() { return from; }
+
+    public LocalDate getTo() { return to; }
+
+    public GroupStats getTotal() { return total; }
+
+    public Map<UUID, GroupStats> getByCar() { return byCar; }
+
+    public Map<String, GroupStats> getByCategory() { return byCategory; }
+
+    public Map<String, GroupStats> getByBrand() { return byBrand; }
+
+    public long getSkippedBookings() { return skippedBookings; }
+}
@@ -0,0 +1,258 @@
+package ch.unil.softarch.luxurycarrental.domain.availability;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.metrics.DomainMetrics;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory availability engine answering "is this car free between two dates".
+ * <p>
+ * For every {@link Car#getId()} the index keeps an {@link IntervalTree} of the
+ * bookings that still hold the car (see {@code BookingStatus.blocksCar()}), so
+ * overlap checks and next-free-date lookups no longer scan every booking row.
+ * Booking dates are treated as half-open ranges {@code [startDate, endDate)}.
+ * </p>
+ * <p>
+ * The index is updated incrementally: call {@link #index(Booking)} whenever a
+ * booking is created or its status or dates change, and {@link #remove(UUID)}
+ * when it is deleted. Reads and writes may come from different threads.
+ * </p>
+ */
+public class AvailabilityIndex {
+
+    /**
+     * Interval currently stored for a booking, used to locate it on updates.
+     */
+    private static final class IndexedBooking {
+        final UUID carId;
+        final int start;
+        final int end;
+
+        IndexedBooking(UUID carId, int start, int end) {
+            this.carId = carId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final Map<UUID, IntervalTree> timelines = new HashMap<>();      // Car ID -> active intervals
+    private final Map<UUID, IndexedBooking> bookings = new HashMap<>();     // Booking ID -> indexed interval
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile DomainMetrics metrics;  // Optional, times isAvailable
+
+    // -------------------------------------------------------------------------
+    // Updates
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds or refreshes a booking.
+     * <p>
+     * Bookings whose status no longer blocks the car (cancelled, rejected, expired)
+     * are dropped from the index; bookings whose car or dates changed are moved.
+     * </p>
+     *
+     * @param booking a booking with an assigned ID
+     * @throws IllegalArgumentException if the booking has no ID, or blocks a car with invalid dates
+     */
+    public void index(Booking booking) {
+        Car car = booking.getCar();
+        index(booking.getBookingId(), car == null ? null : car.getId(), booking.getBookingStatus(),
+                booking.getStartDate(), booking.getEndDate());
+    }
+
+    /**
+     * Adds or refreshes a booking from its fields, for callers that hold no entity,
+     * e.g. a projection replaying encoded events.
+     *
+     * @see #index(Booking)
+     */
+    public void index(UUID bookingId, UUID carId, BookingStatus status, LocalDate startDate, LocalDate endDate) {
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking must have an ID before it can be indexed");
+        }
+        IndexedBooking updated = null;
+        if (status != null && status.blocksCar()) {
+            if (carId == null) {
+                throw new IllegalArgumentException("Booking " + bookingId + " is not linked to a persisted car");
+            }
+            int start = EpochDays.startOf(startDate, endDate);
+            updated = new IndexedBooking(carId, start, EpochDays.of(endDate));
+        }
+
+        lock.writeLock().lock();
+        try {
+            IndexedBooking current = bookings.get(bookingId);
+            if (current != null && updated != null && current.carId.equals(updated.carId)
+                    && current.start == updated.start && current.end == updated.end) {
+                return;  // Nothing relevant changed
+            }
+            if (current != null) {
+                unlink(bookingId, current);
+            }
+            if (updated != null) {
+                bookings.put(bookingId, updated);
+                timelines.computeIfAbsent(updated.carId, id -> new IntervalTree())
+                        .insert(updated.start, updated.end, bookingId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a booking from the index, e.g. after it was deleted.
+     *
+     * @return true if the booking was indexed
+     */
+    public boolean remove(UUID bookingId) {
+        lock.writeLock().lock();
+        try {
+            IndexedBooking current = bookings.get(bookingId);
+            if (current == null) {
+                return false;
+            }
+            unlink(bookingId, current);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns true if no active booking of the car overlaps {@code [start, end)}.
+     */
+    public boolean isAvailable(UUID carId, LocalDate start, LocalDate end) {
+        DomainMetrics metrics = this.metrics;
+        long started = metrics == null ? 0L : System.nanoTime();
+        int from = EpochDays.startOf(start, end);
+        int to = EpochDays.of(end);
+        boolean available;
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = timelines.get(carId);
+            available = tree == null || !tree.overlaps(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (metrics != null) {
+            metrics.availabilityChecked(available, System.nanoTime() - started);
+        }
+        return available;
+    }
+
+    /**
+     * Returns the IDs of the active bookings of the car that overlap {@code [start, end)},
+     * ordered by start date.
+     */
+    public List<UUID> findOverlapping(UUID carId, LocalDate start, LocalDate end) {
+        int from = EpochDays.startOf(start, end);
+        int to = EpochDays.of(end);
+        List<UUID> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = timelines.get(carId);
+            if (tree != null) {
+                tree.collectOverlapping(from, to, result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the earliest pick-up date on or after {@code from} for which the car
+     * is free for {@code days} consecutive days.
+     */
+    public LocalDate nextFreeDate(UUID carId, LocalDate from, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("days must be positive: " + days);
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("Start date is required");
+        }
+        int day = EpochDays.of(from);
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = timelines.get(carId);
+            if (tree != null) {
+                day = tree.nextFree(day, days);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return LocalDate.ofEpochDay(day);
+    }
+
+    /**
+     * Returns the maximal free sub-ranges of {@code [from, to)} for the car, in date order.
+     */
+    public List<DateRange> freeSlots(UUID carId, LocalDate from, LocalDate to) {
+        int cursor = EpochDays.startOf(from, to);
+        int end = EpochDays.of(to);
+        List<DateRange> slots = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = timelines.get(carId);
+            while (cursor < end) {
+                int free = tree == null ? cursor : tree.nextFree(cursor, 1);
+                if (free >= end) {
+                    break;
+                }
+                // Nothing covers 'free', so the slot runs until the next interval starts
+                int slotEnd = tree == null ? end : Math.min(end, tree.firstStartAtOrAfter(free));
+                slots.add(new DateRange(LocalDate.ofEpochDay(free), LocalDate.ofEpochDay(slotEnd)));
+                cursor = slotEnd;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return slots;
+    }
+
+    /**
+     * Reports the duration and result of {@link #isAvailable} to the metrics, or stops when null.
+     */
+    public void setMetrics(DomainMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Number of bookings currently held by the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bookings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private void unlink(UUID bookingId, IndexedBooking current) {
+        bookings.remove(bookingId);
+        IntervalTree tree = timelines.get(current.carId);
+        tree.remove(current.start, bookingId);
+        if (tree.isEmpty()) {
+            timelines.remove(current.carId);
+        }
+    }
+}
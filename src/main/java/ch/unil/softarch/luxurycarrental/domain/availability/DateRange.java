@@ -0,0 +1,60 @@
+package ch.unil.softarch.luxurycarrental.domain.availability;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Immutable half-open range of rental days {@code [start, end)}.
+ * <p>
+ * The end date is the return day, so a car returned on {@code end} can be picked
+ * up again on the same day. This matches how {@code Booking.startDate} and
+ * {@code Booking.endDate} are interpreted by the availability components.
+ * </p>
+ */
+public final class DateRange {
+
+    private final LocalDate start;  // First rental day (inclusive)
+    private final LocalDate end;    // Return day (exclusive)
+
+    public DateRange(LocalDate start, LocalDate end) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(end, "end");
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("end must be after start: " + start + " / " + end);
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDate getStart() { return start; }
+
+    public LocalDate getEnd() { return end; }
+
+    /**
+     * Number of rental days covered by this range.
+     */
+    public long days() {
+        return end.toEpochDay() - start.toEpochDay();
+    }
+
+    // -------------------------------------------------------------------------
+    // Overrides
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DateRange other)) return false;
+        return start.equals(other.start) && end.equals(other.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,260 @@
+package ch.unil.softarch.luxurycarrental.domain.availability;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Augmented AVL tree of half-open epoch-day intervals {@code [start, end)}.
+ * <p>
+ * Nodes are ordered by start day (ties broken by booking ID) and every node keeps
+ * the maximum end day of its subtree, which lets overlap queries skip whole
+ * subtrees. Insert, remove and "any overlap" run in O(log n).
+ * </p>
+ */
+final class IntervalTree {
+
+    private static final class Node {
+        final int start;       // First occupied epoch day (inclusive)
+        final int end;         // First free epoch day (exclusive)
+        final UUID bookingId;  // Owner of the interval
+        int maxEnd;            // Largest 'end' in this subtree
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(int start, int end, UUID bookingId) {
+            this.start = start;
+            this.end = end;
+            this.bookingId = bookingId;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    // -------------------------------------------------------------------------
+    // Updates
+    // -------------------------------------------------------------------------
+
+    void insert(int start, int end, UUID bookingId) {
+        root = insert(root, new Node(start, end, bookingId));
+        size++;
+    }
+
+    boolean remove(int start, UUID bookingId) {
+        int before = size;
+        root = remove(root, start, bookingId);
+        return size < before;
+    }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns true if any stored interval intersects {@code [start, end)}.
+     */
+    boolean overlaps(int start, int end) {
+        Node node = root;
+        while (node != null) {
+            if (node.start < end && node.end > start) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd > start) {
+                // If the left subtree holds no overlap, nothing on the right can overlap either
+                node = node.left;
+            } else if (node.start < end) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the booking IDs of all intervals intersecting {@code [start, end)}, in start order.
+     */
+    void collectOverlapping(int start, int end, List<UUID> out) {
+        collect(root, start, end, out);
+    }
+
+    /**
+     * Returns the largest end day among intervals intersecting {@code [start, end)},
+     * or {@link Integer#MIN_VALUE} if there are none.
+     */
+    int maxEndOverlapping(int start, int end) {
+        return maxEnd(root, start, end, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the earliest day {@code d >= from} such that {@code [d, d + length)} is free.
+     * Each step jumps past every interval blocking the current candidate.
+     */
+    int nextFree(int from, int length) {
+        int candidate = from;
+        int blockedUntil;
+        while ((blockedUntil = maxEndOverlapping(candidate, candidate + length)) != Integer.MIN_VALUE) {
+            candidate = blockedUntil;
+        }
+        return candidate;
+    }
+
+    /**
+     * Returns the smallest start day that is {@code >= day}, or {@link Integer#MAX_VALUE} if none.
+     */
+    int firstStartAtOrAfter(int day) {
+        int best = Integer.MAX_VALUE;
+        Node node = root;
+        while (node != null) {
+            if (node.start >= day) {
+                best = node.start;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return best;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private static void collect(Node node, int start, int end, List<UUID> out) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, out);
+        if (node.start < end) {
+            if (node.end > start) {
+                out.add(node.bookingId);
+            }
+            collect(node.right, start, end, out);
+        }
+    }
+
+    private static int maxEnd(Node node, int start, int end, int best) {
+        if (node == null || node.maxEnd <= start || node.maxEnd <= best) {
+            return best;
+        }
+        best = maxEnd(node.left, start, end, best);
+        if (node.start < end) {
+            if (node.end > start && node.end > best) {
+                best = node.end;
+            }
+            best = maxEnd(node.right, start, end, best);
+        }
+        return best;
+    }
+
+    private static int compare(int start, UUID bookingId, Node node) {
+        int c = Integer.compare(start, node.start);
+        return c != 0 ? c : bookingId.compareTo(node.bookingId);
+    }
+
+    private Node insert(Node node, Node fresh) {
+        if (node == null) {
+            return fresh;
+        }
+        if (compare(fresh.start, fresh.bookingId, node) < 0) {
+            node.left = insert(node.left, fresh);
+        } else {
+            node.right = insert(node.right, fresh);
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, int start, UUID bookingId) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(start, bookingId, node);
+        if (c < 0) {
+            node.left = remove(node.left, start, bookingId);
+        } else if (c > 0) {
+            node.right = remove(node.right, start, bookingId);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int max = node.end;
+        if (node.left != null && node.left.maxEnd > max) {
+            max = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > max) {
+            max = node.right.maxEnd;
+        }
+        node.maxEnd = max;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
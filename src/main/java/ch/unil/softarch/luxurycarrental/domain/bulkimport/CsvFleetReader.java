@@ -0,0 +1,164 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader of comma-separated fleet files.
+ * <p>
+ * The first record is the header. Fields follow RFC 4180: they may be enclosed in
+ * double quotes, which allows commas and line breaks inside a field, and a quote
+ * inside a quoted field is written twice. Blank lines are skipped and the
+ * {@code features} column lists features separated by {@code |}.
+ * </p>
+ */
+public class CsvFleetReader implements FleetRowReader {
+
+    private static final int NONE = -2;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private final String[] header;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = NONE;  // Character read ahead after a '\r'
+    private long line = 1;  // Line of the next character
+    private long rowLine;
+
+    /**
+     * Reads the header record immediately.
+     *
+     * @throws IllegalArgumentException if the input is empty
+     */
+    public CsvFleetReader(Reader reader) throws IOException {
+        this.in = reader;
+        List<String> columns = readRecord();
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV input has no header");
+        }
+        header = new String[columns.size()];
+        for (int i = 0; i < header.length; i++) {
+            header[i] = columns.get(i).trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Override
+    public Map<String, String> nextRow() throws IOException {
+        List<String> values = readRecord();
+        if (values == null) {
+            return null;
+        }
+        if (values.size() > header.length) {
+            throw new IllegalArgumentException("Line " + rowLine + ": " + values.size()
+                    + " fields but the header has " + header.length);
+        }
+        Map<String, String> row = new HashMap<>(header.length * 2);
+        for (int i = 0; i < values.size(); i++) {
+            row.put(header[i], values.get(i));
+        }
+        return row;
+    }
+
+    @Override
+    public long rowLine() {
+        return rowLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads the next non-blank record, or returns {@code null} at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\n' || c == '\r') {  // Skip blank lines
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        rowLine = line;
+        List<String> values = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Line " + rowLine + ": unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                values.add(field.toString());
+                if (c != -1) {
+                    skipLineBreak(c);
+                }
+                return values;
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Consumes the rest of a line break starting with {@code c}.
+     */
+    private void skipLineBreak(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pending = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
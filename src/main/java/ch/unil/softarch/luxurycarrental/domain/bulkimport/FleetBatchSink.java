@@ -0,0 +1,22 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import java.util.List;
+
+/**
+ * Destination of the batches emitted by the {@link FleetImporter}.
+ * <p>
+ * A JDBC implementation binds every element of a batch to a prepared
+ * {@code INSERT}, calls {@code addBatch()} per element and {@code executeBatch()}
+ * once per call. Entities arrive with their IDs assigned; a car's type is always
+ * written in an earlier or the same {@link #writeCarTypes(List)} call than the car.
+ * The lists are reused by the importer and are only valid during the call.
+ * </p>
+ */
+public interface FleetBatchSink {
+
+    void writeCarTypes(List<CarType> batch);
+
+    void writeCars(List<Car> batch);
+}
@@ -0,0 +1,206 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.registry.UniqueKey;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Streams fleet rows into batches of new {@link CarType} and {@link Car} entities.
+ * <p>
+ * Rows are processed one at a time. Car types are deduplicated by brand, model and
+ * engine (case-insensitive): the first row of a type defines its specifications
+ * and later rows only reference it. License plates and VINs must be unique under
+ * {@link UniqueKey} normalization (whitespace and case are ignored), which is checked
+ * against in-memory hash sets. Rows that fail validation are skipped and reported;
+ * malformed input aborts the import with an {@link IllegalArgumentException}.
+ * </p>
+ * <p>
+ * New entities are emitted to the {@link FleetBatchSink} in batches of
+ * {@link #batchSize(int)}, car types always before the cars that use them. The
+ * deduplication state is kept between imports, so several files imported with
+ * one importer are checked against each other. Not thread-safe.
+ * </p>
+ * <pre>
+ * ImportReport report = new FleetImporter(sink)
+ *         .batchSize(500)
+ *         .knownCarTypes(existingTypes)
+ *         .importFrom(new CsvFleetReader(Files.newBufferedReader(path)));
+ * </pre>
+ */
+public class FleetImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final FleetBatchSink sink;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private final Map<String, CarType> carTypes = new HashMap<>();  // Type key -> type
+    private final Set<String> licensePlates = new HashSet<>();
+    private final Set<String> vins = new HashSet<>();
+
+    public FleetImporter(FleetBatchSink sink) {
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    // -------------------------------------------------------------------------
+    // Configuration
+    // -------------------------------------------------------------------------
+
+    public FleetImporter batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Registers types already in the database; rows of these types reference them instead of creating new ones.
+     */
+    public FleetImporter knownCarTypes(Collection<CarType> types) {
+        for (CarType type : types) {
+            carTypes.putIfAbsent(FleetRowMapper.normalize(type.getBrand()) + '|'
+                    + FleetRowMapper.normalize(type.getModel()) + '|'
+                    + FleetRowMapper.normalize(type.getEngine()), type);
+        }
+        return this;
+    }
+
+    /**
+     * Registers cars already in the database so that their plates and VINs are rejected as duplicates.
+     */
+    public FleetImporter knownCars(Collection<Car> cars) {
+        for (Car car : cars) {
+            String plate = UniqueKey.CAR_LICENSE_PLATE.normalize(car.getLicensePlate());
+            String vin = UniqueKey.CAR_VIN.normalize(car.getVin());
+            if (plate != null) {
+                licensePlates.add(plate);
+            }
+            if (vin != null) {
+                vins.add(vin);
+            }
+        }
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Import
+    // -------------------------------------------------------------------------
+
+    /**
+     * Imports every row of the reader and closes it.
+     *
+     * @throws IOException              if the input cannot be read
+     * @throws IllegalArgumentException if the input is malformed
+     */
+    public ImportReport importFrom(FleetRowReader reader) throws IOException {
+        long started = System.nanoTime();
+        List<CarType> typeBatch = new ArrayList<>(batchSize);
+        List<Car> carBatch = new ArrayList<>(batchSize);
+        List<ImportError> errors = new ArrayList<>();
+        long rowsRead = 0;
+        long carsImported = 0;
+        long carTypesCreated = 0;
+        long rowsRejected = 0;
+        long batches = 0;
+
+        try (reader) {
+            Map<String, String> row;
+            while ((row = reader.nextRow()) != null) {
+                rowsRead++;
+                Car car;
+                CarType type;
+                boolean newType;
+                try {
+                    car = FleetRowMapper.car(row);
+                    String typeKey = FleetRowMapper.carTypeKey(row);
+                    type = carTypes.get(typeKey);
+                    newType = type == null;
+                    if (newType) {
+                        type = FleetRowMapper.carType(row);
+                    }
+                    checkUnique(car);
+                    if (newType) {
+                        carTypes.put(typeKey, type);
+                    }
+                } catch (IllegalArgumentException e) {
+                    rowsRejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ImportError(reader.rowLine(), e.getMessage()));
+                    }
+                    continue;
+                }
+
+                if (newType) {
+                    carTypesCreated++;
+                    typeBatch.add(type);
+                    if (typeBatch.size() >= batchSize) {
+                        batches += flushTypes(typeBatch);
+                    }
+                }
+                car.setCarType(type);
+                carBatch.add(car);
+                carsImported++;
+                if (carBatch.size() >= batchSize) {
+                    batches += flushTypes(typeBatch);
+                    batches += flushCars(carBatch);
+                }
+            }
+        }
+        batches += flushTypes(typeBatch);
+        batches += flushCars(carBatch);
+
+        return new ImportReport(rowsRead, carsImported, carTypesCreated, rowsRejected, batches,
+                System.nanoTime() - started, errors);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Checks and then reserves the car's plate and VIN.
+     */
+    private void checkUnique(Car car) {
+        String plate = UniqueKey.CAR_LICENSE_PLATE.normalize(car.getLicensePlate());
+        String vin = UniqueKey.CAR_VIN.normalize(car.getVin());
+        if (licensePlates.contains(plate)) {
+            throw new IllegalArgumentException("Duplicate licensePlate: " + car.getLicensePlate());
+        }
+        if (vin != null && vins.contains(vin)) {
+            throw new IllegalArgumentException("Duplicate vin: " + car.getVin());
+        }
+        licensePlates.add(plate);
+        if (vin != null) {
+            vins.add(vin);
+        }
+    }
+
+    private int flushTypes(List<CarType> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.writeCarTypes(batch);
+        batch.clear();
+        return 1;
+    }
+
+    private int flushCars(List<Car> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.writeCars(batch);
+        batch.clear();
+        return 1;
+    }
+}
@@ -0,0 +1,167 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts raw fleet rows into entities. Every method throws
+ * {@link IllegalArgumentException} with a message naming the offending column.
+ */
+final class FleetRowMapper {
+
+    private FleetRowMapper() {
+        // Static helpers
+    }
+
+    /**
+     * Key under which car types are deduplicated: brand, model and engine, case-insensitive.
+     */
+    static String carTypeKey(Map<String, String> row) {
+        return normalize(required(row, "brand")) + '|' + normalize(required(row, "model")) + '|'
+                + normalize(optional(row, "engine"));
+    }
+
+    static CarType carType(Map<String, String> row) {
+        return new CarType(
+                required(row, "category"),
+                required(row, "brand"),
+                required(row, "model"),
+                optional(row, "engine"),
+                integer(row, "power"),
+                integer(row, "maxspeed"),
+                decimal(row, "acceleration"),
+                decimal(row, "weight"),
+                enumValue(row, "drivetype", DriveType.class, null),
+                enumValue(row, "transmission", Transmission.class, null),
+                integer(row, "seats"),
+                optional(row, "description"),
+                list(row, "features"));
+    }
+
+    /**
+     * Builds the car without its type.
+     */
+    static Car car(Map<String, String> row) {
+        return new Car(
+                required(row, "licenseplate"),
+                null,
+                money(row, "dailyrentalprice"),
+                money(row, "depositamount"),
+                enumValue(row, "status", CarStatus.class, CarStatus.AVAILABLE),
+                optional(row, "imageurl"),
+                date(row, "registrationdate"),
+                date(row, "lastmaintenancedate"),
+                optional(row, "vin"),
+                optional(row, "color"),
+                date(row, "insuranceexpirydate"));
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // -------------------------------------------------------------------------
+    // Column parsers
+    // -------------------------------------------------------------------------
+
+    private static String optional(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String required(Map<String, String> row, String column) {
+        String value = optional(row, column);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + column);
+        }
+        return value;
+    }
+
+    private static int integer(Map<String, String> row, String column) {
+        String value = optional(row, column);
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static double decimal(Map<String, String> row, String column) {
+        String value = optional(row, column);
+        try {
+            return value == null ? 0.0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static Money money(Map<String, String> row, String column) {
+        String value = required(row, column);
+        try {
+            Money amount = Money.of(new BigDecimal(value));
+            if (amount.isNegative()) {
+                throw new IllegalArgumentException("Negative " + column + ": " + value);
+            }
+            return amount;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static LocalDate date(Map<String, String> row, String column) {
+        String value = optional(row, column);
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + " (expected yyyy-MM-dd): " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, String> row, String column, Class<E> type, E fallback) {
+        String value = optional(row, column);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static List<String> list(Map<String, String> row, String column) {
+        List<String> values = new ArrayList<>();
+        String value = optional(row, column);
+        if (value == null) {
+            return values;
+        }
+        int from = 0;
+        while (from <= value.length()) {
+            int to = value.indexOf(FleetRowReader.LIST_SEPARATOR, from);
+            if (to < 0) {
+                to = value.length();
+            }
+            String item = value.substring(from, to).trim();
+            if (!item.isEmpty()) {
+                values.add(item);
+            }
+            from = to + 1;
+        }
+        return values;
+    }
+}
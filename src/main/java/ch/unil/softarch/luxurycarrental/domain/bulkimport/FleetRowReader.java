@@ -0,0 +1,31 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Incremental source of fleet rows for the {@link FleetImporter}.
+ * <p>
+ * Each row maps lower-case column names (e.g. {@code licenseplate}, {@code brand})
+ * to raw text values; list values such as {@code features} are joined with
+ * {@link #LIST_SEPARATOR}. Implementations read their input one row at a time and
+ * never hold more than the current row in memory.
+ * </p>
+ */
+public interface FleetRowReader extends Closeable {
+
+    char LIST_SEPARATOR = '|';
+
+    /**
+     * @return the next row, or {@code null} at the end of the input
+     * @throws IOException              if the input cannot be read
+     * @throws IllegalArgumentException if the input is malformed
+     */
+    Map<String, String> nextRow() throws IOException;
+
+    /**
+     * Line of the input where the row last returned by {@link #nextRow()} starts, for error reports.
+     */
+    long rowLine();
+}
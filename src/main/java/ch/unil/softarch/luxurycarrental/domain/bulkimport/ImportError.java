@@ -0,0 +1,24 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+/**
+ * Row rejected by the {@link FleetImporter}.
+ */
+public final class ImportError {
+
+    private final long line;        // Line where the row starts in the input
+    private final String message;
+
+    ImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+
+    public String getMessage() { return message; }
+
+    @Override
+    public String toString() {
+        return "line " + line + ": " + message;
+    }
+}
@@ -0,0 +1,57 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import java.util.List;
+
+/**
+ * Outcome of one {@link FleetImporter#importFrom(FleetRowReader)} run.
+ */
+public final class ImportReport {
+
+    private final long rowsRead;
+    private final long carsImported;
+    private final long carTypesCreated;
+    private final long rowsRejected;
+    private final long batches;            // Calls made to the sink, for cars and types together
+    private final long elapsedNanos;
+    private final List<ImportError> errors;  // First rejected rows, capped
+
+    ImportReport(long rowsRead, long carsImported, long carTypesCreated, long rowsRejected, long batches,
+                 long elapsedNanos, List<ImportError> errors) {
+        this.rowsRead = rowsRead;
+        this.carsImported = carsImported;
+        this.carTypesCreated = carTypesCreated;
+        this.rowsRejected = rowsRejected;
+        this.batches = batches;
+        this.elapsedNanos = elapsedNanos;
+        this.errors = List.copyOf(errors);
+    }
+
+    public long getRowsRead() { return rowsRead; }
+
+    public long getCarsImported() { return carsImported; }
+
+    public long getCarTypesCreated() { return carTypesCreated; }
+
+    public long getRowsRejected() { return rowsRejected; }
+
+    public long getBatches() { return batches; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public List<ImportError> getErrors() { return errors; }
+
+    /**
+     * Rows read per second of wall-clock time, including time spent in the sink.
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rowsRead * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportReport{rowsRead=%d, carsImported=%d, carTypesCreated=%d, rowsRejected=%d, "
+                        + "batches=%d, elapsedMs=%d, rowsPerSecond=%.0f}",
+                rowsRead, carsImported, carTypesCreated, rowsRejected, batches, elapsedNanos / 1_000_000,
+                getRowsPerSecond());
+    }
+}
@@ -0,0 +1,127 @@
+package ch.unil.softarch.luxurycarrental.domain.bulkimport;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader of JSON fleet files: a top-level array of flat objects.
+ * <p>
+ * Objects are pulled one at a time from a JSON-P {@link JsonParser}, so the array
+ * is never built in memory. Property values may be strings, numbers, booleans or
+ * {@code null}; arrays of such values (e.g. {@code "features": ["GPS", "Bluetooth"]})
+ * are joined with {@code |}. Nested objects are rejected.
+ * </p>
+ */
+public class JsonFleetReader implements FleetRowReader {
+
+    private final JsonParser parser;
+    private final StringBuilder list = new StringBuilder();
+    private boolean started;
+    private boolean finished;
+    private long rowLine;
+
+    public JsonFleetReader(Reader reader) {
+        this.parser = Json.createParser(reader);
+    }
+
+    @Override
+    public Map<String, String> nextRow() {
+        if (finished) {
+            return null;
+        }
+        try {
+            if (!started) {
+                started = true;
+                if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                    throw malformed("expected a top-level array");
+                }
+            }
+            JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            if (event != JsonParser.Event.START_OBJECT) {
+                throw malformed("expected an object");
+            }
+            rowLine = parser.getLocation().getLineNumber();
+            return readObject();
+        } catch (JsonParsingException e) {
+            throw new IllegalArgumentException("Line " + e.getLocation().getLineNumber() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long rowLine() {
+        return rowLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private Map<String, String> readObject() {
+        Map<String, String> row = new HashMap<>();
+        while (true) {
+            JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_OBJECT) {
+                return row;
+            }
+            String key = parser.getString().toLowerCase(Locale.ROOT);  // Always a KEY_NAME here
+            event = parser.next();
+            if (event == JsonParser.Event.START_ARRAY) {
+                row.put(key, readList());
+            } else {
+                String value = scalar(event);
+                if (value != null) {
+                    row.put(key, value);
+                }
+            }
+        }
+    }
+
+    private String readList() {
+        list.setLength(0);
+        for (JsonParser.Event event = parser.next(); event != JsonParser.Event.END_ARRAY; event = parser.next()) {
+            String value = scalar(event);
+            if (value != null) {
+                if (list.length() > 0) {
+                    list.append(LIST_SEPARATOR);
+                }
+                list.append(value);
+            }
+        }
+        return list.toString();
+    }
+
+    private String scalar(JsonParser.Event event) {
+        switch (event) {
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                return parser.getString();
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case VALUE_NULL:
+                return null;
+            default:
+                throw malformed("nested " + event + " is not supported");
+        }
+    }
+
+    private IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Line " + parser.getLocation().getLineNumber() + ": " + message);
+    }
+}
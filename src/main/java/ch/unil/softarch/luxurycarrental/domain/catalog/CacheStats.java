@@ -0,0 +1,71 @@
+package ch.unil.softarch.luxurycarrental.domain.catalog;
+
+/**
+ * Point-in-time counters of a {@link CarTypeCache}.
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long loads;          // Successful loader calls, including ones returning null
+    private final long loadFailures;   // Loader calls that threw
+    private final long totalLoadTimeNanos;
+    private final long evictions;      // Entries dropped to respect the capacity
+    private final long invalidations;  // Explicit invalidate/invalidateAll calls
+
+    CacheStats(long hits, long misses, long loads, long loadFailures, long totalLoadTimeNanos,
+               long evictions, long invalidations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.loads = loads;
+        this.loadFailures = loadFailures;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    public long getHits() { return hits; }
+
+    public long getMisses() { return misses; }
+
+    public long getLoads() { return loads; }
+
+    public long getLoadFailures() { return loadFailures; }
+
+    public long getTotalLoadTimeNanos() { return totalLoadTimeNanos; }
+
+    public long getEvictions() { return evictions; }
+
+    public long getInvalidations() { return invalidations; }
+
+    public long getRequests() { return hits + misses; }
+
+    /**
+     * Share of requests served from the cache; {@code 1.0} when nothing was requested yet.
+     */
+    public double getHitRate() {
+        long requests = getRequests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Mean time spent in the loader per call, successful or not.
+     */
+    public double getAverageLoadPenaltyNanos() {
+        long calls = loads + loadFailures;
+        return calls == 0 ? 0.0 : (double) totalLoadTimeNanos / calls;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", loads=" + loads +
+                ", loadFailures=" + loadFailures +
+                ", totalLoadTimeNanos=" + totalLoadTimeNanos +
+                ", evictions=" + evictions +
+                ", invalidations=" + invalidations +
+                '}';
+    }
+}
@@ -0,0 +1,242 @@
+package ch.unil.softarch.luxurycarrental.domain.catalog;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, read-through cache of the {@link CarType} catalogue.
+ * <p>
+ * On a miss the loader (typically {@code entityManager.find(CarType.class, id)})
+ * is called and a detached copy of the result is cached, with its features list
+ * initialized and interned, so later reads trigger neither the lazy load of the
+ * type nor the query of its {@code @ElementCollection}. Cached copies are shared
+ * between callers and must be treated as read-only.
+ * </p>
+ * <p>
+ * Hits are lock-free. Inserts and invalidations take a lock and evict with the
+ * CLOCK (second-chance) policy: a hit marks its entry as referenced, and the
+ * eviction hand skips referenced entries once before evicting them. Call
+ * {@link #invalidate(UUID)} after a type is edited, or register the cache with
+ * {@link CarTypeCacheInvalidator} to do so on every JPA update and removal.
+ * </p>
+ */
+public class CarTypeCache {
+
+    private static final class Node {
+        final UUID id;
+        final CarType value;
+        final int slot;
+        volatile boolean referenced;
+
+        Node(UUID id, CarType value, int slot) {
+            this.id = id;
+            this.value = value;
+            this.slot = slot;
+        }
+    }
+
+    private final Function<UUID, CarType> loader;
+    private final ConcurrentMap<UUID, Node> entries = new ConcurrentHashMap<>();
+    private final FeatureInterner interner = new FeatureInterner();  // Guarded by lock
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Node[] ring;        // CLOCK slots, guarded by lock
+    private int hand;                 // Guarded by lock
+    private volatile long generation; // Incremented by every invalidation, written under lock
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param loader   loads a type by ID, returning {@code null} if it does not exist
+     * @param capacity maximum number of cached types
+     */
+    public CarTypeCache(Function<UUID, CarType> loader, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.loader = Objects.requireNonNull(loader, "loader");
+        this.ring = new Node[capacity];
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the type with the given ID, loading it on a miss.
+     *
+     * @return the cached copy, or {@code null} if the loader does not know the ID
+     */
+    public CarType get(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("CarType ID is required");
+        }
+        Node node = entries.get(id);
+        if (node != null) {
+            node.referenced = true;
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        long loadGeneration = generation;
+        CarType loaded = load(id);
+        if (loaded == null) {
+            return null;  // Absent types are not cached
+        }
+        return insert(id, detach(loaded), loadGeneration);
+    }
+
+    /**
+     * Returns the type of a car without initializing its lazy {@code carType} association;
+     * only the association's ID is read.
+     */
+    public CarType get(Car car) {
+        CarType type = car.getCarType();
+        return type == null ? null : get(type.getId());
+    }
+
+    public boolean contains(UUID id) {
+        return entries.containsKey(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), loadTimeNanos.sum(),
+                evictions.sum(), invalidations.sum());
+    }
+
+    // -------------------------------------------------------------------------
+    // Invalidation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Drops one type; loads that started before this call are not cached.
+     */
+    public void invalidate(UUID id) {
+        lock.lock();
+        try {
+            generation++;
+            Node node = entries.remove(id);
+            if (node != null) {
+                ring[node.slot] = null;
+                interner.release(node.value.getFeatures());
+            }
+            invalidations.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every cached type, e.g. after a catalogue import.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            Arrays.fill(ring, null);
+            interner.clear();
+            invalidations.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private CarType load(UUID id) {
+        long started = System.nanoTime();
+        try {
+            CarType loaded = loader.apply(id);
+            loads.increment();
+            return loaded;
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            loadTimeNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    private CarType insert(UUID id, CarType value, long loadGeneration) {
+        lock.lock();
+        try {
+            Node existing = entries.get(id);
+            if (existing != null) {
+                return existing.value;  // Another thread loaded it first
+            }
+            if (generation != loadGeneration) {
+                return value;  // Invalidated while loading: the value may be stale
+            }
+            value.setFeatures(interner.acquire(value.getFeatures()));  // Before evicting, which may release it
+            int slot = freeSlot();
+            Node node = new Node(id, value, slot);
+            ring[slot] = node;
+            entries.put(id, node);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the clock hand to an empty slot, evicting the first unreferenced entry
+     * if the cache is full. Must hold the lock.
+     */
+    private int freeSlot() {
+        boolean full = entries.size() >= ring.length;
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % ring.length;
+            Node node = ring[slot];
+            if (node == null) {
+                return slot;
+            }
+            if (!full) {
+                continue;  // Free slots remain, do not evict yet
+            }
+            if (node.referenced) {
+                node.referenced = false;  // Second chance
+            } else {
+                entries.remove(node.id);
+                ring[slot] = null;
+                interner.release(node.value.getFeatures());
+                evictions.increment();
+                return slot;
+            }
+        }
+    }
+
+    private CarType detach(CarType source) {
+        CarType copy = new CarType(source.getCategory(), source.getBrand(), source.getModel(), source.getEngine(),
+                source.getPower(), source.getMaxSpeed(), source.getAcceleration(), source.getWeight(),
+                source.getDriveType(), source.getTransmission(), source.getSeats(), source.getDescription(),
+                FeatureInterner.copyOf(source.getFeatures()));
+        copy.setId(source.getId());
+        return copy;
+    }
+}
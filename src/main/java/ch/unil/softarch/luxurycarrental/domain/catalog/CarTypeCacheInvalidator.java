@@ -0,0 +1,47 @@
+package ch.unil.softarch.luxurycarrental.domain.catalog;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * JPA entity listener that invalidates registered {@link CarTypeCache caches}
+ * whenever a {@link CarType} is updated or removed.
+ * <p>
+ * Caches are held weakly, so a cache that is no longer used elsewhere is
+ * collected even if it was never unregistered.
+ * </p>
+ */
+public class CarTypeCacheInvalidator {
+
+    private static final Set<CarTypeCache> CACHES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static void register(CarTypeCache cache) {
+        CACHES.add(cache);
+    }
+
+    public static void unregister(CarTypeCache cache) {
+        CACHES.remove(cache);
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(CarType carType) {
+        if (carType.getId() == null) {
+            return;
+        }
+        List<CarTypeCache> caches;
+        synchronized (CACHES) {
+            caches = new ArrayList<>(CACHES);  // Invalidate outside the registry lock
+        }
+        for (CarTypeCache cache : caches) {
+            cache.invalidate(carType.getId());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ch.unil.softarch.luxurycarrental.domain.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonicalizes {@code CarType.features} lists for the {@link CarTypeCache}.
+ * <p>
+ * Feature names repeat across the whole catalogue ("GPS", "Heated seats"), and so
+ * do complete feature sets of trims of the same model. Both are stored once: every
+ * returned list is unmodifiable and shared by all types with equal features.
+ * </p>
+ * <p>
+ * Lists and names are reference counted by the cache entries holding them, so the
+ * interner never outgrows the cache: {@link #release(List)} drops a list once its
+ * last entry is evicted or invalidated. Not thread-safe; guarded by the cache's lock.
+ * </p>
+ */
+final class FeatureInterner {
+
+    private static final class Counted<T> {
+        final T value;
+        int references;
+
+        Counted(T value) {
+            this.value = value;
+        }
+    }
+
+    private final Map<String, Counted<String>> names = new HashMap<>();
+    private final Map<List<String>, Counted<List<String>>> lists = new HashMap<>();
+
+    /**
+     * @return an unmodifiable copy of {@code features} without {@code null} names;
+     *         an empty list for {@code null}
+     */
+    static List<String> copyOf(List<String> features) {
+        if (features == null || features.isEmpty()) {
+            return List.of();
+        }
+        List<String> copy = new ArrayList<>(features.size());
+        for (String feature : features) {
+            if (feature != null) {
+                copy.add(feature);
+            }
+        }
+        return List.copyOf(copy);
+    }
+
+    /**
+     * Returns the canonical list equal to {@code features} and counts one more reference to it.
+     *
+     * @param features a list returned by {@link #copyOf(List)}
+     */
+    List<String> acquire(List<String> features) {
+        if (features.isEmpty()) {
+            return List.of();
+        }
+        Counted<List<String>> list = lists.get(features);
+        if (list == null) {
+            List<String> interned = new ArrayList<>(features.size());
+            for (String feature : features) {
+                Counted<String> name = names.computeIfAbsent(feature, Counted::new);
+                name.references++;
+                interned.add(name.value);
+            }
+            list = new Counted<>(List.copyOf(interned));
+            lists.put(list.value, list);
+        }
+        list.references++;
+        return list.value;
+    }
+
+    /**
+     * Counts one reference less to a list returned by {@link #acquire(List)}, dropping
+     * the list and its unused names with the last one.
+     */
+    void release(List<String> features) {
+        if (features.isEmpty()) {
+            return;
+        }
+        Counted<List<String>> list = lists.get(features);
+        if (list == null || --list.references > 0) {
+            return;
+        }
+        lists.remove(features);
+        for (String feature : list.value) {
+            Counted<String> name = names.get(feature);
+            if (--name.references == 0) {
+                names.remove(feature);
+            }
+        }
+    }
+
+    int distinctNames() {
+        return names.size();
+    }
+
+    int distinctLists() {
+        return lists.size();
+    }
+
+    void clear() {
+        names.clear();
+        lists.clear();
+    }
+}
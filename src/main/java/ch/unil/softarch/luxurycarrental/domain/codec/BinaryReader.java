@@ -0,0 +1,140 @@
+package ch.unil.softarch.luxurycarrental.domain.codec;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Reads the encodings of {@link BinaryWriter} straight from a {@link ByteBuffer}.
+ * <p>
+ * Values are decoded from the buffer at its position, which advances; nothing is
+ * copied except the bytes of strings. Malformed input throws
+ * {@link IllegalArgumentException}, truncated input {@link java.nio.BufferUnderflowException}.
+ * </p>
+ */
+public final class BinaryReader {
+
+    private static final Currency[] CURRENCIES_BY_CODE = new Currency[1000];
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int code = currency.getNumericCode();
+            if (code > 0 && code < CURRENCIES_BY_CODE.length && CURRENCIES_BY_CODE[code] == null) {
+                CURRENCIES_BY_CODE[code] = currency;
+            }
+        }
+        CURRENCIES_BY_CODE[Money.DEFAULT_CURRENCY.getNumericCode()] = Money.DEFAULT_CURRENCY;
+    }
+
+    private final ByteBuffer in;
+
+    public BinaryReader(ByteBuffer in) {
+        this.in = in;
+    }
+
+    public ByteBuffer buffer() {
+        return in;
+    }
+
+    // -------------------------------------------------------------------------
+    // Primitives
+    // -------------------------------------------------------------------------
+
+    public byte readByte() {
+        return in.get();
+    }
+
+    public short readShort() {
+        return in.getShort();
+    }
+
+    public int readInt() {
+        return in.getInt();
+    }
+
+    public long readLong() {
+        return in.getLong();
+    }
+
+    public double readDouble() {
+        return in.getDouble();
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    // -------------------------------------------------------------------------
+    // Domain values
+    // -------------------------------------------------------------------------
+
+    public UUID readUuid() {
+        long most = in.getLong();
+        long least = in.getLong();
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    public LocalDate readDate() {
+        return date(in.getInt());
+    }
+
+    public Money readMoney() {
+        long minorUnits = in.getLong();
+        return money(minorUnits, in.getShort());
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds the remaining " + in.remaining() + " bytes");
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] utf8 = new byte[length];
+            in.get(utf8);
+            value = new String(utf8, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(EnumCodec<E> codec) {
+        return codec.decode(in.get());
+    }
+
+    // -------------------------------------------------------------------------
+    // Shared with the fixed-layout views
+    // -------------------------------------------------------------------------
+
+    static LocalDate date(int epochDay) {
+        return epochDay == BinaryWriter.NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    static Money money(long minorUnits, short currencyCode) {
+        if (currencyCode == 0) {
+            return null;
+        }
+        Currency currency = currencyCode > 0 && currencyCode < CURRENCIES_BY_CODE.length
+                ? CURRENCIES_BY_CODE[currencyCode] : null;
+        if (currency == null) {
+            throw new IllegalArgumentException("Unknown currency code " + currencyCode);
+        }
+        return Money.ofMinor(minorUnits, currency);
+    }
+}
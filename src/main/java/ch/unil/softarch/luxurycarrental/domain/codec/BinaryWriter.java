@@ -0,0 +1,159 @@
+package ch.unil.softarch.luxurycarrental.domain.codec;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Growable big-endian buffer that writes the primitive encodings of the binary format.
+ * <p>
+ * Encodings: UUIDs as two {@code long}s (null as the nil UUID), dates as {@code int}
+ * epoch days (null as {@link #NULL_DATE}), amounts as a {@code long} of minor units
+ * followed by the {@code short} ISO 4217 numeric currency code (null as code 0), and
+ * strings as a varint of {@code length + 1} followed by UTF-8 bytes (null as 0).
+ * </p>
+ */
+public final class BinaryWriter {
+
+    static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private ByteBuffer buffer;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(16, initialCapacity));
+    }
+
+    // -------------------------------------------------------------------------
+    // Primitives
+    // -------------------------------------------------------------------------
+
+    public BinaryWriter writeByte(byte value) {
+        ensure(1).put(value);
+        return this;
+    }
+
+    public BinaryWriter writeShort(short value) {
+        ensure(2).putShort(value);
+        return this;
+    }
+
+    public BinaryWriter writeInt(int value) {
+        ensure(4).putInt(value);
+        return this;
+    }
+
+    public BinaryWriter writeLong(long value) {
+        ensure(8).putLong(value);
+        return this;
+    }
+
+    public BinaryWriter writeDouble(double value) {
+        ensure(8).putDouble(value);
+        return this;
+    }
+
+    /**
+     * Unsigned LEB128 varint: 7 bits per byte, high bit set on all but the last byte.
+     */
+    public BinaryWriter writeVarInt(int value) {
+        ByteBuffer out = ensure(5);
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Domain values
+    // -------------------------------------------------------------------------
+
+    public BinaryWriter writeUuid(UUID value) {
+        ByteBuffer out = ensure(16);
+        out.putLong(value == null ? 0L : value.getMostSignificantBits());
+        out.putLong(value == null ? 0L : value.getLeastSignificantBits());
+        return this;
+    }
+
+    public BinaryWriter writeDate(LocalDate value) {
+        return writeInt(value == null ? NULL_DATE : Math.toIntExact(value.toEpochDay()));
+    }
+
+    public BinaryWriter writeMoney(Money value) {
+        ByteBuffer out = ensure(10);
+        out.putLong(value == null ? 0L : value.getMinorUnits());
+        out.putShort(value == null ? 0 : currencyCode(value.getCurrency()));
+        return this;
+    }
+
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length + 1);
+        ensure(utf8.length).put(utf8);
+        return this;
+    }
+
+    public <E extends Enum<E>> BinaryWriter writeEnum(EnumCodec<E> codec, E value) {
+        return writeByte(codec.encode(value));
+    }
+
+    // -------------------------------------------------------------------------
+    // Output
+    // -------------------------------------------------------------------------
+
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Forgets the written bytes and keeps the allocated capacity.
+     */
+    public void reset() {
+        buffer.clear();
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[buffer.position()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * Read-only view of the written bytes, without copying.
+     */
+    public ByteBuffer toByteBuffer() {
+        return buffer.asReadOnlyBuffer().flip();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private ByteBuffer ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            grown.put(buffer.flip());
+            buffer = grown;
+        }
+        return buffer;
+    }
+
+    private static short currencyCode(Currency currency) {
+        int code = currency.getNumericCode();
+        if (code <= 0) {
+            throw new IllegalArgumentException("Currency without ISO numeric code: " + currency);
+        }
+        return (short) code;
+    }
+}
@@ -0,0 +1,101 @@
+package ch.unil.softarch.luxurycarrental.domain.codec;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Zero-copy flyweight over encoded bookings in a {@link ByteBuffer}.
+ * <p>
+ * Reads single fields at their fixed offset without decoding the whole record or
+ * allocating, which suits scans over many packed {@link EntityCodec#BOOKING_SIZE}-byte
+ * records. One view can be {@link #wrap(ByteBuffer, int) re-pointed} at each record in turn.
+ * The buffer's position is never modified.
+ * </p>
+ */
+public final class BookingView {
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    /**
+     * Points the view at the record starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if there is no booking record of the current version there
+     */
+    public BookingView wrap(ByteBuffer buffer, int offset) {
+        if (offset < 0 || offset + EntityCodec.BOOKING_SIZE > buffer.limit()) {
+            throw new IllegalArgumentException("No complete booking record at offset " + offset);
+        }
+        if (buffer.get(offset) != EntityCodec.BOOKING_TAG) {
+            throw new IllegalArgumentException("No booking record at offset " + offset);
+        }
+        EntityCodec.checkVersion(buffer.get(offset + 1));
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Fields
+    // -------------------------------------------------------------------------
+
+    public UUID getBookingId() { return uuid(EntityCodec.BOOKING_ID); }
+
+    /**
+     * Most significant bits of the booking ID, read without creating a {@link UUID}; 0 with
+     * {@link #getBookingIdLeastSigBits()} if absent.
+     */
+    public long getBookingIdMostSigBits() { return buffer.getLong(offset + EntityCodec.BOOKING_ID); }
+
+    public long getBookingIdLeastSigBits() { return buffer.getLong(offset + EntityCodec.BOOKING_ID + 8); }
+
+    public UUID getCarId() { return uuid(EntityCodec.CAR_ID); }
+
+    public UUID getCustomerId() { return uuid(EntityCodec.CUSTOMER_ID); }
+
+    /**
+     * Start date as an epoch day, or {@link Integer#MIN_VALUE} if absent.
+     */
+    public int getStartEpochDay() { return buffer.getInt(offset + EntityCodec.START_DATE); }
+
+    public int getEndEpochDay() { return buffer.getInt(offset + EntityCodec.END_DATE); }
+
+    public LocalDate getStartDate() { return BinaryReader.date(getStartEpochDay()); }
+
+    public LocalDate getEndDate() { return BinaryReader.date(getEndEpochDay()); }
+
+    /**
+     * Total cost in minor units; the currency is {@link #getTotalCost()}'s.
+     */
+    public long getTotalCostMinorUnits() { return buffer.getLong(offset + EntityCodec.TOTAL_COST); }
+
+    public Money getTotalCost() { return money(EntityCodec.TOTAL_COST); }
+
+    public Money getDepositAmount() { return money(EntityCodec.DEPOSIT_AMOUNT); }
+
+    public BookingStatus getBookingStatus() {
+        return EnumCodec.BOOKING_STATUS.decode(buffer.get(offset + EntityCodec.BOOKING_STATUS));
+    }
+
+    public PaymentStatus getPaymentStatus() {
+        return EnumCodec.PAYMENT_STATUS.decode(buffer.get(offset + EntityCodec.PAYMENT_STATUS));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private UUID uuid(int field) {
+        long most = buffer.getLong(offset + field);
+        long least = buffer.getLong(offset + field + 8);
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    private Money money(int field) {
+        return BinaryReader.money(buffer.getLong(offset + field), buffer.getShort(offset + field + 8));
+    }
+}
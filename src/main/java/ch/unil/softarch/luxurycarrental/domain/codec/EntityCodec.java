@@ -0,0 +1,255 @@
+package ch.unil.softarch.luxurycarrental.domain.codec;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact, schema-versioned binary snapshots of {@link Booking}, {@link Car} and {@link CarType}.
+ * <p>
+ * Every record starts with a one-byte type tag and a one-byte {@link #FORMAT_VERSION};
+ * decoding a record of another version throws {@link IllegalArgumentException}.
+ * Field encodings are described in {@link BinaryWriter}, enum codes in {@link EnumCodec}.
+ * </p>
+ * <p>
+ * A booking is a fixed {@link #BOOKING_SIZE}-byte record that references its car and
+ * customer by ID only, so it can be read in place with a {@link BookingView}. A decoded
+ * booking gets stub {@link Car} and {@link Customer} instances that only carry their ID.
+ * A car is variable-length and embeds its car type.
+ * </p>
+ */
+public final class EntityCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    static final byte BOOKING_TAG = 'B';
+    static final byte CAR_TAG = 'C';
+    static final byte CAR_TYPE_TAG = 'T';
+
+    // Fixed booking layout (byte offsets)
+    static final int BOOKING_ID = 2;
+    static final int CAR_ID = 18;
+    static final int CUSTOMER_ID = 34;
+    static final int START_DATE = 50;
+    static final int END_DATE = 54;
+    static final int TOTAL_COST = 58;        // long minor units + short currency
+    static final int DEPOSIT_AMOUNT = 68;    // long minor units + short currency
+    static final int BOOKING_STATUS = 78;
+    static final int PAYMENT_STATUS = 79;
+    public static final int BOOKING_SIZE = 80;
+
+    private EntityCodec() {
+    }
+
+    // -------------------------------------------------------------------------
+    // Booking
+    // -------------------------------------------------------------------------
+
+    public static byte[] encode(Booking booking) {
+        BinaryWriter out = new BinaryWriter(BOOKING_SIZE);
+        write(booking, out);
+        return out.toByteArray();
+    }
+
+    public static void write(Booking booking, BinaryWriter out) {
+        out.writeByte(BOOKING_TAG).writeByte(FORMAT_VERSION)
+                .writeUuid(booking.getBookingId())
+                .writeUuid(booking.getCar() == null ? null : booking.getCar().getId())
+                .writeUuid(booking.getCustomer() == null ? null : booking.getCustomer().getId())
+                .writeDate(booking.getStartDate())
+                .writeDate(booking.getEndDate())
+                .writeMoney(booking.getTotalCost())
+                .writeMoney(booking.getDepositAmount())
+                .writeEnum(EnumCodec.BOOKING_STATUS, booking.getBookingStatus())
+                .writeEnum(EnumCodec.PAYMENT_STATUS, booking.getPaymentStatus());
+    }
+
+    public static Booking decodeBooking(byte[] bytes) {
+        return decodeBooking(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes the booking at the buffer's position and advances past it.
+     */
+    public static Booking decodeBooking(ByteBuffer buffer) {
+        BinaryReader in = new BinaryReader(buffer);
+        readHeader(in, BOOKING_TAG);
+        Booking booking = new Booking();
+        booking.setBookingId(in.readUuid());
+        UUID carId = in.readUuid();
+        UUID customerId = in.readUuid();
+        if (carId != null) {
+            Car car = new Car();
+            car.setId(carId);
+            booking.setCar(car);
+        }
+        if (customerId != null) {
+            Customer customer = new Customer();
+            customer.setId(customerId);
+            booking.setCustomer(customer);
+        }
+        booking.setStartDate(in.readDate());
+        booking.setEndDate(in.readDate());
+        booking.setTotalCost(in.readMoney());
+        booking.setDepositAmount(in.readMoney());
+        booking.setBookingStatus(in.readEnum(EnumCodec.BOOKING_STATUS));
+        booking.setPaymentStatus(in.readEnum(EnumCodec.PAYMENT_STATUS));
+        return booking;
+    }
+
+    // -------------------------------------------------------------------------
+    // Car
+    // -------------------------------------------------------------------------
+
+    public static byte[] encode(Car car) {
+        BinaryWriter out = new BinaryWriter();
+        write(car, out);
+        return out.toByteArray();
+    }
+
+    public static void write(Car car, BinaryWriter out) {
+        out.writeByte(CAR_TAG).writeByte(FORMAT_VERSION)
+                .writeUuid(car.getId())
+                .writeMoney(car.getDailyRentalPrice())
+                .writeMoney(car.getDepositAmount())
+                .writeEnum(EnumCodec.CAR_STATUS, car.getStatus())
+                .writeDate(car.getRegistrationDate())
+                .writeDate(car.getLastMaintenanceDate())
+                .writeDate(car.getInsuranceExpiryDate())
+                .writeString(car.getLicensePlate())
+                .writeString(car.getVin())
+                .writeString(car.getColor())
+                .writeString(car.getImageUrl());
+        if (car.getCarType() == null) {
+            out.writeByte((byte) 0);
+        } else {
+            out.writeByte((byte) 1);
+            write(car.getCarType(), out);
+        }
+    }
+
+    public static Car decodeCar(byte[] bytes) {
+        return decodeCar(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes the car at the buffer's position and advances past it.
+     */
+    public static Car decodeCar(ByteBuffer buffer) {
+        BinaryReader in = new BinaryReader(buffer);
+        readHeader(in, CAR_TAG);
+        Car car = new Car();
+        car.setId(in.readUuid());
+        car.setDailyRentalPrice(in.readMoney());
+        car.setDepositAmount(in.readMoney());
+        car.setStatus(in.readEnum(EnumCodec.CAR_STATUS));
+        car.setRegistrationDate(in.readDate());
+        car.setLastMaintenanceDate(in.readDate());
+        car.setInsuranceExpiryDate(in.readDate());
+        car.setLicensePlate(in.readString());
+        car.setVin(in.readString());
+        car.setColor(in.readString());
+        car.setImageUrl(in.readString());
+        if (in.readByte() != 0) {
+            car.setCarType(decodeCarType(buffer));
+        }
+        return car;
+    }
+
+    // -------------------------------------------------------------------------
+    // CarType
+    // -------------------------------------------------------------------------
+
+    public static byte[] encode(CarType carType) {
+        BinaryWriter out = new BinaryWriter();
+        write(carType, out);
+        return out.toByteArray();
+    }
+
+    public static void write(CarType carType, BinaryWriter out) {
+        out.writeByte(CAR_TYPE_TAG).writeByte(FORMAT_VERSION)
+                .writeUuid(carType.getId())
+                .writeInt(carType.getPower())
+                .writeInt(carType.getMaxSpeed())
+                .writeDouble(carType.getAcceleration())
+                .writeDouble(carType.getWeight())
+                .writeInt(carType.getSeats())
+                .writeEnum(EnumCodec.DRIVE_TYPE, carType.getDriveType())
+                .writeEnum(EnumCodec.TRANSMISSION, carType.getTransmission())
+                .writeString(carType.getCategory())
+                .writeString(carType.getBrand())
+                .writeString(carType.getModel())
+                .writeString(carType.getEngine())
+                .writeString(carType.getDescription());
+        List<String> features = carType.getFeatures();
+        out.writeVarInt(features == null ? 0 : features.size() + 1);
+        if (features != null) {
+            for (String feature : features) {
+                out.writeString(feature);
+            }
+        }
+    }
+
+    public static CarType decodeCarType(byte[] bytes) {
+        return decodeCarType(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes the car type at the buffer's position and advances past it.
+     */
+    public static CarType decodeCarType(ByteBuffer buffer) {
+        BinaryReader in = new BinaryReader(buffer);
+        readHeader(in, CAR_TYPE_TAG);
+        CarType carType = new CarType();
+        carType.setId(in.readUuid());
+        carType.setPower(in.readInt());
+        carType.setMaxSpeed(in.readInt());
+        carType.setAcceleration(in.readDouble());
+        carType.setWeight(in.readDouble());
+        carType.setSeats(in.readInt());
+        carType.setDriveType(in.readEnum(EnumCodec.DRIVE_TYPE));
+        carType.setTransmission(in.readEnum(EnumCodec.TRANSMISSION));
+        carType.setCategory(in.readString());
+        carType.setBrand(in.readString());
+        carType.setModel(in.readString());
+        carType.setEngine(in.readString());
+        carType.setDescription(in.readString());
+        int featureCount = in.readVarInt() - 1;
+        if (featureCount >= 0) {
+            if (featureCount > buffer.remaining()) {
+                throw new IllegalArgumentException("Feature count " + featureCount + " exceeds the record");
+            }
+            List<String> features = new ArrayList<>(featureCount);
+            for (int i = 0; i < featureCount; i++) {
+                features.add(in.readString());
+            }
+            carType.setFeatures(features);
+        } else {
+            carType.setFeatures(null);
+        }
+        return carType;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private static void readHeader(BinaryReader in, byte expectedTag) {
+        byte tag = in.readByte();
+        if (tag != expectedTag) {
+            throw new IllegalArgumentException("Expected record '" + (char) expectedTag + "' but found '" + (char) tag + "'");
+        }
+        checkVersion(in.readByte());
+    }
+
+    static void checkVersion(byte version) {
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported format version " + version + " (expected " + FORMAT_VERSION + ")");
+        }
+    }
+}
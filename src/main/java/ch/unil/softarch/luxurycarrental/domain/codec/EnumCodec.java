@@ -0,0 +1,77 @@
+package ch.unil.softarch.luxurycarrental.domain.codec;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+/**
+ * Stable one-byte codes of an enum for the binary format.
+ * <p>
+ * Codes are the positions in an explicit list rather than {@link Enum#ordinal()},
+ * so reordering constants in the Java source never changes the wire format.
+ * New constants must be appended to the list; existing positions must never
+ * change. Every constant has to be listed, which is checked when the table is built.
+ * </p>
+ *
+ * @param <E> the enum type
+ */
+public final class EnumCodec<E extends Enum<E>> {
+
+    public static final byte NULL_CODE = -1;
+
+    public static final EnumCodec<BookingStatus> BOOKING_STATUS = new EnumCodec<>(BookingStatus.class, new BookingStatus[] {
+            BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.CANCELLED, BookingStatus.COMPLETED,
+            BookingStatus.EXPIRED, BookingStatus.REJECTED});
+
+    public static final EnumCodec<PaymentStatus> PAYMENT_STATUS = new EnumCodec<>(PaymentStatus.class, new PaymentStatus[] {
+            PaymentStatus.PENDING, PaymentStatus.SUCCESSFUL, PaymentStatus.FAILED, PaymentStatus.REFUNDED,
+            PaymentStatus.PARTIALLY_REFUNDED, PaymentStatus.CANCELLED});
+
+    public static final EnumCodec<CarStatus> CAR_STATUS = new EnumCodec<>(CarStatus.class, new CarStatus[] {
+            CarStatus.AVAILABLE, CarStatus.UNAVAILABLE});
+
+    public static final EnumCodec<DriveType> DRIVE_TYPE = new EnumCodec<>(DriveType.class, new DriveType[] {
+            DriveType.FRONT_WHEEL_DRIVE, DriveType.REAR_WHEEL_DRIVE, DriveType.FOUR_WHEEL_DRIVE,
+            DriveType.ALL_WHEEL_DRIVE, DriveType.PART_TIME_4WD, DriveType.ELECTRIC_FWD, DriveType.ELECTRIC_RWD,
+            DriveType.ELECTRIC_AWD});
+
+    public static final EnumCodec<Transmission> TRANSMISSION = new EnumCodec<>(Transmission.class, new Transmission[] {
+            Transmission.MANUAL, Transmission.AUTOMATIC, Transmission.ELECTRIC});
+
+    private final E[] byCode;
+    private final byte[] codeByOrdinal;
+
+    EnumCodec(Class<E> type, E[] byCode) {
+        E[] constants = type.getEnumConstants();
+        if (byCode.length > Byte.MAX_VALUE || byCode.length != constants.length
+                || !EnumSet.copyOf(Arrays.asList(byCode)).equals(EnumSet.allOf(type))) {
+            throw new IllegalStateException("Code table of " + type.getSimpleName() + " must list every constant once");
+        }
+        this.byCode = byCode.clone();
+        this.codeByOrdinal = new byte[constants.length];
+        for (int code = 0; code < byCode.length; code++) {
+            codeByOrdinal[byCode[code].ordinal()] = (byte) code;
+        }
+    }
+
+    public byte encode(E value) {
+        return value == null ? NULL_CODE : codeByOrdinal[value.ordinal()];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the code is unknown, e.g. written by a newer schema
+     */
+    public E decode(byte code) {
+        if (code == NULL_CODE) {
+            return null;
+        }
+        if (code < 0 || code >= byCode.length) {
+            throw new IllegalArgumentException("Unknown code " + code + " for " + byCode[0].getDeclaringClass().getSimpleName());
+        }
+        return byCode[code];
+    }
+}
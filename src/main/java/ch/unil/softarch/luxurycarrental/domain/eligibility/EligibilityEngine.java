@@ -0,0 +1,350 @@
+package ch.unil.softarch.luxurycarrental.domain.eligibility;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decides which cars of a fleet a customer may rent, according to {@link EligibilityRules}.
+ * <p>
+ * The rules are compiled against the fleet once: every car gets a dense ordinal,
+ * its strictest minimum age and its deposit are stored in primitive columns, and
+ * the rules that depend on the car become a short program of column checks. The
+ * checks that only depend on the customer (verified identity, licence validity)
+ * are evaluated once per query. Evaluating a customer against the whole fleet then
+ * runs each check as one tight loop over a column, producing 64 cars per
+ * {@code long} of the resulting bitmask, without reading a {@link Car} or its
+ * {@code CarType}.
+ * </p>
+ * <p>
+ * The bitmask of each customer is cached by ID together with the attributes it was
+ * computed from (age, balance) and recomputed when one of them changes. At most
+ * {@code capacity} customers are cached; beyond that the CLOCK policy evicts a
+ * bitmask that was not read since the hand last passed it, as in {@code CarTypeCache}.
+ * The fleet and the rules are fixed at construction; compile a new engine after cars,
+ * car types or rules change. Thread-safe; cache hits are lock-free.
+ * </p>
+ */
+public class EligibilityEngine {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final int CHECK_AGE = 0;      // Customer age >= requiredAges[car]
+    private static final int CHECK_DEPOSIT = 1;  // Customer balance covers deposits[car]
+
+    /**
+     * Bitmask of a customer, with the attributes it was computed from.
+     */
+    private static final class CachedMask {
+        final UUID customerId;
+        final int slot;
+        final int age;
+        final long balance;
+        final Currency currency;
+        final long[] words;
+        volatile boolean referenced;
+
+        CachedMask(UUID customerId, int slot, int age, long balance, Currency currency, long[] words) {
+            this.customerId = customerId;
+            this.slot = slot;
+            this.age = age;
+            this.balance = balance;
+            this.currency = currency;
+            this.words = words;
+        }
+
+        boolean isFor(int age, long balance, Currency currency) {
+            return this.age == age && this.balance == balance && this.currency == currency;
+        }
+    }
+
+    private final EligibilityRules rules;
+    private final boolean checkIdentity;         // Customer-only checks, evaluated per query
+    private final boolean checkLicense;
+    private final int[] program;                 // CHECK_* codes, in evaluation order
+    private final UUID[] carIds;                 // Ordinal -> car ID
+    private final Map<UUID, Integer> ordinals;   // Car ID -> ordinal
+    private final int[] requiredAges;            // Ordinal -> strictest minimum age
+    private final long[] deposits;               // Ordinal -> deposit in minor units, 0 if none
+    private final Currency[] depositCurrencies;  // Ordinal -> currency of the deposit
+    private final ConcurrentMap<UUID, CachedMask> masks = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CachedMask[] ring;             // CLOCK slots, guarded by lock
+    private int hand;                            // Guarded by lock
+
+    /**
+     * Compiles the rules with a cache of {@link #DEFAULT_CAPACITY} customers.
+     *
+     * @param fleet cars with assigned IDs
+     * @throws IllegalArgumentException if a car has no ID or appears twice
+     */
+    public EligibilityEngine(EligibilityRules rules, Collection<Car> fleet) {
+        this(rules, fleet, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param fleet    cars with assigned IDs
+     * @param capacity maximum number of customers whose bitmask is cached
+     * @throws IllegalArgumentException if a car has no ID or appears twice, or the capacity is not positive
+     */
+    public EligibilityEngine(EligibilityRules rules, Collection<Car> fleet, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.rules = Objects.requireNonNull(rules, "rules").copy();  // Later edits must not reach the compiled program
+        this.ring = new CachedMask[capacity];
+        this.checkIdentity = this.rules.requiresVerifiedIdentity();
+        this.checkLicense = this.rules.requiresValidLicense();
+        int size = fleet.size();
+        this.carIds = new UUID[size];
+        this.ordinals = new HashMap<>(size * 2);
+        this.requiredAges = new int[size];
+        this.deposits = new long[size];
+        this.depositCurrencies = new Currency[size];
+        boolean anyAgeLimit = false;
+        int ordinal = 0;
+        for (Car car : fleet) {
+            if (car.getId() == null) {
+                throw new IllegalArgumentException("Cars must have an ID to be compiled");
+            }
+            if (ordinals.putIfAbsent(car.getId(), ordinal) != null) {
+                throw new IllegalArgumentException("Car " + car.getId() + " appears twice");
+            }
+            carIds[ordinal] = car.getId();
+            requiredAges[ordinal] = this.rules.minimumAgeFor(car.getCarType());
+            anyAgeLimit |= requiredAges[ordinal] > 0;
+            Money deposit = car.getDepositAmount();
+            deposits[ordinal] = deposit == null ? 0L : deposit.getMinorUnits();
+            depositCurrencies[ordinal] = deposit == null ? null : deposit.getCurrency();
+            ordinal++;
+        }
+
+        List<Integer> checks = new ArrayList<>();
+        if (anyAgeLimit) {
+            checks.add(CHECK_AGE);
+        }
+        if (this.rules.requiresBalanceCoversDeposit()) {
+            checks.add(CHECK_DEPOSIT);
+        }
+        this.program = checks.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the ordinals of the cars the customer may rent for a booking ending on {@code endDate}.
+     * The set is a copy and may be modified.
+     *
+     * @param endDate return date of the booking; only required when licences are checked
+     */
+    public BitSet eligibleCars(Customer customer, LocalDate endDate) {
+        if (!passesCustomerChecks(customer, endDate)) {
+            return new BitSet();
+        }
+        return BitSet.valueOf(mask(customer));
+    }
+
+    /**
+     * Returns true if the customer may rent the car, using the cached bitmask.
+     *
+     * @throws IllegalArgumentException if the car is not part of the compiled fleet
+     */
+    public boolean isEligible(Customer customer, Car car, LocalDate endDate) {
+        int ordinal = ordinalOf(car.getId());
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Car " + car.getId() + " is not part of the compiled fleet");
+        }
+        return passesCustomerChecks(customer, endDate) && (mask(customer)[ordinal >>> 6] >>> ordinal & 1L) != 0;
+    }
+
+    /**
+     * Lists every rule the customer fails for the car, e.g. to tell them why it cannot
+     * be booked. Evaluates the rules directly, so the car need not be part of the fleet.
+     */
+    public List<Ineligibility> explain(Customer customer, Car car, LocalDate endDate) {
+        List<Ineligibility> reasons = new ArrayList<>();
+        if (rules.requiresVerifiedIdentity() && !customer.isVerifiedIdentity()) {
+            reasons.add(Ineligibility.IDENTITY_NOT_VERIFIED);
+        }
+        if (customer.getAge() < rules.minimumAgeFor(car.getCarType())) {
+            reasons.add(Ineligibility.TOO_YOUNG);
+        }
+        if (rules.requiresValidLicense() && !licenseValidUntil(customer, endDate)) {
+            reasons.add(Ineligibility.LICENSE_EXPIRED);
+        }
+        Money deposit = car.getDepositAmount();
+        if (rules.requiresBalanceCoversDeposit() && deposit != null && !covers(customer.getBalance(),
+                deposit.getMinorUnits(), deposit.getCurrency())) {
+            reasons.add(Ineligibility.BALANCE_BELOW_DEPOSIT);
+        }
+        return reasons;
+    }
+
+    /**
+     * Dense ordinal of the car, or -1 if it is not part of the compiled fleet.
+     */
+    public int ordinalOf(UUID carId) {
+        Integer ordinal = ordinals.get(carId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public UUID carAt(int ordinal) {
+        return carIds[ordinal];
+    }
+
+    public int size() {
+        return carIds.length;
+    }
+
+    /**
+     * Drops the cached bitmask of a customer, e.g. after it was deleted.
+     */
+    public void evict(UUID customerId) {
+        lock.lock();
+        try {
+            CachedMask cached = masks.remove(customerId);
+            if (cached != null) {
+                ring[cached.slot] = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int cachedCustomers() {
+        return masks.size();
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    // -------------------------------------------------------------------------
+    // Evaluation
+    // -------------------------------------------------------------------------
+
+    private boolean passesCustomerChecks(Customer customer, LocalDate endDate) {
+        return (!checkIdentity || customer.isVerifiedIdentity())
+                && (!checkLicense || licenseValidUntil(customer, endDate));
+    }
+
+    /**
+     * Cached bitmask of the car-dependent checks; must not be modified.
+     */
+    private long[] mask(Customer customer) {
+        int age = customer.getAge();
+        Money balance = customer.getBalance();
+        long balanceMinor = balance == null ? 0L : balance.getMinorUnits();
+        Currency currency = balance == null ? null : balance.getCurrency();
+        UUID customerId = customer.getId();
+        CachedMask cached = customerId == null ? null : masks.get(customerId);
+        if (cached != null && cached.isFor(age, balanceMinor, currency)) {
+            cached.referenced = true;
+            return cached.words;
+        }
+        long[] words = evaluate(age, balanceMinor, currency);
+        if (customerId != null) {
+            store(customerId, age, balanceMinor, currency, words);
+        }
+        return words;
+    }
+
+    private void store(UUID customerId, int age, long balance, Currency currency, long[] words) {
+        lock.lock();
+        try {
+            CachedMask existing = masks.get(customerId);
+            int slot = existing != null ? existing.slot : freeSlot();  // A recomputed mask keeps its slot
+            CachedMask cached = new CachedMask(customerId, slot, age, balance, currency, words);
+            ring[slot] = cached;
+            masks.put(customerId, cached);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the clock hand to an empty slot, evicting the first unreferenced mask
+     * if the cache is full. Must hold the lock.
+     */
+    private int freeSlot() {
+        boolean full = masks.size() >= ring.length;
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % ring.length;
+            CachedMask cached = ring[slot];
+            if (cached == null) {
+                return slot;
+            }
+            if (!full) {
+                continue;  // Free slots remain, do not evict yet
+            }
+            if (cached.referenced) {
+                cached.referenced = false;  // Second chance
+            } else {
+                masks.remove(cached.customerId);
+                ring[slot] = null;
+                return slot;
+            }
+        }
+    }
+
+    private long[] evaluate(int age, long balance, Currency currency) {
+        int size = carIds.length;
+        long[] words = new long[(size + 63) >>> 6];
+        for (int w = 0; w < words.length; w++) {
+            int bits = Math.min(64, size - (w << 6));
+            words[w] = bits == 64 ? -1L : (1L << bits) - 1;
+        }
+        for (int check : program) {
+            for (int w = 0; w < words.length; w++) {
+                int base = w << 6;
+                int end = Math.min(base + 64, size);
+                long word = 0L;
+                if (check == CHECK_AGE) {
+                    for (int i = base; i < end; i++) {
+                        // Sign bit of (required - age - 1) is set exactly when age >= required
+                        word |= (long) ((requiredAges[i] - age - 1) >>> 31) << (i - base);
+                    }
+                } else {
+                    for (int i = base; i < end; i++) {
+                        boolean covered = deposits[i] <= 0 || (depositCurrencies[i] == currency && balance >= deposits[i]);
+                        word |= (covered ? 1L : 0L) << (i - base);
+                    }
+                }
+                words[w] &= word;
+            }
+        }
+        return words;
+    }
+
+    private static boolean covers(Money balance, long deposit, Currency currency) {
+        return deposit <= 0 || (balance != null && balance.getCurrency() == currency && balance.getMinorUnits() >= deposit);
+    }
+
+    /**
+     * The licence must still be valid on the return day, the end of the half-open booking range.
+     */
+    private static boolean licenseValidUntil(Customer customer, LocalDate endDate) {
+        if (endDate == null) {
+            throw new IllegalArgumentException("endDate is required to check the driving licence");
+        }
+        return EpochDays.validOn(EpochDays.of(customer.getDrivingLicenseExpiryDate()), EpochDays.of(endDate));
+    }
+}
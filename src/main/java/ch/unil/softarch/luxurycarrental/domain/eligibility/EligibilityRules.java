@@ -0,0 +1,137 @@
+package ch.unil.softarch.luxurycarrental.domain.eligibility;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Conditions a customer must meet to rent a car, compiled by {@link EligibilityEngine}.
+ * <p>
+ * Age limits may depend on the car: a category can require an older driver, and so
+ * can a car of at least a given power. The strictest applicable limit wins.
+ * </p>
+ * <pre>
+ * EligibilityRules rules = new EligibilityRules()
+ *         .requireVerifiedIdentity()
+ *         .requireValidLicense()
+ *         .minimumAge(21)
+ *         .minimumAge("Sport", 25)
+ *         .minimumAgeFromPower(500, 30)
+ *         .requireBalanceCoversDeposit();
+ * </pre>
+ * <p>
+ * The engine compiles a copy, so changing the rules afterwards has no effect on it.
+ * </p>
+ */
+public class EligibilityRules {
+
+    private boolean verifiedIdentity;
+    private boolean validLicense;
+    private boolean balanceCoversDeposit;
+    private int minimumAge;
+    private final Map<String, Integer> categoryMinimumAges = new HashMap<>();
+    private final NavigableMap<Integer, Integer> powerMinimumAges = new TreeMap<>();  // Minimum power [hp] -> age
+
+    // -------------------------------------------------------------------------
+    // Rules
+    // -------------------------------------------------------------------------
+
+    public EligibilityRules requireVerifiedIdentity() {
+        this.verifiedIdentity = true;
+        return this;
+    }
+
+    /**
+     * Requires a driving licence that is still valid on the day the car is returned.
+     */
+    public EligibilityRules requireValidLicense() {
+        this.validLicense = true;
+        return this;
+    }
+
+    /**
+     * Requires a balance at least equal to the car's deposit, in the same currency.
+     */
+    public EligibilityRules requireBalanceCoversDeposit() {
+        this.balanceCoversDeposit = true;
+        return this;
+    }
+
+    public EligibilityRules minimumAge(int age) {
+        this.minimumAge = nonNegative(age);
+        return this;
+    }
+
+    /**
+     * Minimum age for cars whose {@code CarType.category} matches (case-insensitive).
+     */
+    public EligibilityRules minimumAge(String category, int age) {
+        if (category == null) {
+            throw new IllegalArgumentException("category is required");
+        }
+        categoryMinimumAges.put(key(category), nonNegative(age));
+        return this;
+    }
+
+    /**
+     * Minimum age for cars with at least {@code power} horsepower.
+     */
+    public EligibilityRules minimumAgeFromPower(int power, int age) {
+        powerMinimumAges.put(power, nonNegative(age));
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Evaluation
+    // -------------------------------------------------------------------------
+
+    boolean requiresVerifiedIdentity() { return verifiedIdentity; }
+
+    boolean requiresValidLicense() { return validLicense; }
+
+    boolean requiresBalanceCoversDeposit() { return balanceCoversDeposit; }
+
+    /**
+     * Strictest minimum age that applies to cars of the type, or to cars without one.
+     */
+    int minimumAgeFor(CarType carType) {
+        int age = minimumAge;
+        if (carType != null) {
+            if (carType.getCategory() != null) {
+                age = Math.max(age, categoryMinimumAges.getOrDefault(key(carType.getCategory()), 0));
+            }
+            for (int powerAge : powerMinimumAges.headMap(carType.getPower(), true).values()) {
+                age = Math.max(age, powerAge);
+            }
+        }
+        return age;
+    }
+
+    /**
+     * Independent copy, taken by the engine when it compiles the rules.
+     */
+    EligibilityRules copy() {
+        EligibilityRules copy = new EligibilityRules();
+        copy.verifiedIdentity = verifiedIdentity;
+        copy.validLicense = validLicense;
+        copy.balanceCoversDeposit = balanceCoversDeposit;
+        copy.minimumAge = minimumAge;
+        copy.categoryMinimumAges.putAll(categoryMinimumAges);
+        copy.powerMinimumAges.putAll(powerMinimumAges);
+        return copy;
+    }
+
+    private static String key(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int nonNegative(int age) {
+        if (age < 0) {
+            throw new IllegalArgumentException("Age must not be negative: " + age);
+        }
+        return age;
+    }
+}
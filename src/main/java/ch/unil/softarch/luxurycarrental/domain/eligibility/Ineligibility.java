@@ -0,0 +1,11 @@
+package ch.unil.softarch.luxurycarrental.domain.eligibility;
+
+/**
+ * Reason why a customer may not rent a car, reported by {@link EligibilityEngine#explain}.
+ */
+public enum Ineligibility {
+    IDENTITY_NOT_VERIFIED,  // Customer.verifiedIdentity is false
+    TOO_YOUNG,              // Below the minimum age of the car's category or power
+    LICENSE_EXPIRED,        // Driving licence missing or expiring before the car is returned
+    BALANCE_BELOW_DEPOSIT   // Balance does not cover the car's deposit
+}
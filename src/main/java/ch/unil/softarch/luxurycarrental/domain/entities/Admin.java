@@ -1,10 +1,10 @@
 package ch.unil.softarch.luxurycarrental.domain.entities;
 
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.Objects;
 import java.util.UUID;
 import jakarta.xml.bind.annotation.XmlTransient;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -29,10 +29,11 @@ public class Admin implements Serializable {
      * Stored as a 16-byte binary value for efficiency.
      */
     @Id
-    @GeneratedValue
     @Column(length = 36)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private UUID id;
+    private UUID id = EntityIds.next();
+
+    private transient int hash;  // Cached hashCode(), 0 until first computed
 
     /**
      * The unique username used for logging in.
@@ -81,7 +82,7 @@ public class Admin implements Serializable {
      * Required by the JPA specification for entity instantiation.
      */
     public Admin() {
-        // The ID generation and timestamp initialization are handled by the @PrePersist callback
+        // The ID is assigned by its field initializer, the timestamps by the @PrePersist callback
     }
 
     /**
@@ -106,12 +107,12 @@ public class Admin implements Serializable {
 
     /**
      * Executed automatically before the entity is persisted (inserted) into the database.
-     * Initializes the UUID if null and sets the creation/update timestamps.
+     * Initializes the UUID if it was cleared and sets the creation/update timestamps.
      */
     @PrePersist
     protected void onCreate() {
-        if (this.id == null) {
-            this.id = UUID.randomUUID();
+        if (this.id == null) {  // Only if the ID was cleared after construction
+            setId(EntityIds.next());
         }
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -136,6 +137,7 @@ public class Admin implements Serializable {
 
     public void setId(UUID id) {
         this.id = id;
+        this.hash = 0;  // Rehash by the new ID
     }
 
     public String getUsername() {
@@ -189,14 +191,19 @@ public class Admin implements Serializable {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof Admin admin)) return false;
-        // Equality is based on the unique ID (Primary Key)
-        return Objects.equals(id, admin.id);
+        if (!(o instanceof Admin other)) return false;
+        // Equality is based on the ID; read through the getter so lazy proxies match
+        return id != null && id.equals(other.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        int h = hash;  // See EntityIds.hash
+        if (h == 0) {
+            h = EntityIds.hash(id);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -2,6 +2,10 @@ package ch.unil.softarch.luxurycarrental.domain.entities;
 
 import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
 import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.money.MoneyConverter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.io.Serializable;
@@ -21,10 +25,11 @@ public class Booking implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
     @Column(length = 36)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private UUID bookingId;  // Booking ID
+    private UUID bookingId = EntityIds.next();  // Booking ID
+
+    private transient int hash;  // Cached hashCode(), 0 until first computed
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "car_id", nullable = false)
@@ -37,8 +42,11 @@ public class Booking implements Serializable {
     private LocalDate startDate;  // Rental start date
     private LocalDate endDate;    // Rental end date
 
-    private double totalCost;      // Total cost
-    private double depositAmount;  // Deposit amount
+    @Convert(converter = MoneyConverter.class)
+    private Money totalCost = Money.ZERO;      // Total cost
+
+    @Convert(converter = MoneyConverter.class)
+    private Money depositAmount = Money.ZERO;  // Deposit amount
 
     @Enumerated(EnumType.STRING)
     private BookingStatus bookingStatus;  // Booking status
@@ -54,23 +62,30 @@ public class Booking implements Serializable {
      * Default no-arg constructor required by JPA.
      */
     public Booking() {
-        // ID generation handled by @PrePersist
+        // ID assigned by the field initializer
     }
 
     /**
      * Constructor with fields (excluding ID).
+     *
+     * @throws IllegalArgumentException if both statuses are given and the {@link BookingStateMachine}
+     *                                  does not consider the pair consistent
      */
     public Booking(Car car, Customer customer,
                    LocalDate startDate, LocalDate endDate,
-                   double totalCost, double depositAmount,
+                   Money totalCost, Money depositAmount,
                    BookingStatus bookingStatus, PaymentStatus paymentStatus) {
-        // ID is auto-generated by lifecycle callbacks
+        // ID assigned by the field initializer
+        if (bookingStatus != null && paymentStatus != null
+                && !BookingStateMachine.isConsistent(bookingStatus, paymentStatus)) {
+            throw new IllegalArgumentException("Inconsistent booking state " + bookingStatus + "/" + paymentStatus);
+        }
         this.car = car;
         this.customer = customer;
         this.startDate = startDate;
         this.endDate = endDate;
-        this.totalCost = totalCost;
-        this.depositAmount = depositAmount;
+        this.totalCost = MoneyConverter.requireStorable(totalCost);
+        this.depositAmount = MoneyConverter.requireStorable(depositAmount);
         this.bookingStatus = bookingStatus;
         this.paymentStatus = paymentStatus;
     }
@@ -84,8 +99,8 @@ public class Booking implements Serializable {
      */
     @PrePersist
     protected void onCreate() {
-        if (this.bookingId == null) {
-            this.bookingId = UUID.randomUUID();
+        if (this.bookingId == null) {  // Only if the ID was cleared after construction
+            setBookingId(EntityIds.next());
         }
     }
 
@@ -94,7 +109,10 @@ public class Booking implements Serializable {
     // -------------------------------------------------------------------------
 
     public UUID getBookingId() { return bookingId; }
-    public void setBookingId(UUID bookingId) { this.bookingId = bookingId; }
+    public void setBookingId(UUID bookingId) {
+        this.bookingId = bookingId;
+        this.hash = 0;  // Rehash by the new ID
+    }
 
     public Car getCar() { return car; }
     public void setCar(Car car) { this.car = car; }
@@ -108,28 +126,58 @@ public class Booking implements Serializable {
     public LocalDate getEndDate() { return endDate; }
     public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
 
-    public double getTotalCost() { return totalCost; }
-    public void setTotalCost(double totalCost) { this.totalCost = totalCost; }
+    public Money getTotalCost() { return totalCost; }
+    public void setTotalCost(Money totalCost) { this.totalCost = MoneyConverter.requireStorable(totalCost); }
 
-    public double getDepositAmount() { return depositAmount; }
-    public void setDepositAmount(double depositAmount) { this.depositAmount = depositAmount; }
+    public Money getDepositAmount() { return depositAmount; }
+    public void setDepositAmount(Money depositAmount) { this.depositAmount = MoneyConverter.requireStorable(depositAmount); }
 
     public BookingStatus getBookingStatus() { return bookingStatus; }
-    public void setBookingStatus(BookingStatus bookingStatus) { this.bookingStatus = bookingStatus; }
+    /**
+     * @throws IllegalStateException if the {@link BookingStateMachine} does not allow the change
+     */
+    public void setBookingStatus(BookingStatus bookingStatus) {
+        BookingStateMachine.DEFAULT.check(this.bookingStatus, paymentStatus, bookingStatus, paymentStatus);
+        this.bookingStatus = bookingStatus;
+    }
 
     public PaymentStatus getPaymentStatus() { return paymentStatus; }
-    public void setPaymentStatus(PaymentStatus paymentStatus) { this.paymentStatus = paymentStatus; }
+    /**
+     * @throws IllegalStateException if the {@link BookingStateMachine} does not allow the change
+     */
+    public void setPaymentStatus(PaymentStatus paymentStatus) {
+        BookingStateMachine.DEFAULT.check(bookingStatus, this.paymentStatus, bookingStatus, paymentStatus);
+        this.paymentStatus = paymentStatus;
+    }
 
     // -------------------------------------------------------------------------
     // Overrides
     // -------------------------------------------------------------------------
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Booking other)) return false;
+        // Equality is based on the ID; read through the getter so lazy proxies match
+        return bookingId != null && bookingId.equals(other.getBookingId());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;  // See EntityIds.hash
+        if (h == 0) {
+            h = EntityIds.hash(bookingId);
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     public String toString() {
         return "Booking{" +
                 "bookingId=" + bookingId +
-                ", car=" + (car != null ? car.getLicensePlate() : "null") + // Only print key info
-                ", customer=" + (customer != null ? customer.getEmail() : "null") + // Only print key info
+                ", car=" + (car != null ? car.getId() : "null") + // ID only, keeps lazy proxies uninitialized
+                ", customer=" + (customer != null ? customer.getId() : "null") +
                 ", startDate=" + startDate +
                 ", endDate=" + endDate +
                 ", totalCost=" + totalCost +
@@ -1,6 +1,9 @@
 package ch.unil.softarch.luxurycarrental.domain.entities;
 
 import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.money.MoneyConverter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.io.Serializable;
@@ -21,10 +24,11 @@ public class Car implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
     @Column(length = 36)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private UUID id;  // Unique car ID (UUID)
+    private UUID id = EntityIds.next();  // Unique car ID (UUID)
+
+    private transient int hash;  // Cached hashCode(), 0 until first computed
 
     @Column(nullable = false, unique = true)
     private String licensePlate;
@@ -39,10 +43,12 @@ public class Car implements Serializable {
     private CarType carType;
 
     @Column(nullable = false)
-    private double dailyRentalPrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money dailyRentalPrice = Money.ZERO;
 
     @Column(nullable = false)
-    private double depositAmount;
+    @Convert(converter = MoneyConverter.class)
+    private Money depositAmount = Money.ZERO;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -69,20 +75,20 @@ public class Car implements Serializable {
      * Default no-arg constructor required by JPA.
      */
     public Car() {
-        // ID generation handled by @PrePersist
+        // ID assigned by the field initializer
     }
 
     /**
      * Constructor with fields (excluding ID).
      */
-    public Car(String licensePlate, CarType carType, double dailyRentalPrice,
-               double depositAmount, CarStatus status, String imageUrl,
+    public Car(String licensePlate, CarType carType, Money dailyRentalPrice,
+               Money depositAmount, CarStatus status, String imageUrl,
                LocalDate registrationDate, LocalDate lastMaintenanceDate,
                String vin, String color, LocalDate insuranceExpiryDate) {
         this.licensePlate = licensePlate;
         this.carType = carType;
-        this.dailyRentalPrice = dailyRentalPrice;
-        this.depositAmount = depositAmount;
+        this.dailyRentalPrice = MoneyConverter.requireStorable(dailyRentalPrice);
+        this.depositAmount = MoneyConverter.requireStorable(depositAmount);
         this.status = status;
         this.imageUrl = imageUrl;
         this.registrationDate = registrationDate;
@@ -101,8 +107,8 @@ public class Car implements Serializable {
      */
     @PrePersist
     protected void onCreate() {
-        if (this.id == null) {
-            this.id = UUID.randomUUID();
+        if (this.id == null) {  // Only if the ID was cleared after construction
+            setId(EntityIds.next());
         }
     }
 
@@ -111,7 +117,10 @@ public class Car implements Serializable {
     // -------------------------------------------------------------------------
 
     public UUID getId() { return id; }
-    public void setId(UUID id) { this.id = id; }
+    public void setId(UUID id) {
+        this.id = id;
+        this.hash = 0;  // Rehash by the new ID
+    }
 
     public String getLicensePlate() { return licensePlate; }
     public void setLicensePlate(String licensePlate) { this.licensePlate = licensePlate; }
@@ -119,11 +128,11 @@ public class Car implements Serializable {
     public CarType getCarType() { return carType; }
     public void setCarType(CarType carType) { this.carType = carType; }
 
-    public double getDailyRentalPrice() { return dailyRentalPrice; }
-    public void setDailyRentalPrice(double dailyRentalPrice) { this.dailyRentalPrice = dailyRentalPrice; }
+    public Money getDailyRentalPrice() { return dailyRentalPrice; }
+    public void setDailyRentalPrice(Money dailyRentalPrice) { this.dailyRentalPrice = MoneyConverter.requireStorable(dailyRentalPrice); }
 
-    public double getDepositAmount() { return depositAmount; }
-    public void setDepositAmount(double depositAmount) { this.depositAmount = depositAmount; }
+    public Money getDepositAmount() { return depositAmount; }
+    public void setDepositAmount(Money depositAmount) { this.depositAmount = MoneyConverter.requireStorable(depositAmount); }
 
     public CarStatus getStatus() { return status; }
     public void setStatus(CarStatus status) { this.status = status; }
@@ -150,12 +159,30 @@ public class Car implements Serializable {
     // Overrides
     // -------------------------------------------------------------------------
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Car other)) return false;
+        // Equality is based on the ID; read through the getter so lazy proxies match
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;  // See EntityIds.hash
+        if (h == 0) {
+            h = EntityIds.hash(id);
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     public String toString() {
         return "Car{" +
                 "id=" + id +
                 ", licensePlate='" + licensePlate + '\'' +
-                ", carType=" + (carType != null ? carType.getModel() : "null") + // Avoid recursion in toString
+                ", carType=" + (carType != null ? carType.getId() : "null") + // ID only, keeps the lazy proxy uninitialized
                 ", dailyRentalPrice=" + dailyRentalPrice +
                 ", depositAmount=" + depositAmount +
                 ", status=" + status +
@@ -1,7 +1,9 @@
 package ch.unil.softarch.luxurycarrental.domain.entities;
 
+import ch.unil.softarch.luxurycarrental.domain.catalog.CarTypeCacheInvalidator;
 import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
 import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 
@@ -18,15 +20,17 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "car_type")
+@EntityListeners(CarTypeCacheInvalidator.class)
 public class CarType implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
     @Column(length = 36)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private UUID id;  // Unique identifier
+    private UUID id = EntityIds.next();  // Unique identifier
+
+    private transient int hash;  // Cached hashCode(), 0 until first computed
 
     @Column(nullable = false)
     private String category;  // Car category (e.g., SUV, Sport)
@@ -71,12 +75,12 @@ public class CarType implements Serializable {
      * Default no-arg constructor required by JPA.
      */
     public CarType() {
-        // ID generation handled by @PrePersist
+        // ID assigned by the field initializer
     }
 
     /**
      * Constructor with specifications.
-     * Note: ID is auto-generated by lifecycle callbacks.
+     * Note: ID is assigned by the field initializer.
      */
     public CarType(String category, String brand, String model, String engine,
                    int power, int maxSpeed, double acceleration, double weight,
@@ -104,12 +108,12 @@ public class CarType implements Serializable {
 
     /**
      * Executed automatically before persisting to the database.
-     * Generates a UUID if one doesn't exist.
+     * Generates a time-ordered UUID if one doesn't exist.
      */
     @PrePersist
     protected void onCreate() {
-        if (this.id == null) {
-            this.id = UUID.randomUUID();
+        if (this.id == null) {  // Only if the ID was cleared after construction
+            setId(EntityIds.next());
         }
     }
 
@@ -118,7 +122,10 @@ public class CarType implements Serializable {
     // -------------------------------------------------------------------------
 
     public UUID getId() { return id; }
-    public void setId(UUID id) { this.id = id; }
+    public void setId(UUID id) {
+        this.id = id;
+        this.hash = 0;  // Rehash by the new ID
+    }
 
     public String getCategory() { return category; }
     public void setCategory(String category) { this.category = category; }
@@ -163,6 +170,24 @@ public class CarType implements Serializable {
     // Overrides
     // -------------------------------------------------------------------------
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CarType other)) return false;
+        // Equality is based on the ID; read through the getter so lazy proxies match
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;  // See EntityIds.hash
+        if (h == 0) {
+            h = EntityIds.hash(id);
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     public String toString() {
         return "CarType{" +
@@ -1,9 +1,12 @@
 package ch.unil.softarch.luxurycarrental.domain.entities;
 
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.money.MoneyConverter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.io.Serializable;
-import java.util.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -26,10 +29,11 @@ public class Customer implements Serializable {
      * Stored as binary(16) for efficient UUID storage in databases.
      */
     @Id
-    @GeneratedValue
     @Column(length = 36)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private UUID id;
+    private UUID id = EntityIds.next();
+
+    private transient int hash;  // Cached hashCode(), 0 until first computed
 
     @Column(nullable = false)
     private String firstName;
@@ -55,13 +59,7 @@ public class Customer implements Serializable {
     @Column(unique = true)
     private String drivingLicenseNumber;
 
-    /**
-     * Expiry date of the driving license.
-     * Using java.util.Date with @Temporal as per legacy JPA patterns,
-     * though LocalDate is preferred in newer Java versions.
-     */
-    @Temporal(TemporalType.DATE)
-    private Date drivingLicenseExpiryDate;
+    private LocalDate drivingLicenseExpiryDate;  // Last day the licence is valid
 
     private int age;
 
@@ -75,7 +73,8 @@ public class Customer implements Serializable {
     /**
      * Current account balance used for deposits or payments.
      */
-    private double balance;
+    @Convert(converter = MoneyConverter.class)
+    private Money balance = Money.ZERO;
 
     /**
      * Timestamp when the customer account was created.
@@ -91,19 +90,20 @@ public class Customer implements Serializable {
      * No-arg constructor required by JPA specifications.
      */
     public Customer() {
-        // ID and creationDate initialization moved to @PrePersist callback
+        // ID assigned by the field initializer, creationDate by the @PrePersist callback
     }
 
     /**
      * Constructor to initialize a customer with specific details.
-     * Note: ID and creationDate are handled automatically by lifecycle callbacks.
+     * Note: a null ID keeps the generated one; creationDate is set by the lifecycle callback.
      */
     public Customer(UUID id, String firstName, String lastName, String email, String password,
-                    String phoneNumber, String drivingLicenseNumber, Date drivingLicenseExpiryDate,
-                    int age, boolean verifiedIdentity, String billingAddress, double balance) {
-        // We typically ignore the passed ID in favor of auto-generation,
-        // or you can set it if you are migrating existing data.
-        this.id = id;
+                    String phoneNumber, String drivingLicenseNumber, LocalDate drivingLicenseExpiryDate,
+                    int age, boolean verifiedIdentity, String billingAddress, Money balance) {
+        // Pass an ID only when migrating existing data
+        if (id != null) {
+            this.id = id;
+        }
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
@@ -114,7 +114,7 @@ public class Customer implements Serializable {
         this.age = age;
         this.verifiedIdentity = verifiedIdentity;
         this.billingAddress = billingAddress;
-        this.balance = balance;
+        this.balance = MoneyConverter.requireStorable(balance);
         // creationDate is not set here, it will be set on persist
     }
 
@@ -128,8 +128,8 @@ public class Customer implements Serializable {
      */
     @PrePersist
     protected void onCreate() {
-        if (this.id == null) {
-            this.id = UUID.randomUUID();
+        if (this.id == null) {  // Only if the ID was cleared after construction
+            setId(EntityIds.next());
         }
         if (this.creationDate == null) {
             this.creationDate = LocalDateTime.now();
@@ -143,7 +143,10 @@ public class Customer implements Serializable {
     // -------------------------------------------------------------------------
 
     public UUID getId() { return id; }
-    public void setId(UUID id) { this.id = id; }
+    public void setId(UUID id) {
+        this.id = id;
+        this.hash = 0;  // Rehash by the new ID
+    }
 
     public String getFirstName() { return firstName; }
     public void setFirstName(String firstName) { this.firstName = firstName; }
@@ -163,8 +166,8 @@ public class Customer implements Serializable {
     public String getDrivingLicenseNumber() { return drivingLicenseNumber; }
     public void setDrivingLicenseNumber(String drivingLicenseNumber) { this.drivingLicenseNumber = drivingLicenseNumber; }
 
-    public Date getDrivingLicenseExpiryDate() { return drivingLicenseExpiryDate; }
-    public void setDrivingLicenseExpiryDate(Date drivingLicenseExpiryDate) { this.drivingLicenseExpiryDate = drivingLicenseExpiryDate; }
+    public LocalDate getDrivingLicenseExpiryDate() { return drivingLicenseExpiryDate; }
+    public void setDrivingLicenseExpiryDate(LocalDate drivingLicenseExpiryDate) { this.drivingLicenseExpiryDate = drivingLicenseExpiryDate; }
 
     public int getAge() { return age; }
     public void setAge(int age) { this.age = age; }
@@ -175,8 +178,8 @@ public class Customer implements Serializable {
     public String getBillingAddress() { return billingAddress; }
     public void setBillingAddress(String billingAddress) { this.billingAddress = billingAddress; }
 
-    public double getBalance() { return balance; }
-    public void setBalance(double balance) { this.balance = balance; }
+    public Money getBalance() { return balance; }
+    public void setBalance(Money balance) { this.balance = MoneyConverter.requireStorable(balance); }
 
     public LocalDateTime getCreationDate() { return creationDate; }
     // Setter typically not used for creationDate as it's immutable after creation
@@ -186,6 +189,24 @@ public class Customer implements Serializable {
     // Overrides
     // -------------------------------------------------------------------------
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Customer other)) return false;
+        // Equality is based on the ID; read through the getter so lazy proxies match
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;  // See EntityIds.hash
+        if (h == 0) {
+            h = EntityIds.hash(id);
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     public String toString() {
         return "Customer{" +
@@ -6,5 +6,13 @@ public enum BookingStatus {
     CANCELLED,  // Booking cancelled
     COMPLETED,  // Booking completed (optional)
     EXPIRED,    // Booking expired or timed out (optional)
-    REJECTED    // Booking rejected by admin (optional)
+    REJECTED;   // Booking rejected by admin (optional)
+
+    /**
+     * Indicates whether a booking in this status still holds its car for the booked dates.
+     * Cancelled, rejected and expired bookings release the car.
+     */
+    public boolean blocksCar() {
+        return this != CANCELLED && this != REJECTED && this != EXPIRED;
+    }
 }
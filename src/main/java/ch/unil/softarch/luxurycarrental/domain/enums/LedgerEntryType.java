@@ -0,0 +1,26 @@
+package ch.unil.softarch.luxurycarrental.domain.enums;
+
+public enum LedgerEntryType {
+    OPENING_BALANCE(0),   // Balance carried over from the Customer entity (signed)
+    TOP_UP(1),            // Customer added funds
+    PAYMENT(-1),          // Rental paid from the balance
+    DEPOSIT_HOLD(-1),     // Deposit blocked for a booking
+    DEPOSIT_RELEASE(1),   // Deposit returned after the rental
+    REFUND(1),            // Payment refunded in full (PaymentStatus.REFUNDED)
+    PARTIAL_REFUND(1),    // Part of a payment refunded (PaymentStatus.PARTIALLY_REFUNDED)
+    ADJUSTMENT(0);        // Manual correction by an admin (signed)
+
+    private final int sign;
+
+    LedgerEntryType(int sign) {
+        this.sign = sign;
+    }
+
+    /**
+     * Effect of the entry on the balance: {@code 1} credits, {@code -1} debits and
+     * {@code 0} applies the recorded amount with its own sign.
+     */
+    public int sign() {
+        return sign;
+    }
+}
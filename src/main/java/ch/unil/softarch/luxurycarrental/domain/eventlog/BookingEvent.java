@@ -0,0 +1,65 @@
+package ch.unil.softarch.luxurycarrental.domain.eventlog;
+
+import ch.unil.softarch.luxurycarrental.domain.codec.BookingView;
+import ch.unil.softarch.luxurycarrental.domain.codec.EntityCodec;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Zero-copy view of one record of the {@link BookingEventLog}.
+ * <p>
+ * A record holds the log sequence number, the time the event was appended and the
+ * complete state of the booking after the change, encoded with {@link EntityCodec}.
+ * Field reads go straight to the mapped segment through a {@link BookingView}.
+ * </p>
+ */
+public final class BookingEvent {
+
+    private final BookingView booking = new BookingView();
+    private ByteBuffer buffer;
+    private int offset;
+
+    BookingEvent wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        booking.wrap(buffer, offset + BookingEventLog.BOOKING);
+        return this;
+    }
+
+    public long getSequence() { return buffer.getLong(offset + BookingEventLog.SEQUENCE); }
+
+    public long getTimestampMillis() { return buffer.getLong(offset + BookingEventLog.TIMESTAMP); }
+
+    public Instant getTimestamp() { return Instant.ofEpochMilli(getTimestampMillis()); }
+
+    /**
+     * Booking state after the event, read in place. Only valid until the handler returns.
+     */
+    public BookingView getBooking() { return booking; }
+
+    /**
+     * Decodes the booking state into a new entity, with ID-only car and customer references.
+     */
+    public Booking toBooking() {
+        return EntityCodec.decodeBooking(buffer.duplicate().position(offset + BookingEventLog.BOOKING));
+    }
+
+    /**
+     * Copies the encoded booking state, {@link EntityCodec#BOOKING_SIZE} bytes, into {@code target}.
+     */
+    void copyBooking(byte[] target, int targetOffset) {
+        buffer.get(offset + BookingEventLog.BOOKING, target, targetOffset, EntityCodec.BOOKING_SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "BookingEvent{" +
+                "sequence=" + getSequence() +
+                ", timestamp=" + getTimestamp() +
+                ", bookingId=" + booking.getBookingId() +
+                ", bookingStatus=" + booking.getBookingStatus() +
+                ", paymentStatus=" + booking.getPaymentStatus() +
+                '}';
+    }
+}
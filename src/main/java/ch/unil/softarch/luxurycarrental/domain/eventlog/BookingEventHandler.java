@@ -0,0 +1,15 @@
+package ch.unil.softarch.luxurycarrental.domain.eventlog;
+
+/**
+ * Receives events during {@link BookingEventLog#replay(long, BookingEventHandler)}.
+ */
+@FunctionalInterface
+public interface BookingEventHandler {
+
+    /**
+     * Handles one event. The event is a flyweight that is re-pointed at the next
+     * record after this call returns, so it must not be retained; use
+     * {@link BookingEvent#toBooking()} to keep the booking.
+     */
+    void onEvent(BookingEvent event);
+}
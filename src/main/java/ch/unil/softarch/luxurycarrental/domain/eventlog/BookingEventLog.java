@@ -0,0 +1,350 @@
+package ch.unil.softarch.luxurycarrental.domain.eventlog;
+
+import ch.unil.softarch.luxurycarrental.domain.codec.BinaryWriter;
+import ch.unil.softarch.luxurycarrental.domain.codec.EntityCodec;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped log of booking lifecycle events.
+ * <p>
+ * Every status, payment or date change of a booking is appended as a fixed-size
+ * {@value #RECORD_SIZE}-byte record holding a sequence number, a timestamp, the full
+ * booking state in the {@link EntityCodec} layout and a CRC32C checksum. Records are
+ * aligned so that none straddles a page. The log is split into segment files of
+ * {@code recordsPerSegment} records, named after their first sequence number; a new
+ * segment is started when the current one is full.
+ * </p>
+ * <p>
+ * Appends write to the page cache through the mapping and survive a process crash;
+ * call {@link #force()} to also survive a power loss. On open, the last segment is
+ * scanned and a torn tail record (bad checksum or sequence) is discarded. A last
+ * segment whose creation was interrupted, with a missing or partly written header,
+ * is recovered as an empty segment.
+ * {@link #replay(long, BookingEventHandler)} reads the segments sequentially without
+ * decoding or allocating per record and may run while events are appended.
+ * Old segments can be dropped with {@link #truncateBefore(long)} once a
+ * {@link BookingProjection#writeCheckpoint(Path) checkpoint} covers them.
+ * </p>
+ */
+public class BookingEventLog implements Closeable {
+
+    public static final int RECORD_SIZE = 128;
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16;  // 8 MiB segments
+
+    static final byte FORMAT_VERSION = 1;
+
+    // Record layout (byte offsets)
+    static final int SEQUENCE = 0;
+    static final int TIMESTAMP = 8;
+    static final int BOOKING = 16;
+    static final int CHECKSUM = BOOKING + EntityCodec.BOOKING_SIZE;  // CRC32C of the preceding bytes
+
+    // Segment header, padded to one record
+    private static final int HEADER_SIZE = RECORD_SIZE;
+    private static final int MAGIC = 0x424B4556;  // "BKEV"
+    private static final String SUFFIX = ".bklog";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final Clock clock;
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();  // First sequence -> file
+    private final BinaryWriter scratch = new BinaryWriter(EntityCodec.BOOKING_SIZE);
+    private final CRC32C appendCrc = new CRC32C();  // Guarded by this
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private int activeCount;             // Records in the active segment
+    private volatile long lastSequence;  // Published after the record is complete
+    private boolean closed;
+
+    public BookingEventLog(Path directory) throws IOException {
+        this(directory, DEFAULT_RECORDS_PER_SEGMENT, Clock.systemUTC());
+    }
+
+    /**
+     * Opens the log in {@code directory}, creating it if needed, and recovers the end of the last segment.
+     *
+     * @param recordsPerSegment segment capacity; must match the one the log was created with
+     * @param clock             source of event timestamps
+     */
+    public BookingEventLog(Path directory, int recordsPerSegment, Clock clock) throws IOException {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("recordsPerSegment must be positive: " + recordsPerSegment);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.clock = clock;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), file);
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected segment file name in " + directory, e);
+        }
+        if (segments.isEmpty()) {
+            activate(1L, true);
+            lastSequence = 0L;
+        } else {
+            recover(segments.lastKey());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Appending
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends the current state of a booking.
+     *
+     * @return the sequence number of the event
+     * @throws IllegalArgumentException if the booking has no ID
+     */
+    public synchronized long append(Booking booking) throws IOException {
+        if (booking.getBookingId() == null) {
+            throw new IllegalArgumentException("Booking must have an ID before it can be logged");
+        }
+        if (closed) {
+            throw new IllegalStateException("Event log is closed");
+        }
+        if (activeCount == recordsPerSegment) {
+            active.force();
+            activeChannel.close();
+            activate(lastSequence + 1, true);
+        }
+        long sequence = lastSequence + 1;
+        int offset = HEADER_SIZE + activeCount * RECORD_SIZE;
+
+        scratch.reset();
+        EntityCodec.write(booking, scratch);
+        active.putLong(offset + SEQUENCE, sequence);
+        active.putLong(offset + TIMESTAMP, clock.millis());
+        active.put(offset + BOOKING, scratch.toByteBuffer(), 0, EntityCodec.BOOKING_SIZE);
+        active.putInt(offset + CHECKSUM, checksum(appendCrc, active, offset));
+
+        activeCount++;
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Flushes the appended events of the current segment to the storage device.
+     */
+    public synchronized void force() {
+        if (!closed) {
+            active.force();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Reading
+    // -------------------------------------------------------------------------
+
+    /**
+     * Feeds the events from {@code fromSequence} up to the current {@link #lastSequence()}
+     * to the handler, in order. Events appended during the replay are not included.
+     *
+     * @return the number of replayed events
+     * @throws IllegalArgumentException if {@code fromSequence} is before the {@link #firstSequence()}
+     * @throws IllegalStateException    if a record is corrupt
+     */
+    public long replay(long fromSequence, BookingEventHandler handler) throws IOException {
+        long end = lastSequence;
+        long from = Math.max(fromSequence, 1L);
+        if (from > end) {
+            return 0;
+        }
+        if (from < firstSequence()) {
+            throw new IllegalArgumentException("Events before " + firstSequence() + " were truncated");
+        }
+        BookingEvent event = new BookingEvent();
+        CRC32C crc = new CRC32C();
+        long replayed = 0;
+        for (Map.Entry<Long, Path> segment : segments.tailMap(segments.floorKey(from), true).entrySet()) {
+            long first = segment.getKey();
+            if (first > end) {
+                break;
+            }
+            ByteBuffer buffer = mapReadOnly(segment.getValue(), first);
+            int count = (int) Math.min(recordsPerSegment, end - first + 1);
+            for (int i = (int) Math.max(0, from - first); i < count; i++) {
+                int offset = HEADER_SIZE + i * RECORD_SIZE;
+                if (!isValid(crc, buffer, offset, first + i)) {
+                    throw new IllegalStateException("Corrupt event " + (first + i) + " in " + segment.getValue());
+                }
+                handler.onEvent(event.wrap(buffer, offset));
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Sequence number of the oldest retained event.
+     */
+    public long firstSequence() {
+        return segments.firstKey();
+    }
+
+    /**
+     * Sequence number of the newest event, 0 if the log is empty.
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    // -------------------------------------------------------------------------
+    // Retention
+    // -------------------------------------------------------------------------
+
+    /**
+     * Deletes the segments whose events all precede {@code sequence}, e.g. the
+     * sequence following a checkpoint. The segment being appended to is kept.
+     * Must not run concurrently with a replay of the deleted range.
+     *
+     * @return the number of deleted segments
+     */
+    public synchronized int truncateBefore(long sequence) throws IOException {
+        List<Long> obsolete = new ArrayList<>();
+        for (Long first : segments.headMap(segments.lastKey(), false).keySet()) {
+            Long next = segments.higherKey(first);
+            if (next <= sequence) {
+                obsolete.add(first);
+            }
+        }
+        for (Long first : obsolete) {
+            Files.deleteIfExists(segments.remove(first));
+        }
+        return obsolete.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            active.force();
+            activeChannel.close();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private void activate(long firstSequence, boolean create) throws IOException {
+        Path file = create ? directory.resolve(String.format("%020d%s", firstSequence, SUFFIX)) : segments.get(firstSequence);
+        activeChannel = create
+                ? FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize());
+        if (create || isUnfinishedHeader(active, firstSequence)) {
+            active.putInt(0, MAGIC).put(4, FORMAT_VERSION).putInt(5, RECORD_SIZE).putLong(9, firstSequence);
+            segments.put(firstSequence, file);
+        } else {
+            checkHeader(active, firstSequence, file);
+        }
+        activeCount = 0;
+    }
+
+    /**
+     * Re-opens the last segment and finds its end. Everything after the last valid
+     * record is zeroed, so that a stale record can never follow a re-appended one.
+     * A segment that was created but never mapped is started over.
+     */
+    private void recover(long firstSequence) throws IOException {
+        long size = Files.size(segments.get(firstSequence));
+        if (size < HEADER_SIZE) {  // Crashed between creating the file and mapping it
+            Files.delete(segments.remove(firstSequence));
+            activate(firstSequence, true);
+            lastSequence = firstSequence - 1;
+            return;
+        }
+        if (size != segmentSize()) {
+            throw new IOException("Segment " + segments.get(firstSequence) + " does not have "
+                    + recordsPerSegment + " records of " + RECORD_SIZE + " bytes");
+        }
+        activate(firstSequence, false);
+        while (activeCount < recordsPerSegment
+                && isValid(appendCrc, active, HEADER_SIZE + activeCount * RECORD_SIZE, firstSequence + activeCount)) {
+            activeCount++;
+        }
+        byte[] zeros = new byte[RECORD_SIZE];
+        for (int offset = HEADER_SIZE + activeCount * RECORD_SIZE; offset < active.capacity(); offset += RECORD_SIZE) {
+            active.put(offset, zeros);
+        }
+        lastSequence = firstSequence + activeCount - 1;
+    }
+
+    private ByteBuffer mapReadOnly(Path file, long firstSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize());
+            checkHeader(buffer, firstSequence, file);
+            return buffer;
+        }
+    }
+
+    private long segmentSize() {
+        return HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE;
+    }
+
+    private static void checkHeader(ByteBuffer buffer, long firstSequence, Path file) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.get(4) != FORMAT_VERSION || buffer.getInt(5) != RECORD_SIZE
+                || buffer.getLong(9) != firstSequence) {
+            throw new IOException("Invalid segment header in " + file);
+        }
+    }
+
+    /**
+     * Returns true if every header field is either unwritten or already correct, as
+     * after a crash while the header of a new segment was being written.
+     */
+    private static boolean isUnfinishedHeader(ByteBuffer buffer, long firstSequence) {
+        int magic = buffer.getInt(0);
+        byte version = buffer.get(4);
+        int recordSize = buffer.getInt(5);
+        long first = buffer.getLong(9);
+        return (magic == 0 || magic == MAGIC) && (version == 0 || version == FORMAT_VERSION)
+                && (recordSize == 0 || recordSize == RECORD_SIZE) && (first == 0 || first == firstSequence);
+    }
+
+    private static boolean isValid(CRC32C crc, ByteBuffer buffer, int offset, long expectedSequence) {
+        return buffer.getLong(offset + SEQUENCE) == expectedSequence
+                && buffer.getInt(offset + CHECKSUM) == checksum(crc, buffer, offset);
+    }
+
+    /**
+     * CRC32C of the record at {@code offset} up to its checksum field. Narrows the buffer
+     * in place instead of slicing it, so no buffer is allocated per record; the buffer
+     * must not be shared with another thread.
+     */
+    private static int checksum(CRC32C crc, ByteBuffer buffer, int offset) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        crc.reset();
+        buffer.limit(offset + CHECKSUM).position(offset);
+        crc.update(buffer);
+        buffer.limit(limit).position(position);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,334 @@
+package ch.unil.softarch.luxurycarrental.domain.eventlog;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.codec.BinaryWriter;
+import ch.unil.softarch.luxurycarrental.domain.codec.BookingView;
+import ch.unil.softarch.luxurycarrental.domain.codec.EntityCodec;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidMap;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * In-memory booking state rebuilt from the {@link BookingEventLog}.
+ * <p>
+ * Keeps the latest encoded state of every booking, one {@link EntityCodec#BOOKING_SIZE}-byte
+ * record per booking in chunks of 16,384 records, so tens of millions of bookings
+ * never need one huge array. Applying an event looks the booking up by the two
+ * halves of its ID and copies the record over the previous one, so replay creates
+ * no entity; {@link #get(UUID)} and {@link #bookings()} decode on demand.
+ * Events at or below {@link #lastSequence()} are ignored, so replaying an
+ * overlapping range is harmless.
+ * </p>
+ * <p>
+ * If given, an {@link AvailabilityIndex} is brought up to date once per changed
+ * booking at the end of {@link #catchUp} and {@link #loadCheckpoint}. Callers that
+ * feed {@link #onEvent} themselves call {@link #syncAvailability()} afterwards.
+ * </p>
+ * <p>
+ * Warm startup loads the latest {@link #writeCheckpoint(Path) checkpoint} and replays
+ * only the events appended after it:
+ * </p>
+ * <pre>
+ * BookingProjection state = BookingProjection.loadCheckpoint(file, availability);
+ * state.catchUp(log);
+ * </pre>
+ * Not thread-safe; replay into one projection from one thread at a time.
+ */
+public class BookingProjection implements BookingEventHandler {
+
+    private static final int MAGIC = 0x424B4350;  // "BKCP"
+    private static final int HEADER_SIZE = 17;   // Magic, version, last sequence, booking count
+    private static final int RECORD = EntityCodec.BOOKING_SIZE;
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_RECORDS = 1 << CHUNK_BITS;   // 1.25 MiB of records per chunk
+
+    private final UuidMap<Integer> slots = new UuidMap<>();     // Booking ID -> record index
+    private final AvailabilityIndex availability;               // May be null
+    private final BitSet stale = new BitSet();                  // Records not yet pushed to the availability index
+    private final BookingView view = new BookingView();
+    private byte[][] chunks = new byte[8][];                    // Latest encoded state of every booking
+    private ByteBuffer[] buffers = new ByteBuffer[8];           // Wrap the chunks, for the views
+    private int count;
+    private long lastSequence;
+
+    public BookingProjection() {
+        this(null);
+    }
+
+    /**
+     * @param availability index to keep up to date, may be null
+     */
+    public BookingProjection(AvailabilityIndex availability) {
+        this.availability = availability;
+    }
+
+    // -------------------------------------------------------------------------
+    // Replay
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void onEvent(BookingEvent event) {
+        if (event.getSequence() <= lastSequence) {
+            return;
+        }
+        BookingView state = event.getBooking();
+        int index = slot(state.getBookingIdMostSigBits(), state.getBookingIdLeastSigBits());
+        event.copyBooking(chunks[index >>> CHUNK_BITS], offset(index));
+        if (availability != null) {
+            stale.set(index);
+        }
+        lastSequence = event.getSequence();
+    }
+
+    /**
+     * Replays the events appended since {@link #lastSequence()} and updates the availability index.
+     *
+     * @return the number of applied events
+     */
+    public long catchUp(BookingEventLog log) throws IOException {
+        long applied = log.replay(lastSequence + 1, this);
+        syncAvailability();
+        return applied;
+    }
+
+    /**
+     * Pushes the bookings changed since the last call to the availability index, if any.
+     */
+    public void syncAvailability() {
+        if (availability == null) {
+            return;
+        }
+        for (int i = stale.nextSetBit(0); i >= 0; i = stale.nextSetBit(i + 1)) {
+            BookingView booking = view(i);
+            availability.index(booking.getBookingId(), booking.getCarId(), booking.getBookingStatus(),
+                    booking.getStartDate(), booking.getEndDate());
+        }
+        stale.clear();
+    }
+
+    // -------------------------------------------------------------------------
+    // State
+    // -------------------------------------------------------------------------
+
+    /**
+     * Sequence number of the last applied event, 0 if none.
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Latest state of a booking, decoded into a new entity with ID-only car and customer references.
+     */
+    public Booking get(UUID bookingId) {
+        Integer index = slots.get(bookingId);
+        return index == null ? null : decode(index);
+    }
+
+    /**
+     * Latest state of every booking, decoded into new entities.
+     */
+    public Collection<Booking> bookings() {
+        List<Booking> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(decode(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Total cost of the bookings in the given status, e.g. {@code COMPLETED} for realized revenue.
+     *
+     * @throws IllegalArgumentException if the bookings use different currencies
+     */
+    public Money revenue(BookingStatus status) {
+        Money total = null;
+        for (int i = 0; i < count; i++) {
+            BookingView booking = view(i);
+            if (booking.getBookingStatus() == status) {
+                Money cost = booking.getTotalCost();
+                if (cost != null) {
+                    total = total == null ? cost : total.plus(cost);
+                }
+            }
+        }
+        return total == null ? Money.ZERO : total;
+    }
+
+    // -------------------------------------------------------------------------
+    // Checkpoints
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the current state and {@link #lastSequence()} to {@code file}.
+     * <p>
+     * The checkpoint is written to a temporary file next to {@code file} and moved
+     * over it atomically, so a crash leaves either the old or the new checkpoint.
+     * After this returns, {@link BookingEventLog#truncateBefore(long)} may drop the
+     * events up to {@link #lastSequence()}.
+     * </p>
+     */
+    public void writeCheckpoint(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BinaryWriter header = new BinaryWriter(HEADER_SIZE);
+            header.writeInt(MAGIC).writeByte(EntityCodec.FORMAT_VERSION).writeLong(lastSequence).writeInt(count);
+            write(header.toByteBuffer(), channel, crc);
+            for (int chunk = 0; chunk < chunkCount(count); chunk++) {  // Records are already encoded
+                write(ByteBuffer.wrap(chunks[chunk], 0, chunkLength(chunk, count)), channel, crc);
+            }
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) crc.getValue()));
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a projection from a checkpoint written by {@link #writeCheckpoint(Path)}.
+     *
+     * @param availability index to fill and keep up to date, may be null
+     * @throws IOException if the file is truncated, corrupt or of another format version
+     */
+    public static BookingProjection loadCheckpoint(Path file, AvailabilityIndex availability) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + Integer.BYTES) {
+                throw new IOException("Invalid checkpoint size " + size + ": " + file);
+            }
+            CRC32C crc = new CRC32C();
+            ByteBuffer header = read(channel, ByteBuffer.allocate(HEADER_SIZE), crc, file);
+            if (header.getInt(0) != MAGIC || header.get(4) != EntityCodec.FORMAT_VERSION) {
+                throw new IOException("Not a booking checkpoint of version " + EntityCodec.FORMAT_VERSION + ": " + file);
+            }
+            int count = header.getInt(13);
+            if (count < 0 || (long) count * RECORD != size - HEADER_SIZE - Integer.BYTES) {
+                throw new IOException("Checkpoint length does not match its " + count + " bookings: " + file);
+            }
+
+            BookingProjection projection = new BookingProjection(availability);
+            for (int chunk = 0; chunk < chunkCount(count); chunk++) {
+                projection.addChunk(chunk);
+                read(channel, ByteBuffer.wrap(projection.chunks[chunk], 0, chunkLength(chunk, count)), crc, file);
+            }
+            ByteBuffer checksum = read(channel, ByteBuffer.allocate(Integer.BYTES), null, file);
+            if (checksum.getInt(0) != (int) crc.getValue()) {
+                throw new IOException("Checkpoint checksum mismatch: " + file);
+            }
+            for (int i = 0; i < count; i++) {
+                BookingView booking;
+                try {
+                    booking = projection.view(i);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid booking record " + i + ": " + file, e);
+                }
+                if (projection.slot(booking.getBookingIdMostSigBits(), booking.getBookingIdLeastSigBits()) != i) {
+                    throw new IOException("Duplicate booking " + booking.getBookingId() + ": " + file);
+                }
+            }
+            projection.lastSequence = header.getLong(5);
+            if (availability != null) {
+                projection.stale.set(0, count);
+                projection.syncAvailability();
+            }
+            return projection;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the record index of the booking, appending a new record if it is unknown.
+     */
+    private int slot(long most, long least) {
+        Integer index = slots.get(most, least);
+        if (index != null) {
+            return index;
+        }
+        if (count == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many bookings for one projection");
+        }
+        if ((count & (CHUNK_RECORDS - 1)) == 0 && chunks[count >>> CHUNK_BITS] == null) {
+            addChunk(count >>> CHUNK_BITS);
+        }
+        slots.put(new UUID(most, least), count);
+        return count++;
+    }
+
+    private void addChunk(int chunk) {
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            buffers = Arrays.copyOf(buffers, buffers.length * 2);
+        }
+        chunks[chunk] = new byte[CHUNK_RECORDS * RECORD];
+        buffers[chunk] = ByteBuffer.wrap(chunks[chunk]);
+    }
+
+    private static int offset(int index) {
+        return (index & (CHUNK_RECORDS - 1)) * RECORD;
+    }
+
+    private BookingView view(int index) {
+        return view.wrap(buffers[index >>> CHUNK_BITS], offset(index));
+    }
+
+    private Booking decode(int index) {
+        return EntityCodec.decodeBooking(ByteBuffer.wrap(chunks[index >>> CHUNK_BITS], offset(index), RECORD));
+    }
+
+    private static int chunkCount(int records) {
+        return (int) (((long) records + CHUNK_RECORDS - 1) >>> CHUNK_BITS);
+    }
+
+    /**
+     * Bytes used in a chunk of a projection holding {@code records} records.
+     */
+    private static int chunkLength(int chunk, int records) {
+        return Math.min(CHUNK_RECORDS, records - (chunk << CHUNK_BITS)) * RECORD;
+    }
+
+    /**
+     * Fills {@code target} from the channel, adding the bytes to {@code crc} if given.
+     */
+    private static ByteBuffer read(FileChannel channel, ByteBuffer target, CRC32C crc, Path file) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                throw new IOException("Checkpoint is truncated: " + file);
+            }
+        }
+        target.flip();
+        if (crc != null) {
+            crc.update(target.duplicate());
+        }
+        return target;
+    }
+
+    private static void write(ByteBuffer bytes, FileChannel channel, CRC32C crc) throws IOException {
+        crc.update(bytes.duplicate());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
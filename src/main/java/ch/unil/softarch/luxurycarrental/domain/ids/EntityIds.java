@@ -0,0 +1,51 @@
+package ch.unil.softarch.luxurycarrental.domain.ids;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifier source of all entities, which take their ID when they are constructed.
+ * <p>
+ * Defaults to time-ordered {@link UuidV7Generator} IDs. Deployments that need the
+ * previous random keys can switch back with {@code EntityIds.setGenerator(IdGenerator.RANDOM)}.
+ * </p>
+ */
+public final class EntityIds {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private EntityIds() {
+        // Static holder
+    }
+
+    /**
+     * Returns a new identifier from the configured generator.
+     */
+    public static UUID next() {
+        return generator.next();
+    }
+
+    /**
+     * Hash code of an entity with the given ID, cached by its {@code hashCode()}.
+     * <p>
+     * Entities receive their ID when they are constructed, so the hash is the same
+     * before and after they are persisted, and equal to that of any copy of the row
+     * loaded later. The result is never 0, which the entities use for "not computed
+     * yet"; an entity whose ID was cleared hashes to a constant.
+     * </p>
+     */
+    public static int hash(UUID id) {
+        if (id == null) {
+            return 1;
+        }
+        long bits = (id.getMostSignificantBits() ^ id.getLeastSignificantBits()) * 0x9E3779B97F4A7C15L;
+        int hash = (int) (bits ^ (bits >>> 32));
+        return hash == 0 ? 1 : hash;
+    }
+
+    public static IdGenerator getGenerator() { return generator; }
+
+    public static void setGenerator(IdGenerator generator) {
+        EntityIds.generator = Objects.requireNonNull(generator, "generator");
+    }
+}
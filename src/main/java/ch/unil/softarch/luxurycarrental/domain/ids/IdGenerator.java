@@ -0,0 +1,21 @@
+package ch.unil.softarch.luxurycarrental.domain.ids;
+
+import java.util.UUID;
+
+/**
+ * Source of entity identifiers.
+ * <p>
+ * Implementations must be thread-safe. The generator used by the entity lifecycle
+ * callbacks is configured through {@link EntityIds}.
+ * </p>
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Generator producing random (version 4) UUIDs, as {@link UUID#randomUUID()} does.
+     */
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    UUID next();
+}
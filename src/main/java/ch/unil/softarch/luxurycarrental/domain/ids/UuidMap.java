@@ -0,0 +1,310 @@
+package ch.unil.softarch.luxurycarrental.domain.ids;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Open-addressing hash map from {@link UUID} to entity, for in-memory registries.
+ * <p>
+ * Keys are stored as their two {@code long} halves side by side in one
+ * {@code long[]} and values in a parallel {@code Object[]}: 20 bytes per slot with
+ * compressed references, about 40 bytes per entry at typical load, instead of a
+ * {@code HashMap.Node} plus a boxed {@code UUID} (about 70 bytes). Lookups use
+ * linear probing and can pass the halves directly.
+ * </p>
+ * <p>
+ * Reads never lock: a slot's key is written before its value is published with
+ * release semantics, and readers acquire the value before comparing the key.
+ * Removed entries become tombstones that are only dropped when the table is
+ * rehashed, so a slot never changes key while readers may be looking at it.
+ * Writes are serialized. When a table fills up, a larger table is linked
+ * to it and each following write moves a few slots over; readers that miss in
+ * the old table continue in the new one. No single write copies the whole map.
+ * </p>
+ * <p>
+ * Null values are not allowed.
+ * </p>
+ */
+public class UuidMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MIGRATION_STEP = 32;   // Old slots moved per write while resizing
+    private static final Object TOMBSTONE = new Object();
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * One generation of the hash table.
+     */
+    private static final class Table {
+        final long[] keys;        // Most and least significant halves of slot i at 2i and 2i + 1
+        final Object[] values;    // Null when empty, TOMBSTONE when removed
+        final int mask;
+        final int threshold;      // Maximum used slots, tombstones included
+        volatile Table next;      // Larger table the entries are being moved to
+        int used;                 // Written by the writer only
+        int migrated;             // Slots moved to next so far
+
+        Table(int capacity) {
+            keys = new long[capacity * 2];
+            values = new Object[capacity];
+            mask = capacity - 1;
+            threshold = capacity / 4 * 3;
+        }
+    }
+
+    private volatile Table table;
+    private volatile int size;
+
+    public UuidMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public UuidMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, expectedSize / 3 * 4 + 1) - 1) << 1;
+        this.table = new Table(capacity);
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    public V get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Looks up the value for the key with the given halves, without a {@code UUID} instance.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long mostSigBits, long leastSigBits) {
+        for (Table current = table; current != null; current = current.next) {
+            Object value = find(current, mostSigBits, leastSigBits);
+            if (value != null && value != TOMBSTONE) {
+                return (V) value;
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls the action for every entry. Holds off writers meanwhile, so the action
+     * must not modify the map.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void forEach(BiConsumer<UUID, ? super V> action) {
+        for (Table current = table; current != null; current = current.next) {
+            for (int slot = 0; slot <= current.mask; slot++) {
+                Object value = current.values[slot];
+                if (value != null && value != TOMBSTONE) {
+                    action.accept(new UUID(current.keys[slot * 2], current.keys[slot * 2 + 1]), (V) value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the values, in no particular order.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        forEach((key, value) -> values.add(value));
+        return Collections.unmodifiableList(values);
+    }
+
+    // -------------------------------------------------------------------------
+    // Writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Associates the value with the key.
+     *
+     * @return the previous value, or null
+     */
+    public synchronized V put(UUID key, V value) {
+        Objects.requireNonNull(value, "value");
+        return write(key.getMostSignificantBits(), key.getLeastSignificantBits(), value, false);
+    }
+
+    /**
+     * Associates the value with the key unless it already has one.
+     *
+     * @return the current value, or null if the value was added
+     */
+    public synchronized V putIfAbsent(UUID key, V value) {
+        Objects.requireNonNull(value, "value");
+        return write(key.getMostSignificantBits(), key.getLeastSignificantBits(), value, true);
+    }
+
+    /**
+     * @return the removed value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        migrateStep();
+        Object previous = null;
+        for (Table current = table; current != null; current = current.next) {
+            int slot = slot(current, most, least);
+            if (slot >= 0 && current.values[slot] != TOMBSTONE) {
+                previous = current.values[slot];
+                SLOTS.setRelease(current.values, slot, TOMBSTONE);
+            }
+        }
+        if (previous != null) {
+            size--;
+        }
+        return (V) previous;
+    }
+
+    public synchronized void clear() {
+        table = new Table(DEFAULT_CAPACITY);
+        size = 0;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private V write(long most, long least, V value, boolean onlyIfAbsent) {
+        migrateStep();
+        Table current = table;
+        Table target = current.next != null ? current.next : current;
+
+        int slot = slot(target, most, least);
+        if (slot >= 0 && target.values[slot] != TOMBSTONE) {
+            Object previous = target.values[slot];
+            if (!onlyIfAbsent) {
+                SLOTS.setRelease(target.values, slot, value);
+            }
+            return (V) previous;
+        }
+        int oldSlot = target == current ? -1 : slot(current, most, least);
+        Object previous = oldSlot >= 0 ? current.values[oldSlot] : null;
+        if (previous == TOMBSTONE) {
+            previous = null;
+        }
+        if (previous != null && onlyIfAbsent) {
+            return (V) previous;
+        }
+
+        insert(target, most, least, value);
+        if (previous != null) {
+            // Published in the target first, so readers that miss here find it there
+            SLOTS.setRelease(current.values, oldSlot, TOMBSTONE);
+        } else {
+            size++;
+        }
+        if (target.next == null && target.used > target.threshold) {
+            // Mostly tombstones: rehash at the same capacity to drop them
+            int capacity = target.mask + 1;
+            target.next = new Table(size >= capacity / 2 ? capacity * 2 : capacity);
+        }
+        return (V) previous;
+    }
+
+    /**
+     * Moves the next few slots of the table being resized, and retires it once it is empty.
+     */
+    private void migrateStep() {
+        Table current = table;
+        Table next = current.next;
+        if (next == null) {
+            return;
+        }
+        int end = Math.min(current.mask + 1, current.migrated + MIGRATION_STEP);
+        for (int slot = current.migrated; slot < end; slot++) {
+            Object value = current.values[slot];
+            if (value != null && value != TOMBSTONE) {
+                long most = current.keys[slot * 2];
+                long least = current.keys[slot * 2 + 1];
+                insert(next, most, least, value);  // Writes of a key in the old table never reach next
+                SLOTS.setRelease(current.values, slot, TOMBSTONE);
+            }
+        }
+        current.migrated = end;
+        if (end > current.mask) {
+            table = next;
+        }
+    }
+
+    private static void insert(Table target, long most, long least, Object value) {
+        int slot = index(most, least) & target.mask;
+        while (target.values[slot] != null) {
+            slot = (slot + 1) & target.mask;
+        }
+        target.keys[slot * 2] = most;
+        target.keys[slot * 2 + 1] = least;
+        SLOTS.setRelease(target.values, slot, value);
+        target.used++;
+    }
+
+    /**
+     * Lock-free probe for readers; returns the value, a tombstone, or null.
+     */
+    private static Object find(Table current, long most, long least) {
+        int slot = index(most, least) & current.mask;
+        while (true) {
+            Object value = SLOTS.getAcquire(current.values, slot);
+            if (value == null) {
+                return null;
+            }
+            if (current.keys[slot * 2] == most && current.keys[slot * 2 + 1] == least) {
+                if (value != TOMBSTONE) {
+                    return value;
+                }
+                // A removed or moved key may have been inserted again further on
+            }
+            slot = (slot + 1) & current.mask;
+        }
+    }
+
+    /**
+     * Writer-side probe: slot of the key's live entry, else of its last tombstone, else -1.
+     */
+    private static int slot(Table current, long most, long least) {
+        int slot = index(most, least) & current.mask;
+        int tombstone = -1;
+        while (current.values[slot] != null) {
+            if (current.keys[slot * 2] == most && current.keys[slot * 2 + 1] == least) {
+                if (current.values[slot] != TOMBSTONE) {
+                    return slot;
+                }
+                tombstone = slot;
+            }
+            slot = (slot + 1) & current.mask;
+        }
+        return tombstone;
+    }
+
+    private static int index(long most, long least) {
+        long hash = most * 0x9E3779B97F4A7C15L ^ least;
+        hash = (hash ^ (hash >>> 32)) * 0xD6E8FEB86659FD93L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
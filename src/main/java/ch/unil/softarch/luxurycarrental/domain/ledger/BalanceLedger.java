@@ -0,0 +1,264 @@
+package ch.unil.softarch.luxurycarrental.domain.ledger;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.LedgerEntryType;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only record of customer balance changes.
+ * <p>
+ * Every account keeps its balance in a {@link LongAdder}, so concurrent settlements
+ * for the same customer update separate cells instead of contending on one value or
+ * locking the customer row, and {@link #balance(UUID)} never blocks. Each change is
+ * also appended to a lock-free journal of {@link LedgerEntry entries}.
+ * </p>
+ * <p>
+ * {@link #snapshot(UUID)} returns a balance that is consistent with the entries it
+ * lists. Compaction folds journal entries into a running total to bound memory; it
+ * runs when a journal exceeds the configured threshold or on {@link #compactAll()}.
+ * Snapshots and compaction of one account serialize on a per-account lock that
+ * recording never takes. All amounts must be in {@link Money#DEFAULT_CURRENCY}.
+ * </p>
+ */
+public class BalanceLedger {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 4096;
+
+    private static final class Account {
+        final LongAdder balance = new LongAdder();
+        final AtomicLong sequence = new AtomicLong();
+        final ConcurrentLinkedQueue<LedgerEntry> journal = new ConcurrentLinkedQueue<>();
+        final AtomicInteger journalSize = new AtomicInteger();  // Never above the journal's real size
+        final ReentrantLock compaction = new ReentrantLock();
+        long compactedBalance;  // Guarded by compaction
+        long compactedEntries;  // Guarded by compaction
+    }
+
+    private final ConcurrentMap<UUID, Account> accounts = new ConcurrentHashMap<>();
+    private final int compactionThreshold;
+    private final Clock clock;
+
+    public BalanceLedger() {
+        this(DEFAULT_COMPACTION_THRESHOLD, Clock.systemUTC());
+    }
+
+    /**
+     * @param compactionThreshold journal length that triggers compaction of an account
+     * @param clock               source of entry timestamps
+     */
+    public BalanceLedger(int compactionThreshold, Clock clock) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("compactionThreshold must be positive: " + compactionThreshold);
+        }
+        this.compactionThreshold = compactionThreshold;
+        this.clock = clock;
+    }
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens the customer's account with the entity's current balance as {@code OPENING_BALANCE}.
+     * Does nothing if the account already exists.
+     *
+     * @return the account balance
+     */
+    public Money open(Customer customer) {
+        return open(customer.getId(), customer.getBalance());
+    }
+
+    /**
+     * Opens an account, recording a non-zero opening balance as its first entry.
+     * The account and the entry are published together, so no other change can be
+     * recorded before the opening balance. Does nothing if the account already exists.
+     *
+     * @param openingBalance balance carried over, may be null
+     * @return the account balance
+     */
+    public Money open(UUID customerId, Money openingBalance) {
+        if (openingBalance != null) {
+            delta(LedgerEntryType.OPENING_BALANCE, openingBalance);  // Validate before creating the account
+        }
+        accounts.computeIfAbsent(requireId(customerId), id -> {
+            Account account = new Account();
+            if (openingBalance != null && !openingBalance.isZero()) {
+                append(id, account, LedgerEntryType.OPENING_BALANCE, openingBalance, null);
+            }
+            return account;
+        });
+        return balance(customerId);
+    }
+
+    /**
+     * Records a balance change. For credit and debit types the amount must not be
+     * negative and the type decides the direction; {@code OPENING_BALANCE} and
+     * {@code ADJUSTMENT} apply the amount with its own sign.
+     *
+     * @param bookingId related booking, may be null
+     * @return the recorded entry
+     * @throws IllegalArgumentException on a negative amount for a signed type or a foreign currency
+     * @throws IllegalStateException    if the account was never {@link #open opened}
+     */
+    public LedgerEntry record(UUID customerId, LedgerEntryType type, Money amount, UUID bookingId) {
+        delta(type, amount);
+        Account account = accounts.get(requireId(customerId));
+        if (account == null) {
+            throw new IllegalStateException("No ledger account for customer " + customerId + "; open it first");
+        }
+        return append(customerId, account, type, amount, bookingId);
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /**
+     * Current balance, without locking. Under concurrent recording the result
+     * includes any subset of the in-flight changes.
+     */
+    public Money balance(UUID customerId) {
+        Account account = accounts.get(customerId);
+        return account == null ? Money.ZERO : Money.ofMinor(account.balance.sum());
+    }
+
+    /**
+     * Balance together with the entries recorded since the last compaction.
+     */
+    public LedgerSnapshot snapshot(UUID customerId) {
+        Account account = accounts.get(customerId);
+        if (account == null) {
+            return new LedgerSnapshot(customerId, Money.ZERO, Money.ZERO, 0L, List.of());
+        }
+        account.compaction.lock();
+        try {
+            List<LedgerEntry> entries = new ArrayList<>(account.journal);
+            entries.sort(Comparator.comparingLong(LedgerEntry::getSequence));
+            long balance = account.compactedBalance;
+            for (LedgerEntry entry : entries) {
+                balance += entry.deltaMinorUnits();
+            }
+            return new LedgerSnapshot(customerId, Money.ofMinor(balance), Money.ofMinor(account.compactedBalance),
+                    account.compactedEntries, entries);
+        } finally {
+            account.compaction.unlock();
+        }
+    }
+
+    /**
+     * Writes the ledger balance back to the entity, e.g. before it is merged.
+     */
+    public void applyTo(Customer customer) {
+        customer.setBalance(balance(customer.getId()));
+    }
+
+    public int accountCount() {
+        return accounts.size();
+    }
+
+    // -------------------------------------------------------------------------
+    // Compaction
+    // -------------------------------------------------------------------------
+
+    /**
+     * Folds the journal of one account into its compacted balance.
+     *
+     * @return the number of folded entries
+     */
+    public int compact(UUID customerId) {
+        Account account = accounts.get(customerId);
+        if (account == null) {
+            return 0;
+        }
+        account.compaction.lock();
+        try {
+            return compactLocked(account);
+        } finally {
+            account.compaction.unlock();
+        }
+    }
+
+    /**
+     * Compacts every account; meant to be called periodically.
+     *
+     * @return the number of folded entries
+     */
+    public int compactAll() {
+        int folded = 0;
+        for (UUID customerId : accounts.keySet()) {
+            folded += compact(customerId);
+        }
+        return folded;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private LedgerEntry append(UUID customerId, Account account, LedgerEntryType type, Money amount, UUID bookingId) {
+        long delta = delta(type, amount);
+        LedgerEntry entry = new LedgerEntry(account.sequence.incrementAndGet(), customerId, bookingId, type,
+                delta, clock.instant());
+        account.journal.add(entry);
+        account.balance.add(delta);
+        if (account.journalSize.incrementAndGet() > compactionThreshold && account.compaction.tryLock()) {
+            try {
+                compactLocked(account);
+            } finally {
+                account.compaction.unlock();
+            }
+        }
+        return entry;
+    }
+
+    private static int compactLocked(Account account) {
+        int limit = account.journalSize.get();
+        int folded = 0;
+        while (folded < limit) {
+            LedgerEntry entry = account.journal.poll();
+            if (entry == null) {
+                break;
+            }
+            account.compactedBalance += entry.deltaMinorUnits();
+            folded++;
+        }
+        account.compactedEntries += folded;
+        account.journalSize.addAndGet(-folded);
+        return folded;
+    }
+
+    private static long delta(LedgerEntryType type, Money amount) {
+        if (type == null || amount == null) {
+            throw new IllegalArgumentException("Entry type and amount are required");
+        }
+        if (!amount.getCurrency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Ledger amounts must be in " + Money.DEFAULT_CURRENCY + ": " + amount);
+        }
+        if (type.sign() == 0) {
+            return amount.getMinorUnits();
+        }
+        if (amount.isNegative()) {
+            throw new IllegalArgumentException(type + " amount must not be negative: " + amount);
+        }
+        return type.sign() * amount.getMinorUnits();
+    }
+
+    private static UUID requireId(UUID customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID is required");
+        }
+        return customerId;
+    }
+}
@@ -0,0 +1,57 @@
+package ch.unil.softarch.luxurycarrental.domain.ledger;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.LedgerEntryType;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable balance change recorded by the {@link BalanceLedger}.
+ */
+public final class LedgerEntry {
+
+    private final long sequence;       // Per customer, increasing in recording order
+    private final UUID customerId;
+    private final UUID bookingId;      // Related booking, may be null
+    private final LedgerEntryType type;
+    private final long delta;          // Signed change in minor units of Money.DEFAULT_CURRENCY
+    private final Instant recordedAt;
+
+    LedgerEntry(long sequence, UUID customerId, UUID bookingId, LedgerEntryType type, long delta, Instant recordedAt) {
+        this.sequence = sequence;
+        this.customerId = customerId;
+        this.bookingId = bookingId;
+        this.type = type;
+        this.delta = delta;
+        this.recordedAt = recordedAt;
+    }
+
+    public long getSequence() { return sequence; }
+
+    public UUID getCustomerId() { return customerId; }
+
+    public UUID getBookingId() { return bookingId; }
+
+    public LedgerEntryType getType() { return type; }
+
+    /**
+     * Signed balance change: negative for payments and deposit holds.
+     */
+    public Money getDelta() { return Money.ofMinor(delta); }
+
+    long deltaMinorUnits() { return delta; }
+
+    public Instant getRecordedAt() { return recordedAt; }
+
+    @Override
+    public String toString() {
+        return "LedgerEntry{" +
+                "sequence=" + sequence +
+                ", customerId=" + customerId +
+                ", bookingId=" + bookingId +
+                ", type=" + type +
+                ", delta=" + getDelta() +
+                ", recordedAt=" + recordedAt +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package ch.unil.softarch.luxurycarrental.domain.ledger;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consistent view of one customer's account: the balance equals the compacted
+ * balance plus the deltas of {@link #getEntries()}.
+ */
+public final class LedgerSnapshot {
+
+    private final UUID customerId;
+    private final Money balance;
+    private final Money compactedBalance;  // Sum of all entries folded by compaction
+    private final long compactedEntries;   // Number of entries folded by compaction
+    private final List<LedgerEntry> entries;  // Entries recorded since the last compaction, in recording order
+
+    LedgerSnapshot(UUID customerId, Money balance, Money compactedBalance, long compactedEntries,
+                   List<LedgerEntry> entries) {
+        this.customerId = customerId;
+        this.balance = balance;
+        this.compactedBalance = compactedBalance;
+        this.compactedEntries = compactedEntries;
+        this.entries = List.copyOf(entries);
+    }
+
+    public UUID getCustomerId() { return customerId; }
+
+    public Money getBalance() { return balance; }
+
+    public Money getCompactedBalance() { return compactedBalance; }
+
+    public long getCompactedEntries() { return compactedEntries; }
+
+    public List<LedgerEntry> getEntries() { return entries; }
+
+    public long getTotalEntries() { return compactedEntries + entries.size(); }
+
+    @Override
+    public String toString() {
+        return "LedgerSnapshot{" +
+                "customerId=" + customerId +
+                ", balance=" + balance +
+                ", compactedEntries=" + compactedEntries +
+                ", entries=" + entries.size() +
+                '}';
+    }
+}
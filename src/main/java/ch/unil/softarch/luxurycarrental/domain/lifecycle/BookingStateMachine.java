@@ -0,0 +1,296 @@
+package ch.unil.softarch.luxurycarrental.domain.lifecycle;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Legal transitions of a booking over {@link BookingStatus} &times; {@link PaymentStatus}.
+ * <p>
+ * A transition is allowed if each changed field takes one of its permitted steps
+ * and the resulting pair is a consistent state, e.g. a refund requires a booking
+ * that is no longer {@code PENDING}, and a booking can only be {@code COMPLETED}
+ * once it was paid. Leaving both fields unchanged is always allowed. A field that
+ * is still null (a booking being initialized or deserialized) may take any value,
+ * as long as the pair is consistent once both fields are set.
+ * </p>
+ * <p>
+ * The rules are compiled once into one {@code long} bitmask per state, so a check
+ * is two array reads and never allocates. Every checked transition is counted per
+ * (from, to) pair, accepted ones in a {@link LongAdder} so that concurrent setters
+ * do not contend; {@link #counts()} exposes the counters for monitoring.
+ * {@link Booking}'s status setters go through {@link #DEFAULT}.
+ * </p>
+ */
+public final class BookingStateMachine {
+
+    private static final BookingStatus[] BOOKING_STATUSES = BookingStatus.values();
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+    private static final int STATE_COUNT = BOOKING_STATUSES.length * PAYMENT_STATUSES.length;
+
+    private static final long CONSISTENT = compileConsistent();  // Bitmask of consistent states
+    private static final long[] ALLOWED = compile();              // State -> bitmask of reachable states
+
+    /**
+     * Instance enforced by the {@link Booking} setters.
+     */
+    public static final BookingStateMachine DEFAULT = new BookingStateMachine();
+
+    private final LongAdder[] accepted = new LongAdder[STATE_COUNT * STATE_COUNT];         // Allowed transitions only
+    private final AtomicLongArray rejected = new AtomicLongArray(STATE_COUNT * STATE_COUNT);  // Rare, so not striped
+
+    public BookingStateMachine() {
+        for (int from = 0; from < STATE_COUNT; from++) {
+            for (int to = 0; to < STATE_COUNT; to++) {
+                if (from != to && isAllowed(from, to)) {
+                    accepted[from * STATE_COUNT + to] = new LongAdder();
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Rules
+    // -------------------------------------------------------------------------
+
+    private static long[] compile() {
+        Map<BookingStatus, EnumSet<BookingStatus>> bookingSteps = new EnumMap<>(BookingStatus.class);
+        for (BookingStatus status : BOOKING_STATUSES) {
+            bookingSteps.put(status, EnumSet.noneOf(BookingStatus.class));  // Terminal unless listed below
+        }
+        bookingSteps.put(BookingStatus.PENDING, EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.CANCELLED,
+                BookingStatus.EXPIRED, BookingStatus.REJECTED));
+        bookingSteps.put(BookingStatus.CONFIRMED, EnumSet.of(BookingStatus.COMPLETED, BookingStatus.CANCELLED));
+
+        Map<PaymentStatus, EnumSet<PaymentStatus>> paymentSteps = new EnumMap<>(PaymentStatus.class);
+        for (PaymentStatus status : PAYMENT_STATUSES) {
+            paymentSteps.put(status, EnumSet.noneOf(PaymentStatus.class));
+        }
+        paymentSteps.put(PaymentStatus.PENDING, EnumSet.of(PaymentStatus.SUCCESSFUL, PaymentStatus.FAILED,
+                PaymentStatus.CANCELLED));
+        paymentSteps.put(PaymentStatus.FAILED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.SUCCESSFUL,
+                PaymentStatus.CANCELLED));  // Retry
+        paymentSteps.put(PaymentStatus.SUCCESSFUL, EnumSet.of(PaymentStatus.PARTIALLY_REFUNDED, PaymentStatus.REFUNDED));
+        paymentSteps.put(PaymentStatus.PARTIALLY_REFUNDED, EnumSet.of(PaymentStatus.REFUNDED));
+
+        if (STATE_COUNT > Long.SIZE) {
+            throw new IllegalStateException("Too many states for a long bitmask: " + STATE_COUNT);
+        }
+        long[] allowed = new long[STATE_COUNT];
+        for (BookingStatus fromBooking : BOOKING_STATUSES) {
+            for (PaymentStatus fromPayment : PAYMENT_STATUSES) {
+                int from = state(fromBooking, fromPayment);
+                allowed[from] |= 1L << from;
+                for (BookingStatus toBooking : BOOKING_STATUSES) {
+                    for (PaymentStatus toPayment : PAYMENT_STATUSES) {
+                        boolean bookingStep = toBooking == fromBooking || bookingSteps.get(fromBooking).contains(toBooking);
+                        boolean paymentStep = toPayment == fromPayment || paymentSteps.get(fromPayment).contains(toPayment);
+                        if (bookingStep && paymentStep && isConsistent(toBooking, toPayment)) {
+                            allowed[from] |= 1L << state(toBooking, toPayment);
+                        }
+                    }
+                }
+            }
+        }
+        return allowed;
+    }
+
+    private static long compileConsistent() {
+        // Payment statuses that are consistent with each booking status
+        Map<BookingStatus, EnumSet<PaymentStatus>> consistent = new EnumMap<>(BookingStatus.class);
+        consistent.put(BookingStatus.PENDING, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.SUCCESSFUL,
+                PaymentStatus.FAILED));
+        consistent.put(BookingStatus.CONFIRMED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.SUCCESSFUL,
+                PaymentStatus.PARTIALLY_REFUNDED));
+        consistent.put(BookingStatus.COMPLETED, EnumSet.of(PaymentStatus.SUCCESSFUL, PaymentStatus.PARTIALLY_REFUNDED,
+                PaymentStatus.REFUNDED));
+        consistent.put(BookingStatus.CANCELLED, EnumSet.allOf(PaymentStatus.class));
+        consistent.put(BookingStatus.EXPIRED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.FAILED,
+                PaymentStatus.CANCELLED));
+        consistent.put(BookingStatus.REJECTED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.FAILED,
+                PaymentStatus.CANCELLED, PaymentStatus.SUCCESSFUL, PaymentStatus.REFUNDED));
+
+        long mask = 0L;
+        for (BookingStatus bookingStatus : BOOKING_STATUSES) {
+            for (PaymentStatus paymentStatus : consistent.get(bookingStatus)) {
+                mask |= 1L << state(bookingStatus, paymentStatus);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Dense code of a state, usable with {@link #isAllowed(int, int)} and the batch validation.
+     */
+    public static int state(BookingStatus bookingStatus, PaymentStatus paymentStatus) {
+        return bookingStatus.ordinal() * PAYMENT_STATUSES.length + paymentStatus.ordinal();
+    }
+
+    /**
+     * Returns true if a booking may be in the state, whatever state it comes from.
+     */
+    public static boolean isConsistent(BookingStatus bookingStatus, PaymentStatus paymentStatus) {
+        return (CONSISTENT >>> state(bookingStatus, paymentStatus) & 1L) != 0;
+    }
+
+    public static boolean isAllowed(int fromState, int toState) {
+        return (ALLOWED[fromState] >>> toState & 1L) != 0;
+    }
+
+    /**
+     * Returns true if the transition is allowed, without counting it.
+     */
+    public static boolean isAllowed(BookingStatus fromBookingStatus, PaymentStatus fromPaymentStatus,
+                                    BookingStatus toBookingStatus, PaymentStatus toPaymentStatus) {
+        if ((fromBookingStatus != null && toBookingStatus == null)
+                || (fromPaymentStatus != null && toPaymentStatus == null)) {
+            return false;  // A status cannot be cleared
+        }
+        if (fromBookingStatus == null || fromPaymentStatus == null) {
+            // Still being initialized: any value, but the completed pair must be consistent
+            return toBookingStatus == null || toPaymentStatus == null || isConsistent(toBookingStatus, toPaymentStatus);
+        }
+        return isAllowed(state(fromBookingStatus, fromPaymentStatus), state(toBookingStatus, toPaymentStatus));
+    }
+
+    // -------------------------------------------------------------------------
+    // Enforcement
+    // -------------------------------------------------------------------------
+
+    /**
+     * Counts the transition and rejects it if it is not allowed.
+     * Initialization of a null field and unchanged states are not counted.
+     *
+     * @throws IllegalStateException if the transition is not allowed
+     */
+    public void check(BookingStatus fromBookingStatus, PaymentStatus fromPaymentStatus,
+                      BookingStatus toBookingStatus, PaymentStatus toPaymentStatus) {
+        boolean allowed = isAllowed(fromBookingStatus, fromPaymentStatus, toBookingStatus, toPaymentStatus);
+        if (fromBookingStatus != null && fromPaymentStatus != null && toBookingStatus != null && toPaymentStatus != null) {
+            int from = state(fromBookingStatus, fromPaymentStatus);
+            int to = state(toBookingStatus, toPaymentStatus);
+            if (from != to && allowed) {
+                accepted[from * STATE_COUNT + to].increment();
+            } else if (from != to) {
+                rejected.incrementAndGet(from * STATE_COUNT + to);
+            }
+        }
+        if (!allowed) {
+            throw new IllegalStateException("Illegal booking transition " + fromBookingStatus + "/" + fromPaymentStatus
+                    + " -> " + toBookingStatus + "/" + toPaymentStatus);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Batch validation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Checks {@code fromStates[i] -> toStates[i]} for every index, without counting.
+     *
+     * @param results receives whether each transition is allowed
+     * @return the number of rejected transitions
+     */
+    public static int validate(int[] fromStates, int[] toStates, boolean[] results) {
+        if (toStates.length != fromStates.length || results.length < fromStates.length) {
+            throw new IllegalArgumentException("Arrays must have matching lengths");
+        }
+        int rejectedCount = 0;
+        for (int i = 0; i < fromStates.length; i++) {
+            boolean allowed = isAllowed(fromStates[i], toStates[i]);
+            results[i] = allowed;
+            rejectedCount += allowed ? 0 : 1;
+        }
+        return rejectedCount;
+    }
+
+    /**
+     * Checks whether every booking could move to the given statuses, e.g. before a bulk
+     * expiry, without changing or counting anything.
+     *
+     * @param toBookingStatus target booking status, or null to keep each booking's own
+     * @param toPaymentStatus target payment status, or null to keep each booking's own
+     * @param results         receives whether each booking's transition is allowed
+     * @return the number of rejected bookings
+     */
+    public static int validate(Booking[] bookings, BookingStatus toBookingStatus, PaymentStatus toPaymentStatus,
+                               boolean[] results) {
+        if (results.length < bookings.length) {
+            throw new IllegalArgumentException("results must hold " + bookings.length + " entries");
+        }
+        int rejectedCount = 0;
+        for (int i = 0; i < bookings.length; i++) {
+            BookingStatus fromBooking = bookings[i].getBookingStatus();
+            PaymentStatus fromPayment = bookings[i].getPaymentStatus();
+            boolean allowed = isAllowed(fromBooking, fromPayment,
+                    toBookingStatus == null ? fromBooking : toBookingStatus,
+                    toPaymentStatus == null ? fromPayment : toPaymentStatus);
+            results[i] = allowed;
+            rejectedCount += allowed ? 0 : 1;
+        }
+        return rejectedCount;
+    }
+
+    // -------------------------------------------------------------------------
+    // Counters
+    // -------------------------------------------------------------------------
+
+    public long acceptedCount(BookingStatus fromBookingStatus, PaymentStatus fromPaymentStatus,
+                              BookingStatus toBookingStatus, PaymentStatus toPaymentStatus) {
+        LongAdder counter = accepted[state(fromBookingStatus, fromPaymentStatus) * STATE_COUNT
+                + state(toBookingStatus, toPaymentStatus)];
+        return counter == null ? 0L : counter.sum();
+    }
+
+    public long rejectedCount(BookingStatus fromBookingStatus, PaymentStatus fromPaymentStatus,
+                              BookingStatus toBookingStatus, PaymentStatus toPaymentStatus) {
+        return rejected.get(state(fromBookingStatus, fromPaymentStatus) * STATE_COUNT
+                + state(toBookingStatus, toPaymentStatus));
+    }
+
+    /**
+     * Counters of every transition that was checked at least once.
+     */
+    public List<TransitionCount> counts() {
+        List<TransitionCount> counts = new ArrayList<>();
+        for (int index = 0; index < STATE_COUNT * STATE_COUNT; index++) {
+            long acceptedCount = accepted[index] == null ? 0L : accepted[index].sum();
+            long rejectedCount = rejected.get(index);
+            if (acceptedCount != 0 || rejectedCount != 0) {
+                int from = index / STATE_COUNT;
+                int to = index % STATE_COUNT;
+                counts.add(new TransitionCount(bookingStatus(from), paymentStatus(from),
+                        bookingStatus(to), paymentStatus(to), acceptedCount, rejectedCount));
+            }
+        }
+        return counts;
+    }
+
+    public void resetCounts() {
+        for (int index = 0; index < STATE_COUNT * STATE_COUNT; index++) {
+            if (accepted[index] != null) {
+                accepted[index].reset();
+            }
+            rejected.set(index, 0L);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private static BookingStatus bookingStatus(int state) {
+        return BOOKING_STATUSES[state / PAYMENT_STATUSES.length];
+    }
+
+    private static PaymentStatus paymentStatus(int state) {
+        return PAYMENT_STATUSES[state % PAYMENT_STATUSES.length];
+    }
+}
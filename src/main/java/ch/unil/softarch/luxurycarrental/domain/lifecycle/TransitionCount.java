@@ -0,0 +1,45 @@
+package ch.unil.softarch.luxurycarrental.domain.lifecycle;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+
+/**
+ * Point-in-time counters of one transition of the {@link BookingStateMachine}.
+ */
+public final class TransitionCount {
+
+    private final BookingStatus fromBookingStatus;
+    private final PaymentStatus fromPaymentStatus;
+    private final BookingStatus toBookingStatus;
+    private final PaymentStatus toPaymentStatus;
+    private final long accepted;
+    private final long rejected;
+
+    TransitionCount(BookingStatus fromBookingStatus, PaymentStatus fromPaymentStatus,
+                    BookingStatus toBookingStatus, PaymentStatus toPaymentStatus, long accepted, long rejected) {
+        this.fromBookingStatus = fromBookingStatus;
+        this.fromPaymentStatus = fromPaymentStatus;
+        this.toBookingStatus = toBookingStatus;
+        this.toPaymentStatus = toPaymentStatus;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    public BookingStatus getFromBookingStatus() { return fromBookingStatus; }
+
+    public PaymentStatus getFromPaymentStatus() { return fromPaymentStatus; }
+
+    public BookingStatus getToBookingStatus() { return toBookingStatus; }
+
+    public PaymentStatus getToPaymentStatus() { return toPaymentStatus; }
+
+    public long getAccepted() { return accepted; }
+
+    public long getRejected() { return rejected; }
+
+    @Override
+    public String toString() {
+        return fromBookingStatus + "/" + fromPaymentStatus + " -> " + toBookingStatus + "/" + toPaymentStatus
+                + ": accepted=" + accepted + ", rejected=" + rejected;
+    }
+}
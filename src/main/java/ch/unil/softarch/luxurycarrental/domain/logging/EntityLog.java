@@ -0,0 +1,101 @@
+package ch.unil.softarch.luxurycarrental.domain.logging;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Admin;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+
+/**
+ * Writes the fields of the entities into a {@link KeyValueSink} for structured logging.
+ * <p>
+ * Associations are written as the ID of the referenced entity only. Reading the
+ * identifier of a lazy proxy does not initialize it, so logging a booking never
+ * loads its car or customer. Passwords are {@link KeyValueSink#addMasked masked}.
+ * Each record starts with {@code entity=<type>}.
+ * </p>
+ */
+public final class EntityLog {
+
+    private EntityLog() {
+        // Static helpers
+    }
+
+    public static KeyValueSink write(Booking booking, KeyValueSink sink) {
+        return sink.add("entity", "Booking")
+                .add("bookingId", booking.getBookingId())
+                .add("car", booking.getCar() == null ? null : booking.getCar().getId())
+                .add("customer", booking.getCustomer() == null ? null : booking.getCustomer().getId())
+                .add("startDate", booking.getStartDate())
+                .add("endDate", booking.getEndDate())
+                .add("totalCost", booking.getTotalCost())
+                .add("depositAmount", booking.getDepositAmount())
+                .add("bookingStatus", booking.getBookingStatus())
+                .add("paymentStatus", booking.getPaymentStatus());
+    }
+
+    public static KeyValueSink write(Car car, KeyValueSink sink) {
+        return sink.add("entity", "Car")
+                .add("id", car.getId())
+                .add("licensePlate", car.getLicensePlate())
+                .add("carType", car.getCarType() == null ? null : car.getCarType().getId())
+                .add("dailyRentalPrice", car.getDailyRentalPrice())
+                .add("depositAmount", car.getDepositAmount())
+                .add("status", car.getStatus())
+                .add("registrationDate", car.getRegistrationDate())
+                .add("lastMaintenanceDate", car.getLastMaintenanceDate())
+                .add("vin", car.getVin())
+                .add("color", car.getColor())
+                .add("insuranceExpiryDate", car.getInsuranceExpiryDate());
+    }
+
+    public static KeyValueSink write(CarType carType, KeyValueSink sink) {
+        return sink.add("entity", "CarType")
+                .add("id", carType.getId())
+                .add("category", carType.getCategory())
+                .add("brand", carType.getBrand())
+                .add("model", carType.getModel())
+                .add("engine", carType.getEngine())
+                .add("power", carType.getPower())
+                .add("maxSpeed", carType.getMaxSpeed())
+                .add("acceleration", carType.getAcceleration())
+                .add("weight", carType.getWeight())
+                .add("driveType", carType.getDriveType())
+                .add("transmission", carType.getTransmission())
+                .add("seats", carType.getSeats());
+    }
+
+    public static KeyValueSink write(Customer customer, KeyValueSink sink) {
+        return sink.add("entity", "Customer")
+                .add("id", customer.getId())
+                .add("firstName", customer.getFirstName())
+                .add("lastName", customer.getLastName())
+                .add("email", customer.getEmail())
+                .addMasked("password", customer.getPassword())
+                .add("phoneNumber", customer.getPhoneNumber())
+                .add("drivingLicenseNumber", customer.getDrivingLicenseNumber())
+                .add("drivingLicenseExpiryDate", customer.getDrivingLicenseExpiryDate())
+                .add("age", customer.getAge())
+                .add("verifiedIdentity", customer.isVerifiedIdentity())
+                .add("balance", customer.getBalance())
+                .add("creationDate", customer.getCreationDate());
+    }
+
+    public static KeyValueSink write(Admin admin, KeyValueSink sink) {
+        return sink.add("entity", "Admin")
+                .add("id", admin.getId())
+                .add("username", admin.getUsername())
+                .add("name", admin.getName())
+                .add("email", admin.getEmail())
+                .addMasked("password", admin.getPassword())
+                .add("createdAt", admin.getCreatedAt())
+                .add("updatedAt", admin.getUpdatedAt());
+    }
+
+    /**
+     * Formats the booking as one logfmt line with this thread's {@link LogfmtWriter}.
+     */
+    public static String toLogfmt(Booking booking) {
+        return write(booking, LogfmtWriter.forCurrentThread()).toString();
+    }
+}
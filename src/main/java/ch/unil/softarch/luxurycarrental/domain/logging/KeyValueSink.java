@@ -0,0 +1,43 @@
+package ch.unil.softarch.luxurycarrental.domain.logging;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Receiver of the fields of a structured log record, one typed value at a time.
+ * <p>
+ * Implementations format values straight into their output, so callers never build
+ * intermediate strings. Every method accepts null values.
+ * </p>
+ */
+public interface KeyValueSink {
+
+    KeyValueSink add(String key, CharSequence value);
+
+    KeyValueSink add(String key, long value);
+
+    KeyValueSink add(String key, double value);
+
+    KeyValueSink add(String key, boolean value);
+
+    KeyValueSink add(String key, UUID value);
+
+    KeyValueSink add(String key, LocalDate value);
+
+    KeyValueSink add(String key, LocalDateTime value);
+
+    KeyValueSink add(String key, Money value);
+
+    default KeyValueSink add(String key, Enum<?> value) {
+        return add(key, value == null ? null : value.name());
+    }
+
+    /**
+     * Records only whether a sensitive value is set, e.g. a password.
+     */
+    default KeyValueSink addMasked(String key, Object value) {
+        return add(key, value == null ? null : "***");
+    }
+}
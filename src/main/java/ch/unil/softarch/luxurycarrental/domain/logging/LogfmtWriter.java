@@ -0,0 +1,259 @@
+package ch.unil.softarch.luxurycarrental.domain.logging;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@link KeyValueSink} that formats a record as logfmt, {@code key=value} pairs
+ * separated by spaces, into a reusable {@link StringBuilder}.
+ * <p>
+ * UUIDs, dates and amounts are written digit by digit and numbers through the
+ * builder's primitive appends, so once the buffer has grown to the size of a record,
+ * formatting allocates nothing; only {@link #toString()} copies the text out.
+ * Values containing spaces, quotes, {@code =} or control characters are quoted and
+ * escaped, null values are left empty ({@code key=}).
+ * </p>
+ * <pre>
+ * LogfmtWriter line = LogfmtWriter.forCurrentThread();
+ * EntityLog.write(booking, line.add("event", "booking.confirmed"));
+ * logger.info(line.toString());
+ * </pre>
+ * Not thread-safe; use one writer per thread.
+ */
+public final class LogfmtWriter implements KeyValueSink {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<LogfmtWriter> LOCAL = ThreadLocal.withInitial(LogfmtWriter::new);
+
+    private final StringBuilder buffer;
+    private final char[] scratch = new char[36];  // One UUID, formatted before a single append
+
+    public LogfmtWriter() {
+        this(256);
+    }
+
+    public LogfmtWriter(int initialCapacity) {
+        this.buffer = new StringBuilder(initialCapacity);
+    }
+
+    /**
+     * Returns this thread's writer, emptied. The writer is shared by every caller on
+     * the thread, so finish the record before formatting another one.
+     */
+    public static LogfmtWriter forCurrentThread() {
+        return LOCAL.get().reset();
+    }
+
+    public LogfmtWriter reset() {
+        buffer.setLength(0);
+        return this;
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    /**
+     * Appends the record to the output without creating a string.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Values
+    // -------------------------------------------------------------------------
+
+    @Override
+    public LogfmtWriter add(String key, CharSequence value) {
+        key(key);
+        if (value == null) {
+            return this;
+        }
+        if (!needsQuotes(value)) {
+            buffer.append(value);
+            return this;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"', '\\' -> buffer.append('\\').append(c);
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> buffer.append(c < ' ' ? '?' : c);
+            }
+        }
+        buffer.append('"');
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, long value) {
+        key(key).append(value);
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, double value) {
+        key(key).append(value);
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, boolean value) {
+        key(key).append(value);
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, UUID value) {
+        key(key);
+        if (value != null) {
+            long most = value.getMostSignificantBits();
+            long least = value.getLeastSignificantBits();
+            hex(most >>> 32, 0, 8);
+            scratch[8] = '-';
+            hex(most >>> 16, 9, 4);
+            scratch[13] = '-';
+            hex(most, 14, 4);
+            scratch[18] = '-';
+            hex(least >>> 48, 19, 4);
+            scratch[23] = '-';
+            hex(least, 24, 12);
+            buffer.append(scratch, 0, 36);
+        }
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, LocalDate value) {
+        key(key);
+        if (value != null) {
+            date(value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        }
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, LocalDateTime value) {
+        key(key);
+        if (value != null) {
+            date(value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            buffer.append('T');
+            padded(value.getHour(), 2);
+            buffer.append(':');
+            padded(value.getMinute(), 2);
+            buffer.append(':');
+            padded(value.getSecond(), 2);
+            if (value.getNano() != 0) {
+                buffer.append('.');
+                padded(value.getNano() / 1_000_000, 3);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the amount like {@link Money#toString()}, quoted: {@code "CHF 450.00"}.
+     */
+    @Override
+    public LogfmtWriter add(String key, Money value) {
+        key(key);
+        if (value == null) {
+            return this;
+        }
+        buffer.append('"').append(value.getCurrency().getCurrencyCode()).append(' ');
+        long minorUnits = value.getMinorUnits();
+        int digits = value.getCurrency().getDefaultFractionDigits();
+        if (digits <= 0) {
+            buffer.append(minorUnits);
+        } else {
+            long factor = pow10(digits);
+            if (minorUnits < 0) {
+                buffer.append('-');
+            }
+            // Split before taking the magnitude: Long.MIN_VALUE has no positive counterpart
+            buffer.append(Math.abs(minorUnits / factor)).append('.');
+            padded(Math.abs(minorUnits % factor), digits);
+        }
+        buffer.append('"');
+        return this;
+    }
+
+    @Override
+    public LogfmtWriter add(String key, Enum<?> value) {
+        return add(key, value == null ? null : value.name());
+    }
+
+    @Override
+    public LogfmtWriter addMasked(String key, Object value) {
+        return add(key, value == null ? null : "***");
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private StringBuilder key(String key) {
+        if (buffer.length() > 0) {
+            buffer.append(' ');
+        }
+        return buffer.append(key).append('=');
+    }
+
+    private static boolean needsQuotes(CharSequence value) {
+        if (value.length() == 0) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void hex(long value, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            scratch[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private void date(int year, int month, int day) {
+        if (year < 0) {
+            buffer.append('-');
+        }
+        padded(Math.abs(year), 4);
+        buffer.append('-');
+        padded(month, 2);
+        buffer.append('-');
+        padded(day, 2);
+    }
+
+    private void padded(long value, int width) {
+        for (long limit = pow10(width - 1); limit > 1 && value < limit; limit /= 10) {
+            buffer.append('0');
+        }
+        buffer.append(value);
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,9 @@
+package ch.unil.softarch.luxurycarrental.domain.maintenance;
+
+/**
+ * Date after which a car may no longer be rented, tracked by the {@link FleetDeadlineScheduler}.
+ */
+public enum Deadline {
+    MAINTENANCE_DUE,   // Service interval since Car.lastMaintenanceDate has elapsed
+    INSURANCE_EXPIRED  // Day after Car.insuranceExpiryDate
+}
@@ -0,0 +1,40 @@
+package ch.unil.softarch.luxurycarrental.domain.maintenance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deadline of a car that has been reached, or will be, together with the active
+ * bookings that end after it.
+ */
+public final class DeadlineAlert {
+
+    private final UUID carId;
+    private final Deadline deadline;
+    private final LocalDate dueDate;                // First day the car may not be rented
+    private final List<UUID> conflictingBookings;   // Ordered by start date
+
+    DeadlineAlert(UUID carId, Deadline deadline, LocalDate dueDate, List<UUID> conflictingBookings) {
+        this.carId = carId;
+        this.deadline = deadline;
+        this.dueDate = dueDate;
+        this.conflictingBookings = List.copyOf(conflictingBookings);
+    }
+
+    public UUID getCarId() { return carId; }
+
+    public Deadline getDeadline() { return deadline; }
+
+    public LocalDate getDueDate() { return dueDate; }
+
+    public List<UUID> getConflictingBookings() { return conflictingBookings; }
+
+    public boolean hasConflicts() { return !conflictingBookings.isEmpty(); }
+
+    @Override
+    public String toString() {
+        return deadline + " for car " + carId + " on " + dueDate
+                + (conflictingBookings.isEmpty() ? "" : ", conflicts with bookings " + conflictingBookings);
+    }
+}
@@ -0,0 +1,395 @@
+package ch.unil.softarch.luxurycarrental.domain.maintenance;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tracks when every car falls due for maintenance or loses its insurance, so cars
+ * can be taken out of service on the right day without scanning the fleet.
+ * <p>
+ * Deadlines live in a hierarchical timing wheel with a resolution of one day: six
+ * levels of 64 slots, level {@code n} spanning {@code 64^n} days, which covers any
+ * date from 1970 on. A deadline is filed at the level of the highest 6-bit group in
+ * which its epoch day differs from today, and moves down a level each time the
+ * wheel reaches its group. Scheduling, rescheduling and removing a deadline are
+ * O(1); advancing by a day touches only the deadlines that fire or move down.
+ * </p>
+ * <p>
+ * Each car has two entries, one per {@link Deadline}, held in parallel {@code int}
+ * arrays: the due day and the links of the slot list. The car IDs are kept as
+ * their two {@code long} halves, found through an open-addressing table of car
+ * indexes. That is about 24 bytes per deadline, with no object per entry. A car is
+ * never dropped from the table, {@link #unschedule(UUID)} only clears its deadlines.
+ * </p>
+ * <p>
+ * {@link #advanceTo(LocalDate)} returns the deadlines that were reached; the caller
+ * sets those cars to {@code CarStatus.UNAVAILABLE}. Each alert lists the active
+ * bookings of the car that end after the due date, or after today for a deadline
+ * that fires late, taken from the {@link AvailabilityIndex}, so they can be moved
+ * to another car.
+ * </p>
+ * <pre>
+ * for (DeadlineAlert alert : scheduler.advanceTo(LocalDate.now())) {
+ *     carRepository.setStatus(alert.getCarId(), CarStatus.UNAVAILABLE);
+ *     alert.getConflictingBookings().forEach(rebooking::reassign);
+ * }
+ * </pre>
+ * Methods are synchronized; callers on different threads share one lock.
+ */
+public class FleetDeadlineScheduler {
+
+    public static final int DEFAULT_MAINTENANCE_INTERVAL_DAYS = 365;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;         // Slots per level
+    private static final int LEVELS = 6;                     // 6 x 6 bits cover every non-negative int
+    private static final int DUE = LEVELS * SLOTS;           // List of the deadlines already reached
+    private static final int NIL = -1;                       // End of a slot list
+    private static final int UNLINKED = -1;                  // prev[] of an entry in no list
+    private static final Deadline[] DEADLINES = Deadline.values();
+    private static final LocalDate END_OF_TIME = LocalDate.of(9999, 12, 31);
+
+    private final int maintenanceIntervalDays;
+    private final AvailabilityIndex bookings;  // Optional, source of the conflicting bookings
+    private final int[] heads = new int[DUE + 1];
+
+    // Entries, two per car: car * 2 + deadline.ordinal()
+    private int[] dueDays;   // Epoch day, kept after firing so an unchanged date does not fire twice
+    private int[] next;
+    private int[] prev;      // Previous entry, -2 - list for the first entry of a list, or UNLINKED
+
+    // Cars
+    private long[] carIds;   // Most and least significant halves of car i at 2i and 2i + 1
+    private int[] table;     // Car index + 1, 0 when empty
+    private int cars;
+
+    private int today;
+    private int pending;
+
+    /**
+     * @param today    day the wheel starts on
+     * @param bookings index used to find conflicting bookings, or null to skip the check
+     */
+    public FleetDeadlineScheduler(LocalDate today, AvailabilityIndex bookings) {
+        this(today, DEFAULT_MAINTENANCE_INTERVAL_DAYS, bookings, 16);
+    }
+
+    /**
+     * @param today                   day the wheel starts on, not before 1970-01-01
+     * @param maintenanceIntervalDays days after the last maintenance when the next one is due
+     * @param bookings                index used to find conflicting bookings, or null to skip the check
+     * @param expectedCars            number of cars to size the arrays for
+     */
+    public FleetDeadlineScheduler(LocalDate today, int maintenanceIntervalDays,
+                                  AvailabilityIndex bookings, int expectedCars) {
+        if (today == null || today.toEpochDay() < 0) {
+            throw new IllegalArgumentException("today must be a date from 1970-01-01 on: " + today);
+        }
+        if (maintenanceIntervalDays <= 0) {
+            throw new IllegalArgumentException("maintenanceIntervalDays must be positive: " + maintenanceIntervalDays);
+        }
+        if (expectedCars < 0) {
+            throw new IllegalArgumentException("expectedCars must not be negative: " + expectedCars);
+        }
+        this.today = EpochDays.of(today);
+        this.maintenanceIntervalDays = maintenanceIntervalDays;
+        this.bookings = bookings;
+        int capacity = Math.max(16, expectedCars);
+        this.carIds = new long[capacity * 2];
+        this.dueDays = new int[capacity * 2];
+        this.next = new int[capacity * 2];
+        this.prev = new int[capacity * 2];
+        this.table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        Arrays.fill(heads, NIL);
+    }
+
+    // -------------------------------------------------------------------------
+    // Scheduling
+    // -------------------------------------------------------------------------
+
+    /**
+     * Schedules the car's deadlines from its current dates, replacing the previous ones.
+     * <p>
+     * Call it whenever the last maintenance or insurance expiry date of a car changes.
+     * A deadline whose date did not change is left alone, even if it has already
+     * fired. A deadline that is already due fires on the next {@link #advanceTo}.
+     * Cars without a last maintenance date get no maintenance deadline.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the car has no ID
+     */
+    public synchronized void schedule(Car car) {
+        if (car.getId() == null) {
+            throw new IllegalArgumentException("Car must have an ID before its deadlines can be scheduled");
+        }
+        int index = carIndex(car.getId(), true);
+        LocalDate maintenance = car.getLastMaintenanceDate();
+        LocalDate insurance = car.getInsuranceExpiryDate();
+        set(entry(index, Deadline.MAINTENANCE_DUE),
+                maintenance == null ? EpochDays.NONE : EpochDays.of(maintenance) + maintenanceIntervalDays);
+        set(entry(index, Deadline.INSURANCE_EXPIRED),
+                insurance == null ? EpochDays.NONE : EpochDays.of(insurance) + 1);
+    }
+
+    /**
+     * Removes the pending deadlines of the car, e.g. after it left the fleet.
+     *
+     * @return true if the car had a pending deadline
+     */
+    public synchronized boolean unschedule(UUID carId) {
+        int index = carIndex(carId, false);
+        if (index < 0) {
+            return false;
+        }
+        boolean removed = false;
+        for (Deadline deadline : DEADLINES) {
+            int entry = entry(index, deadline);
+            removed |= unlink(entry);
+            dueDays[entry] = EpochDays.NONE;
+        }
+        return removed;
+    }
+
+    /**
+     * Moves the wheel forward to {@code date} and returns the deadlines reached on
+     * the way, including those scheduled in the past, ordered by due date.
+     *
+     * @throws IllegalArgumentException if the date is missing or before the current day
+     */
+    public synchronized List<DeadlineAlert> advanceTo(LocalDate date) {
+        if (date == null || date.toEpochDay() < today) {
+            throw new IllegalArgumentException("Cannot move the wheel from " + getToday() + " back to " + date);
+        }
+        int target = EpochDays.of(date);
+        List<DeadlineAlert> fired = new ArrayList<>();
+        fire(fired);
+        while (today < target) {
+            today++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                int shift = level * SLOT_BITS;
+                if ((today & ((1 << shift) - 1)) == 0) {
+                    relink(level * SLOTS + (today >>> shift & (SLOTS - 1)));
+                }
+            }
+            relink(today & (SLOTS - 1));
+            fire(fired);
+        }
+        fired.sort(Comparator.comparing(DeadlineAlert::getDueDate));
+        return fired;
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the day the deadline falls due, or null if it is not pending.
+     */
+    public synchronized LocalDate dueDate(UUID carId, Deadline deadline) {
+        int index = carIndex(carId, false);
+        if (index < 0) {
+            return null;
+        }
+        int entry = entry(index, deadline);
+        return prev[entry] == UNLINKED ? null : LocalDate.ofEpochDay(dueDays[entry]);
+    }
+
+    /**
+     * Returns the pending deadlines of the car with the bookings they conflict with,
+     * to check a car right after {@link #schedule(Car)} or before confirming a booking.
+     */
+    public synchronized List<DeadlineAlert> pending(UUID carId) {
+        int index = carIndex(carId, false);
+        List<DeadlineAlert> result = new ArrayList<>(DEADLINES.length);
+        if (index >= 0) {
+            for (Deadline deadline : DEADLINES) {
+                int entry = entry(index, deadline);
+                if (prev[entry] != UNLINKED) {
+                    result.add(alert(entry));
+                }
+            }
+            result.sort(Comparator.comparing(DeadlineAlert::getDueDate));
+        }
+        return result;
+    }
+
+    public synchronized LocalDate getToday() { return LocalDate.ofEpochDay(today); }
+
+    /**
+     * Number of deadlines that have not fired yet.
+     */
+    public synchronized int size() { return pending; }
+
+    public int getMaintenanceIntervalDays() { return maintenanceIntervalDays; }
+
+    // -------------------------------------------------------------------------
+    // Wheel
+    // -------------------------------------------------------------------------
+
+    private static int entry(int car, Deadline deadline) {
+        return car * DEADLINES.length + deadline.ordinal();
+    }
+
+    private void set(int entry, int day) {
+        if (dueDays[entry] == day) {
+            return;
+        }
+        unlink(entry);
+        dueDays[entry] = day;
+        if (day != EpochDays.NONE) {
+            link(entry);
+            pending++;
+        }
+    }
+
+    /**
+     * Files the entry in the slot of its due day, or in the due list once it is reached.
+     */
+    private void link(int entry) {
+        int day = dueDays[entry];
+        int list;
+        if (day <= today) {
+            list = DUE;
+        } else {
+            int level = (31 - Integer.numberOfLeadingZeros(day ^ today)) / SLOT_BITS;
+            list = level * SLOTS + (day >>> level * SLOT_BITS & (SLOTS - 1));
+        }
+        int head = heads[list];
+        next[entry] = head;
+        prev[entry] = -2 - list;
+        if (head != NIL) {
+            prev[head] = entry;
+        }
+        heads[list] = entry;
+    }
+
+    /**
+     * @return true if the entry was pending
+     */
+    private boolean unlink(int entry) {
+        int before = prev[entry];
+        if (before == UNLINKED) {
+            return false;
+        }
+        int after = next[entry];
+        if (before < 0) {
+            heads[-2 - before] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NIL) {
+            prev[after] = before;
+        }
+        prev[entry] = UNLINKED;
+        pending--;
+        return true;
+    }
+
+    /**
+     * Files the entries of a slot again relative to today, one level down or into the due list.
+     */
+    private void relink(int list) {
+        int entry = heads[list];
+        heads[list] = NIL;
+        while (entry != NIL) {
+            int following = next[entry];
+            link(entry);
+            entry = following;
+        }
+    }
+
+    private void fire(List<DeadlineAlert> fired) {
+        int entry = heads[DUE];
+        while (entry != NIL) {
+            int following = next[entry];
+            unlink(entry);
+            fired.add(alert(entry));
+            entry = following;
+        }
+    }
+
+    private DeadlineAlert alert(int entry) {
+        int car = entry / DEADLINES.length;
+        UUID carId = new UUID(carIds[2 * car], carIds[2 * car + 1]);
+        LocalDate due = LocalDate.ofEpochDay(dueDays[entry]);
+        LocalDate from = dueDays[entry] < today ? LocalDate.ofEpochDay(today) : due;  // Past bookings cannot be moved
+        List<UUID> conflicts = bookings == null || !from.isBefore(END_OF_TIME)
+                ? List.of()
+                : bookings.findOverlapping(carId, from, END_OF_TIME);
+        return new DeadlineAlert(carId, DEADLINES[entry % DEADLINES.length], due, conflicts);
+    }
+
+    // -------------------------------------------------------------------------
+    // Car table
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the index of the car, adding it if {@code add} is set, or -1.
+     */
+    private int carIndex(UUID carId, boolean add) {
+        long most = carId.getMostSignificantBits();
+        long least = carId.getLeastSignificantBits();
+        int mask = table.length - 1;
+        int slot = spread(most, least) & mask;
+        while (table[slot] != 0) {
+            int car = table[slot] - 1;
+            if (carIds[2 * car] == most && carIds[2 * car + 1] == least) {
+                return car;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (!add) {
+            return -1;
+        }
+        if (cars * 2 == carIds.length) {
+            grow();
+        }
+        int car = cars++;
+        carIds[2 * car] = most;
+        carIds[2 * car + 1] = least;
+        for (Deadline deadline : DEADLINES) {
+            int entry = entry(car, deadline);
+            dueDays[entry] = EpochDays.NONE;
+            next[entry] = NIL;
+            prev[entry] = UNLINKED;
+        }
+        table[slot] = car + 1;
+        if (cars * 4 > table.length * 3) {
+            rehash(table.length * 2);
+        }
+        return car;
+    }
+
+    private void grow() {
+        int capacity = carIds.length * 2;
+        carIds = Arrays.copyOf(carIds, capacity);
+        dueDays = Arrays.copyOf(dueDays, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    private void rehash(int capacity) {
+        int[] rehashed = new int[capacity];
+        int mask = capacity - 1;
+        for (int car = 0; car < cars; car++) {
+            int slot = spread(carIds[2 * car], carIds[2 * car + 1]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = car + 1;
+        }
+        table = rehashed;
+    }
+
+    private static int spread(long most, long least) {
+        long bits = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (bits ^ (bits >>> 32));
+    }
+}
@@ -0,0 +1,36 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic count of events, obtained from {@link MetricsRegistry#counter}.
+ * <p>
+ * Backed by a {@link LongAdder}, so threads incrementing the same counter update
+ * separate cells instead of contending on one value.
+ * </p>
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code amount} is negative
+     */
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A counter cannot decrease: " + amount);
+        }
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,186 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.TransitionCount;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Metrics of the booking hot paths: availability checks, price quotes, booking
+ * creation and status transitions.
+ * <p>
+ * Handles are resolved up front or once per {@code CarType.category}, so recording
+ * an event is an array or map read plus the update of a {@link LatencyHistogram} or
+ * {@link Counter}, without allocation. Status transitions are already counted by the
+ * {@link BookingStateMachine}; they are read from it when exporting instead of being
+ * counted twice. {@link ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex}
+ * and {@link ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine} report to
+ * an instance passed to their {@code setMetrics}.
+ * </p>
+ * <p>
+ * Every distinct category creates its own series, so categories should come from
+ * the catalogue rather than from user input.
+ * </p>
+ */
+public final class DomainMetrics {
+
+    private static final String UNKNOWN = "unknown";
+    private static final BookingStatus[] BOOKING_STATUSES = BookingStatus.values();
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+    private static final int STATE_COUNT = BOOKING_STATUSES.length * PAYMENT_STATUSES.length;
+
+    /**
+     * Series of one car category. Creation counters are registered on first use, so
+     * the export lists only the status combinations that occurred.
+     */
+    private final class CategoryMetrics {
+        final String category;
+        final LatencyHistogram priceQuotes;
+        final LatencyHistogram bookingCreations;
+        final AtomicReferenceArray<Counter> bookingsCreated = new AtomicReferenceArray<>(STATE_COUNT + 1);  // Last: unknown status
+
+        CategoryMetrics(String category) {
+            this.category = category;
+            this.priceQuotes = registry.histogram("carrental_price_quote_seconds",
+                    "Time to quote a rental price", "category", category);
+            this.bookingCreations = registry.histogram("carrental_booking_creation_seconds",
+                    "Time to create a booking", "category", category);
+        }
+
+        Counter bookingsCreated(BookingStatus bookingStatus, PaymentStatus paymentStatus) {
+            boolean known = bookingStatus != null && paymentStatus != null;
+            int index = known ? BookingStateMachine.state(bookingStatus, paymentStatus) : STATE_COUNT;
+            Counter counter = bookingsCreated.get(index);
+            if (counter == null) {
+                counter = registry.counter("carrental_bookings_created_total", "Bookings created",
+                        "category", category,
+                        "booking_status", known ? bookingStatus.name() : UNKNOWN,
+                        "payment_status", known ? paymentStatus.name() : UNKNOWN);
+                bookingsCreated.set(index, counter);  // The registry returns the same counter to racing threads
+            }
+            return counter;
+        }
+    }
+
+    private final MetricsRegistry registry;
+    private final BookingStateMachine stateMachine;
+    private final LatencyHistogram availabilityChecks;
+    private final Counter carsAvailable;
+    private final Counter carsUnavailable;
+    private final Gauge[] bookingsInStatus = new Gauge[BOOKING_STATUSES.length];
+    private final ConcurrentMap<String, CategoryMetrics> categories = new ConcurrentHashMap<>();
+
+    public DomainMetrics() {
+        this(new MetricsRegistry(), BookingStateMachine.DEFAULT);
+    }
+
+    /**
+     * @param registry     registry to create the series in, possibly shared with other metrics
+     * @param stateMachine state machine whose transition counts are exported
+     */
+    public DomainMetrics(MetricsRegistry registry, BookingStateMachine stateMachine) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.stateMachine = Objects.requireNonNull(stateMachine, "stateMachine");
+        this.availabilityChecks = registry.histogram("carrental_availability_check_seconds",
+                "Time to check whether a car is free for a date range");
+        this.carsAvailable = registry.counter("carrental_availability_checks_total",
+                "Availability checks by result", "result", "available");
+        this.carsUnavailable = registry.counter("carrental_availability_checks_total",
+                "Availability checks by result", "result", "unavailable");
+        for (BookingStatus status : BOOKING_STATUSES) {
+            bookingsInStatus[status.ordinal()] = registry.gauge("carrental_bookings",
+                    "Bookings currently in each status", "booking_status", status.name());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    public void availabilityChecked(boolean available, long nanos) {
+        availabilityChecks.record(nanos);
+        (available ? carsAvailable : carsUnavailable).increment();
+    }
+
+    public void priceQuoted(String category, long nanos) {
+        category(category).priceQuotes.record(nanos);
+    }
+
+    public void bookingCreated(String category, BookingStatus bookingStatus, PaymentStatus paymentStatus,
+                               long nanos) {
+        CategoryMetrics metrics = category(category);
+        metrics.bookingCreations.record(nanos);
+        metrics.bookingsCreated(bookingStatus, paymentStatus).increment();
+    }
+
+    /**
+     * Records a created booking under the category of its car, which reads the car
+     * and its type.
+     */
+    public void bookingCreated(Booking booking, long nanos) {
+        bookingCreated(categoryOf(booking.getCar()), booking.getBookingStatus(), booking.getPaymentStatus(), nanos);
+    }
+
+    /**
+     * Gauge to keep up to date with the number of bookings in the status, e.g. from a projection.
+     */
+    public Gauge bookingsInStatus(BookingStatus status) {
+        return bookingsInStatus[status.ordinal()];
+    }
+
+    public static String categoryOf(Car car) {
+        CarType carType = car == null ? null : car.getCarType();
+        return carType == null ? null : carType.getCategory();
+    }
+
+    // -------------------------------------------------------------------------
+    // Export
+    // -------------------------------------------------------------------------
+
+    public MetricsRegistry getRegistry() { return registry; }
+
+    public void writePrometheus(Appendable out) throws IOException {
+        registry.writePrometheus(out);
+        String name = "carrental_booking_transitions_total";
+        PrometheusText.header(out, name, "Booking status transitions checked by the state machine", "counter");
+        for (TransitionCount count : stateMachine.counts()) {
+            String labels = PrometheusText.labels(
+                    "from_status", count.getFromBookingStatus().name(),
+                    "from_payment_status", count.getFromPaymentStatus().name(),
+                    "to_status", count.getToBookingStatus().name(),
+                    "to_payment_status", count.getToPaymentStatus().name());
+            if (count.getAccepted() != 0) {
+                PrometheusText.sample(out, name, labels + ",result=\"accepted\"", Long.toString(count.getAccepted()));
+            }
+            if (count.getRejected() != 0) {
+                PrometheusText.sample(out, name, labels + ",result=\"rejected\"", Long.toString(count.getRejected()));
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with the current values, atomically.
+     */
+    public void writePrometheus(Path file) throws IOException {
+        PrometheusText.writeFile(file, this::writePrometheus);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private CategoryMetrics category(String category) {
+        String key = category == null ? UNKNOWN : category;
+        CategoryMetrics metrics = categories.get(key);  // Plain get first: computeIfAbsent may lock the bin
+        return metrics != null ? metrics : categories.computeIfAbsent(key, CategoryMetrics::new);
+    }
+}
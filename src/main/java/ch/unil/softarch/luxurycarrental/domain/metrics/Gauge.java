@@ -0,0 +1,35 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Current value of a quantity that goes up and down, e.g. bookings in a status,
+ * obtained from {@link MetricsRegistry#gauge}.
+ */
+public final class Gauge {
+
+    private final AtomicLong value = new AtomicLong();
+
+    Gauge() {
+    }
+
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    public void add(long delta) {
+        value.addAndGet(delta);
+    }
+
+    public void increment() {
+        value.incrementAndGet();
+    }
+
+    public void decrement() {
+        value.decrementAndGet();
+    }
+
+    public long get() {
+        return value.get();
+    }
+}
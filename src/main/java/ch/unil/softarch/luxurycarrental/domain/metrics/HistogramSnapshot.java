@@ -0,0 +1,60 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}, in nanoseconds.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;  // Per bucket, see LatencyHistogram.index
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() { return count; }
+
+    public long getSum() { return sum; }
+
+    public long getMax() { return max; }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value below or at which the fraction {@code quantile} of the recorded
+     * values fall, e.g. 0.99 for the 99th percentile. The result is the upper end of
+     * the bucket holding that value, capped at the largest recorded value.
+     *
+     * @throws IllegalArgumentException if {@code quantile} is not within [0, 1]
+     */
+    public long valueAtQuantile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("quantile must be within [0, 1]: " + quantile);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return max;  // Buckets were read while values were still being recorded
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{count=" + count + ", mean=" + getMean() + ", p50=" + valueAtQuantile(0.5)
+                + ", p99=" + valueAtQuantile(0.99) + ", max=" + max + '}';
+    }
+}
@@ -0,0 +1,96 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of durations in nanoseconds, obtained from {@link MetricsRegistry#histogram}.
+ * <p>
+ * Buckets are log-linear, as in HdrHistogram: each power of two is split into
+ * {@value #SUB_BUCKETS} equal sub-buckets, so any recorded value is known to within
+ * about 3% from 64 ns up to the whole {@code long} range, and exactly below that.
+ * The bucket of a value is found with one leading-zero count and a shift. Recording
+ * increments that bucket and a {@link LongAdder} sum, takes no lock and allocates
+ * nothing; percentiles are computed from a {@link #snapshot()}.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram() {
+    }
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records one duration. Negative values, e.g. from a clock adjustment, count as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        counts.getAndIncrement(index(value));
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} reading.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Copies the current counts. Values recorded concurrently may or may not be included.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new HistogramSnapshot(copy, count, sum.sum(), max.get());
+    }
+
+    // -------------------------------------------------------------------------
+    // Bucket layout
+    // -------------------------------------------------------------------------
+
+    static int index(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (exponent + 1) * SUB_BUCKETS + (int) (value >>> exponent) - SUB_BUCKETS;
+    }
+
+    /**
+     * Smallest value stored in the bucket.
+     */
+    static long lowestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << exponent;
+    }
+
+    /**
+     * Largest value stored in the bucket.
+     */
+    static long highestValue(int index) {
+        return index == BUCKETS - 1 ? Long.MAX_VALUE : lowestValue(index + 1) - 1;
+    }
+}
@@ -0,0 +1,107 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Named, labelled metrics and their export in the Prometheus text format.
+ * <p>
+ * A series is identified by its name and label pairs; asking for it again returns
+ * the same instance. Looking a series up builds its label text, so callers resolve
+ * the {@link Counter}, {@link Gauge} and {@link LatencyHistogram} handles once and
+ * record through them on hot paths. Histograms are exported as summaries in
+ * seconds, with quantiles {@code 0.5}, {@code 0.9}, {@code 0.99} and {@code 0.999}.
+ * </p>
+ */
+public final class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final class Family {
+        final String help;
+        final String type;                                 // counter, gauge or summary
+        final Map<String, Object> series = new TreeMap<>(); // Label text -> metric
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private final Map<String, Family> families = new TreeMap<>();  // Guarded by this
+
+    // -------------------------------------------------------------------------
+    // Registration
+    // -------------------------------------------------------------------------
+
+    /**
+     * @param labels label names and values, alternating
+     * @throws IllegalArgumentException if the name or labels are invalid, or the name is
+     *                                  already used by a metric of another type
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return register(name, help, "counter", labels, Counter.class, Counter::new);
+    }
+
+    public Gauge gauge(String name, String help, String... labels) {
+        return register(name, help, "gauge", labels, Gauge.class, Gauge::new);
+    }
+
+    public LatencyHistogram histogram(String name, String help, String... labels) {
+        return register(name, help, "summary", labels, LatencyHistogram.class, LatencyHistogram::new);
+    }
+
+    private synchronized <T> T register(String name, String help, String type, String[] labels,
+                                        Class<T> metricClass, Supplier<T> factory) {
+        Family family = families.computeIfAbsent(PrometheusText.checkName(name),
+                n -> new Family(help == null ? "" : help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return metricClass.cast(family.series.computeIfAbsent(PrometheusText.labels(labels), l -> factory.get()));
+    }
+
+    // -------------------------------------------------------------------------
+    // Export
+    // -------------------------------------------------------------------------
+
+    public synchronized void writePrometheus(Appendable out) throws IOException {
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            PrometheusText.header(out, name, family.help, family.type);
+            for (Map.Entry<String, Object> series : family.series.entrySet()) {
+                String labels = series.getKey();
+                Object metric = series.getValue();
+                if (metric instanceof Counter counter) {
+                    PrometheusText.sample(out, name, labels, Long.toString(counter.get()));
+                } else if (metric instanceof Gauge gauge) {
+                    PrometheusText.sample(out, name, labels, Long.toString(gauge.get()));
+                } else {
+                    writeSummary(out, name, labels, ((LatencyHistogram) metric).snapshot());
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with the current values, atomically.
+     */
+    public void writePrometheus(Path file) throws IOException {
+        PrometheusText.writeFile(file, this::writePrometheus);
+    }
+
+    private static void writeSummary(Appendable out, String name, String labels, HistogramSnapshot snapshot)
+            throws IOException {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        for (double quantile : QUANTILES) {
+            PrometheusText.sample(out, name, prefix + "quantile=\"" + quantile + "\"",
+                    PrometheusText.seconds(snapshot.valueAtQuantile(quantile)));
+        }
+        PrometheusText.sample(out, name + "_sum", labels, PrometheusText.seconds(snapshot.getSum()));
+        PrometheusText.sample(out, name + "_count", labels, Long.toString(snapshot.getCount()));
+    }
+}
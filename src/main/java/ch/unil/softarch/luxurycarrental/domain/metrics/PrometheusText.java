@@ -0,0 +1,111 @@
+package ch.unil.softarch.luxurycarrental.domain.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+/**
+ * Formatting of the Prometheus text exposition format, version 0.0.4.
+ */
+final class PrometheusText {
+
+    interface Body {
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private static final Pattern METRIC_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL_NAME = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private PrometheusText() {
+        // Static helpers
+    }
+
+    static String checkName(String name) {
+        if (name == null || !METRIC_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * Formats label pairs as {@code k1="v1",k2="v2"}, without braces.
+     *
+     * @param pairs label names and values, alternating
+     * @throws IllegalArgumentException if a name is invalid or a value is missing
+     */
+    static String labels(String... pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (pairs[i] == null || !LABEL_NAME.matcher(pairs[i]).matches() || pairs[i].startsWith("__")) {
+                throw new IllegalArgumentException("Invalid label name: " + pairs[i]);
+            }
+            if (pairs[i + 1] == null) {
+                throw new IllegalArgumentException("Label " + pairs[i] + " has no value");
+            }
+            if (text.length() > 0) {
+                text.append(',');
+            }
+            text.append(pairs[i]).append("=\"");
+            for (int c = 0; c < pairs[i + 1].length(); c++) {
+                char ch = pairs[i + 1].charAt(c);
+                switch (ch) {
+                    case '\\' -> text.append("\\\\");
+                    case '"' -> text.append("\\\"");
+                    case '\n' -> text.append("\\n");
+                    default -> text.append(ch);
+                }
+            }
+            text.append('"');
+        }
+        return text.toString();
+    }
+
+    static void header(Appendable out, String name, String help, String type) throws IOException {
+        out.append("# HELP ").append(name).append(' ');
+        for (int i = 0; i < help.length(); i++) {
+            char ch = help.charAt(i);
+            switch (ch) {
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                default -> out.append(ch);
+            }
+        }
+        out.append('\n').append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    static void sample(Appendable out, String name, String labels, String value) throws IOException {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    static String seconds(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+
+    /**
+     * Writes the file through a temporary sibling and an atomic rename, so a collector
+     * reading it (e.g. node_exporter's textfile collector) never sees a partial file.
+     */
+    static void writeFile(Path file, Body body) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                body.writeTo(writer);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ch.unil.softarch.luxurycarrental.domain.money;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import java.util.Currency;
+
+/**
+ * Bulk summation of booking amounts for revenue and deposit reports.
+ * <p>
+ * Each sum accumulates the raw minor units in a single {@code long}, checks the
+ * currency by reference and allocates only the returned {@link Money}. Bookings
+ * without an amount are skipped. All methods throw {@link IllegalArgumentException}
+ * when the bookings mix currencies and {@link ArithmeticException} on overflow.
+ * </p>
+ */
+public final class BookingTotals {
+
+    private BookingTotals() {
+        // Static helpers
+    }
+
+    public static Money totalCost(Booking[] bookings) {
+        return totalCost(bookings, 0, bookings.length);
+    }
+
+    /**
+     * Sums {@code totalCost} over {@code bookings[from, to)}.
+     */
+    public static Money totalCost(Booking[] bookings, int from, int to) {
+        checkRange(bookings, from, to);
+        Currency currency = null;
+        long sum = 0L;
+        for (int i = from; i < to; i++) {
+            Money amount = bookings[i].getTotalCost();
+            if (amount != null) {
+                currency = checkCurrency(currency, amount);
+                sum = Math.addExact(sum, amount.getMinorUnits());
+            }
+        }
+        return Money.ofMinor(sum, currency != null ? currency : Money.DEFAULT_CURRENCY);
+    }
+
+    public static Money depositAmount(Booking[] bookings) {
+        return depositAmount(bookings, 0, bookings.length);
+    }
+
+    /**
+     * Sums {@code depositAmount} over {@code bookings[from, to)}.
+     */
+    public static Money depositAmount(Booking[] bookings, int from, int to) {
+        checkRange(bookings, from, to);
+        Currency currency = null;
+        long sum = 0L;
+        for (int i = from; i < to; i++) {
+            Money amount = bookings[i].getDepositAmount();
+            if (amount != null) {
+                currency = checkCurrency(currency, amount);
+                sum = Math.addExact(sum, amount.getMinorUnits());
+            }
+        }
+        return Money.ofMinor(sum, currency != null ? currency : Money.DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Sums an array of amounts, skipping {@code null} entries.
+     */
+    public static Money sum(Money[] amounts) {
+        Currency currency = null;
+        long sum = 0L;
+        for (Money amount : amounts) {
+            if (amount != null) {
+                currency = checkCurrency(currency, amount);
+                sum = Math.addExact(sum, amount.getMinorUnits());
+            }
+        }
+        return Money.ofMinor(sum, currency != null ? currency : Money.DEFAULT_CURRENCY);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adopts the currency of the first amount; afterwards every amount must match it.
+     */
+    private static Currency checkCurrency(Currency current, Money amount) {
+        Currency currency = amount.getCurrency();
+        if (current == null || currency == current) {
+            return currency;
+        }
+        throw new IllegalArgumentException("Cannot sum " + current + " and " + currency + " amounts");
+    }
+
+    private static void checkRange(Booking[] bookings, int from, int to) {
+        if (from < 0 || to > bookings.length || from > to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") for " + bookings.length + " bookings");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package ch.unil.softarch.luxurycarrental.domain.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.bind.annotation.JsonbTransient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Immutable monetary amount stored as a {@code long} count of minor units (e.g. centimes) plus a currency.
+ * <p>
+ * All arithmetic works on the primitive minor-unit value and never boxes or goes
+ * through {@link BigDecimal}; {@link BigDecimal} is only produced for display and JSON.
+ * Operations on amounts of different currencies throw {@link IllegalArgumentException},
+ * and overflow throws {@link ArithmeticException}.
+ * </p>
+ * <p>
+ * Amounts are persisted through {@link MoneyConverter} and serialized to JSON as
+ * {@code {"amount": 450.00, "currency": "CHF"}}.
+ * </p>
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Currency of all amounts stored by the rental platform.
+     */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("CHF");
+
+    public static final Money ZERO = new Money(0L, DEFAULT_CURRENCY);
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    private final long minorUnits;   // Amount in the currency's smallest unit
+    private final Currency currency; // ISO 4217 currency
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    // -------------------------------------------------------------------------
+    // Factories
+    // -------------------------------------------------------------------------
+
+    /**
+     * Amount of {@code minorUnits} in the {@link #DEFAULT_CURRENCY}.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (currency == DEFAULT_CURRENCY) {
+            return ofMinor(minorUnits);
+        }
+        factor(currency);  // Rejects currencies without a fixed number of decimals
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Whole amount in the {@link #DEFAULT_CURRENCY}, e.g. {@code Money.of(450)} for CHF 450.00.
+     */
+    public static Money of(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, factor(DEFAULT_CURRENCY)));
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the amount has more decimals than the currency allows
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "amount");
+        int digits = currency.getDefaultFractionDigits();
+        if (digits < 0 || amount.stripTrailingZeros().scale() > digits) {
+            throw new IllegalArgumentException("Amount " + amount + " is not representable in " + currency);
+        }
+        return ofMinor(amount.movePointRight(digits).longValueExact(), currency);
+    }
+
+    @JsonCreator
+    @JsonbCreator
+    public static Money of(@JsonProperty("amount") @JsonbProperty("amount") BigDecimal amount,
+                           @JsonProperty("currency") @JsonbProperty("currency") String currencyCode) {
+        return of(amount, currencyCode == null ? DEFAULT_CURRENCY : Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * Converts a floating-point amount, rounding half up to the nearest minor unit.
+     * Meant for legacy inputs and rate computations only.
+     */
+    public static Money ofApproximate(double amount, Currency currency) {
+        if (!Double.isFinite(amount)) {
+            throw new IllegalArgumentException("Amount must be finite: " + amount);
+        }
+        return ofMinor(Math.round(amount * factor(currency)), currency);
+    }
+
+    // -------------------------------------------------------------------------
+    // Arithmetic
+    // -------------------------------------------------------------------------
+
+    public Money plus(Money other) {
+        return with(Math.addExact(minorUnits, sameCurrency(other).minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return with(Math.subtractExact(minorUnits, sameCurrency(other).minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return with(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * Multiplies by a rate (e.g. a surcharge of {@code 1.15}), rounding half up to the nearest minor unit.
+     */
+    public Money times(double rate) {
+        double product = minorUnits * rate;
+        if (!Double.isFinite(product) || Math.abs(product) >= 0x1p63) {
+            throw new ArithmeticException("Money overflow: " + this + " * " + rate);
+        }
+        return with(Math.round(product));
+    }
+
+    public Money negate() {
+        return with(Math.negateExact(minorUnits));
+    }
+
+    @JsonIgnore
+    @JsonbTransient
+    public boolean isZero() { return minorUnits == 0L; }
+
+    @JsonIgnore
+    @JsonbTransient
+    public boolean isNegative() { return minorUnits < 0L; }
+
+    public boolean isGreaterThan(Money other) { return compareTo(other) > 0; }
+
+    public boolean isLessThan(Money other) { return compareTo(other) < 0; }
+
+    // -------------------------------------------------------------------------
+    // Getters
+    // -------------------------------------------------------------------------
+
+    @JsonIgnore
+    @JsonbTransient
+    public long getMinorUnits() { return minorUnits; }
+
+    @JsonIgnore
+    @JsonbTransient
+    public Currency getCurrency() { return currency; }
+
+    @JsonProperty("currency")
+    @JsonbProperty("currency")
+    public String getCurrencyCode() { return currency.getCurrencyCode(); }
+
+    /**
+     * Amount in major units with the currency's scale, e.g. {@code 450.00}.
+     */
+    @JsonProperty("amount")
+    @JsonbProperty("amount")
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    // -------------------------------------------------------------------------
+    // Overrides
+    // -------------------------------------------------------------------------
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, sameCurrency(other).minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money other = (Money) o;
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + getAmount().toPlainString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private Money with(long minorUnits) {
+        return minorUnits == this.minorUnits ? this : ofMinor(minorUnits, currency);
+    }
+
+    private Money sameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + this + " / " + other);
+        }
+        return other;
+    }
+
+    /**
+     * Number of minor units per major unit of the currency.
+     */
+    static long factor(Currency currency) {
+        int digits = currency.getDefaultFractionDigits();
+        if (digits < 0 || digits >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported currency: " + currency);
+        }
+        return POWERS_OF_TEN[digits];
+    }
+}
@@ -0,0 +1,40 @@
+package ch.unil.softarch.luxurycarrental.domain.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link Money} columns as a {@code BIGINT} of minor units in the {@link Money#DEFAULT_CURRENCY}.
+ * <p>
+ * Keeping the column integral lets the database sum amounts exactly without any
+ * rounding. The column has no room for the currency, so persistent amounts are
+ * limited to the platform currency: entities check them with {@link #requireStorable(Money)}
+ * when they are set, and the converter never has to drop or convert a currency.
+ * </p>
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    /**
+     * Checks that an amount can be assigned to a persistent field.
+     *
+     * @return {@code money}, which may be {@code null}
+     * @throws IllegalArgumentException if the amount is not in the {@link Money#DEFAULT_CURRENCY}
+     */
+    public static Money requireStorable(Money money) {
+        if (money != null && !money.getCurrency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Only " + Money.DEFAULT_CURRENCY + " amounts can be stored: " + money);
+        }
+        return money;
+    }
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money == null ? null : requireStorable(money).getMinorUnits();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits == null ? null : Money.ofMinor(minorUnits);
+    }
+}
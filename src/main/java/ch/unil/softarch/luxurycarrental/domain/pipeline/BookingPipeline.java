@@ -0,0 +1,290 @@
+package ch.unil.softarch.luxurycarrental.domain.pipeline;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
+import ch.unil.softarch.luxurycarrental.domain.metrics.DomainMetrics;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingResult.Outcome;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine;
+import ch.unil.softarch.luxurycarrental.domain.reservation.ReservationBook;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Processes booking requests concurrently, one task per request, through the stages
+ * validate &rarr; reserve &rarr; price &rarr; confirm.
+ * <p>
+ * Admission is bounded: at most {@code capacity} requests are in the pipeline at a
+ * time, and {@link #submit} blocks the caller while it is full, so a burst slows its
+ * producers down instead of piling up tasks. Requests for the same {@link Car#getId()}
+ * run one at a time; requests for different cars do not wait for each other. The
+ * order of same-car requests is not guaranteed to follow submission order, because
+ * their tasks may start in any order. The confirm stage is a {@link Confirmation}
+ * callback, typically the blocking I/O that persists the booking and notifies the
+ * customer.
+ * </p>
+ * <p>
+ * By default each request runs on a virtual thread, so a request blocked on I/O or
+ * waiting for its car costs no platform thread. On runtimes without virtual threads
+ * (before Java 21) the pipeline falls back to a cached pool of platform threads, see
+ * {@link #newPerTaskExecutor()}.
+ * </p>
+ */
+public class BookingPipeline implements AutoCloseable {
+
+    /**
+     * Final stage, called with the car's lane held and the booking {@code CONFIRMED}.
+     * If it throws, the booking is cancelled and its reservation released.
+     */
+    @FunctionalInterface
+    public interface Confirmation {
+        void confirm(Booking booking) throws Exception;
+    }
+
+    /**
+     * Lock serializing the requests of one car. {@code holders} counts the requests
+     * holding or waiting for it; it is only changed inside {@code lanes.compute}, which
+     * removes the lane once nobody needs it.
+     */
+    private static final class Lane {
+        final ReentrantLock lock = new ReentrantLock(true);
+        int holders;
+    }
+
+    private final ReservationBook reservations;
+    private final PricingEngine pricing;
+    private final Confirmation confirmation;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int capacity;
+    private final Semaphore admission;
+    private final ConcurrentMap<UUID, Lane> lanes = new ConcurrentHashMap<>();  // Car ID -> lane, while in use
+    private volatile boolean closed;
+    private volatile DomainMetrics metrics;  // Optional, records confirmed bookings
+
+    /**
+     * Creates a pipeline running each request on its own virtual thread.
+     *
+     * @param capacity maximum number of requests admitted at a time
+     */
+    public BookingPipeline(ReservationBook reservations, PricingEngine pricing, Confirmation confirmation,
+                           int capacity) {
+        this(reservations, pricing, confirmation, capacity, newPerTaskExecutor(), true);
+    }
+
+    /**
+     * Creates a pipeline running requests on the given executor, which the caller shuts down.
+     */
+    public BookingPipeline(ReservationBook reservations, PricingEngine pricing, Confirmation confirmation,
+                           int capacity, ExecutorService executor) {
+        this(reservations, pricing, confirmation, capacity, executor, false);
+    }
+
+    private BookingPipeline(ReservationBook reservations, PricingEngine pricing, Confirmation confirmation,
+                            int capacity, ExecutorService executor, boolean ownsExecutor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.reservations = Objects.requireNonNull(reservations, "reservations");
+        this.pricing = Objects.requireNonNull(pricing, "pricing");
+        this.confirmation = Objects.requireNonNull(confirmation, "confirmation");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.ownsExecutor = ownsExecutor;
+        this.capacity = capacity;
+        this.admission = new Semaphore(capacity);
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread per task, or a cached thread pool
+     * when the runtime has no virtual threads. Looked up reflectively so the module
+     * still compiles for Java 17.
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Admission
+    // -------------------------------------------------------------------------
+
+    /**
+     * Submits a request, waiting while the pipeline is full.
+     *
+     * @throws IllegalStateException if the pipeline is closed
+     * @throws InterruptedException  if interrupted while waiting for admission
+     */
+    public CompletableFuture<BookingResult> submit(BookingRequest request) throws InterruptedException {
+        long submitted = System.nanoTime();
+        admission.acquire();
+        return start(request, submitted);
+    }
+
+    /**
+     * Submits a request if it is admitted within the timeout. Otherwise the returned
+     * future is already completed with {@link Outcome#OVERLOADED}.
+     *
+     * @throws IllegalStateException if the pipeline is closed
+     * @throws InterruptedException  if interrupted while waiting for admission
+     */
+    public CompletableFuture<BookingResult> trySubmit(BookingRequest request, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long submitted = System.nanoTime();
+        if (!admission.tryAcquire(timeout, unit)) {
+            return CompletableFuture.completedFuture(result(Outcome.OVERLOADED, null, "Pipeline full", submitted));
+        }
+        return start(request, submitted);
+    }
+
+    /**
+     * Number of requests admitted and not yet completed.
+     */
+    public int inFlight() {
+        return capacity - admission.availablePermits();
+    }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Records the latency of confirmed bookings per car category, or stops when null.
+     */
+    public void setMetrics(DomainMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Stops admitting requests, waits for the admitted ones to complete and shuts down
+     * the executor if the pipeline created it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        admission.acquireUninterruptibly(capacity);
+        admission.release(capacity);  // Wakes submitters still waiting, which then see the pipeline closed
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<BookingResult> start(BookingRequest request, long submitted) {
+        if (closed) {
+            admission.release();
+            throw new IllegalStateException("Booking pipeline is closed");
+        }
+        CompletableFuture<BookingResult> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(process(request, submitted));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    admission.release();  // Only once completed, so close() returns with every future done
+                }
+            });
+            return future;
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Stages
+    // -------------------------------------------------------------------------
+
+    private BookingResult process(BookingRequest request, long submitted) {
+        String problem = validate(request);
+        if (problem != null) {
+            return result(Outcome.INVALID, null, problem, submitted);
+        }
+        UUID carId = request.getCar().getId();
+        Lane lane = enter(carId);
+        try {
+            Booking booking = new Booking(request.getCar(), request.getCustomer(), request.getStartDate(),
+                    request.getEndDate(), null, null, BookingStatus.PENDING, PaymentStatus.PENDING);
+            booking.setBookingId(EntityIds.next());
+            if (!reservations.reserve(carId, booking.getBookingId(), booking.getStartDate(), booking.getEndDate())) {
+                booking.setBookingStatus(BookingStatus.REJECTED);
+                return result(Outcome.UNAVAILABLE, booking, "Car is booked for overlapping dates", submitted);
+            }
+            try {
+                pricing.price(booking);
+                booking.setBookingStatus(BookingStatus.CONFIRMED);
+                confirmation.confirm(booking);
+            } catch (Exception e) {
+                reservations.release(carId, booking.getBookingId());
+                booking.setBookingStatus(booking.getBookingStatus() == BookingStatus.CONFIRMED
+                        ? BookingStatus.CANCELLED : BookingStatus.REJECTED);
+                return result(Outcome.FAILED, booking, String.valueOf(e.getMessage()), submitted);
+            }
+            BookingResult result = result(Outcome.CONFIRMED, booking, null, submitted);
+            DomainMetrics metrics = this.metrics;
+            if (metrics != null) {
+                metrics.bookingCreated(booking, result.getLatencyNanos());
+            }
+            return result;
+        } finally {
+            leave(carId, lane);
+        }
+    }
+
+    /**
+     * @return why the request cannot be processed, or null if it is valid
+     */
+    private static String validate(BookingRequest request) {
+        Car car = request.getCar();
+        if (car == null || car.getId() == null) {
+            return "Request has no persisted car";
+        }
+        if (request.getCustomer() == null) {
+            return "Request has no customer";
+        }
+        if (request.getStartDate() == null || request.getEndDate() == null
+                || !request.getStartDate().isBefore(request.getEndDate())) {
+            return "Start date must be before end date";
+        }
+        if (car.getStatus() == CarStatus.UNAVAILABLE) {
+            return "Car " + car.getId() + " is unavailable";
+        }
+        return null;
+    }
+
+    private static BookingResult result(Outcome outcome, Booking booking, String message, long submitted) {
+        return new BookingResult(outcome, booking, message, System.nanoTime() - submitted);
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-car lanes
+    // -------------------------------------------------------------------------
+
+    private Lane enter(UUID carId) {
+        Lane lane = lanes.compute(carId, (id, current) -> {
+            Lane used = current != null ? current : new Lane();
+            used.holders++;
+            return used;
+        });
+        lane.lock.lock();
+        return lane;
+    }
+
+    private void leave(UUID carId, Lane lane) {
+        lane.lock.unlock();
+        lanes.computeIfPresent(carId, (id, current) -> --current.holders == 0 ? null : current);
+    }
+}
@@ -0,0 +1,38 @@
+package ch.unil.softarch.luxurycarrental.domain.pipeline;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import java.time.LocalDate;
+
+/**
+ * A customer's request to rent a car for {@code [startDate, endDate)}, submitted to a {@link BookingPipeline}.
+ */
+public final class BookingRequest {
+
+    private final Car car;
+    private final Customer customer;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public BookingRequest(Car car, Customer customer, LocalDate startDate, LocalDate endDate) {
+        this.car = car;
+        this.customer = customer;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Car getCar() { return car; }
+
+    public Customer getCustomer() { return customer; }
+
+    public LocalDate getStartDate() { return startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+
+    @Override
+    public String toString() {
+        return "BookingRequest{car=" + (car != null ? car.getId() : "null")
+                + ", customer=" + (customer != null ? customer.getId() : "null")
+                + ", startDate=" + startDate + ", endDate=" + endDate + '}';
+    }
+}
@@ -0,0 +1,47 @@
+package ch.unil.softarch.luxurycarrental.domain.pipeline;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+
+/**
+ * Outcome of one {@link BookingRequest} processed by a {@link BookingPipeline}.
+ */
+public final class BookingResult {
+
+    public enum Outcome {
+        CONFIRMED,    // Reserved, priced and confirmed
+        INVALID,      // Rejected by validation, nothing was reserved
+        UNAVAILABLE,  // Another booking holds the car for overlapping dates
+        FAILED,       // Pricing or confirmation failed; the reservation was released
+        OVERLOADED    // Not admitted before the timeout
+    }
+
+    private final Outcome outcome;
+    private final Booking booking;     // Null for INVALID and OVERLOADED
+    private final String message;      // Reason of a rejection or failure
+    private final long latencyNanos;   // From submission to completion, including admission
+
+    BookingResult(Outcome outcome, Booking booking, String message, long latencyNanos) {
+        this.outcome = outcome;
+        this.booking = booking;
+        this.message = message;
+        this.latencyNanos = latencyNanos;
+    }
+
+    public Outcome getOutcome() { return outcome; }
+
+    public boolean isConfirmed() { return outcome == Outcome.CONFIRMED; }
+
+    public Booking getBooking() { return booking; }
+
+    public String getMessage() { return message; }
+
+    public long getLatencyNanos() { return latencyNanos; }
+
+    @Override
+    public String toString() {
+        return "BookingResult{outcome=" + outcome
+                + ", booking=" + (booking != null ? booking.getBookingId() : "null")
+                + (message != null ? ", message='" + message + '\'' : "")
+                + ", latencyNanos=" + latencyNanos + '}';
+    }
+}
@@ -0,0 +1,34 @@
+package ch.unil.softarch.luxurycarrental.domain.pricing;
+
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+/**
+ * Price of renting one car for a date range, as computed by {@link PricingEngine}.
+ */
+public final class PriceQuote {
+
+    private final int days;             // Number of rental days
+    private final Money totalCost;     // Rental price after discounts
+    private final Money depositAmount; // Deposit taken from the car
+
+    public PriceQuote(int days, Money totalCost, Money depositAmount) {
+        this.days = days;
+        this.totalCost = totalCost;
+        this.depositAmount = depositAmount;
+    }
+
+    public int getDays() { return days; }
+
+    public Money getTotalCost() { return totalCost; }
+
+    public Money getDepositAmount() { return depositAmount; }
+
+    @Override
+    public String toString() {
+        return "PriceQuote{" +
+                "days=" + days +
+                ", totalCost=" + totalCost +
+                ", depositAmount=" + depositAmount +
+                '}';
+    }
+}
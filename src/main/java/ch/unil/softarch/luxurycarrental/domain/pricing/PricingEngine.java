@@ -0,0 +1,216 @@
+package ch.unil.softarch.luxurycarrental.domain.pricing;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.metrics.DomainMetrics;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Quotes rental prices from {@link PricingRules} compiled into per-car price tables.
+ * <p>
+ * The engine covers a fixed horizon of days. Day multipliers are evaluated once for
+ * the whole horizon; the first quote for a car then builds a prefix-sum table of its
+ * daily prices in minor units, so the price of any date range inside the horizon is the
+ * difference of two table entries. Tables are cached per {@link Car#getId()} and
+ * rebuilt automatically when the car's daily price, type or type category changes.
+ * </p>
+ * <p>
+ * The rules are copied when the engine is created; later edits to the
+ * {@link PricingRules} instance require a new engine.
+ * </p>
+ * <p>
+ * Date ranges are half-open {@code [start, end)}: the number of rental days is
+ * {@code end - start}.
+ * </p>
+ */
+public class PricingEngine {
+
+    /**
+     * Prefix sums of one car's daily prices, in minor units of the price's currency.
+     * {@code prefix[i]} is the price of the first {@code i} days of the horizon.
+     */
+    private static final class PriceTable {
+        final Money dailyRentalPrice;
+        final UUID carTypeId;
+        final String category;
+        final long[] prefix;
+
+        PriceTable(Money dailyRentalPrice, UUID carTypeId, String category, long[] prefix) {
+            this.dailyRentalPrice = dailyRentalPrice;
+            this.carTypeId = carTypeId;
+            this.category = category;
+            this.prefix = prefix;
+        }
+
+        Money price(int from, int to, double discount) {
+            long total = prefix[to] - prefix[from];
+            return Money.ofMinor(Math.round(total * (1.0 - discount)), dailyRentalPrice.getCurrency());
+        }
+    }
+
+    private final PricingRules rules;
+    private final LocalDate horizonStart;
+    private final int firstDay;
+    private final double[] dayMultipliers;   // Horizon day -> season x weekend multiplier
+    private final double[] discountByLength; // Rental days -> discount rate
+    private final ConcurrentMap<UUID, PriceTable> tables = new ConcurrentHashMap<>();
+    private volatile DomainMetrics metrics;  // Optional, times quote
+
+    /**
+     * @param rules        the rules to compile
+     * @param horizonStart first day that can be quoted
+     * @param horizonDays  number of quotable days
+     */
+    public PricingEngine(PricingRules rules, LocalDate horizonStart, int horizonDays) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("horizonDays must be positive: " + horizonDays);
+        }
+        if (horizonStart == null) {
+            throw new IllegalArgumentException("horizonStart is required");
+        }
+        this.rules = Objects.requireNonNull(rules, "rules").copy();
+        this.horizonStart = horizonStart;
+        this.firstDay = EpochDays.of(horizonStart);
+        this.dayMultipliers = new double[horizonDays];
+        for (int i = 0; i < horizonDays; i++) {
+            dayMultipliers[i] = rules.dayMultiplier(horizonStart.plusDays(i));
+        }
+        this.discountByLength = new double[horizonDays + 1];
+        for (int days = 0; days <= horizonDays; days++) {
+            discountByLength[days] = rules.discountFor(days);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Quotes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Quotes renting the car for {@code [start, end)}.
+     *
+     * @throws IllegalArgumentException if the range is empty or outside the horizon
+     */
+    public PriceQuote quote(Car car, LocalDate start, LocalDate end) {
+        DomainMetrics metrics = this.metrics;
+        long started = metrics == null ? 0L : System.nanoTime();
+        int from = offset(start);
+        int to = offset(end);
+        checkRange(from, to, start, end);
+        int days = to - from;
+        PriceQuote quote = new PriceQuote(days, table(car).price(from, to, discountByLength[days]), car.getDepositAmount());
+        if (metrics != null) {
+            metrics.priceQuoted(DomainMetrics.categoryOf(car), System.nanoTime() - started);
+        }
+        return quote;
+    }
+
+    /**
+     * Quotes the same date range for many cars in one pass.
+     *
+     * @return total costs, in the order of {@code cars}
+     */
+    public Money[] quoteAll(List<Car> cars, LocalDate start, LocalDate end) {
+        int from = offset(start);
+        int to = offset(end);
+        checkRange(from, to, start, end);
+        double discount = discountByLength[to - from];
+        Money[] totals = new Money[cars.size()];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = table(cars.get(i)).price(from, to, discount);
+        }
+        return totals;
+    }
+
+    /**
+     * Sets the booking's {@code totalCost} and {@code depositAmount} from a quote for its car and dates.
+     *
+     * @return the applied quote
+     */
+    public PriceQuote price(Booking booking) {
+        PriceQuote quote = quote(booking.getCar(), booking.getStartDate(), booking.getEndDate());
+        booking.setTotalCost(quote.getTotalCost());
+        booking.setDepositAmount(quote.getDepositAmount());
+        return quote;
+    }
+
+    // -------------------------------------------------------------------------
+    // Cache management
+    // -------------------------------------------------------------------------
+
+    public void invalidate(UUID carId) {
+        tables.remove(carId);
+    }
+
+    public void invalidateAll() {
+        tables.clear();
+    }
+
+    /**
+     * Reports the duration of {@link #quote} per car category to the metrics, or stops when null.
+     */
+    public void setMetrics(DomainMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public LocalDate getHorizonStart() { return horizonStart; }
+
+    public LocalDate getHorizonEnd() { return horizonStart.plusDays(dayMultipliers.length); }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private PriceTable table(Car car) {
+        CarType carType = car.getCarType();
+        UUID carTypeId = carType != null ? carType.getId() : null;
+        String category = carType != null ? carType.getCategory() : null;
+        if (car.getId() == null) {
+            return compile(car, carTypeId, category);  // Transient car: nothing to cache it under
+        }
+        PriceTable table = tables.get(car.getId());
+        if (table == null || !table.dailyRentalPrice.equals(car.getDailyRentalPrice())
+                || !Objects.equals(table.carTypeId, carTypeId) || !Objects.equals(table.category, category)) {
+            table = compile(car, carTypeId, category);
+            tables.put(car.getId(), table);
+        }
+        return table;
+    }
+
+    private PriceTable compile(Car car, UUID carTypeId, String category) {
+        double base = car.getDailyRentalPrice().getMinorUnits() * rules.categoryMultiplier(category);
+        long[] prefix = new long[dayMultipliers.length + 1];
+        for (int i = 0; i < dayMultipliers.length; i++) {
+            prefix[i + 1] = prefix[i] + Math.round(base * dayMultipliers[i]);
+        }
+        return new PriceTable(car.getDailyRentalPrice(), carTypeId, category, prefix);
+    }
+
+    private int offset(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        try {
+            return Math.subtractExact(EpochDays.of(date), firstDay);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Date " + date + " is outside the pricing horizon", e);
+        }
+    }
+
+    private void checkRange(int from, int to, LocalDate start, LocalDate end) {
+        if (to <= from) {
+            throw new IllegalArgumentException("End date must be after start date: " + start + " / " + end);
+        }
+        if (from < 0 || to > dayMultipliers.length) {
+            throw new IllegalArgumentException("Range " + start + " / " + end + " is outside the pricing horizon "
+                    + horizonStart + " / " + getHorizonEnd());
+        }
+    }
+}
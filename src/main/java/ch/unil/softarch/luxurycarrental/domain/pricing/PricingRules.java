@@ -0,0 +1,155 @@
+package ch.unil.softarch.luxurycarrental.domain.pricing;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Rule set applied on top of {@code Car.dailyRentalPrice}.
+ * <p>
+ * Day rules (seasons, weekends) and category surcharges are multipliers applied to
+ * each rental day; they are compiled by {@link PricingEngine} into per-day price
+ * tables. Long-rental discounts depend on the rental length only and are applied
+ * to the total of a quote.
+ * </p>
+ * <pre>
+ * PricingRules rules = new PricingRules()
+ *         .season(MonthDay.of(7, 1), MonthDay.of(8, 31), 1.25)
+ *         .weekendMultiplier(1.10)
+ *         .categorySurcharge("Sport", 1.15)
+ *         .longRentalDiscount(7, 0.10);
+ * </pre>
+ */
+public class PricingRules {
+
+    /**
+     * Recurring yearly period, inclusive on both ends; may wrap around New Year.
+     */
+    private static final class Season {
+        final MonthDay from;
+        final MonthDay to;
+        final double multiplier;
+
+        Season(MonthDay from, MonthDay to, double multiplier) {
+            this.from = from;
+            this.to = to;
+            this.multiplier = multiplier;
+        }
+
+        boolean contains(MonthDay day) {
+            return from.isAfter(to)
+                    ? !day.isBefore(from) || !day.isAfter(to)
+                    : !day.isBefore(from) && !day.isAfter(to);
+        }
+    }
+
+    private final List<Season> seasons = new ArrayList<>();
+    private double weekendMultiplier = 1.0;
+    private final Map<String, Double> categorySurcharges = new HashMap<>();
+    private final NavigableMap<Integer, Double> discounts = new TreeMap<>();  // Minimum days -> rate
+
+    // -------------------------------------------------------------------------
+    // Rules
+    // -------------------------------------------------------------------------
+
+    /**
+     * Multiplies the daily price for every day between {@code from} and {@code to} (inclusive), each year.
+     * Overlapping seasons multiply.
+     */
+    public PricingRules season(MonthDay from, MonthDay to, double multiplier) {
+        seasons.add(new Season(from, to, positive(multiplier)));
+        return this;
+    }
+
+    /**
+     * Multiplies the daily price on Saturdays and Sundays.
+     */
+    public PricingRules weekendMultiplier(double multiplier) {
+        this.weekendMultiplier = positive(multiplier);
+        return this;
+    }
+
+    /**
+     * Multiplies the daily price of cars whose {@code CarType.category} matches (case-insensitive).
+     */
+    public PricingRules categorySurcharge(String category, double multiplier) {
+        categorySurcharges.put(key(category), positive(multiplier));
+        return this;
+    }
+
+    /**
+     * Grants {@code rate} (e.g. 0.10 for 10 %) off rentals of at least {@code minDays} days.
+     * When several tiers apply, the one with the largest minimum wins.
+     */
+    public PricingRules longRentalDiscount(int minDays, double rate) {
+        if (minDays <= 0 || rate < 0.0 || rate >= 1.0) {
+            throw new IllegalArgumentException("Invalid discount tier: " + minDays + " days / " + rate);
+        }
+        discounts.put(minDays, rate);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Evaluation (used when compiling price tables)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Combined season and weekend multiplier for one calendar day.
+     */
+    double dayMultiplier(LocalDate date) {
+        double multiplier = 1.0;
+        MonthDay monthDay = MonthDay.from(date);
+        for (Season season : seasons) {
+            if (season.contains(monthDay)) {
+                multiplier *= season.multiplier;
+            }
+        }
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            multiplier *= weekendMultiplier;
+        }
+        return multiplier;
+    }
+
+    double categoryMultiplier(String category) {
+        return category == null ? 1.0 : categorySurcharges.getOrDefault(key(category), 1.0);
+    }
+
+    /**
+     * Discount rate for a rental of the given length.
+     */
+    double discountFor(int days) {
+        Map.Entry<Integer, Double> tier = discounts.floorEntry(days);
+        return tier == null ? 0.0 : tier.getValue();
+    }
+
+    /**
+     * Independent copy, taken by the engine when it compiles the rules.
+     */
+    PricingRules copy() {
+        PricingRules copy = new PricingRules();
+        copy.seasons.addAll(seasons);
+        copy.weekendMultiplier = weekendMultiplier;
+        copy.categorySurcharges.putAll(categorySurcharges);
+        copy.discounts.putAll(discounts);
+        return copy;
+    }
+
+    private static String key(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static double positive(double multiplier) {
+        if (!(multiplier > 0.0)) {
+            throw new IllegalArgumentException("Multiplier must be positive: " + multiplier);
+        }
+        return multiplier;
+    }
+}
@@ -0,0 +1,231 @@
+package ch.unil.softarch.luxurycarrental.domain.registry;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Admin;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory unique indexes over the natural keys of cars, customers and admins.
+ * <p>
+ * Check-in desks can test a licence plate, VIN, email, driving licence or username
+ * with {@link #isTaken} or resolve it with {@link #ownerOf} in O(1), instead of
+ * querying the database and learning about a duplicate only on commit. Keys are
+ * compared in their {@link UniqueKey#normalize normalized} form.
+ * </p>
+ * <p>
+ * {@code register} claims all keys of an entity with concurrent insert-if-absent,
+ * so of two threads registering the same plate exactly one wins. If one key of an
+ * entity is taken, the keys claimed before it are released again and nothing
+ * changes. Registering an entity again after editing it moves its claims to the
+ * new values.
+ * </p>
+ * <p>
+ * {@link #rebuild} loads a bulk snapshot, e.g. at startup, and replaces the index
+ * contents at once; claims made while it runs are lost.
+ * </p>
+ */
+public class UniqueIndex {
+
+    private static final UniqueKey[] CAR_KEYS = {UniqueKey.CAR_LICENSE_PLATE, UniqueKey.CAR_VIN};
+    private static final UniqueKey[] CUSTOMER_KEYS = {UniqueKey.CUSTOMER_EMAIL, UniqueKey.CUSTOMER_DRIVING_LICENSE};
+    private static final UniqueKey[] ADMIN_KEYS = {UniqueKey.ADMIN_USERNAME, UniqueKey.ADMIN_EMAIL};
+
+    /**
+     * Claims of one unique key, in both directions.
+     */
+    private static final class Claims {
+        final ConcurrentHashMap<String, UUID> owners = new ConcurrentHashMap<>();  // Normalized key -> entity ID
+        final ConcurrentHashMap<UUID, String> keys = new ConcurrentHashMap<>();    // Entity ID -> normalized key
+    }
+
+    private volatile Claims[] claims = newClaims();
+
+    // -------------------------------------------------------------------------
+    // Registration
+    // -------------------------------------------------------------------------
+
+    /**
+     * Claims the licence plate and VIN of the car.
+     *
+     * @throws IllegalArgumentException if the car has no ID
+     * @throws IllegalStateException    if another car already uses one of the keys
+     */
+    public void register(Car car) {
+        claim(car.getId(), CAR_KEYS, car.getLicensePlate(), car.getVin());
+    }
+
+    /**
+     * Claims the email and driving licence number of the customer.
+     *
+     * @throws IllegalArgumentException if the customer has no ID
+     * @throws IllegalStateException    if another customer already uses one of the keys
+     */
+    public void register(Customer customer) {
+        claim(customer.getId(), CUSTOMER_KEYS, customer.getEmail(), customer.getDrivingLicenseNumber());
+    }
+
+    /**
+     * Claims the username and email of the admin.
+     *
+     * @throws IllegalArgumentException if the admin has no ID
+     * @throws IllegalStateException    if another admin already uses one of the keys
+     */
+    public void register(Admin admin) {
+        claim(admin.getId(), ADMIN_KEYS, admin.getUsername(), admin.getEmail());
+    }
+
+    /**
+     * Releases the keys of a deleted car.
+     */
+    public void unregister(Car car) {
+        release(car.getId(), CAR_KEYS);
+    }
+
+    public void unregister(Customer customer) {
+        release(customer.getId(), CUSTOMER_KEYS);
+    }
+
+    public void unregister(Admin admin) {
+        release(admin.getId(), ADMIN_KEYS);
+    }
+
+    /**
+     * Replaces the contents of the index with the given snapshot.
+     * <p>
+     * Entities without an ID are ignored. When two entities share a key, the first
+     * one keeps it and the other is reported; its remaining keys are still indexed.
+     * </p>
+     *
+     * @return the duplicates found in the snapshot
+     */
+    public List<UniqueViolation> rebuild(Collection<Car> cars, Collection<Customer> customers,
+                                         Collection<Admin> admins) {
+        Claims[] rebuilt = newClaims();
+        List<UniqueViolation> violations = new ArrayList<>();
+        for (Car car : cars) {
+            load(rebuilt, car.getId(), CAR_KEYS, violations, car.getLicensePlate(), car.getVin());
+        }
+        for (Customer customer : customers) {
+            load(rebuilt, customer.getId(), CUSTOMER_KEYS, violations,
+                    customer.getEmail(), customer.getDrivingLicenseNumber());
+        }
+        for (Admin admin : admins) {
+            load(rebuilt, admin.getId(), ADMIN_KEYS, violations, admin.getUsername(), admin.getEmail());
+        }
+        claims = rebuilt;
+        return violations;
+    }
+
+    // -------------------------------------------------------------------------
+    // Lookups
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the ID of the entity using the key, or null if it is free.
+     */
+    public UUID ownerOf(UniqueKey key, String value) {
+        String normalized = key.normalize(value);
+        return normalized == null ? null : claims[key.ordinal()].owners.get(normalized);
+    }
+
+    public boolean isTaken(UniqueKey key, String value) {
+        return ownerOf(key, value) != null;
+    }
+
+    /**
+     * Returns true if the key is used by an entity other than {@code entityId},
+     * e.g. to validate an edit form.
+     */
+    public boolean isTakenByOther(UniqueKey key, String value, UUID entityId) {
+        UUID owner = ownerOf(key, value);
+        return owner != null && !owner.equals(entityId);
+    }
+
+    /**
+     * Number of values indexed for the key.
+     */
+    public int size(UniqueKey key) {
+        return claims[key.ordinal()].owners.size();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private void claim(UUID id, UniqueKey[] keys, String... values) {
+        if (id == null) {
+            throw new IllegalArgumentException("Entity must have an ID before its keys can be indexed");
+        }
+        Claims[] current = claims;
+        String[] normalized = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            normalized[i] = keys[i].normalize(values[i]);
+            if (normalized[i] == null) {
+                continue;
+            }
+            UUID owner = current[keys[i].ordinal()].owners.putIfAbsent(normalized[i], id);
+            if (owner != null && !owner.equals(id)) {
+                // Give back the keys this call claimed; keep those the entity already held
+                for (int j = 0; j < i; j++) {
+                    if (normalized[j] != null && !normalized[j].equals(current[keys[j].ordinal()].keys.get(id))) {
+                        current[keys[j].ordinal()].owners.remove(normalized[j], id);
+                    }
+                }
+                throw new IllegalStateException(keys[i].getLabel() + " " + values[i] + " is already used by " + owner);
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            Claims keyClaims = current[keys[i].ordinal()];
+            String previous = normalized[i] == null ? keyClaims.keys.remove(id) : keyClaims.keys.put(id, normalized[i]);
+            if (previous != null && !previous.equals(normalized[i])) {
+                keyClaims.owners.remove(previous, id);
+            }
+        }
+    }
+
+    private void release(UUID id, UniqueKey[] keys) {
+        if (id == null) {
+            return;
+        }
+        Claims[] current = claims;
+        for (UniqueKey key : keys) {
+            String previous = current[key.ordinal()].keys.remove(id);
+            if (previous != null) {
+                current[key.ordinal()].owners.remove(previous, id);
+            }
+        }
+    }
+
+    private static void load(Claims[] target, UUID id, UniqueKey[] keys, List<UniqueViolation> violations,
+                             String... values) {
+        if (id == null) {
+            return;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            String normalized = keys[i].normalize(values[i]);
+            if (normalized == null) {
+                continue;
+            }
+            Claims keyClaims = target[keys[i].ordinal()];
+            UUID owner = keyClaims.owners.putIfAbsent(normalized, id);
+            if (owner == null || owner.equals(id)) {
+                keyClaims.keys.put(id, normalized);
+            } else {
+                violations.add(new UniqueViolation(keys[i], normalized, owner, id));
+            }
+        }
+    }
+
+    private static Claims[] newClaims() {
+        Claims[] claims = new Claims[UniqueKey.values().length];
+        for (int i = 0; i < claims.length; i++) {
+            claims[i] = new Claims();
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,56 @@
+package ch.unil.softarch.luxurycarrental.domain.registry;
+
+import java.util.Locale;
+
+/**
+ * Natural keys declared {@code unique} on the entities, with the normalization that
+ * decides when two spellings are the same key.
+ */
+public enum UniqueKey {
+    CAR_LICENSE_PLATE("licence plate", true),       // "vd 123 456" = "VD123456"
+    CAR_VIN("VIN", true),
+    CUSTOMER_EMAIL("email", false),                 // Case-folded, surrounding spaces trimmed
+    CUSTOMER_DRIVING_LICENSE("driving licence", true),
+    ADMIN_USERNAME("username", false),
+    ADMIN_EMAIL("email", false);
+
+    private final String label;
+    private final boolean stripSpaces;  // Whitespace inside the key is insignificant
+
+    UniqueKey(String label, boolean stripSpaces) {
+        this.label = label;
+        this.stripSpaces = stripSpaces;
+    }
+
+    /**
+     * Returns the canonical form of a key, or null if the value is null or blank.
+     * <p>
+     * Plates, VINs and licence numbers lose all whitespace and are upper-cased;
+     * emails and usernames are trimmed and lower-cased.
+     * </p>
+     */
+    public String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String key;
+        if (stripSpaces) {
+            StringBuilder stripped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (!Character.isWhitespace(c)) {
+                    stripped.append(c);
+                }
+            }
+            key = stripped.toString().toUpperCase(Locale.ROOT);
+        } else {
+            key = value.trim().toLowerCase(Locale.ROOT);
+        }
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Human readable name of the key, for error messages.
+     */
+    public String getLabel() { return label; }
+}
@@ -0,0 +1,35 @@
+package ch.unil.softarch.luxurycarrental.domain.registry;
+
+import java.util.UUID;
+
+/**
+ * Entity of a snapshot whose natural key was already used by another entity,
+ * reported by {@link UniqueIndex#rebuild}.
+ */
+public final class UniqueViolation {
+
+    private final UniqueKey key;
+    private final String value;     // Normalized key
+    private final UUID owner;       // Entity that keeps the key
+    private final UUID duplicate;   // Entity that was not indexed under the key
+
+    UniqueViolation(UniqueKey key, String value, UUID owner, UUID duplicate) {
+        this.key = key;
+        this.value = value;
+        this.owner = owner;
+        this.duplicate = duplicate;
+    }
+
+    public UniqueKey getKey() { return key; }
+
+    public String getValue() { return value; }
+
+    public UUID getOwner() { return owner; }
+
+    public UUID getDuplicate() { return duplicate; }
+
+    @Override
+    public String toString() {
+        return key.getLabel() + " " + value + " of " + duplicate + " is already used by " + owner;
+    }
+}
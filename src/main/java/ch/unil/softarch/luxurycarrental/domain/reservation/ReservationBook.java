@@ -0,0 +1,295 @@
+package ch.unil.softarch.luxurycarrental.domain.reservation;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Guards cars against double bookings without a global lock.
+ * <p>
+ * Every car owns an immutable {@link Timeline} of non-overlapping reservations
+ * held in an {@link AtomicReference}. Reserving builds a new timeline and installs
+ * it with compare-and-set, retrying if another thread won the race for the same
+ * car. Attempts for different cars never contend, and for any car two reservations
+ * that overlap can never both succeed.
+ * </p>
+ * <p>
+ * Callers should move a {@link Booking} to {@code CONFIRMED} only after
+ * {@link #reserve(Booking)} returned true, and {@link #release(Booking)} it when
+ * the booking is cancelled, rejected or expires. Date ranges are half-open
+ * {@code [startDate, endDate)}.
+ * </p>
+ * <p>
+ * Reservations stay in their timeline after their end date until
+ * {@link #purgeBefore(LocalDate)} drops them; call it periodically, e.g. daily, so
+ * every reserve does not copy the car's whole history.
+ * </p>
+ */
+public class ReservationBook {
+
+    /**
+     * Immutable, start-ordered list of non-overlapping reservations of one car.
+     * Because ranges never overlap, end days are sorted as well.
+     */
+    private static final class Timeline {
+        static final Timeline EMPTY = new Timeline(new int[0], new int[0], new UUID[0]);
+
+        final int[] starts;
+        final int[] ends;
+        final UUID[] bookingIds;
+
+        Timeline(int[] starts, int[] ends, UUID[] bookingIds) {
+            this.starts = starts;
+            this.ends = ends;
+            this.bookingIds = bookingIds;
+        }
+
+        int size() { return starts.length; }
+
+        /** Index of the first reservation ending after {@code day}. */
+        int firstEndingAfter(int day) {
+            int low = 0;
+            int high = ends.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ends[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** Index of the reservation overlapping {@code [start, end)}, or -1. */
+        int findOverlap(int start, int end) {
+            int i = firstEndingAfter(start);
+            return i < starts.length && starts[i] < end ? i : -1;
+        }
+
+        int indexOf(UUID bookingId) {
+            for (int i = 0; i < bookingIds.length; i++) {
+                if (bookingIds[i].equals(bookingId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Timeline insert(int start, int end, UUID bookingId) {
+            int at = firstEndingAfter(start);
+            int n = size();
+            int[] newStarts = new int[n + 1];
+            int[] newEnds = new int[n + 1];
+            UUID[] newIds = new UUID[n + 1];
+            System.arraycopy(starts, 0, newStarts, 0, at);
+            System.arraycopy(ends, 0, newEnds, 0, at);
+            System.arraycopy(bookingIds, 0, newIds, 0, at);
+            newStarts[at] = start;
+            newEnds[at] = end;
+            newIds[at] = bookingId;
+            System.arraycopy(starts, at, newStarts, at + 1, n - at);
+            System.arraycopy(ends, at, newEnds, at + 1, n - at);
+            System.arraycopy(bookingIds, at, newIds, at + 1, n - at);
+            return new Timeline(newStarts, newEnds, newIds);
+        }
+
+        Timeline remove(int at) {
+            int n = size();
+            if (n == 1) {
+                return EMPTY;
+            }
+            int[] newStarts = Arrays.copyOf(starts, n - 1);
+            int[] newEnds = Arrays.copyOf(ends, n - 1);
+            UUID[] newIds = Arrays.copyOf(bookingIds, n - 1);
+            System.arraycopy(starts, at + 1, newStarts, at, n - at - 1);
+            System.arraycopy(ends, at + 1, newEnds, at, n - at - 1);
+            System.arraycopy(bookingIds, at + 1, newIds, at, n - at - 1);
+            return new Timeline(newStarts, newEnds, newIds);
+        }
+
+        /** Copy without the first {@code count} reservations. */
+        Timeline dropFirst(int count) {
+            int n = size();
+            if (count == n) {
+                return EMPTY;
+            }
+            return new Timeline(Arrays.copyOfRange(starts, count, n), Arrays.copyOfRange(ends, count, n),
+                    Arrays.copyOfRange(bookingIds, count, n));
+        }
+    }
+
+    private final ConcurrentMap<UUID, AtomicReference<Timeline>> timelines = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------------
+    // Reservations
+    // -------------------------------------------------------------------------
+
+    /**
+     * Claims the booking's car for its dates.
+     *
+     * @return true if the car is now reserved for this booking (also when it already was),
+     *         false if another reservation overlaps
+     * @throws IllegalArgumentException if the booking lacks an ID, car or valid dates,
+     *                                  or its status no longer blocks the car
+     */
+    public boolean reserve(Booking booking) {
+        if (booking.getBookingStatus() != null && !booking.getBookingStatus().blocksCar()) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId()
+                    + " is " + booking.getBookingStatus() + " and cannot reserve a car");
+        }
+        return reserve(carId(booking), booking.getBookingId(), booking.getStartDate(), booking.getEndDate());
+    }
+
+    /**
+     * Claims a car for {@code [start, end)} on behalf of a booking.
+     * <p>
+     * A booking holds at most one reservation per car. If it already holds one, only
+     * the identical range is accepted; use {@link #reschedule} to move it.
+     * </p>
+     *
+     * @return true if the car is now reserved for this booking, false if another reservation
+     *         overlaps or the booking already holds the car for other dates
+     */
+    public boolean reserve(UUID carId, UUID bookingId, LocalDate start, LocalDate end) {
+        if (carId == null || bookingId == null) {
+            throw new IllegalArgumentException("Car and booking IDs are required");
+        }
+        int from = EpochDays.startOf(start, end);
+        int to = EpochDays.of(end);
+        AtomicReference<Timeline> ref = timelines.computeIfAbsent(carId, id -> new AtomicReference<>(Timeline.EMPTY));
+        while (true) {
+            Timeline current = ref.get();
+            int held = current.indexOf(bookingId);
+            if (held >= 0) {
+                // Retrying the exact same reservation is not a conflict
+                return current.starts[held] == from && current.ends[held] == to;
+            }
+            if (current.findOverlap(from, to) >= 0) {
+                return false;
+            }
+            if (ref.compareAndSet(current, current.insert(from, to, bookingId))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Atomically moves an existing reservation to new dates.
+     *
+     * @return true if the reservation now covers the new dates; false if they conflict
+     *         with another reservation (the old dates are kept) or the booking was not reserved
+     */
+    public boolean reschedule(UUID carId, UUID bookingId, LocalDate start, LocalDate end) {
+        int from = EpochDays.startOf(start, end);
+        int to = EpochDays.of(end);
+        AtomicReference<Timeline> ref = timelines.get(carId);
+        if (ref == null) {
+            return false;
+        }
+        while (true) {
+            Timeline current = ref.get();
+            int at = current.indexOf(bookingId);
+            if (at < 0) {
+                return false;
+            }
+            Timeline without = current.remove(at);
+            if (without.findOverlap(from, to) >= 0) {
+                return false;
+            }
+            if (ref.compareAndSet(current, without.insert(from, to, bookingId))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the booking's reservation, e.g. after cancellation.
+     *
+     * @return true if a reservation was released
+     */
+    public boolean release(Booking booking) {
+        return release(carId(booking), booking.getBookingId());
+    }
+
+    public boolean release(UUID carId, UUID bookingId) {
+        AtomicReference<Timeline> ref = timelines.get(carId);
+        if (ref == null) {
+            return false;
+        }
+        while (true) {
+            Timeline current = ref.get();
+            int at = current.indexOf(bookingId);
+            if (at < 0) {
+                return false;
+            }
+            if (ref.compareAndSet(current, current.remove(at))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops every reservation that ended on or before {@code day}, i.e. whose car is
+     * free again from {@code day} on.
+     *
+     * @return number of reservations dropped
+     */
+    public int purgeBefore(LocalDate day) {
+        if (day == null) {
+            throw new IllegalArgumentException("day is required");
+        }
+        int cutoff = EpochDays.of(day);
+        int purged = 0;
+        for (AtomicReference<Timeline> ref : timelines.values()) {
+            while (true) {
+                Timeline current = ref.get();
+                int ended = current.firstEndingAfter(cutoff);
+                if (ended == 0) {
+                    break;
+                }
+                if (ref.compareAndSet(current, current.dropFirst(ended))) {
+                    purged += ended;
+                    break;
+                }
+            }
+        }
+        return purged;
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    public boolean isFree(UUID carId, LocalDate start, LocalDate end) {
+        int from = EpochDays.startOf(start, end);
+        AtomicReference<Timeline> ref = timelines.get(carId);
+        return ref == null || ref.get().findOverlap(from, EpochDays.of(end)) < 0;
+    }
+
+    /**
+     * Number of reservations currently held for the car.
+     */
+    public int reservationCount(UUID carId) {
+        AtomicReference<Timeline> ref = timelines.get(carId);
+        return ref == null ? 0 : ref.get().size();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private static UUID carId(Booking booking) {
+        Car car = booking.getCar();
+        if (car == null || car.getId() == null) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " is not linked to a persisted car");
+        }
+        return car.getId();
+    }
+}
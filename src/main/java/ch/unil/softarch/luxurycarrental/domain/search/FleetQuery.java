@@ -0,0 +1,141 @@
+package ch.unil.softarch.luxurycarrental.domain.search;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Search criteria for {@link FleetSearchIndex}.
+ * <p>
+ * Every criterion is optional; unset criteria match all cars. Multiple values for
+ * the same attribute are OR-ed (e.g. {@code ALL_WHEEL_DRIVE} or {@code ELECTRIC_AWD}),
+ * different attributes are AND-ed.
+ * </p>
+ * <pre>
+ * FleetQuery query = new FleetQuery()
+ *         .status(CarStatus.AVAILABLE)
+ *         .driveTypes(DriveType.ALL_WHEEL_DRIVE, DriveType.ELECTRIC_AWD)
+ *         .transmissions(Transmission.AUTOMATIC)
+ *         .minSeats(4)
+ *         .window(friday, monday);
+ * </pre>
+ */
+public class FleetQuery {
+
+    private EnumSet<CarStatus> statuses;
+    private EnumSet<DriveType> driveTypes;
+    private EnumSet<Transmission> transmissions;
+    private int minSeats = Integer.MIN_VALUE;
+    private int maxSeats = Integer.MAX_VALUE;
+    private Set<String> categories;
+    private Set<String> brands;
+    private LocalDate from;  // First rental day (inclusive)
+    private LocalDate to;    // Return day (exclusive)
+
+    // -------------------------------------------------------------------------
+    // Criteria
+    // -------------------------------------------------------------------------
+
+    public FleetQuery status(CarStatus first, CarStatus... rest) {
+        this.statuses = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public FleetQuery driveTypes(DriveType first, DriveType... rest) {
+        this.driveTypes = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public FleetQuery transmissions(Transmission first, Transmission... rest) {
+        this.transmissions = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public FleetQuery minSeats(int minSeats) {
+        this.minSeats = minSeats;
+        return this;
+    }
+
+    public FleetQuery maxSeats(int maxSeats) {
+        this.maxSeats = maxSeats;
+        return this;
+    }
+
+    public FleetQuery categories(String... categories) {
+        this.categories = normalize(categories);
+        return this;
+    }
+
+    public FleetQuery brands(String... brands) {
+        this.brands = normalize(brands);
+        return this;
+    }
+
+    /**
+     * Restricts the result to cars free for the whole rental window {@code [from, to)}.
+     */
+    public FleetQuery window(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("Window end must be after its start: " + from + " / " + to);
+        }
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Getters
+    // -------------------------------------------------------------------------
+
+    public EnumSet<CarStatus> getStatuses() { return statuses; }
+
+    public EnumSet<DriveType> getDriveTypes() { return driveTypes; }
+
+    public EnumSet<Transmission> getTransmissions() { return transmissions; }
+
+    public int getMinSeats() { return minSeats; }
+
+    public int getMaxSeats() { return maxSeats; }
+
+    public Set<String> getCategories() { return categories; }
+
+    public Set<String> getBrands() { return brands; }
+
+    public LocalDate getFrom() { return from; }
+
+    public LocalDate getTo() { return to; }
+
+    /**
+     * Normalized form used for category and brand keys (case-insensitive, trimmed).
+     */
+    static String key(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(String... values) {
+        Set<String> keys = new HashSet<>();
+        Arrays.stream(values).map(FleetQuery::key).forEach(keys::add);
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return "FleetQuery{" +
+                "statuses=" + statuses +
+                ", driveTypes=" + driveTypes +
+                ", transmissions=" + transmissions +
+                ", minSeats=" + minSeats +
+                ", maxSeats=" + maxSeats +
+                ", categories=" + categories +
+                ", brands=" + brands +
+                ", from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
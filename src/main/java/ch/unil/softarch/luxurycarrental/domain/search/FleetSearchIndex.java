@@ -0,0 +1,415 @@
+package ch.unil.softarch.luxurycarrental.domain.search;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index answering multi-attribute fleet searches with a date window.
+ * <p>
+ * Every indexed car gets a dense ordinal; ordinals of removed cars are reused by the
+ * next cars indexed. For each value of {@link CarStatus},
+ * {@link DriveType}, {@link Transmission}, seat count, category and brand the index
+ * keeps a bitmap of the ordinals having that value, and for every epoch day a
+ * bitmap of the cars occupied by an active booking. A search is then a few bitmap
+ * ORs/ANDs followed by an AND-NOT of the occupied days, without touching a
+ * {@link Car} or lazily loading its {@link CarType}.
+ * </p>
+ * <p>
+ * Bitmaps are plain {@link BitSet}s: with dense ordinals they are as compact as a
+ * roaring container and need no extra dependency.
+ * </p>
+ */
+public class FleetSearchIndex {
+
+    /**
+     * Attribute values currently indexed for a car, so they can be cleared on updates.
+     */
+    private static final class IndexedCar {
+        final UUID id;
+        final CarStatus status;
+        final DriveType driveType;
+        final Transmission transmission;
+        final int seats;
+        final String category;
+        final String brand;
+
+        IndexedCar(Car car) {
+            CarType type = car.getCarType();
+            this.id = car.getId();
+            this.status = car.getStatus();
+            this.driveType = type != null ? type.getDriveType() : null;
+            this.transmission = type != null ? type.getTransmission() : null;
+            this.seats = type != null ? type.getSeats() : 0;
+            this.category = type != null ? FleetQuery.key(type.getCategory()) : null;
+            this.brand = type != null ? FleetQuery.key(type.getBrand()) : null;
+        }
+    }
+
+    /**
+     * Occupied day range of an indexed booking.
+     */
+    private static final class BookedDays {
+        final UUID bookingId;
+        final int carOrdinal;
+        final int start;  // Inclusive epoch day
+        final int end;    // Exclusive epoch day
+
+        BookedDays(UUID bookingId, int carOrdinal, int start, int end) {
+            this.bookingId = bookingId;
+            this.carOrdinal = carOrdinal;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<IndexedCar> cars = new ArrayList<>();           // Ordinal -> car (null once removed)
+    private final BitSet allCars = new BitSet();
+    private final BitSet freeOrdinals = new BitSet();                  // Ordinals of removed cars
+
+    private final Map<CarStatus, BitSet> byStatus = new EnumMap<>(CarStatus.class);
+    private final Map<DriveType, BitSet> byDriveType = new EnumMap<>(DriveType.class);
+    private final Map<Transmission, BitSet> byTransmission = new EnumMap<>(Transmission.class);
+    private final NavigableMap<Integer, BitSet> bySeats = new TreeMap<>();
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byBrand = new HashMap<>();
+
+    private final Map<Integer, BitSet> occupiedByDay = new HashMap<>();        // Epoch day -> occupied cars
+    private final Map<UUID, BookedDays> bookings = new HashMap<>();
+    private final Map<Integer, List<BookedDays>> bookingsByCar = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // -------------------------------------------------------------------------
+    // Cars
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds a car or refreshes its attributes after its status or type changed.
+     */
+    public void indexCar(Car car) {
+        if (car.getId() == null) {
+            throw new IllegalArgumentException("Car must have an ID before it can be indexed");
+        }
+        IndexedCar indexed = new IndexedCar(car);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(indexed.id);
+            if (ordinal == null) {
+                ordinal = freeOrdinals.nextSetBit(0);
+                if (ordinal < 0) {
+                    ordinal = cars.size();
+                    cars.add(indexed);
+                } else {
+                    freeOrdinals.clear(ordinal);
+                    cars.set(ordinal, indexed);
+                }
+                ordinals.put(indexed.id, ordinal);
+            } else {
+                clearAttributes(ordinal, cars.get(ordinal));
+                cars.set(ordinal, indexed);
+            }
+            setAttributes(ordinal, indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexCars(Collection<Car> fleet) {
+        fleet.forEach(this::indexCar);
+    }
+
+    /**
+     * Removes a car and its bookings from the index.
+     *
+     * @return true if the car was indexed
+     */
+    public boolean removeCar(UUID carId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(carId);
+            if (ordinal == null) {
+                return false;
+            }
+            clearAttributes(ordinal, cars.get(ordinal));
+            cars.set(ordinal, null);
+            List<BookedDays> carBookings = bookingsByCar.remove(ordinal);
+            if (carBookings != null) {
+                for (BookedDays booked : carBookings) {
+                    bookings.remove(booked.bookingId);
+                    for (int day = booked.start; day < booked.end; day++) {
+                        vacate(day, ordinal);
+                    }
+                }
+            }
+            freeOrdinals.set(ordinal);  // Clean in every bitmap, so the next car can take it
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Bookings
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds or refreshes a booking's occupied days.
+     * <p>
+     * Bookings that no longer block their car are removed; the booking's car must
+     * already be indexed.
+     * </p>
+     */
+    public void indexBooking(Booking booking) {
+        UUID bookingId = booking.getBookingId();
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking must have an ID before it can be indexed");
+        }
+        boolean blocks = booking.getBookingStatus() != null && booking.getBookingStatus().blocksCar();
+        lock.writeLock().lock();
+        try {
+            BookedDays current = bookings.get(bookingId);
+            BookedDays updated = null;
+            if (blocks) {
+                Car car = booking.getCar();
+                Integer ordinal = car != null ? ordinals.get(car.getId()) : null;
+                if (ordinal == null) {
+                    throw new IllegalArgumentException("Car of booking " + bookingId + " is not indexed");
+                }
+                if (booking.getStartDate() == null || booking.getEndDate() == null
+                        || !booking.getEndDate().isAfter(booking.getStartDate())) {
+                    throw new IllegalArgumentException("Booking " + bookingId + " has an invalid date range");
+                }
+                updated = new BookedDays(bookingId, ordinal,
+                        EpochDays.of(booking.getStartDate()), EpochDays.of(booking.getEndDate()));
+            }
+            if (current != null && updated != null && current.carOrdinal == updated.carOrdinal
+                    && current.start == updated.start && current.end == updated.end) {
+                return;
+            }
+            if (current != null) {
+                unlinkBooking(current);
+            }
+            if (updated != null) {
+                bookings.put(bookingId, updated);
+                bookingsByCar.computeIfAbsent(updated.carOrdinal, o -> new ArrayList<>()).add(updated);
+                for (int day = updated.start; day < updated.end; day++) {
+                    occupiedByDay.computeIfAbsent(day, d -> new BitSet()).set(updated.carOrdinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexBookings(Collection<Booking> bookings) {
+        bookings.forEach(this::indexBooking);
+    }
+
+    /**
+     * Removes a booking, e.g. after it was deleted.
+     *
+     * @return true if the booking was indexed
+     */
+    public boolean removeBooking(UUID bookingId) {
+        lock.writeLock().lock();
+        try {
+            BookedDays current = bookings.get(bookingId);
+            if (current == null) {
+                return false;
+            }
+            unlinkBooking(current);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Search
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the IDs of all cars matching the query, in ordinal order.
+     */
+    public List<UUID> search(FleetQuery query) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = evaluate(query);
+            List<UUID> result = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                result.add(cars.get(i).id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cars matching the query without materializing their IDs.
+     */
+    public int count(FleetQuery query) {
+        lock.readLock().lock();
+        try {
+            return evaluate(query).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int carCount() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal helpers
+    // -------------------------------------------------------------------------
+
+    private BitSet evaluate(FleetQuery query) {
+        BitSet result = (BitSet) allCars.clone();
+        if (query.getStatuses() != null) {
+            result.and(union(byStatus, query.getStatuses()));
+        }
+        if (query.getDriveTypes() != null) {
+            result.and(union(byDriveType, query.getDriveTypes()));
+        }
+        if (query.getTransmissions() != null) {
+            result.and(union(byTransmission, query.getTransmissions()));
+        }
+        if (query.getMinSeats() != Integer.MIN_VALUE || query.getMaxSeats() != Integer.MAX_VALUE) {
+            if (query.getMinSeats() > query.getMaxSeats()) {
+                return new BitSet();
+            }
+            NavigableMap<Integer, BitSet> seats =
+                    bySeats.subMap(query.getMinSeats(), true, query.getMaxSeats(), true);
+            result.and(union(seats, seats.keySet()));
+        }
+        if (query.getCategories() != null) {
+            result.and(union(byCategory, query.getCategories()));
+        }
+        if (query.getBrands() != null) {
+            result.and(union(byBrand, query.getBrands()));
+        }
+        if (query.getFrom() != null) {
+            int end = EpochDays.of(query.getTo());
+            for (int day = EpochDays.of(query.getFrom()); day < end && !result.isEmpty(); day++) {
+                BitSet occupied = occupiedByDay.get(day);
+                if (occupied != null) {
+                    result.andNot(occupied);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Collection<K> keys) {
+        BitSet union = new BitSet();
+        for (K key : keys) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        return union;
+    }
+
+    private void setAttributes(int ordinal, IndexedCar car) {
+        allCars.set(ordinal);
+        if (car.status != null) {
+            byStatus.computeIfAbsent(car.status, k -> new BitSet()).set(ordinal);
+        }
+        if (car.driveType != null) {
+            byDriveType.computeIfAbsent(car.driveType, k -> new BitSet()).set(ordinal);
+        }
+        if (car.transmission != null) {
+            byTransmission.computeIfAbsent(car.transmission, k -> new BitSet()).set(ordinal);
+        }
+        bySeats.computeIfAbsent(car.seats, k -> new BitSet()).set(ordinal);
+        if (car.category != null) {
+            byCategory.computeIfAbsent(car.category, k -> new BitSet()).set(ordinal);
+        }
+        if (car.brand != null) {
+            byBrand.computeIfAbsent(car.brand, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void clearAttributes(int ordinal, IndexedCar car) {
+        allCars.clear(ordinal);
+        clear(byStatus, car.status, ordinal);
+        clear(byDriveType, car.driveType, ordinal);
+        clear(byTransmission, car.transmission, ordinal);
+        clear(bySeats, car.seats, ordinal);
+        clear(byCategory, car.category, ordinal);
+        clear(byBrand, car.brand, ordinal);
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        if (key != null) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                bits.clear(ordinal);
+                if (bits.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+
+    private void unlinkBooking(BookedDays removed) {
+        bookings.remove(removed.bookingId);
+        List<BookedDays> carBookings = bookingsByCar.get(removed.carOrdinal);
+        carBookings.remove(removed);
+        if (carBookings.isEmpty()) {
+            bookingsByCar.remove(removed.carOrdinal);
+        }
+        // A day stays occupied if another booking of the same car still covers it
+        for (int day = removed.start; day < removed.end; day++) {
+            boolean stillOccupied = false;
+            for (BookedDays other : carBookings) {
+                if (other.start <= day && day < other.end) {
+                    stillOccupied = true;
+                    break;
+                }
+            }
+            if (!stillOccupied) {
+                vacate(day, removed.carOrdinal);
+            }
+        }
+    }
+
+    /**
+     * Clears the car from the day's bitmap and drops the bitmap once no car occupies the day.
+     */
+    private void vacate(int day, int ordinal) {
+        BitSet occupied = occupiedByDay.get(day);
+        if (occupied != null) {
+            occupied.clear(ordinal);
+            if (occupied.isEmpty()) {
+                occupiedByDay.remove(day);
+            }
+        }
+    }
+}
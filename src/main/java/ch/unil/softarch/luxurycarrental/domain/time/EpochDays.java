@@ -0,0 +1,70 @@
+package ch.unil.softarch.luxurycarrental.domain.time;
+
+import java.time.LocalDate;
+
+/**
+ * Day arithmetic on {@code int} epoch days, the representation used by the date indexes.
+ * <p>
+ * Entities store their dates as {@link LocalDate}, which JPA maps to {@code DATE}
+ * columns natively and whose {@link LocalDate#toEpochDay()} is plain arithmetic. The
+ * indexes convert once, at their boundary, and then compare and subtract
+ * {@code int}s. Ranges are half-open {@code [start, end)}, the end being the return day.
+ * </p>
+ */
+public final class EpochDays {
+
+    /**
+     * Stands for a missing date; sorts before every real day.
+     */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private EpochDays() {
+        // Static helpers
+    }
+
+    /**
+     * @return the epoch day of the date, or {@link #NONE} for null
+     * @throws ArithmeticException if the date lies millions of years away
+     */
+    public static int of(LocalDate date) {
+        return date == null ? NONE : Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * @return the date of the epoch day, or null for {@link #NONE}
+     */
+    public static LocalDate toLocalDate(int day) {
+        return day == NONE ? null : LocalDate.ofEpochDay(day);
+    }
+
+    /**
+     * Validates a rental range and returns the epoch day of its start.
+     *
+     * @throws IllegalArgumentException if a date is missing or the range is empty
+     */
+    public static int startOf(LocalDate start, LocalDate end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("End date must be after start date: " + start + " / " + end);
+        }
+        return of(start);
+    }
+
+    public static boolean overlaps(int start, int end, int otherStart, int otherEnd) {
+        return start < otherEnd && otherStart < end;
+    }
+
+    public static boolean contains(int start, int end, int day) {
+        return day >= start && day < end;
+    }
+
+    /**
+     * Returns true if something expiring on {@code expiryDay} (inclusive), like a driving
+     * licence or an insurance, is still valid on {@code day}. {@link #NONE} never is.
+     */
+    public static boolean validOn(int expiryDay, int day) {
+        return expiryDay != NONE && expiryDay >= day;
+    }
+}
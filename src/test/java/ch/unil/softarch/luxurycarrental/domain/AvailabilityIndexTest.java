@@ -0,0 +1,142 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.availability.DateRange;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link AvailabilityIndex}.
+ */
+class AvailabilityIndexTest {
+
+    private AvailabilityIndex index;
+    private Car car;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex();
+        car = new Car();
+        customer = new Customer();
+    }
+
+    private Booking booking(Car forCar, LocalDate start, LocalDate end, BookingStatus status) {
+        return new Booking(forCar, customer, start, end, Money.ZERO, Money.ZERO, status, PaymentStatus.PENDING);
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2025, 11, dayOfMonth);
+    }
+
+    @Test
+    void testOverlapDetection() {
+        Booking booking = booking(car, day(5), day(10), BookingStatus.CONFIRMED);
+        index.index(booking);
+
+        assertFalse(index.isAvailable(car.getId(), day(7), day(8)));
+        assertFalse(index.isAvailable(car.getId(), day(1), day(6)));
+        assertTrue(index.isAvailable(car.getId(), day(1), day(5)), "Return day of previous rental is free");
+        assertTrue(index.isAvailable(car.getId(), day(10), day(12)), "End date is exclusive");
+        assertEquals(List.of(booking.getBookingId()), index.findOverlapping(car.getId(), day(9), day(20)));
+
+        Car otherCar = new Car();
+        assertTrue(index.isAvailable(otherCar.getId(), day(7), day(8)));
+    }
+
+    @Test
+    void testReleasingStatusesAreIgnored() {
+        index.index(booking(car, day(5), day(10), BookingStatus.CANCELLED));
+        index.index(booking(car, day(5), day(10), BookingStatus.REJECTED));
+        index.index(booking(car, day(5), day(10), BookingStatus.EXPIRED));
+
+        assertEquals(0, index.size());
+        assertTrue(index.isAvailable(car.getId(), day(5), day(10)));
+    }
+
+    @Test
+    void testIncrementalStatusAndDateUpdates() {
+        Booking booking = booking(car, day(5), day(10), BookingStatus.PENDING);
+        index.index(booking);
+        assertFalse(index.isAvailable(car.getId(), day(6), day(7)));
+
+        // Date shift moves the interval
+        booking.setStartDate(day(20));
+        booking.setEndDate(day(22));
+        index.index(booking);
+        assertTrue(index.isAvailable(car.getId(), day(6), day(7)));
+        assertFalse(index.isAvailable(car.getId(), day(21), day(23)));
+
+        // Cancellation releases the car
+        booking.setBookingStatus(BookingStatus.CANCELLED);
+        index.index(booking);
+        assertTrue(index.isAvailable(car.getId(), day(21), day(23)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testNextFreeDateAndFreeSlots() {
+        index.index(booking(car, day(3), day(6), BookingStatus.CONFIRMED));
+        index.index(booking(car, day(5), day(8), BookingStatus.PENDING));
+        index.index(booking(car, day(10), day(12), BookingStatus.CONFIRMED));
+
+        assertEquals(day(1), index.nextFreeDate(car.getId(), day(1), 2));
+        assertEquals(day(12), index.nextFreeDate(car.getId(), day(1), 3));
+        assertEquals(day(12), index.nextFreeDate(car.getId(), day(4), 3));
+        assertEquals(day(8), index.nextFreeDate(car.getId(), day(4), 2));
+
+        List<DateRange> slots = index.freeSlots(car.getId(), day(1), day(15));
+        assertEquals(List.of(
+                new DateRange(day(1), day(3)),
+                new DateRange(day(8), day(10)),
+                new DateRange(day(12), day(15))), slots);
+    }
+
+    @Test
+    void testInvalidRangesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> index.isAvailable(car.getId(), day(5), day(5)));
+        Booking withoutId = new Booking(car, customer, day(1), day(2), Money.ZERO, Money.ZERO,
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        withoutId.setBookingId(null);
+        assertThrows(IllegalArgumentException.class, () -> index.index(withoutId));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(42);
+        List<Booking> active = new ArrayList<>();
+        LocalDate base = day(1);
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = base.plusDays(random.nextInt(300));
+            Booking booking = booking(car, start, start.plusDays(1 + random.nextInt(10)), BookingStatus.CONFIRMED);
+            index.index(booking);
+            active.add(booking);
+            if (random.nextInt(4) == 0) {
+                Booking removed = active.remove(random.nextInt(active.size()));
+                assertTrue(index.remove(removed.getBookingId()));
+            }
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDate start = base.plusDays(random.nextInt(320));
+            LocalDate end = start.plusDays(1 + random.nextInt(7));
+            boolean expected = active.stream().noneMatch(b ->
+                    b.getStartDate().isBefore(end) && b.getEndDate().isAfter(start));
+            assertEquals(expected, index.isAvailable(car.getId(), start, end));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.LedgerEntryType;
+import ch.unil.softarch.luxurycarrental.domain.ledger.BalanceLedger;
+import ch.unil.softarch.luxurycarrental.domain.ledger.LedgerEntry;
+import ch.unil.softarch.luxurycarrental.domain.ledger.LedgerSnapshot;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BalanceLedger}.
+ */
+class BalanceLedgerTest {
+
+    @Test
+    void testEntriesApplyTheirDirection() {
+        BalanceLedger ledger = new BalanceLedger();
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setBalance(Money.of(1_000));
+        UUID customerId = customer.getId();
+        UUID bookingId = UUID.randomUUID();
+
+        assertEquals(Money.of(1_000), ledger.open(customer));
+        ledger.record(customerId, LedgerEntryType.DEPOSIT_HOLD, Money.of(300), bookingId);
+        ledger.record(customerId, LedgerEntryType.PAYMENT, Money.of(450), bookingId);
+        ledger.record(customerId, LedgerEntryType.PARTIAL_REFUND, Money.of(50), bookingId);
+        ledger.record(customerId, LedgerEntryType.DEPOSIT_RELEASE, Money.of(300), bookingId);
+        LedgerEntry adjustment = ledger.record(customerId, LedgerEntryType.ADJUSTMENT, Money.of(-100), null);
+
+        assertEquals(Money.of(-100), adjustment.getDelta());
+        assertEquals(6, adjustment.getSequence());
+        assertEquals(Money.of(500), ledger.balance(customerId));
+        assertEquals(Money.of(500), ledger.open(customer), "Re-opening does not record the balance twice");
+
+        ledger.applyTo(customer);
+        assertEquals(Money.of(500), customer.getBalance());
+        assertEquals(Money.ZERO, ledger.balance(UUID.randomUUID()));
+    }
+
+    @Test
+    void testInvalidEntriesAreRejected() {
+        BalanceLedger ledger = new BalanceLedger();
+        UUID customerId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ledger.record(customerId, LedgerEntryType.PAYMENT, Money.of(-5), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ledger.record(customerId, LedgerEntryType.TOP_UP, Money.ofMinor(100, Currency.getInstance("EUR")), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ledger.record(null, LedgerEntryType.TOP_UP, Money.of(5), null));
+        assertEquals(0, ledger.accountCount());
+    }
+
+    @Test
+    void testRecordRequiresOpenedAccount() {
+        BalanceLedger ledger = new BalanceLedger();
+        UUID customerId = UUID.randomUUID();
+
+        assertThrows(IllegalStateException.class,
+                () -> ledger.record(customerId, LedgerEntryType.TOP_UP, Money.of(5), null));
+        assertEquals(0, ledger.accountCount(), "A refused entry does not create the account");
+
+        assertEquals(Money.of(200), ledger.open(customerId, Money.of(200)));
+        ledger.record(customerId, LedgerEntryType.TOP_UP, Money.of(5), null);
+        LedgerSnapshot snapshot = ledger.snapshot(customerId);
+        assertEquals(Money.of(205), snapshot.getBalance());
+        assertEquals(LedgerEntryType.OPENING_BALANCE, snapshot.getEntries().get(0).getType());
+        assertEquals(1L, snapshot.getEntries().get(0).getSequence());
+    }
+
+    @Test
+    void testCompactionKeepsSnapshotConsistent() {
+        BalanceLedger ledger = new BalanceLedger(10, Clock.systemUTC());
+        UUID customerId = UUID.randomUUID();
+        ledger.open(customerId, null);
+        for (int i = 0; i < 25; i++) {
+            ledger.record(customerId, LedgerEntryType.TOP_UP, Money.of(10), null);
+        }
+
+        LedgerSnapshot snapshot = ledger.snapshot(customerId);
+        assertEquals(Money.of(250), snapshot.getBalance());
+        assertEquals(25, snapshot.getTotalEntries());
+        assertTrue(snapshot.getEntries().size() <= 10, "Journal is compacted past the threshold");
+
+        assertEquals(snapshot.getEntries().size(), ledger.compactAll());
+        LedgerSnapshot compacted = ledger.snapshot(customerId);
+        assertEquals(Money.of(250), compacted.getBalance());
+        assertEquals(Money.of(250), compacted.getCompactedBalance());
+        assertTrue(compacted.getEntries().isEmpty());
+    }
+
+    @Test
+    void testParallelSettlementKeepsExactTotals() throws InterruptedException {
+        BalanceLedger ledger = new BalanceLedger(64, Clock.systemUTC());
+        UUID[] customers = new UUID[4];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = UUID.randomUUID();
+            ledger.open(customers[i], null);
+        }
+        LedgerEntryType[] types = LedgerEntryType.values();
+        int threads = 16;
+        int settlementsPerThread = 20_000;
+        AtomicLong[] expected = new AtomicLong[customers.length];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = new AtomicLong();
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistentSnapshots = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Compacts and snapshots while settlements are running
+        Thread auditor = new Thread(() -> {
+            while (running.get()) {
+                ledger.compactAll();
+                for (UUID customerId : customers) {
+                    LedgerSnapshot snapshot = ledger.snapshot(customerId);
+                    Money sum = snapshot.getCompactedBalance();
+                    for (LedgerEntry entry : snapshot.getEntries()) {
+                        sum = sum.plus(entry.getDelta());
+                    }
+                    if (!sum.equals(snapshot.getBalance())) {
+                        inconsistentSnapshots.incrementAndGet();
+                    }
+                }
+            }
+        });
+        auditor.start();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed);
+                long[] local = new long[customers.length];
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < settlementsPerThread; i++) {
+                    int c = random.nextInt(customers.length);
+                    LedgerEntryType type = types[random.nextInt(types.length)];
+                    LedgerEntry entry = ledger.record(customers[c], type, Money.ofMinor(1 + random.nextInt(100_000)), null);
+                    local[c] += entry.getDelta().getMinorUnits();
+                }
+                for (int c = 0; c < customers.length; c++) {
+                    expected[c].addAndGet(local[c]);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        running.set(false);
+        auditor.join();
+
+        long totalEntries = 0;
+        for (int c = 0; c < customers.length; c++) {
+            Money expectedBalance = Money.ofMinor(expected[c].get());
+            assertEquals(expectedBalance, ledger.balance(customers[c]));
+            LedgerSnapshot snapshot = ledger.snapshot(customers[c]);
+            assertEquals(expectedBalance, snapshot.getBalance());
+            totalEntries += snapshot.getTotalEntries();
+        }
+        assertEquals((long) threads * settlementsPerThread, totalEntries);
+        assertEquals(0, inconsistentSnapshots.get());
+    }
+}
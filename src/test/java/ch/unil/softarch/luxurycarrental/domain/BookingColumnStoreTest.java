@@ -0,0 +1,144 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.BookingColumnStore;
+import ch.unil.softarch.luxurycarrental.domain.analytics.BookingSelection;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BookingColumnStore}, checked against plain loops over the entities.
+ */
+class BookingColumnStoreTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FROM = BASE.plusDays(30);
+    private static final LocalDate TO = BASE.plusDays(60);
+
+    private List<Car> cars;
+    private List<Booking> bookings;
+    private BookingColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(5);
+        cars = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Car car = new Car();
+            car.setId(UUID.randomUUID());
+            cars.add(car);
+        }
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        BookingStatus[] statuses = BookingStatus.values();
+        PaymentStatus[] payments = PaymentStatus.values();
+
+        bookings = new ArrayList<>();
+        store = new BookingColumnStore(128, Money.DEFAULT_CURRENCY);  // Spreads 300 rows over three chunks
+        for (int i = 0; i < 300; i++) {
+            LocalDate start = BASE.plusDays(random.nextInt(90));
+            BookingStatus status = statuses[random.nextInt(statuses.length)];
+            PaymentStatus payment;
+            do {
+                payment = payments[random.nextInt(payments.length)];
+            } while (!BookingStateMachine.isConsistent(status, payment));
+            Booking booking = new Booking(i % 10 == 0 ? null : cars.get(random.nextInt(cars.size())), customer,
+                    start, start.plusDays(1 + random.nextInt(14)), Money.ofMinor(10_000 + random.nextInt(100_000)),
+                    i % 3 == 0 ? null : Money.of(500), status, payment);
+            bookings.add(booking);
+            assertEquals(i, store.append(booking));
+        }
+    }
+
+    private static boolean overlaps(Booking booking, LocalDate from, LocalDate to) {
+        return booking.getStartDate().isBefore(to) && booking.getEndDate().isAfter(from);
+    }
+
+    @Test
+    void testFiltersAndSumsMatchEntityLoops() {
+        long expectedCost = 0;
+        long expectedDeposit = 0;
+        int expectedCount = 0;
+        for (Booking booking : bookings) {
+            if (booking.getBookingStatus() == BookingStatus.COMPLETED && overlaps(booking, FROM, TO)) {
+                expectedCount++;
+                expectedCost += booking.getTotalCost().getMinorUnits();
+                expectedDeposit += booking.getDepositAmount() == null ? 0 : booking.getDepositAmount().getMinorUnits();
+            }
+        }
+
+        BookingSelection selection = store.select().withBookingStatus(BookingStatus.COMPLETED).overlapping(FROM, TO);
+
+        assertTrue(expectedCount > 0);
+        assertEquals(expectedCount, selection.count());
+        assertEquals(Money.ofMinor(expectedCost), selection.sumTotalCost());
+        assertEquals(Money.ofMinor(expectedDeposit), selection.sumDepositAmount());
+        assertEquals(300, store.select().count());
+        assertEquals(3 * 128 * BookingColumnStore.ROW_BYTES, store.offHeapBytes());
+    }
+
+    @Test
+    void testBookedDaysAndUtilization() {
+        Car first = cars.get(0);
+        long expectedDays = 0;
+        long expectedFirstCarDays = 0;
+        for (Booking booking : bookings) {
+            if (booking.getBookingStatus().blocksCar()) {
+                long start = Math.max(booking.getStartDate().toEpochDay(), FROM.toEpochDay());
+                long end = Math.min(booking.getEndDate().toEpochDay(), TO.toEpochDay());
+                expectedDays += Math.max(0, end - start);
+                expectedFirstCarDays += booking.getCar() == first ? Math.max(0, end - start) : 0;
+            }
+        }
+
+        BookingSelection active = store.select()
+                .withBookingStatus(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+        assertEquals(expectedDays, active.bookedDays(FROM, TO));
+        assertEquals(expectedDays / (7.0 * 30), active.utilization(FROM, TO, 7), 1e-12);
+        assertEquals(expectedFirstCarDays, active.forCar(first.getId()).bookedDays(FROM, TO));
+    }
+
+    @Test
+    void testGroupByCar() {
+        Map<UUID, Long> expected = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getCar() != null && booking.getPaymentStatus() == PaymentStatus.SUCCESSFUL) {
+                expected.merge(booking.getCar().getId(), booking.getTotalCost().getMinorUnits(), Long::sum);
+            }
+        }
+
+        Map<UUID, Money> byCar = store.select().withPaymentStatus(PaymentStatus.SUCCESSFUL).sumTotalCostByCar();
+
+        assertEquals(expected.size(), byCar.size());
+        expected.forEach((carId, total) -> assertEquals(Money.ofMinor(total), byCar.get(carId)));
+        assertEquals(0, store.select().forCar(UUID.randomUUID()).count());
+    }
+
+    @Test
+    void testInvalidRowsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Booking(null, null, BASE, BASE.plusDays(1),
+                Money.ofMinor(100, Currency.getInstance("EUR")), null, null, null), "Rejected by the entity");
+        assertThrows(IllegalArgumentException.class, () -> store.append(new Booking()));
+        assertThrows(IllegalArgumentException.class, () -> new BookingColumnStore(100, Money.DEFAULT_CURRENCY));
+        assertEquals(300, store.size());
+    }
+}
@@ -0,0 +1,229 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.eventlog.BookingEventLog;
+import ch.unil.softarch.luxurycarrental.domain.eventlog.BookingProjection;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BookingEventLog} and {@link BookingProjection}.
+ */
+class BookingEventLogTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-11-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate START = LocalDate.of(2025, 11, 10);
+
+    @TempDir
+    Path directory;
+
+    private Car car;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        car = new Car();
+        car.setId(UUID.randomUUID());
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+    }
+
+    private Booking booking(int days) {
+        Booking booking = new Booking(car, customer, START, START.plusDays(days), Money.of(450L * days), Money.of(5_000),
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        booking.setBookingId(UUID.randomUUID());
+        return booking;
+    }
+
+    private BookingEventLog open() throws IOException {
+        return new BookingEventLog(directory.resolve("events"), 4, CLOCK);
+    }
+
+    @Test
+    void testAppendAndReplayAcrossSegments() throws IOException {
+        try (BookingEventLog log = open()) {
+            Booking booking = booking(3);
+            assertEquals(1, log.append(booking));
+            booking.setBookingStatus(BookingStatus.CONFIRMED);
+            booking.setPaymentStatus(PaymentStatus.SUCCESSFUL);
+            assertEquals(2, log.append(booking));
+            for (int i = 0; i < 8; i++) {
+                log.append(booking(1));
+            }
+
+            assertEquals(10, log.lastSequence());
+            assertEquals(3, log.segmentCount());
+
+            List<Long> sequences = new ArrayList<>();
+            assertEquals(10, log.replay(1, event -> sequences.add(event.getSequence())));
+            assertEquals(1L, sequences.get(0));
+            assertEquals(10L, sequences.get(9));
+
+            List<BookingStatus> statuses = new ArrayList<>();
+            assertEquals(9, log.replay(2, event -> {
+                statuses.add(event.getBooking().getBookingStatus());
+                assertEquals(CLOCK.instant(), event.getTimestamp());
+            }));
+            assertEquals(BookingStatus.CONFIRMED, statuses.get(0));
+            assertEquals(0, log.replay(11, event -> fail("No events after the end")));
+
+            Booking withoutId = new Booking();
+            withoutId.setBookingId(null);
+            assertThrows(IllegalArgumentException.class, () -> log.append(withoutId));
+        }
+    }
+
+    @Test
+    void testReopenDiscardsTornTail() throws IOException {
+        try (BookingEventLog log = open()) {
+            for (int i = 0; i < 6; i++) {
+                log.append(booking(1));
+            }
+        }
+        // Corrupt the last record of the second segment, as if the write was torn
+        Path segment;
+        try (Stream<Path> files = Files.list(directory.resolve("events"))) {
+            segment = files.sorted().reduce((a, b) -> b).orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(BookingEventLog.RECORD_SIZE * 2L + 40);
+            file.write(0x7F);
+        }
+
+        try (BookingEventLog log = open()) {
+            assertEquals(5, log.lastSequence());
+            assertEquals(6, log.append(booking(2)));
+            assertEquals(6, log.replay(1, event -> { }));
+        }
+        try (BookingEventLog log = open()) {
+            assertEquals(6, log.lastSequence());
+        }
+    }
+
+    @Test
+    void testReopenRecoversUnfinishedSegment() throws IOException {
+        try (BookingEventLog log = open()) {
+            for (int i = 0; i < 4; i++) {
+                log.append(booking(1));
+            }
+        }
+        Path events = directory.resolve("events");
+        Path created = events.resolve(String.format("%020d.bklog", 5));
+        Files.createFile(created);  // Crashed right after creating the next segment
+
+        try (BookingEventLog log = open()) {
+            assertEquals(4, log.lastSequence());
+            assertEquals(5, log.append(booking(2)));
+            for (int i = 0; i < 3; i++) {
+                log.append(booking(1));
+            }
+        }
+
+        // Crash while writing the header of the next segment: only its magic number made it
+        Path torn = events.resolve(String.format("%020d.bklog", 9));
+        try (RandomAccessFile file = new RandomAccessFile(torn.toFile(), "rw")) {
+            file.setLength(Files.size(created));
+            file.writeInt(0x424B4556);
+        }
+        try (BookingEventLog log = open()) {
+            assertEquals(8, log.lastSequence(), "The segment starting at 9 is empty");
+            assertEquals(9, log.append(booking(2)));
+            assertEquals(9, log.replay(1, event -> { }));
+        }
+    }
+
+    @Test
+    void testCheckpointSpanningSeveralChunks() throws IOException {
+        Path checkpoint = directory.resolve("large.ckpt");
+        BookingProjection projection = new BookingProjection();
+        Booking last = null;
+        try (BookingEventLog log = new BookingEventLog(directory.resolve("large"), 1 << 15, CLOCK)) {
+            for (int i = 0; i < 40_000; i++) {
+                last = booking(1 + i % 7);
+                log.append(last);
+            }
+            assertEquals(40_000, projection.catchUp(log));
+        }
+        projection.writeCheckpoint(checkpoint);
+
+        BookingProjection loaded = BookingProjection.loadCheckpoint(checkpoint, null);
+        assertEquals(40_000, loaded.size());
+        assertEquals(40_000, loaded.lastSequence());
+        assertEquals(last.getEndDate(), loaded.get(last.getBookingId()).getEndDate());
+        assertEquals(projection.revenue(BookingStatus.PENDING), loaded.revenue(BookingStatus.PENDING));
+    }
+
+    @Test
+    void testCheckpointAndWarmStartMatchFullReplay() throws IOException {
+        Path checkpoint = directory.resolve("bookings.ckpt");
+        List<Booking> bookings = new ArrayList<>();
+        try (BookingEventLog log = open()) {
+            for (int i = 1; i <= 5; i++) {
+                Booking booking = booking(i);
+                bookings.add(booking);
+                log.append(booking);
+            }
+            BookingProjection projection = new BookingProjection();
+            assertEquals(5, projection.catchUp(log));
+            projection.writeCheckpoint(checkpoint);
+            assertEquals(1, log.truncateBefore(projection.lastSequence() + 1));
+
+            // Changes after the checkpoint
+            bookings.get(0).setBookingStatus(BookingStatus.CANCELLED);
+            log.append(bookings.get(0));
+            for (int i = 1; i < 5; i++) {
+                bookings.get(i).setPaymentStatus(PaymentStatus.SUCCESSFUL);
+                bookings.get(i).setBookingStatus(BookingStatus.CONFIRMED);
+                bookings.get(i).setBookingStatus(BookingStatus.COMPLETED);
+                log.append(bookings.get(i));
+            }
+        }
+
+        try (BookingEventLog log = open()) {
+            AvailabilityIndex availability = new AvailabilityIndex();
+            BookingProjection warm = BookingProjection.loadCheckpoint(checkpoint, availability);
+            assertEquals(5, warm.lastSequence());
+            assertFalse(availability.isAvailable(car.getId(), START, START.plusDays(1)));
+
+            assertEquals(5, warm.catchUp(log));
+            assertEquals(10, warm.lastSequence());
+            assertEquals(5, warm.size());
+            assertEquals(BookingStatus.CANCELLED, warm.get(bookings.get(0).getBookingId()).getBookingStatus());
+            assertEquals(customer.getId(), warm.get(bookings.get(0).getBookingId()).getCustomer().getId());
+            assertEquals(Money.of(450L * (2 + 3 + 4 + 5)), warm.revenue(BookingStatus.COMPLETED));
+            assertEquals(4, availability.size(), "The cancelled booking no longer blocks the car");
+            assertEquals(0, warm.catchUp(log), "Catching up twice applies nothing");
+
+            assertThrows(IllegalArgumentException.class, () -> log.replay(1, event -> { }),
+                    "The first segment was truncated");
+        }
+
+        byte[] bytes = Files.readAllBytes(checkpoint);
+        bytes[20] ^= 1;
+        Files.write(checkpoint, bytes);
+        assertThrows(IOException.class, () -> BookingProjection.loadCheckpoint(checkpoint, null));
+    }
+}
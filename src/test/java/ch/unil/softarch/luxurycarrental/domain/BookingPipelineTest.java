@@ -0,0 +1,203 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingPipeline;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingRequest;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingResult;
+import ch.unil.softarch.luxurycarrental.domain.pipeline.BookingResult.Outcome;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingRules;
+import ch.unil.softarch.luxurycarrental.domain.reservation.ReservationBook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BookingPipeline}.
+ */
+class BookingPipelineTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 6, 2);  // A Monday
+
+    private ReservationBook reservations;
+    private PricingEngine pricing;
+    private Customer customer;
+    private BookingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        reservations = new ReservationBook();
+        pricing = new PricingEngine(new PricingRules(), START, 365);
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    private static Car car() {
+        CarType type = new CarType();
+        type.setId(UUID.randomUUID());
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setCarType(type);
+        car.setStatus(CarStatus.AVAILABLE);
+        car.setDailyRentalPrice(Money.of(200));
+        car.setDepositAmount(Money.of(1000));
+        return car;
+    }
+
+    private BookingResult run(BookingRequest request) throws Exception {
+        return pipeline.submit(request).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testConfirmsAndPricesBooking() throws Exception {
+        List<Booking> confirmed = new ArrayList<>();
+        pipeline = new BookingPipeline(reservations, pricing, confirmed::add, 4);
+        Car car = car();
+
+        BookingResult result = run(new BookingRequest(car, customer, START, START.plusDays(3)));
+
+        assertEquals(Outcome.CONFIRMED, result.getOutcome());
+        Booking booking = result.getBooking();
+        assertEquals(BookingStatus.CONFIRMED, booking.getBookingStatus());
+        assertEquals(Money.of(600), booking.getTotalCost());
+        assertEquals(Money.of(1000), booking.getDepositAmount());
+        assertNotNull(booking.getBookingId());
+        assertEquals(List.of(booking), confirmed);
+        assertFalse(reservations.isFree(car.getId(), START, START.plusDays(1)));
+        assertTrue(result.getLatencyNanos() > 0);
+    }
+
+    @Test
+    void testRejectsInvalidRequests() throws Exception {
+        pipeline = new BookingPipeline(reservations, pricing, booking -> { }, 4);
+        Car unavailable = car();
+        unavailable.setStatus(CarStatus.UNAVAILABLE);
+
+        assertEquals(Outcome.INVALID, run(new BookingRequest(car(), customer, START, START)).getOutcome());
+        assertEquals(Outcome.INVALID, run(new BookingRequest(car(), null, START, START.plusDays(1))).getOutcome());
+        Car withoutId = new Car();
+        withoutId.setId(null);
+        assertEquals(Outcome.INVALID, run(new BookingRequest(withoutId, customer, START, START.plusDays(1))).getOutcome());
+        BookingResult result = run(new BookingRequest(unavailable, customer, START, START.plusDays(1)));
+        assertEquals(Outcome.INVALID, result.getOutcome());
+        assertNull(result.getBooking());
+        assertEquals(0, reservations.reservationCount(unavailable.getId()));
+    }
+
+    @Test
+    void testFailedConfirmationReleasesReservation() throws Exception {
+        pipeline = new BookingPipeline(reservations, pricing, booking -> {
+            throw new IllegalStateException("mail server down");
+        }, 4);
+        Car car = car();
+
+        BookingResult result = run(new BookingRequest(car, customer, START, START.plusDays(2)));
+
+        assertEquals(Outcome.FAILED, result.getOutcome());
+        assertEquals("mail server down", result.getMessage());
+        assertEquals(BookingStatus.CANCELLED, result.getBooking().getBookingStatus());
+        assertEquals(0, reservations.reservationCount(car.getId()));
+
+        BookingResult outsideHorizon = run(new BookingRequest(car, customer, START.minusDays(5), START));
+        assertEquals(Outcome.FAILED, outsideHorizon.getOutcome());
+        assertEquals(BookingStatus.REJECTED, outsideHorizon.getBooking().getBookingStatus());
+        assertEquals(0, reservations.reservationCount(car.getId()));
+    }
+
+    @Test
+    void testConflictingRequestsConfirmOnlyOne() throws Exception {
+        Map<UUID, AtomicInteger> active = new ConcurrentHashMap<>();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        pipeline = new BookingPipeline(reservations, pricing, booking -> {
+            AtomicInteger count = active.computeIfAbsent(booking.getCar().getId(), id -> new AtomicInteger());
+            if (count.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            Thread.sleep(2);
+            count.decrementAndGet();
+        }, 64);
+        Car contested = car();
+        List<CompletableFuture<BookingResult>> contestedResults = new ArrayList<>();
+        List<CompletableFuture<BookingResult>> otherResults = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // Overlapping ranges for one car, and one request for each of many other cars
+            contestedResults.add(pipeline.submit(new BookingRequest(contested, customer, START.plusDays(i % 3),
+                    START.plusDays(5))));
+            otherResults.add(pipeline.submit(new BookingRequest(car(), customer, START, START.plusDays(5))));
+        }
+
+        int confirmed = 0;
+        for (CompletableFuture<BookingResult> future : contestedResults) {
+            BookingResult result = future.get(5, TimeUnit.SECONDS);
+            confirmed += result.isConfirmed() ? 1 : 0;
+            assertTrue(result.isConfirmed() || result.getOutcome() == Outcome.UNAVAILABLE);
+        }
+        assertEquals(1, confirmed);
+        for (CompletableFuture<BookingResult> future : otherResults) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).isConfirmed());
+        }
+        assertFalse(overlapped.get(), "Requests for the same car must not run concurrently");
+        assertEquals(1, reservations.reservationCount(contested.getId()));
+    }
+
+    @Test
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = new BookingPipeline(reservations, pricing, booking -> release.await(), 2);
+
+        CompletableFuture<BookingResult> first = pipeline.submit(new BookingRequest(car(), customer, START, START.plusDays(1)));
+        CompletableFuture<BookingResult> second = pipeline.submit(new BookingRequest(car(), customer, START, START.plusDays(1)));
+        assertEquals(2, pipeline.inFlight());
+
+        BookingResult rejected = pipeline.trySubmit(new BookingRequest(car(), customer, START, START.plusDays(1)),
+                20, TimeUnit.MILLISECONDS).get();
+        assertEquals(Outcome.OVERLOADED, rejected.getOutcome());
+        assertTrue(rejected.getLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS).isConfirmed());
+        assertTrue(second.get(5, TimeUnit.SECONDS).isConfirmed());
+        assertEquals(Outcome.CONFIRMED, pipeline.trySubmit(new BookingRequest(car(), customer, START, START.plusDays(1)),
+                1, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).getOutcome());
+    }
+
+    @Test
+    void testCloseWaitsAndRejectsNewRequests() throws Exception {
+        pipeline = new BookingPipeline(reservations, pricing, booking -> Thread.sleep(20), 4);
+        CompletableFuture<BookingResult> pending = pipeline.submit(new BookingRequest(car(), customer, START, START.plusDays(1)));
+
+        pipeline.close();
+
+        assertTrue(pending.isDone());
+        assertEquals(0, pipeline.inFlight());
+        assertThrows(IllegalStateException.class,
+                () -> pipeline.submit(new BookingRequest(car(), customer, START, START.plusDays(1))));
+    }
+}
@@ -0,0 +1,132 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.TransitionCount;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BookingStateMachine} and its enforcement in {@link Booking}.
+ */
+class BookingStateMachineTest {
+
+    private static Booking booking(BookingStatus bookingStatus, PaymentStatus paymentStatus) {
+        LocalDate start = LocalDate.of(2025, 11, 1);
+        return new Booking(null, null, start, start.plusDays(2), Money.of(900), Money.of(5_000),
+                bookingStatus, paymentStatus);
+    }
+
+    @Test
+    void testLifecycleThroughSetters() {
+        Booking booking = booking(BookingStatus.PENDING, PaymentStatus.PENDING);
+
+        booking.setPaymentStatus(PaymentStatus.FAILED);
+        booking.setPaymentStatus(PaymentStatus.PENDING);  // Retry
+        booking.setPaymentStatus(PaymentStatus.SUCCESSFUL);
+        booking.setBookingStatus(BookingStatus.CONFIRMED);
+        booking.setBookingStatus(BookingStatus.COMPLETED);
+        booking.setPaymentStatus(PaymentStatus.PARTIALLY_REFUNDED);
+        booking.setPaymentStatus(PaymentStatus.PARTIALLY_REFUNDED);  // Unchanged states are always allowed
+
+        assertEquals(BookingStatus.COMPLETED, booking.getBookingStatus());
+        assertEquals(PaymentStatus.PARTIALLY_REFUNDED, booking.getPaymentStatus());
+    }
+
+    @Test
+    void testIllegalTransitionsAreRejected() {
+        Booking cancelled = booking(BookingStatus.CANCELLED, PaymentStatus.CANCELLED);
+        assertThrows(IllegalStateException.class, () -> cancelled.setBookingStatus(BookingStatus.CONFIRMED));
+        assertEquals(BookingStatus.CANCELLED, cancelled.getBookingStatus(), "Rejected changes are not applied");
+
+        Booking pending = booking(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL);
+        assertThrows(IllegalStateException.class, () -> pending.setPaymentStatus(PaymentStatus.REFUNDED));
+        assertThrows(IllegalStateException.class, () -> pending.setBookingStatus(BookingStatus.COMPLETED));
+        assertThrows(IllegalStateException.class, () -> pending.setBookingStatus(null));
+
+        Booking unpaid = booking(BookingStatus.CONFIRMED, PaymentStatus.PENDING);
+        assertThrows(IllegalStateException.class, () -> unpaid.setBookingStatus(BookingStatus.COMPLETED));
+    }
+
+    @Test
+    void testUninitializedFieldsAcceptAnyValue() {
+        Booking booking = new Booking();
+        booking.setPaymentStatus(PaymentStatus.REFUNDED);
+        booking.setBookingStatus(BookingStatus.COMPLETED);
+
+        assertEquals(BookingStatus.COMPLETED, booking.getBookingStatus());
+        assertThrows(IllegalStateException.class, () -> booking.setPaymentStatus(PaymentStatus.SUCCESSFUL));
+    }
+
+    @Test
+    void testInitializationMustEndInConsistentState() {
+        Booking booking = new Booking();
+        booking.setPaymentStatus(PaymentStatus.REFUNDED);
+        assertThrows(IllegalStateException.class, () -> booking.setBookingStatus(BookingStatus.PENDING));
+        assertNull(booking.getBookingStatus());
+
+        assertThrows(IllegalArgumentException.class, () -> new Booking(null, null, null, null, null, null,
+                BookingStatus.PENDING, PaymentStatus.REFUNDED));
+        assertFalse(BookingStateMachine.isAllowed(null, null, BookingStatus.PENDING, PaymentStatus.REFUNDED));
+        assertTrue(BookingStateMachine.isAllowed(null, null, BookingStatus.PENDING, null));
+    }
+
+    @Test
+    void testBatchValidation() {
+        Booking[] bookings = {
+                booking(BookingStatus.PENDING, PaymentStatus.PENDING),
+                booking(BookingStatus.PENDING, PaymentStatus.FAILED),
+                booking(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL),  // Paid bookings must not expire
+                booking(BookingStatus.CONFIRMED, PaymentStatus.PENDING),
+        };
+        boolean[] results = new boolean[bookings.length];
+
+        assertEquals(2, BookingStateMachine.validate(bookings, BookingStatus.EXPIRED, null, results));
+        assertArrayEquals(new boolean[] {true, true, false, false}, results);
+        assertEquals(BookingStatus.PENDING, bookings[0].getBookingStatus(), "Validation changes nothing");
+
+        int[] from = {
+                BookingStateMachine.state(BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL),
+                BookingStateMachine.state(BookingStatus.CANCELLED, PaymentStatus.SUCCESSFUL),
+        };
+        int[] to = {
+                BookingStateMachine.state(BookingStatus.CANCELLED, PaymentStatus.REFUNDED),
+                BookingStateMachine.state(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL),
+        };
+        assertEquals(1, BookingStateMachine.validate(from, to, results));
+        assertTrue(results[0], "Both fields may change in one step");
+        assertFalse(results[1]);
+    }
+
+    @Test
+    void testTransitionCounters() {
+        BookingStateMachine machine = new BookingStateMachine();
+        for (int i = 0; i < 3; i++) {
+            machine.check(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL, BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+        }
+        machine.check(BookingStatus.PENDING, PaymentStatus.PENDING, BookingStatus.PENDING, PaymentStatus.PENDING);
+        assertThrows(IllegalStateException.class, () -> machine.check(BookingStatus.EXPIRED, PaymentStatus.PENDING,
+                BookingStatus.CONFIRMED, PaymentStatus.PENDING));
+
+        assertEquals(3, machine.acceptedCount(BookingStatus.PENDING, PaymentStatus.SUCCESSFUL,
+                BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL));
+        assertEquals(1, machine.rejectedCount(BookingStatus.EXPIRED, PaymentStatus.PENDING,
+                BookingStatus.CONFIRMED, PaymentStatus.PENDING));
+
+        List<TransitionCount> counts = machine.counts();
+        assertEquals(2, counts.size(), "Unchanged states are not counted");
+        assertEquals(BookingStatus.PENDING, counts.get(0).getFromBookingStatus());
+        assertEquals(3, counts.get(0).getAccepted());
+
+        machine.resetCounts();
+        assertTrue(machine.counts().isEmpty());
+    }
+}
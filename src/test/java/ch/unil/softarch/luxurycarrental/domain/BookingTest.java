@@ -5,11 +5,14 @@ import ch.unil.softarch.luxurycarrental.domain.entities.Car;
 import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
 import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
 import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,10 +35,12 @@ class BookingTest {
 
         // Initialize dummy objects for relationships
         car = new Car();
-        car.setLicensePlate("TEST-PLATE"); // Set fields used in toString
+        car.setId(UUID.randomUUID()); // toString prints the ID of associations
+        car.setLicensePlate("TEST-PLATE");
 
         customer = new Customer();
-        customer.setEmail("test@example.com"); // Set fields used in toString
+        customer.setId(UUID.randomUUID());
+        customer.setEmail("test@example.com");
 
         startDate = LocalDate.of(2025, 11, 1);
         endDate = LocalDate.of(2025, 11, 5);
@@ -46,8 +51,8 @@ class BookingTest {
                 customer,
                 startDate,
                 endDate,
-                500.0,
-                100.0,
+                Money.of(500),
+                Money.of(100),
                 BookingStatus.PENDING,
                 PaymentStatus.SUCCESSFUL
         );
@@ -64,21 +69,46 @@ class BookingTest {
         assertEquals(customer, booking.getCustomer());
         assertEquals(startDate, booking.getStartDate());
         assertEquals(endDate, booking.getEndDate());
-        assertEquals(500.0, booking.getTotalCost());
-        assertEquals(100.0, booking.getDepositAmount());
+        assertEquals(Money.of(500), booking.getTotalCost());
+        assertEquals(Money.of(100), booking.getDepositAmount());
         assertEquals(BookingStatus.PENDING, booking.getBookingStatus());
         assertEquals(PaymentStatus.SUCCESSFUL, booking.getPaymentStatus());
     }
 
     @Test
     void testSetters() {
-        booking.setTotalCost(600.0);
-        assertEquals(600.0, booking.getTotalCost());
+        booking.setTotalCost(Money.of(600));
+        assertEquals(Money.of(600), booking.getTotalCost());
 
         booking.setBookingStatus(BookingStatus.CONFIRMED);
         assertEquals(BookingStatus.CONFIRMED, booking.getBookingStatus());
     }
 
+    @Test
+    void testIdAssignedAtConstruction() {
+        Booking draft = new Booking(car, customer, startDate, endDate, Money.of(500), Money.of(100),
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        assertNotNull(draft.getBookingId(), "ID is assigned before @PrePersist");
+        Set<Booking> drafts = new HashSet<>();
+        drafts.add(draft);
+
+        Booking reloaded = new Booking();  // Copy of the same row loaded after persist
+        reloaded.setBookingId(draft.getBookingId());
+        assertEquals(draft, reloaded);
+        assertEquals(draft.hashCode(), reloaded.hashCode());
+        assertTrue(drafts.contains(reloaded));
+        assertFalse(drafts.add(reloaded), "No duplicate after detach / merge");
+    }
+
+    @Test
+    void testHashCodeFollowsSetBookingId() {
+        Booking reloaded = new Booking();
+        int before = reloaded.hashCode();
+        reloaded.setBookingId(bookingId);
+        assertEquals(booking.hashCode(), reloaded.hashCode());
+        assertNotEquals(before, reloaded.hashCode());
+    }
+
     @Test
     void testToString() {
         String str = booking.toString();
@@ -87,8 +117,10 @@ class BookingTest {
         assertTrue(str.contains("500.0"));
         assertTrue(str.contains("PENDING"));
 
-        // Verify related entity info (based on updated toString logic)
-        assertTrue(str.contains("TEST-PLATE"));
-        assertTrue(str.contains("test@example.com"));
+        // Related entities are printed by ID only, so lazy proxies stay uninitialized
+        assertTrue(str.contains("car=" + car.getId()));
+        assertTrue(str.contains("customer=" + customer.getId()));
+        assertFalse(str.contains("TEST-PLATE"));
+        assertFalse(str.contains("test@example.com"));
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package ch.unil.softarch.luxurycarrental.domain;
 import ch.unil.softarch.luxurycarrental.domain.entities.Car;
 import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
 import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
@@ -42,8 +43,8 @@ class CarTest {
 
         car.setLicensePlate("ABC-1234");
         car.setCarType(carType);
-        car.setDailyRentalPrice(100.0);
-        car.setDepositAmount(500.0);
+        car.setDailyRentalPrice(Money.of(100));
+        car.setDepositAmount(Money.of(500));
         car.setStatus(CarStatus.AVAILABLE);
         car.setImageUrl("https://example.com/car.jpg");
         car.setRegistrationDate(LocalDate.of(2022, 1, 10));
@@ -58,8 +59,8 @@ class CarTest {
         assertEquals(carId, car.getId(), "ID should match the manually set value");
         assertEquals("ABC-1234", car.getLicensePlate());
         assertEquals(carType, car.getCarType());
-        assertEquals(100.0, car.getDailyRentalPrice());
-        assertEquals(500.0, car.getDepositAmount());
+        assertEquals(Money.of(100), car.getDailyRentalPrice());
+        assertEquals(Money.of(500), car.getDepositAmount());
         assertEquals(CarStatus.AVAILABLE, car.getStatus());
         assertEquals("https://example.com/car.jpg", car.getImageUrl());
         assertEquals(LocalDate.of(2022, 1, 10), car.getRegistrationDate());
@@ -84,12 +85,34 @@ class CarTest {
         assertEquals("XYZ-5678", car.getLicensePlate());
     }
 
+    @Test
+    void testEqualsAndHashCode() {
+        Car sameIdCar = new Car();
+        sameIdCar.setId(carId);
+        sameIdCar.setLicensePlate("Other plate");
+        assertEquals(car, sameIdCar, "Cars with the same ID should be equal");
+        assertEquals(car.hashCode(), sameIdCar.hashCode());
+
+        // Lazy proxies only answer the ID through the getter
+        Car proxy = new Car() {
+            @Override
+            public UUID getId() { return carId; }
+        };
+        assertEquals(car, proxy);
+
+        Car differentCar = new Car();
+        differentCar.setId(UUID.randomUUID());
+        assertNotEquals(car, differentCar);
+        assertNotEquals(new Car(), new Car(), "New cars receive distinct IDs");
+    }
+
     @Test
     void testToString() {
         String str = car.toString();
         // Verify key information is present
         assertTrue(str.contains(carId.toString()));
         assertTrue(str.contains("ABC-1234"));
-        assertTrue(str.contains("Model S")); // From the linked CarType
+        assertTrue(str.contains("carType=" + carType.getId())); // ID only, the CarType is not read
+        assertFalse(str.contains("Model S"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.catalog.CacheStats;
+import ch.unil.softarch.luxurycarrental.domain.catalog.CarTypeCache;
+import ch.unil.softarch.luxurycarrental.domain.catalog.CarTypeCacheInvalidator;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CarTypeCache}.
+ */
+class CarTypeCacheTest {
+
+    private Map<UUID, CarType> database;
+    private AtomicInteger loaderCalls;
+
+    @BeforeEach
+    void setUp() {
+        database = new HashMap<>();
+        loaderCalls = new AtomicInteger();
+    }
+
+    private CarType stored(String model, String... features) {
+        CarType type = new CarType("Sport", "Porsche", model, "3.0L", 400, 300, 3.5, 1500.0,
+                DriveType.ALL_WHEEL_DRIVE, Transmission.AUTOMATIC, 2, "Test type", new ArrayList<>(List.of(features)));
+        database.put(type.getId(), type);
+        return type;
+    }
+
+    private CarTypeCache cache(int capacity) {
+        return new CarTypeCache(id -> {
+            loaderCalls.incrementAndGet();
+            return database.get(id);
+        }, capacity);
+    }
+
+    @Test
+    void testReadThroughAndStats() {
+        CarType stored = stored("911", "GPS", "Bluetooth");
+        CarTypeCache cache = cache(10);
+
+        CarType first = cache.get(stored.getId());
+        CarType second = cache.get(stored.getId());
+
+        assertSame(first, second);
+        assertNotSame(stored, first, "The cache holds a detached copy");
+        assertEquals("911", first.getModel());
+        assertEquals(1, loaderCalls.get());
+        assertNull(cache.get(UUID.randomUUID()), "Unknown IDs return null");
+        assertEquals(2, loaderCalls.get());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getLoads());
+        assertEquals(1.0 / 3, stats.getHitRate(), 1e-9);
+        assertTrue(stats.getTotalLoadTimeNanos() >= 0);
+    }
+
+    @Test
+    void testFeaturesAreImmutableAndInterned() {
+        CarType carrera = stored("911 Carrera", "GPS", "Bluetooth");
+        CarType targa = stored("911 Targa", "GPS", "Bluetooth");
+        CarTypeCache cache = cache(10);
+
+        List<String> carreraFeatures = cache.get(carrera.getId()).getFeatures();
+        assertSame(carreraFeatures, cache.get(targa.getId()).getFeatures());
+        assertThrows(UnsupportedOperationException.class, () -> carreraFeatures.add("Sunroof"));
+
+        carrera.getFeatures().add("Sunroof");  // Editing the entity does not leak into the cache
+        assertEquals(List.of("GPS", "Bluetooth"), cache.get(carrera.getId()).getFeatures());
+    }
+
+    @Test
+    void testInternedFeaturesAreDroppedWithTheirLastEntry() {
+        CarType carrera = stored("911 Carrera", "GPS", "Bluetooth");
+        CarType targa = stored("911 Targa", "GPS", "Bluetooth");
+        CarType cayenne = stored("Cayenne", "Tow bar");
+        CarTypeCache cache = cache(1);
+
+        List<String> interned = cache.get(carrera.getId()).getFeatures();
+        assertSame(interned, cache.get(targa.getId()).getFeatures(), "Still held by the targa entry");
+        cache.get(cayenne.getId());  // Evicts the last entry holding the list
+
+        List<String> reloaded = cache.get(carrera.getId()).getFeatures();
+        assertEquals(interned, reloaded);
+        assertNotSame(interned, reloaded);
+    }
+
+    @Test
+    void testClockEvictionKeepsReferencedEntries() {
+        CarType a = stored("A");
+        CarType b = stored("B");
+        CarType c = stored("C");
+        CarTypeCache cache = cache(2);
+
+        cache.get(a.getId());
+        cache.get(b.getId());
+        cache.get(a.getId());  // Marks A as referenced
+        cache.get(c.getId());  // Evicts B, which was never hit
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains(a.getId()));
+        assertFalse(cache.contains(b.getId()));
+        assertTrue(cache.contains(c.getId()));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void testInvalidationReloads() {
+        CarType stored = stored("911");
+        CarTypeCache cache = cache(10);
+        cache.get(stored.getId());
+
+        stored.setModel("911 GT3");
+        assertEquals("911", cache.get(stored.getId()).getModel());
+
+        cache.invalidate(stored.getId());
+        assertEquals("911 GT3", cache.get(stored.getId()).getModel());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.stats().getInvalidations());
+    }
+
+    @Test
+    void testLoadRacingInvalidationIsNotCached() {
+        CarType stored = stored("911");
+        CarTypeCache[] holder = new CarTypeCache[1];
+        holder[0] = new CarTypeCache(id -> {
+            CarType snapshot = database.get(id);
+            holder[0].invalidate(id);  // The type is edited while it is being loaded
+            return snapshot;
+        }, 10);
+
+        assertNotNull(holder[0].get(stored.getId()));
+        assertFalse(holder[0].contains(stored.getId()));
+    }
+
+    @Test
+    void testEntityListenerAndCarLookup() {
+        CarType stored = stored("911");
+        Car car = new Car();
+        car.setCarType(stored);
+        CarTypeCache cache = cache(10);
+        CarTypeCacheInvalidator.register(cache);
+        try {
+            assertEquals("911", cache.get(car).getModel());
+            new CarTypeCacheInvalidator().onChange(stored);
+            assertFalse(cache.contains(stored.getId()));
+        } finally {
+            CarTypeCacheInvalidator.unregister(cache);
+        }
+    }
+
+    @Test
+    void testLoaderFailureIsCounted() {
+        CarTypeCache cache = new CarTypeCache(id -> {
+            throw new IllegalStateException("database down");
+        }, 10);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(UUID.randomUUID()));
+        assertEquals(1, cache.stats().getLoadFailures());
+        assertEquals(0, cache.size());
+    }
+}
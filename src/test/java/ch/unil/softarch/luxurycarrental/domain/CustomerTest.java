@@ -1,12 +1,12 @@
 package ch.unil.softarch.luxurycarrental.domain;
 
 import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Calendar;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,7 +22,7 @@ class CustomerTest {
 
     private Customer customer;
     private UUID id;
-    private Date licenseExpiry;
+    private LocalDate licenseExpiry;
     private LocalDateTime creationDate;
 
     /**
@@ -33,11 +33,8 @@ class CustomerTest {
     void setUp() {
         id = UUID.randomUUID();
 
-        // Create a specific java.util.Date for the license expiry (December 31, 2030)
-        Calendar cal = Calendar.getInstance();
-        cal.set(2030, Calendar.DECEMBER, 31, 0, 0, 0);
-        cal.set(Calendar.MILLISECOND, 0);
-        licenseExpiry = cal.getTime();
+        // License expiry date (December 31, 2030)
+        licenseExpiry = LocalDate.of(2030, 12, 31);
 
         creationDate = LocalDateTime.now();
 
@@ -55,7 +52,7 @@ class CustomerTest {
                 30,
                 true,
                 "123 Main St, City",
-                500.0
+                Money.of(500)
         );
 
         // 2. Manually set the creationDate for testing purposes
@@ -81,7 +78,7 @@ class CustomerTest {
         assertEquals(30, customer.getAge());
         assertTrue(customer.isVerifiedIdentity(), "Identity should be verified");
         assertEquals("123 Main St, City", customer.getBillingAddress());
-        assertEquals(500.0, customer.getBalance());
+        assertEquals(Money.of(500), customer.getBalance());
 
         // Validates that the manually set date is retrievable
         assertEquals(creationDate, customer.getCreationDate());
@@ -95,10 +92,7 @@ class CustomerTest {
         LocalDateTime now = LocalDateTime.now();
 
         // Create a new future date for testing updates
-        Calendar cal = Calendar.getInstance();
-        cal.set(2035, Calendar.JANUARY, 1, 0, 0, 0);
-        cal.set(Calendar.MILLISECOND, 0);
-        Date newExpiry = cal.getTime();
+        LocalDate newExpiry = LocalDate.of(2035, 1, 1);
 
         // Apply changes using setters
         customer.setFirstName("Bob");
@@ -111,7 +105,7 @@ class CustomerTest {
         customer.setAge(40);
         customer.setVerifiedIdentity(false);
         customer.setBillingAddress("456 Another St");
-        customer.setBalance(1000.0);
+        customer.setBalance(Money.of(1000));
         customer.setCreationDate(now);
 
         // Verify that changes were persisted in the object
@@ -125,7 +119,7 @@ class CustomerTest {
         assertEquals(40, customer.getAge());
         assertFalse(customer.isVerifiedIdentity(), "Identity should now be unverified");
         assertEquals("456 Another St", customer.getBillingAddress());
-        assertEquals(1000.0, customer.getBalance());
+        assertEquals(Money.of(1000), customer.getBalance());
         assertEquals(now, customer.getCreationDate());
     }
 
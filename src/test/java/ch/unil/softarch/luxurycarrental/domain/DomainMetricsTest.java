@@ -0,0 +1,124 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.lifecycle.BookingStateMachine;
+import ch.unil.softarch.luxurycarrental.domain.metrics.DomainMetrics;
+import ch.unil.softarch.luxurycarrental.domain.metrics.MetricsRegistry;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingRules;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DomainMetrics}.
+ */
+class DomainMetricsTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 6, 2);
+
+    private BookingStateMachine stateMachine;
+    private DomainMetrics metrics;
+    private Car car;
+
+    @BeforeEach
+    void setUp() {
+        stateMachine = new BookingStateMachine();
+        metrics = new DomainMetrics(new MetricsRegistry(), stateMachine);
+
+        CarType type = new CarType();
+        type.setId(UUID.randomUUID());
+        type.setCategory("SUV");
+        car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setCarType(type);
+        car.setDailyRentalPrice(Money.of(300));
+        car.setDepositAmount(Money.of(1000));
+    }
+
+    private String export() throws IOException {
+        StringBuilder out = new StringBuilder();
+        metrics.writePrometheus(out);
+        return out.toString();
+    }
+
+    @Test
+    void testAvailabilityIndexReportsChecks() throws IOException {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.setMetrics(metrics);
+        Booking booking = new Booking(car, null, START, START.plusDays(3), Money.of(900), Money.of(1000),
+                BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+        booking.setBookingId(UUID.randomUUID());
+        index.index(booking);
+
+        assertFalse(index.isAvailable(car.getId(), START, START.plusDays(1)));
+        assertTrue(index.isAvailable(car.getId(), START.plusDays(3), START.plusDays(4)));
+        assertTrue(index.isAvailable(car.getId(), START.plusDays(5), START.plusDays(6)));
+
+        String text = export();
+        assertTrue(text.contains("carrental_availability_checks_total{result=\"available\"} 2\n"));
+        assertTrue(text.contains("carrental_availability_checks_total{result=\"unavailable\"} 1\n"));
+        assertTrue(text.contains("carrental_availability_check_seconds_count 3\n"));
+
+        index.setMetrics(null);
+        index.isAvailable(car.getId(), START, START.plusDays(1));
+        assertTrue(export().contains("carrental_availability_check_seconds_count 3\n"));
+    }
+
+    @Test
+    void testPricingEngineReportsQuotesPerCategory() throws IOException {
+        PricingEngine engine = new PricingEngine(new PricingRules(), START, 365);
+        engine.setMetrics(metrics);
+
+        engine.quote(car, START, START.plusDays(2));
+        engine.quote(car, START, START.plusDays(4));
+        car.getCarType().setCategory(null);
+        engine.quote(car, START, START.plusDays(1));
+
+        String text = export();
+        assertTrue(text.contains("carrental_price_quote_seconds_count{category=\"SUV\"} 2\n"));
+        assertTrue(text.contains("carrental_price_quote_seconds_count{category=\"unknown\"} 1\n"));
+    }
+
+    @Test
+    void testBookingsCreatedByCategoryAndStatus() throws IOException {
+        Booking booking = new Booking(car, null, START, START.plusDays(3), Money.of(900), Money.of(1000),
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        metrics.bookingCreated(booking, 2_000);
+        metrics.bookingCreated(booking, 4_000);
+        metrics.bookingCreated("Sport", BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL, 1_000);
+        metrics.bookingsInStatus(BookingStatus.PENDING).set(7);
+
+        String text = export();
+        assertTrue(text.contains("carrental_bookings_created_total{category=\"SUV\",booking_status=\"PENDING\","
+                + "payment_status=\"PENDING\"} 2\n"));
+        assertTrue(text.contains("carrental_booking_creation_seconds_sum{category=\"SUV\"} 6.0E-6\n"));
+        assertTrue(text.contains("category=\"Sport\",booking_status=\"CONFIRMED\",payment_status=\"SUCCESSFUL\"} 1\n"));
+        assertTrue(text.contains("carrental_bookings{booking_status=\"PENDING\"} 7\n"));
+        assertTrue(text.contains("carrental_bookings{booking_status=\"CANCELLED\"} 0\n"));
+    }
+
+    @Test
+    void testTransitionsComeFromStateMachine() throws IOException {
+        stateMachine.check(BookingStatus.PENDING, PaymentStatus.PENDING, BookingStatus.CONFIRMED, PaymentStatus.PENDING);
+        assertThrows(IllegalStateException.class, () -> stateMachine.check(BookingStatus.PENDING, PaymentStatus.PENDING,
+                BookingStatus.COMPLETED, PaymentStatus.PENDING));
+
+        String text = export();
+        assertTrue(text.contains("# TYPE carrental_booking_transitions_total counter\n"));
+        assertTrue(text.contains("carrental_booking_transitions_total{from_status=\"PENDING\",from_payment_status=\"PENDING\","
+                + "to_status=\"CONFIRMED\",to_payment_status=\"PENDING\",result=\"accepted\"} 1\n"));
+        assertTrue(text.contains("to_status=\"COMPLETED\",to_payment_status=\"PENDING\",result=\"rejected\"} 1\n"));
+    }
+}
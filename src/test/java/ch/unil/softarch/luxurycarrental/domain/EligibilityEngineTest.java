@@ -0,0 +1,197 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.eligibility.EligibilityEngine;
+import ch.unil.softarch.luxurycarrental.domain.eligibility.EligibilityRules;
+import ch.unil.softarch.luxurycarrental.domain.eligibility.Ineligibility;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EligibilityEngine}.
+ */
+class EligibilityEngineTest {
+
+    private static final LocalDate END = LocalDate.of(2025, 7, 15);
+
+    private EligibilityRules rules;
+    private Car sedan;
+    private Car sportsCar;
+    private Car hypercar;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        rules = new EligibilityRules()
+                .requireVerifiedIdentity()
+                .requireValidLicense()
+                .minimumAge(21)
+                .minimumAge("Sport", 25)
+                .minimumAgeFromPower(700, 30)
+                .requireBalanceCoversDeposit();
+        sedan = car("Sedan", 150, 1_000);
+        sportsCar = car(" sport ", 450, 5_000);
+        hypercar = car("Sport", 900, 20_000);
+
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setAge(26);
+        customer.setVerifiedIdentity(true);
+        customer.setDrivingLicenseExpiryDate(LocalDate.of(2027, 1, 1));
+        customer.setBalance(Money.of(6_000));
+    }
+
+    private static Customer verified(int age, long balance) {
+        Customer customer = new Customer();
+        customer.setAge(age);
+        customer.setVerifiedIdentity(true);
+        customer.setDrivingLicenseExpiryDate(LocalDate.of(2027, 1, 1));
+        customer.setBalance(Money.of(balance));
+        return customer;
+    }
+
+    private static Car car(String category, int power, long deposit) {
+        CarType type = new CarType();
+        type.setId(UUID.randomUUID());
+        type.setCategory(category);
+        type.setPower(power);
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setCarType(type);
+        car.setDepositAmount(Money.of(deposit));
+        return car;
+    }
+
+    @Test
+    void testCarDependentRules() {
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan, sportsCar, hypercar));
+
+        BitSet eligible = engine.eligibleCars(customer, END);
+
+        assertEquals(2, eligible.cardinality());
+        assertTrue(eligible.get(engine.ordinalOf(sedan.getId())));
+        assertTrue(eligible.get(engine.ordinalOf(sportsCar.getId())));
+        assertFalse(engine.isEligible(customer, hypercar, END));
+        assertEquals(List.of(Ineligibility.TOO_YOUNG, Ineligibility.BALANCE_BELOW_DEPOSIT),
+                engine.explain(customer, hypercar, END));
+        assertEquals(List.of(), engine.explain(customer, sedan, END));
+    }
+
+    @Test
+    void testCustomerChecksExcludeEveryCar() {
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan, sportsCar));
+
+        assertTrue(engine.eligibleCars(customer, LocalDate.of(2027, 1, 1)).get(0), "Valid on the return day");
+        assertTrue(engine.eligibleCars(customer, LocalDate.of(2027, 1, 2)).isEmpty());
+        assertEquals(List.of(Ineligibility.LICENSE_EXPIRED), engine.explain(customer, sedan, LocalDate.of(2027, 1, 2)));
+
+        customer.setVerifiedIdentity(false);
+        assertTrue(engine.eligibleCars(customer, END).isEmpty());
+        assertFalse(engine.isEligible(customer, sedan, END));
+
+        customer.setVerifiedIdentity(true);
+        customer.setDrivingLicenseExpiryDate(null);
+        assertTrue(engine.eligibleCars(customer, END).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> engine.eligibleCars(customer, null));
+    }
+
+    @Test
+    void testMaskIsCachedUntilAgeOrBalanceChanges() {
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan, sportsCar, hypercar));
+        assertEquals(2, engine.eligibleCars(customer, END).cardinality());
+        assertEquals(1, engine.cachedCustomers());
+
+        engine.eligibleCars(customer, END).clear();  // Callers get a copy
+        assertEquals(2, engine.eligibleCars(customer, END).cardinality());
+
+        customer.setAge(35);
+        customer.setBalance(Money.of(25_000));
+        assertEquals(3, engine.eligibleCars(customer, END).cardinality());
+
+        customer.setBalance(Money.of(4_000));
+        assertEquals(1, engine.eligibleCars(customer, END).cardinality(), "Only the sedan deposit is covered");
+        assertEquals(1, engine.cachedCustomers());
+
+        engine.evict(customer.getId());
+        assertEquals(0, engine.cachedCustomers());
+    }
+
+    @Test
+    void testCacheIsBoundedByCapacity() {
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan, sportsCar, hypercar), 2);
+        Customer second = verified(40, 30_000);
+        Customer third = verified(18, 0);
+
+        engine.eligibleCars(customer, END);
+        engine.eligibleCars(second, END);
+        engine.eligibleCars(customer, END);  // Marks the first customer as referenced
+        engine.eligibleCars(third, END);     // Evicts the second one, which was never hit
+
+        assertEquals(2, engine.cachedCustomers());
+        assertEquals(2, engine.eligibleCars(customer, END).cardinality());
+        assertEquals(3, engine.eligibleCars(second, END).cardinality(), "Recomputed after eviction");
+        assertEquals(2, engine.cachedCustomers());
+        assertThrows(IllegalArgumentException.class, () -> new EligibilityEngine(rules, List.of(sedan), 0));
+    }
+
+    @Test
+    void testRulesAreFixedAtCompilation() {
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan, sportsCar));
+        customer.setVerifiedIdentity(false);
+        rules.minimumAge(50);
+
+        assertTrue(engine.eligibleCars(customer, END).isEmpty(), "Identity is still required");
+        assertEquals(List.of(Ineligibility.IDENTITY_NOT_VERIFIED), engine.explain(customer, sedan, END));
+    }
+
+    @Test
+    void testMatchesExplainOnRandomFleet() {
+        Random random = new Random(11);
+        String[] categories = {"Sedan", "Sport", "SUV", null};
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Car car = car(categories[random.nextInt(categories.length)], 100 + random.nextInt(900),
+                    random.nextInt(10) * 1_000L);
+            if (random.nextInt(20) == 0) {
+                car.setDepositAmount(null);
+            }
+            fleet.add(car);
+        }
+        EligibilityEngine engine = new EligibilityEngine(rules, fleet);
+
+        for (int round = 0; round < 50; round++) {
+            customer.setAge(18 + random.nextInt(20));
+            customer.setBalance(Money.of(random.nextInt(12) * 1_000L));
+            BitSet eligible = engine.eligibleCars(customer, END);
+            for (Car car : fleet) {
+                assertEquals(engine.explain(customer, car, END).isEmpty(), eligible.get(engine.ordinalOf(car.getId())),
+                        "Car " + car.getId() + " in round " + round);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidFleetAndRules() {
+        Car withoutId = new Car();
+        withoutId.setId(null);
+        assertThrows(IllegalArgumentException.class, () -> new EligibilityEngine(rules, List.of(withoutId)));
+        assertThrows(IllegalArgumentException.class, () -> new EligibilityEngine(rules, List.of(sedan, sedan)));
+        assertThrows(IllegalArgumentException.class, () -> rules.minimumAge(-1));
+
+        EligibilityEngine engine = new EligibilityEngine(rules, List.of(sedan));
+        assertEquals(-1, engine.ordinalOf(hypercar.getId()));
+        assertThrows(IllegalArgumentException.class, () -> engine.isEligible(customer, hypercar, END));
+    }
+}
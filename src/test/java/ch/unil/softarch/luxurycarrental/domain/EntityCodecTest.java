@@ -0,0 +1,200 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.codec.BinaryWriter;
+import ch.unil.softarch.luxurycarrental.domain.codec.BookingView;
+import ch.unil.softarch.luxurycarrental.domain.codec.EntityCodec;
+import ch.unil.softarch.luxurycarrental.domain.codec.EnumCodec;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary {@link EntityCodec} and {@link BookingView}.
+ */
+class EntityCodecTest {
+
+    private static Car car() {
+        CarType type = new CarType("Sport", "Porsche", "911 Carrera", "3.0L", 450, 308, 3.4, 1505.5,
+                DriveType.ALL_WHEEL_DRIVE, Transmission.AUTOMATIC, 2, "Zürich fleet — flagship",
+                new ArrayList<>(List.of("GPS", "Bluetooth")));
+        type.setId(UUID.randomUUID());
+        Car car = new Car("VD-12345", type, Money.ofMinor(45_005), Money.of(5_000), CarStatus.AVAILABLE,
+                null, LocalDate.of(2023, 3, 1), null, "WP0ZZZ99ZTS392124", "Guards Red", LocalDate.of(2026, 3, 1));
+        car.setId(UUID.randomUUID());
+        return car;
+    }
+
+    private static Booking booking(Car car) {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        Booking booking = new Booking(car, customer, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 4),
+                Money.ofMinor(135_015), Money.of(5_000), BookingStatus.CONFIRMED, PaymentStatus.SUCCESSFUL);
+        booking.setBookingId(UUID.randomUUID());
+        return booking;
+    }
+
+    @Test
+    void testBookingRoundTrip() {
+        Booking booking = booking(car());
+
+        byte[] bytes = EntityCodec.encode(booking);
+        Booking decoded = EntityCodec.decodeBooking(bytes);
+
+        assertEquals(EntityCodec.BOOKING_SIZE, bytes.length);
+        assertEquals(booking.getBookingId(), decoded.getBookingId());
+        assertEquals(booking.getCar().getId(), decoded.getCar().getId());
+        assertEquals(booking.getCustomer().getId(), decoded.getCustomer().getId());
+        assertEquals(booking.getStartDate(), decoded.getStartDate());
+        assertEquals(booking.getEndDate(), decoded.getEndDate());
+        assertEquals(booking.getTotalCost(), decoded.getTotalCost());
+        assertEquals(booking.getDepositAmount(), decoded.getDepositAmount());
+        assertEquals(BookingStatus.CONFIRMED, decoded.getBookingStatus());
+        assertEquals(PaymentStatus.SUCCESSFUL, decoded.getPaymentStatus());
+    }
+
+    @Test
+    void testNullsAndNegativeAmountsRoundTrip() {
+        Booking booking = new Booking(null, null, null, LocalDate.of(1900, 1, 1),
+                Money.ofMinor(-1_999), null, null, PaymentStatus.PENDING);
+        booking.setBookingId(null);
+
+        Booking decoded = EntityCodec.decodeBooking(EntityCodec.encode(booking));
+
+        assertNull(decoded.getBookingId());
+        assertNull(decoded.getCar());
+        assertNull(decoded.getCustomer());
+        assertNull(decoded.getStartDate());
+        assertEquals(LocalDate.of(1900, 1, 1), decoded.getEndDate());
+        assertEquals(Money.ofMinor(-1_999), decoded.getTotalCost());
+        assertNull(decoded.getDepositAmount());
+        assertNull(decoded.getBookingStatus());
+
+        Car empty = EntityCodec.decodeCar(EntityCodec.encode(new Car()));
+        assertNull(empty.getLicensePlate());
+        assertNull(empty.getCarType());
+        assertEquals(Money.ZERO, empty.getDailyRentalPrice());
+    }
+
+    @Test
+    void testCarRoundTripEmbedsType() {
+        Car car = car();
+
+        Car decoded = EntityCodec.decodeCar(EntityCodec.encode(car));
+
+        assertEquals(car.getId(), decoded.getId());
+        assertEquals("VD-12345", decoded.getLicensePlate());
+        assertEquals(car.getDailyRentalPrice(), decoded.getDailyRentalPrice());
+        assertEquals(CarStatus.AVAILABLE, decoded.getStatus());
+        assertEquals(car.getRegistrationDate(), decoded.getRegistrationDate());
+        assertNull(decoded.getLastMaintenanceDate());
+        assertNull(decoded.getImageUrl());
+        assertEquals("Guards Red", decoded.getColor());
+
+        CarType type = decoded.getCarType();
+        assertEquals(car.getCarType().getId(), type.getId());
+        assertEquals("Zürich fleet — flagship", type.getDescription());
+        assertEquals(3.4, type.getAcceleration());
+        assertEquals(1505.5, type.getWeight());
+        assertEquals(DriveType.ALL_WHEEL_DRIVE, type.getDriveType());
+        assertEquals(List.of("GPS", "Bluetooth"), type.getFeatures());
+    }
+
+    @Test
+    void testEnumCodesAreStable() {
+        // Changing these codes breaks every stored snapshot
+        assertEquals(0, EnumCodec.BOOKING_STATUS.encode(BookingStatus.PENDING));
+        assertEquals(5, EnumCodec.BOOKING_STATUS.encode(BookingStatus.REJECTED));
+        assertEquals(4, EnumCodec.PAYMENT_STATUS.encode(PaymentStatus.PARTIALLY_REFUNDED));
+        assertEquals(1, EnumCodec.CAR_STATUS.encode(CarStatus.UNAVAILABLE));
+        assertEquals(7, EnumCodec.DRIVE_TYPE.encode(DriveType.ELECTRIC_AWD));
+        assertEquals(2, EnumCodec.TRANSMISSION.encode(Transmission.ELECTRIC));
+        assertEquals(EnumCodec.NULL_CODE, EnumCodec.TRANSMISSION.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> EnumCodec.TRANSMISSION.decode((byte) 3));
+    }
+
+    @Test
+    void testCorruptInputIsRejected() {
+        byte[] bytes = EntityCodec.encode(booking(car()));
+
+        bytes[1] = 2;  // Record from a future schema version
+        assertThrows(IllegalArgumentException.class, () -> EntityCodec.decodeBooking(bytes));
+        assertThrows(IllegalArgumentException.class, () -> new BookingView().wrap(ByteBuffer.wrap(bytes), 0));
+        assertThrows(IllegalArgumentException.class, () -> EntityCodec.decodeCar(EntityCodec.encode(booking(car()))));
+    }
+
+    @Test
+    void testBookingViewReadsPackedRecordsInPlace() {
+        int count = 100;
+        BinaryWriter out = new BinaryWriter();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Booking booking = booking(car());
+            booking.setTotalCost(Money.ofMinor(i * 100L));
+            bookings.add(booking);
+            EntityCodec.write(booking, out);
+        }
+        ByteBuffer packed = ByteBuffer.allocateDirect(out.size()).put(out.toByteBuffer()).flip();
+
+        BookingView view = new BookingView();
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            view.wrap(packed, i * EntityCodec.BOOKING_SIZE);
+            total += view.getTotalCostMinorUnits();
+            assertEquals(bookings.get(i).getBookingId(), view.getBookingId());
+        }
+        assertEquals(100L * (count * (count - 1) / 2), total);
+        assertEquals(LocalDate.of(2025, 11, 4), view.getEndDate());
+        assertEquals(Money.of(5_000), view.getDepositAmount());
+        assertEquals(BookingStatus.CONFIRMED, view.getBookingStatus());
+        assertEquals(0, packed.position());
+
+        Booking decoded = EntityCodec.decodeBooking(packed.position(7 * EntityCodec.BOOKING_SIZE));
+        assertEquals(bookings.get(7).getBookingId(), decoded.getBookingId());
+        assertEquals(8 * EntityCodec.BOOKING_SIZE, packed.position());
+    }
+
+    @Test
+    void testSmallerThanJavaSerialization() throws IOException {
+        Car car = car();
+        Booking booking = booking(car);
+
+        int bookingJava = javaSerializedSize(booking);
+        int carJava = javaSerializedSize(car);
+        int bookingBinary = EntityCodec.encode(booking).length;
+        int carBinary = EntityCodec.encode(car).length;
+
+        assertEquals(80, bookingBinary, "Bookings have a fixed size");
+        assertEquals(212, carBinary);
+        assertTrue(bookingBinary * 5 < bookingJava, "Booking: " + bookingJava + " vs " + bookingBinary + " bytes");
+        assertTrue(carBinary * 5 < carJava, "Car: " + carJava + " vs " + carBinary + " bytes");
+    }
+
+    private static int javaSerializedSize(Serializable value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+}
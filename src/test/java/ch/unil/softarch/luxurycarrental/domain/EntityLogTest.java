@@ -0,0 +1,111 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Admin;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.logging.EntityLog;
+import ch.unil.softarch.luxurycarrental.domain.logging.LogfmtWriter;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EntityLog}.
+ */
+class EntityLogTest {
+
+    /**
+     * Stands in for an uninitialized lazy proxy: only the ID can be read.
+     */
+    private static final class UnloadedCar extends Car {
+        private static final long serialVersionUID = 1L;
+
+        private final UUID id;
+
+        UnloadedCar(UUID id) { this.id = id; }
+
+        @Override public UUID getId() { return id; }
+        @Override public String getLicensePlate() { throw new IllegalStateException("proxy initialized"); }
+        @Override public String getVin() { throw new IllegalStateException("proxy initialized"); }
+    }
+
+    private static final class UnloadedCustomer extends Customer {
+        private static final long serialVersionUID = 1L;
+
+        private final UUID id;
+
+        UnloadedCustomer(UUID id) { this.id = id; }
+
+        @Override public UUID getId() { return id; }
+        @Override public String getEmail() { throw new IllegalStateException("proxy initialized"); }
+    }
+
+    @Test
+    void testBookingWritesAssociationIdsWithoutLoadingThem() {
+        UUID carId = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = new Booking(new UnloadedCar(carId), new UnloadedCustomer(customerId),
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 5),
+                Money.of(500), Money.of(100), BookingStatus.PENDING, PaymentStatus.PENDING);
+        booking.setBookingId(bookingId);
+
+        String line = EntityLog.write(booking, new LogfmtWriter().add("event", "booking.created")).toString();
+
+        assertEquals("event=booking.created entity=Booking bookingId=" + bookingId
+                + " car=" + carId + " customer=" + customerId
+                + " startDate=2025-11-01 endDate=2025-11-05"
+                + " totalCost=\"CHF 500.00\" depositAmount=\"CHF 100.00\""
+                + " bookingStatus=PENDING paymentStatus=PENDING", line);
+        assertEquals(line.substring("event=booking.created ".length()), EntityLog.toLogfmt(booking));
+
+        // toString follows the same rule
+        assertDoesNotThrow(booking::toString);
+    }
+
+    @Test
+    void testCustomerPasswordIsMasked() {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setFirstName("Jean");
+        customer.setEmail("jean@example.com");
+        customer.setPassword("hunter2");
+
+        String line = EntityLog.write(customer, new LogfmtWriter()).toString();
+
+        assertTrue(line.contains("email=jean@example.com"));
+        assertTrue(line.contains("password=***"));
+        assertFalse(line.contains("hunter2"));
+    }
+
+    @Test
+    void testAdminPasswordIsMasked() {
+        Admin admin = new Admin();
+        admin.setUsername("root");
+        admin.setPassword("s3cret");
+
+        String line = EntityLog.write(admin, new LogfmtWriter()).toString();
+
+        assertTrue(line.startsWith("entity=Admin id=" + admin.getId() + " username=root"));
+        assertTrue(line.contains("password=***"));
+        assertFalse(line.contains("s3cret"));
+    }
+
+    @Test
+    void testCarWithoutTypeOrDates() {
+        Car car = new Car();
+        car.setLicensePlate("VD 123");
+
+        String line = EntityLog.write(car, new LogfmtWriter()).toString();
+
+        assertTrue(line.contains("licensePlate=\"VD 123\" carType= "));
+        assertTrue(line.contains("registrationDate= "));
+    }
+}
@@ -0,0 +1,63 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.time.EpochDays;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EpochDays}.
+ */
+class EpochDaysTest {
+
+    @Test
+    void testRoundTrip() {
+        LocalDate date = LocalDate.of(2025, 11, 1);
+        assertEquals(date.toEpochDay(), EpochDays.of(date));
+        assertEquals(date, EpochDays.toLocalDate(EpochDays.of(date)));
+        assertEquals(0, EpochDays.of(LocalDate.of(1970, 1, 1)));
+    }
+
+    @Test
+    void testNullMapsToNone() {
+        assertEquals(EpochDays.NONE, EpochDays.of(null));
+        assertNull(EpochDays.toLocalDate(EpochDays.NONE));
+    }
+
+    @Test
+    void testStartOfValidatesRange() {
+        LocalDate start = LocalDate.of(2025, 11, 1);
+        assertEquals(EpochDays.of(start), EpochDays.startOf(start, start.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> EpochDays.startOf(start, start));
+        assertThrows(IllegalArgumentException.class, () -> EpochDays.startOf(start, start.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> EpochDays.startOf(null, start));
+        assertThrows(IllegalArgumentException.class, () -> EpochDays.startOf(start, null));
+    }
+
+    @Test
+    void testOverlapsIsHalfOpen() {
+        assertTrue(EpochDays.overlaps(10, 15, 14, 20));
+        assertTrue(EpochDays.overlaps(10, 15, 11, 12));
+        assertFalse(EpochDays.overlaps(10, 15, 15, 20));
+        assertFalse(EpochDays.overlaps(10, 15, 5, 10));
+    }
+
+    @Test
+    void testContains() {
+        assertTrue(EpochDays.contains(10, 15, 10));
+        assertTrue(EpochDays.contains(10, 15, 14));
+        assertFalse(EpochDays.contains(10, 15, 15));
+        assertFalse(EpochDays.contains(10, 15, 9));
+    }
+
+    @Test
+    void testValidOnIncludesExpiryDay() {
+        int expiry = EpochDays.of(LocalDate.of(2027, 1, 1));
+        assertTrue(EpochDays.validOn(expiry, expiry - 1));
+        assertTrue(EpochDays.validOn(expiry, expiry));
+        assertFalse(EpochDays.validOn(expiry, expiry + 1));
+        assertFalse(EpochDays.validOn(EpochDays.NONE, EpochDays.NONE));
+    }
+}
@@ -0,0 +1,157 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.FleetAggregator;
+import ch.unil.softarch.luxurycarrental.domain.analytics.GroupStats;
+import ch.unil.softarch.luxurycarrental.domain.analytics.UtilizationReport;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FleetAggregator}.
+ */
+class FleetAggregatorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 7, 1);
+
+    private ForkJoinPool pool;
+    private List<Car> fleet;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        CarType ferrari = type("Supercar", "Ferrari");
+        CarType lamborghini = type("supercar ", "Lamborghini");
+        CarType rollsRoyce = type("Limousine", "Rolls-Royce");
+        fleet = List.of(car(ferrari), car(ferrari), car(lamborghini), car(rollsRoyce));
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static CarType type(String category, String brand) {
+        return new CarType(category, brand, "Model", "V8", 600, 320, 3.0, 1500, null, null, 2, "", List.of());
+    }
+
+    private static Car car(CarType type) {
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setCarType(type);
+        return car;
+    }
+
+    private Booking booking(Car car, LocalDate start, int days, long cost, BookingStatus status) {
+        return new Booking(car, customer, start, start.plusDays(days), Money.of(cost), Money.of(5_000),
+                status, status == BookingStatus.COMPLETED ? PaymentStatus.SUCCESSFUL : PaymentStatus.PENDING);
+    }
+
+    @Test
+    void testGroupsPerCarCategoryAndBrand() {
+        Car ferrari = fleet.get(0);
+        Car lamborghini = fleet.get(2);
+        Car outsider = car(type("Supercar", "Ferrari"));
+        List<Booking> bookings = List.of(
+                booking(ferrari, FROM.plusDays(2), 5, 2_000, BookingStatus.CONFIRMED),
+                booking(ferrari, FROM.minusDays(3), 5, 1_500, BookingStatus.COMPLETED),   // 2 days in, revenue before
+                booking(ferrari, TO.minusDays(1), 4, 1_000, BookingStatus.PENDING),      // 1 day in, revenue in
+                booking(ferrari, FROM.plusDays(10), 3, 9_999, BookingStatus.CANCELLED),  // Ignored
+                booking(lamborghini, FROM, 30, 12_000, BookingStatus.CONFIRMED),
+                booking(outsider, FROM, 2, 800, BookingStatus.CONFIRMED));               // Skipped
+
+        UtilizationReport report = new FleetAggregator(fleet, 2, Money.DEFAULT_CURRENCY)
+                .aggregate(bookings, FROM, TO, pool);
+
+        GroupStats first = report.getByCar().get(ferrari.getId());
+        assertEquals(3, first.getBookings());
+        assertEquals(5 + 2 + 1, first.getBookedDays());
+        assertEquals(30, first.getCalendarDays());
+        assertEquals(Money.of(3_000), first.getRevenue());
+
+        GroupStats supercars = report.getByCategory().get("Supercar");
+        assertEquals(3, supercars.getCars(), "Categories are grouped ignoring case and spaces");
+        assertEquals(8 + 30, supercars.getBookedDays());
+        assertEquals(38.0 / 90, supercars.getUtilization(), 1e-9);
+        assertEquals(Money.of(15_000), supercars.getRevenue());
+
+        assertEquals(2, report.getByBrand().get("Ferrari").getCars());
+        assertEquals(0, report.getByBrand().get("Rolls-Royce").getBookedDays());
+        assertEquals(4, report.getTotal().getCars());
+        assertEquals(4, report.getTotal().getBookings());
+        assertEquals(1, report.getSkippedBookings());
+    }
+
+    @Test
+    void testParallelResultMatchesSequentialLoop() {
+        Random random = new Random(7);
+        BookingStatus[] statuses = BookingStatus.values();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate start = FROM.plusDays(random.nextInt(90) - 45);
+            bookings.add(booking(fleet.get(random.nextInt(fleet.size())), start, 1 + random.nextInt(14),
+                    100 + random.nextInt(10_000), statuses[random.nextInt(statuses.length)]));
+        }
+
+        long bookedDays = 0;
+        long revenue = 0;
+        for (Booking booking : bookings) {
+            if (booking.getBookingStatus().blocksCar()) {
+                bookedDays += Math.max(0, Math.min(booking.getEndDate().toEpochDay(), TO.toEpochDay())
+                        - Math.max(booking.getStartDate().toEpochDay(), FROM.toEpochDay()));
+                if (!booking.getStartDate().isBefore(FROM) && booking.getStartDate().isBefore(TO)) {
+                    revenue += booking.getTotalCost().getMinorUnits();
+                }
+            }
+        }
+
+        UtilizationReport parallel = new FleetAggregator(fleet, 64, Money.DEFAULT_CURRENCY)
+                .aggregate(bookings, FROM, TO, pool);
+        UtilizationReport linked = new FleetAggregator(fleet, Integer.MAX_VALUE, Money.DEFAULT_CURRENCY)
+                .aggregate(new LinkedList<>(bookings), FROM, TO, pool);
+
+        assertEquals(bookedDays, parallel.getTotal().getBookedDays());
+        assertEquals(revenue, parallel.getTotal().getRevenue().getMinorUnits());
+        assertEquals(parallel.getTotal().getBookings(), linked.getTotal().getBookings());
+        assertEquals(parallel.getTotal().getBookedDays(), linked.getTotal().getBookedDays());
+        assertEquals(parallel.getTotal().getRevenue(), linked.getTotal().getRevenue());
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        FleetAggregator aggregator = new FleetAggregator(fleet);
+        assertThrows(IllegalArgumentException.class, () -> aggregator.aggregate(List.of(), TO, FROM, pool));
+
+        Booking euros = booking(fleet.get(0), FROM, 2, 100, BookingStatus.CONFIRMED);
+        assertThrows(IllegalArgumentException.class,
+                () -> euros.setTotalCost(Money.ofMinor(10_000, Currency.getInstance("EUR"))), "Rejected by the entity");
+
+        Car withoutId = new Car();
+        withoutId.setId(null);
+        assertThrows(IllegalArgumentException.class, () -> new FleetAggregator(List.of(withoutId)));
+        assertThrows(IllegalArgumentException.class, () -> new FleetAggregator(List.of(fleet.get(0), fleet.get(0))));
+    }
+}
@@ -0,0 +1,213 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.availability.AvailabilityIndex;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.maintenance.Deadline;
+import ch.unil.softarch.luxurycarrental.domain.maintenance.DeadlineAlert;
+import ch.unil.softarch.luxurycarrental.domain.maintenance.FleetDeadlineScheduler;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FleetDeadlineScheduler}.
+ */
+class FleetDeadlineSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 1);
+
+    private AvailabilityIndex bookings;
+    private FleetDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        bookings = new AvailabilityIndex();
+        scheduler = new FleetDeadlineScheduler(TODAY, 180, bookings, 4);
+    }
+
+    private static Car car(LocalDate lastMaintenance, LocalDate insuranceExpiry) {
+        Car car = new Car();
+        car.setLastMaintenanceDate(lastMaintenance);
+        car.setInsuranceExpiryDate(insuranceExpiry);
+        return car;
+    }
+
+    private Booking book(Car car, LocalDate start, LocalDate end) {
+        Customer customer = new Customer();
+        Booking booking = new Booking(car, customer, start, end, Money.ZERO, Money.ZERO,
+                BookingStatus.CONFIRMED, PaymentStatus.PENDING);
+        bookings.index(booking);
+        return booking;
+    }
+
+    @Test
+    void testInsuranceFiresTheDayAfterExpiry() {
+        Car car = car(null, TODAY.plusDays(10));
+        scheduler.schedule(car);
+
+        assertEquals(TODAY.plusDays(11), scheduler.dueDate(car.getId(), Deadline.INSURANCE_EXPIRED));
+        assertNull(scheduler.dueDate(car.getId(), Deadline.MAINTENANCE_DUE), "No maintenance date, no deadline");
+        assertTrue(scheduler.advanceTo(TODAY.plusDays(10)).isEmpty(), "Still insured on the expiry day");
+
+        List<DeadlineAlert> fired = scheduler.advanceTo(TODAY.plusDays(11));
+        assertEquals(1, fired.size());
+        assertEquals(car.getId(), fired.get(0).getCarId());
+        assertEquals(Deadline.INSURANCE_EXPIRED, fired.get(0).getDeadline());
+        assertEquals(TODAY.plusDays(11), fired.get(0).getDueDate());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void testMaintenanceFiresAfterInterval() {
+        Car car = car(TODAY.minusDays(100), null);
+        scheduler.schedule(car);
+
+        assertTrue(scheduler.advanceTo(TODAY.plusDays(79)).isEmpty());
+        List<DeadlineAlert> fired = scheduler.advanceTo(TODAY.plusDays(80));
+        assertEquals(1, fired.size());
+        assertEquals(Deadline.MAINTENANCE_DUE, fired.get(0).getDeadline());
+    }
+
+    @Test
+    void testRescheduleReplacesDeadline() {
+        Car car = car(null, TODAY.plusDays(5));
+        scheduler.schedule(car);
+
+        car.setInsuranceExpiryDate(TODAY.plusYears(1));  // Insurance renewed
+        scheduler.schedule(car);
+
+        assertEquals(1, scheduler.size());
+        assertTrue(scheduler.advanceTo(TODAY.plusDays(30)).isEmpty());
+        assertEquals(TODAY.plusYears(1).plusDays(1), scheduler.dueDate(car.getId(), Deadline.INSURANCE_EXPIRED));
+    }
+
+    @Test
+    void testUnchangedDateDoesNotFireTwice() {
+        Car car = car(null, TODAY.plusDays(2));
+        scheduler.schedule(car);
+        assertEquals(1, scheduler.advanceTo(TODAY.plusDays(3)).size());
+
+        car.setColor("Red");
+        scheduler.schedule(car);
+        assertTrue(scheduler.advanceTo(TODAY.plusDays(4)).isEmpty());
+    }
+
+    @Test
+    void testOverdueDeadlineFiresOnNextAdvance() {
+        Car car = car(TODAY.minusYears(1), TODAY.minusDays(3));
+        scheduler.schedule(car);
+
+        List<DeadlineAlert> fired = scheduler.advanceTo(TODAY);
+        assertEquals(2, fired.size());
+        assertEquals(Deadline.MAINTENANCE_DUE, fired.get(0).getDeadline(), "Ordered by due date");
+        assertEquals(Deadline.INSURANCE_EXPIRED, fired.get(1).getDeadline());
+    }
+
+    @Test
+    void testUnschedule() {
+        Car car = car(TODAY, TODAY.plusDays(5));
+        scheduler.schedule(car);
+
+        assertTrue(scheduler.unschedule(car.getId()));
+        assertFalse(scheduler.unschedule(car.getId()));
+        assertFalse(scheduler.unschedule(UUID.randomUUID()));
+        assertEquals(0, scheduler.size());
+        assertTrue(scheduler.advanceTo(TODAY.plusYears(1)).isEmpty());
+    }
+
+    @Test
+    void testConflictingBookings() {
+        Car car = car(null, TODAY.plusDays(10));
+        Booking before = book(car, TODAY.plusDays(2), TODAY.plusDays(11));   // Returned on the due day
+        Booking across = book(car, TODAY.plusDays(11), TODAY.plusDays(14));
+        Booking later = book(car, TODAY.plusDays(40), TODAY.plusDays(45));
+        scheduler.schedule(car);
+
+        List<DeadlineAlert> pending = scheduler.pending(car.getId());
+        assertEquals(1, pending.size());
+        assertEquals(List.of(across.getBookingId(), later.getBookingId()), pending.get(0).getConflictingBookings());
+        assertFalse(pending.get(0).getConflictingBookings().contains(before.getBookingId()));
+
+        DeadlineAlert fired = scheduler.advanceTo(TODAY.plusDays(11)).get(0);
+        assertTrue(fired.hasConflicts());
+        assertEquals(2, fired.getConflictingBookings().size());
+        assertTrue(scheduler.pending(car.getId()).isEmpty());
+    }
+
+    @Test
+    void testOverdueDeadlineIgnoresPastBookings() {
+        Car car = car(null, TODAY.minusDays(10));
+        Booking ended = book(car, TODAY.minusDays(8), TODAY.minusDays(2));
+        Booking running = book(car, TODAY.minusDays(1), TODAY.plusDays(3));
+        Booking returnedToday = book(car, TODAY.minusDays(2), TODAY);
+        scheduler.schedule(car);
+
+        DeadlineAlert fired = scheduler.advanceTo(TODAY).get(0);
+        assertEquals(TODAY.minusDays(9), fired.getDueDate());
+        assertEquals(List.of(running.getBookingId()), fired.getConflictingBookings());
+        assertFalse(fired.getConflictingBookings().contains(ended.getBookingId()));
+        assertFalse(fired.getConflictingBookings().contains(returnedToday.getBookingId()));
+    }
+
+    @Test
+    void testCannotMoveBack() {
+        scheduler.advanceTo(TODAY.plusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.advanceTo(TODAY));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.advanceTo(null));
+        Car withoutId = new Car();
+        withoutId.setId(null);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(withoutId));
+    }
+
+    @Test
+    void testMatchesBruteForceAcrossLevels() {
+        Random random = new Random(42);
+        Map<UUID, Integer> expected = new HashMap<>();  // Car -> epoch day its insurance deadline fires
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Car car = car(null, TODAY.plusDays(random.nextInt(20_000) - 50));
+            fleet.add(car);
+            scheduler.schedule(car);
+        }
+        for (int i = 0; i < 500; i++) {  // Reschedule some cars
+            Car car = fleet.get(random.nextInt(fleet.size()));
+            car.setInsuranceExpiryDate(TODAY.plusDays(random.nextInt(20_000)));
+            scheduler.schedule(car);
+        }
+        for (Car car : fleet) {
+            expected.put(car.getId(), (int) car.getInsuranceExpiryDate().toEpochDay() + 1);
+        }
+        assertEquals(fleet.size(), scheduler.size());
+
+        int firedCount = 0;
+        LocalDate day = TODAY;
+        while (day.isBefore(TODAY.plusDays(20_100))) {
+            LocalDate from = day;
+            day = day.plusDays(1 + random.nextInt(90));
+            for (DeadlineAlert alert : scheduler.advanceTo(day)) {
+                int due = expected.get(alert.getCarId());
+                assertEquals(due, alert.getDueDate().toEpochDay());
+                assertTrue(due > from.toEpochDay() || from.equals(TODAY), "Fired late: " + alert);
+                assertTrue(due <= day.toEpochDay(), "Fired early: " + alert);
+                firedCount++;
+            }
+        }
+        assertEquals(fleet.size(), firedCount);
+        assertEquals(0, scheduler.size());
+    }
+}
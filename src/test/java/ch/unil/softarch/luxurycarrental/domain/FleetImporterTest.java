@@ -0,0 +1,227 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.bulkimport.CsvFleetReader;
+import ch.unil.softarch.luxurycarrental.domain.bulkimport.FleetBatchSink;
+import ch.unil.softarch.luxurycarrental.domain.bulkimport.FleetImporter;
+import ch.unil.softarch.luxurycarrental.domain.bulkimport.ImportReport;
+import ch.unil.softarch.luxurycarrental.domain.bulkimport.JsonFleetReader;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FleetImporter} and its CSV and JSON readers.
+ */
+class FleetImporterTest {
+
+    private static final String HEADER = "licensePlate,vin,dailyRentalPrice,depositAmount,status,registrationDate,"
+            + "category,brand,model,engine,power,driveType,transmission,seats,features\n";
+
+    /**
+     * Records batches and checks that every car's type was written before the car.
+     */
+    private static final class RecordingSink implements FleetBatchSink {
+        final List<CarType> types = new ArrayList<>();
+        final List<Car> cars = new ArrayList<>();
+        final List<Integer> carBatchSizes = new ArrayList<>();
+        final Set<UUID> writtenTypeIds = new HashSet<>();
+
+        @Override
+        public void writeCarTypes(List<CarType> batch) {
+            for (CarType type : batch) {
+                writtenTypeIds.add(type.getId());
+            }
+            types.addAll(batch);
+        }
+
+        @Override
+        public void writeCars(List<Car> batch) {
+            for (Car car : batch) {
+                assertTrue(writtenTypeIds.contains(car.getCarType().getId()), "Type written before car");
+            }
+            carBatchSizes.add(batch.size());
+            cars.addAll(batch);
+        }
+    }
+
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = new RecordingSink();
+    }
+
+    @Test
+    void testCsvImportDeduplicatesAndValidates() throws IOException {
+        String csv = HEADER
+                + "VD-1,WP0ZZZ1,450.00,5000,AVAILABLE,2023-03-01,Sport,Porsche,911,3.0L,450,ALL_WHEEL_DRIVE,AUTOMATIC,2,GPS|Bluetooth\r\n"
+                + "VD-2,WP0ZZZ2,480,5000,,2024-01-15,Sport,porsche,911 ,3.0l,999,,,,\r\n"
+                + "\r\n"
+                + "\"GE-3\",,\"1,200.00\",100,AVAILABLE,,SUV,Audi,Q7,,,,,,\n"          // Invalid price
+                + "vd-1,WP0ZZZ9,300,100,AVAILABLE,,SUV,Audi,Q7,,,,,,\n"                // Duplicate plate
+                + "GE-4,wp0zzz2,300,100,AVAILABLE,,SUV,Audi,Q7,,,,,,\n"                // Duplicate VIN
+                + "GE-5,,300.5,100,UNAVAILABLE,,SUV,Audi,Q7,,,,,,\"Tow bar\n|Roof \"\"box\"\"\"\n";
+
+        ImportReport report = new FleetImporter(sink).batchSize(2).importFrom(new CsvFleetReader(new StringReader(csv)));
+
+        assertEquals(6, report.getRowsRead());
+        assertEquals(3, report.getCarsImported());
+        assertEquals(2, report.getCarTypesCreated());
+        assertEquals(3, report.getRowsRejected());
+        assertEquals(List.of(5L, 6L, 7L), report.getErrors().stream().map(e -> e.getLine()).toList());
+        assertTrue(report.getErrors().get(1).getMessage().contains("Duplicate licensePlate"));
+        assertEquals(List.of(2, 1), sink.carBatchSizes);
+
+        Car first = sink.cars.get(0);
+        Car second = sink.cars.get(1);
+        assertNotNull(first.getId());
+        assertSame(first.getCarType(), second.getCarType(), "Same brand/model/engine share one type");
+        assertEquals(450, first.getCarType().getPower(), "The first row defines the type");
+        assertEquals(DriveType.ALL_WHEEL_DRIVE, first.getCarType().getDriveType());
+        assertEquals(List.of("GPS", "Bluetooth"), first.getCarType().getFeatures());
+        assertEquals(Money.of(480), second.getDailyRentalPrice());
+        assertEquals(CarStatus.AVAILABLE, second.getStatus());
+        assertEquals(LocalDate.of(2024, 1, 15), second.getRegistrationDate());
+
+        Car last = sink.cars.get(2);
+        assertEquals(Money.ofMinor(30_050), last.getDailyRentalPrice());
+        assertEquals(List.of("Tow bar", "Roof \"box\""), last.getCarType().getFeatures());
+    }
+
+    @Test
+    void testJsonImport() throws IOException {
+        String json = "[\n"
+                + "  {\"licensePlate\": \"ZH-1\", \"dailyRentalPrice\": 300, \"depositAmount\": \"1000.00\",\n"
+                + "   \"category\": \"SUV\", \"brand\": \"Audi\", \"model\": \"Q7\", \"seats\": 7,\n"
+                + "   \"features\": [\"GPS\", \"Tow bar\"], \"color\": null},\n"
+                + "  {\"licensePlate\": \"ZH-2\", \"dailyRentalPrice\": 320, \"depositAmount\": 1000,\n"
+                + "   \"category\": \"SUV\", \"brand\": \"AUDI\", \"model\": \"q7\"},\n"
+                + "  {\"licensePlate\": \"ZH-3\", \"brand\": \"Audi\"}\n"
+                + "]";
+
+        ImportReport report = new FleetImporter(sink).importFrom(new JsonFleetReader(new StringReader(json)));
+
+        assertEquals(3, report.getRowsRead());
+        assertEquals(2, report.getCarsImported());
+        assertEquals(1, report.getCarTypesCreated());
+        assertEquals(7, report.getErrors().get(0).getLine());
+        assertEquals(7, sink.types.get(0).getSeats());
+        assertEquals(List.of("GPS", "Tow bar"), sink.types.get(0).getFeatures());
+        assertEquals(Money.of(1000), sink.cars.get(0).getDepositAmount());
+        assertNull(sink.cars.get(0).getColor());
+
+        assertThrows(IllegalArgumentException.class, () -> new FleetImporter(sink)
+                .importFrom(new JsonFleetReader(new StringReader("{\"licensePlate\": \"ZH-1\"}"))));
+    }
+
+    @Test
+    void testKnownEntitiesAreRespected() throws IOException {
+        CarType existingType = new CarType("Sport", "Porsche", "911", "3.0L", 450, 300, 3.5, 1500.0,
+                null, null, 2, null, List.of());
+        existingType.setId(UUID.randomUUID());
+        Car existingCar = new Car();
+        existingCar.setLicensePlate("VD-1");
+
+        String csv = HEADER
+                + "VD-1,,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n"
+                + "VD-2,,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n";
+        ImportReport report = new FleetImporter(new FleetBatchSink() {
+            @Override
+            public void writeCarTypes(List<CarType> batch) {
+                fail("Known type must not be written again");
+            }
+
+            @Override
+            public void writeCars(List<Car> batch) {
+                assertSame(existingType, batch.get(0).getCarType());
+            }
+        }).knownCarTypes(List.of(existingType)).knownCars(List.of(existingCar))
+                .importFrom(new CsvFleetReader(new StringReader(csv)));
+
+        assertEquals(1, report.getCarsImported());
+        assertEquals(0, report.getCarTypesCreated());
+    }
+
+    @Test
+    void testWhitespaceInsidePlatesAndVinsIsIgnored() throws IOException {
+        Car existingCar = new Car();
+        existingCar.setLicensePlate("VD 123");
+        existingCar.setVin("WP0 ZZZ1");
+
+        String csv = HEADER
+                + "VD123,,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n"             // Duplicate plate
+                + "ZH-1,wp0zzz1,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n"       // Duplicate VIN
+                + "ZH 2,,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n"
+                + "zh2,,450,5000,,,Sport,Porsche,911,3.0L,,,,,\n";              // Duplicate plate
+        ImportReport report = new FleetImporter(sink).knownCars(List.of(existingCar))
+                .importFrom(new CsvFleetReader(new StringReader(csv)));
+
+        assertEquals(1, report.getCarsImported());
+        assertEquals(3, report.getRowsRejected());
+        assertTrue(report.getErrors().get(1).getMessage().contains("Duplicate vin"));
+    }
+
+    @Test
+    void testStreamingThroughput() throws IOException {
+        int rows = 50_000;
+        Reader generated = new Reader() {
+            private int row = -1;
+            private String current = HEADER;
+            private int position;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                if (position == current.length()) {
+                    if (++row == rows) {
+                        return -1;
+                    }
+                    current = "VD-" + row + ",VIN" + row + ",450.00,5000.00,AVAILABLE,2023-03-01,Sport,Brand"
+                            + (row % 50) + ",Model" + (row % 200) + ",3.0L,450,ALL_WHEEL_DRIVE,AUTOMATIC,2,GPS|Bluetooth\n";
+                    position = 0;
+                }
+                int count = Math.min(length, current.length() - position);
+                current.getChars(position, position + count, buffer, offset);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        int[] carsSeen = new int[1];
+        ImportReport report = new FleetImporter(new FleetBatchSink() {
+            @Override
+            public void writeCarTypes(List<CarType> batch) {
+            }
+
+            @Override
+            public void writeCars(List<Car> batch) {
+                carsSeen[0] += batch.size();
+            }
+        }).batchSize(500).importFrom(new CsvFleetReader(generated));
+
+        assertEquals(rows, report.getCarsImported());
+        assertEquals(rows, carsSeen[0]);
+        assertEquals(200, report.getCarTypesCreated());
+        assertTrue(report.getRowsPerSecond() > 0);
+    }
+}
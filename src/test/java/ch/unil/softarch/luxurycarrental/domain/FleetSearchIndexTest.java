@@ -0,0 +1,147 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.DriveType;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.Transmission;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.search.FleetQuery;
+import ch.unil.softarch.luxurycarrental.domain.search.FleetSearchIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FleetSearchIndex}.
+ */
+class FleetSearchIndexTest {
+
+    private static final LocalDate FRIDAY = LocalDate.of(2025, 11, 7);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+
+    private FleetSearchIndex index;
+    private Car awdAutomatic;
+    private Car electricAwd;
+    private Car rwdManual;
+    private Car awdTwoSeater;
+
+    @BeforeEach
+    void setUp() {
+        index = new FleetSearchIndex();
+
+        CarType suv = carType("SUV", "Audi", DriveType.ALL_WHEEL_DRIVE, Transmission.AUTOMATIC, 5);
+        CarType ev = carType("SUV", "Tesla", DriveType.ELECTRIC_AWD, Transmission.AUTOMATIC, 5);
+        CarType sport = carType("Sport", "Porsche", DriveType.REAR_WHEEL_DRIVE, Transmission.MANUAL, 4);
+        CarType roadster = carType("Sport", "Audi", DriveType.ALL_WHEEL_DRIVE, Transmission.AUTOMATIC, 2);
+
+        awdAutomatic = car(suv, CarStatus.AVAILABLE);
+        electricAwd = car(ev, CarStatus.AVAILABLE);
+        rwdManual = car(sport, CarStatus.AVAILABLE);
+        awdTwoSeater = car(roadster, CarStatus.AVAILABLE);
+        index.indexCars(List.of(awdAutomatic, electricAwd, rwdManual, awdTwoSeater));
+    }
+
+    private static CarType carType(String category, String brand, DriveType driveType,
+                                   Transmission transmission, int seats) {
+        CarType type = new CarType();
+        type.setCategory(category);
+        type.setBrand(brand);
+        type.setDriveType(driveType);
+        type.setTransmission(transmission);
+        type.setSeats(seats);
+        return type;
+    }
+
+    private static Car car(CarType type, CarStatus status) {
+        Car car = new Car();
+        car.setCarType(type);
+        car.setStatus(status);
+        return car;
+    }
+
+    private static Booking booking(Car car, LocalDate start, LocalDate end, BookingStatus status) {
+        return new Booking(car, null, start, end, Money.ZERO, Money.ZERO, status, PaymentStatus.PENDING);
+    }
+
+    private FleetQuery weekendAwdQuery() {
+        return new FleetQuery()
+                .status(CarStatus.AVAILABLE)
+                .driveTypes(DriveType.ALL_WHEEL_DRIVE, DriveType.ELECTRIC_AWD)
+                .transmissions(Transmission.AUTOMATIC)
+                .minSeats(4)
+                .window(FRIDAY, MONDAY);
+    }
+
+    @Test
+    void testAttributeSearch() {
+        assertEquals(List.of(awdAutomatic.getId(), electricAwd.getId()), index.search(weekendAwdQuery()));
+        assertEquals(List.of(rwdManual.getId(), awdTwoSeater.getId()),
+                index.search(new FleetQuery().categories("sport")));
+        assertEquals(2, index.count(new FleetQuery().brands(" AUDI ")));
+        assertEquals(4, index.count(new FleetQuery()));
+    }
+
+    @Test
+    void testDateWindowExcludesBookedCars() {
+        Booking overlapping = booking(awdAutomatic, MONDAY.minusDays(1), MONDAY.plusDays(2), BookingStatus.CONFIRMED);
+        Booking returnedFriday = booking(electricAwd, FRIDAY.minusDays(3), FRIDAY, BookingStatus.CONFIRMED);
+        index.indexBooking(overlapping);
+        index.indexBooking(returnedFriday);
+
+        assertEquals(List.of(electricAwd.getId()), index.search(weekendAwdQuery()));
+
+        overlapping.setBookingStatus(BookingStatus.CANCELLED);
+        index.indexBooking(overlapping);
+        assertEquals(2, index.count(weekendAwdQuery()));
+    }
+
+    @Test
+    void testRemovingOneOfTwoOverlappingBookingsKeepsDaysOccupied() {
+        Booking first = booking(awdAutomatic, FRIDAY, MONDAY, BookingStatus.PENDING);
+        Booking second = booking(awdAutomatic, FRIDAY.plusDays(1), MONDAY, BookingStatus.PENDING);
+        index.indexBooking(first);
+        index.indexBooking(second);
+
+        assertTrue(index.removeBooking(first.getBookingId()));
+        FleetQuery saturday = new FleetQuery().window(FRIDAY.plusDays(1), FRIDAY.plusDays(2));
+        assertFalse(index.search(saturday).contains(awdAutomatic.getId()));
+        FleetQuery friday = new FleetQuery().window(FRIDAY, FRIDAY.plusDays(1));
+        assertTrue(index.search(friday).contains(awdAutomatic.getId()));
+    }
+
+    @Test
+    void testCarUpdatesAndRemoval() {
+        awdAutomatic.setStatus(CarStatus.UNAVAILABLE);
+        index.indexCar(awdAutomatic);
+        assertEquals(List.of(electricAwd.getId()), index.search(weekendAwdQuery()));
+
+        assertTrue(index.removeCar(electricAwd.getId()));
+        assertTrue(index.search(weekendAwdQuery()).isEmpty());
+        assertEquals(3, index.carCount());
+    }
+
+    @Test
+    void testRemovedOrdinalsAreReused() {
+        index.indexBooking(booking(electricAwd, FRIDAY, MONDAY, BookingStatus.CONFIRMED));
+        assertTrue(index.removeCar(electricAwd.getId()));
+
+        Car replacement = car(electricAwd.getCarType(), CarStatus.AVAILABLE);
+        Car extra = car(electricAwd.getCarType(), CarStatus.AVAILABLE);
+        index.indexCar(replacement);
+        index.indexCar(extra);
+
+        // The replacement takes the freed ordinal, without the removed car's bookings
+        assertEquals(List.of(awdAutomatic.getId(), replacement.getId(), extra.getId()),
+                index.search(weekendAwdQuery()));
+        assertEquals(5, index.carCount());
+    }
+}
@@ -0,0 +1,71 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.metrics.HistogramSnapshot;
+import ch.unil.softarch.luxurycarrental.domain.metrics.LatencyHistogram;
+import ch.unil.softarch.luxurycarrental.domain.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new MetricsRegistry().histogram("test_seconds", "Test");
+
+    @Test
+    void testEmpty() {
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.valueAtQuantile(0.99));
+        assertEquals(0.0, snapshot.getMean());
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        for (long value = 0; value < 64; value++) {
+            histogram.record(value);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(64, snapshot.getCount());
+        assertEquals(63 * 64 / 2, snapshot.getSum());
+        assertEquals(0, snapshot.valueAtQuantile(0.0));
+        assertEquals(31, snapshot.valueAtQuantile(0.5));
+        assertEquals(63, snapshot.valueAtQuantile(1.0));
+    }
+
+    @Test
+    void testQuantilesWithinRelativeError() {
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + (long) (random.nextDouble() * random.nextDouble() * 50_000_000L);
+            histogram.record(values[i]);
+        }
+        java.util.Arrays.sort(values);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        for (double quantile : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            long estimate = snapshot.valueAtQuantile(quantile);
+            assertTrue(estimate >= exact, "A bucket reports its upper end");
+            assertTrue(estimate <= exact * 1.04, "p" + quantile + ": " + estimate + " vs " + exact);
+        }
+        assertEquals(values[values.length - 1], snapshot.getMax());
+        assertEquals(values[values.length - 1], snapshot.valueAtQuantile(1.0));
+    }
+
+    @Test
+    void testExtremesAndNegativeValues() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.valueAtQuantile(0.5));
+        assertEquals(Long.MAX_VALUE, snapshot.valueAtQuantile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtQuantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtQuantile(Double.NaN));
+    }
+}
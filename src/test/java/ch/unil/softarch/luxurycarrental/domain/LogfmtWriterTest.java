@@ -0,0 +1,83 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.logging.LogfmtWriter;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LogfmtWriter}.
+ */
+class LogfmtWriterTest {
+
+    @Test
+    void testPlainAndQuotedValues() {
+        LogfmtWriter writer = new LogfmtWriter()
+                .add("event", "booking.confirmed")
+                .add("name", "Jean Dupont")
+                .add("note", "say \"hi\"\n\\ done")
+                .add("empty", "")
+                .add("missing", (String) null)
+                .add("days", 4)
+                .add("verified", true)
+                .add("status", CarStatus.AVAILABLE);
+
+        assertEquals("event=booking.confirmed name=\"Jean Dupont\" note=\"say \\\"hi\\\"\\n\\\\ done\""
+                + " empty=\"\" missing= days=4 verified=true status=AVAILABLE", writer.toString());
+    }
+
+    @Test
+    void testUuidMatchesToString() {
+        for (UUID id : new UUID[] {UUID.randomUUID(), new UUID(0, 0), new UUID(-1, -1), new UUID(0x0102030405060708L, 0x090a0b0c0d0e0f10L)}) {
+            assertEquals("id=" + id, new LogfmtWriter().add("id", id).toString());
+        }
+    }
+
+    @Test
+    void testDatesMatchIsoFormat() {
+        LocalDate date = LocalDate.of(2025, 3, 7);
+        assertEquals("d=2025-03-07", new LogfmtWriter().add("d", date).toString());
+        assertEquals("d=0042-12-31", new LogfmtWriter().add("d", LocalDate.of(42, 12, 31)).toString());
+
+        assertEquals("t=2025-03-07T08:05:09", new LogfmtWriter().add("t", date.atTime(8, 5, 9)).toString());
+        assertEquals("t=2025-03-07T23:00:00.045",
+                new LogfmtWriter().add("t", LocalDateTime.of(2025, 3, 7, 23, 0, 0, 45_000_000)).toString());
+    }
+
+    @Test
+    void testMoneyMatchesToString() {
+        Money[] amounts = {
+                Money.of(450), Money.ofMinor(5), Money.ofMinor(-5), Money.ofMinor(-12_345),
+                Money.ofMinor(0), Money.ofMinor(500, Currency.getInstance("JPY"))
+        };
+        for (Money amount : amounts) {
+            assertEquals("m=\"" + amount + "\"", new LogfmtWriter().add("m", amount).toString());
+        }
+    }
+
+    @Test
+    void testMasked() {
+        LogfmtWriter writer = new LogfmtWriter().addMasked("password", "secret").addMasked("token", null);
+        assertEquals("password=*** token=", writer.toString());
+    }
+
+    @Test
+    void testResetAndThreadWriter() throws IOException {
+        LogfmtWriter writer = LogfmtWriter.forCurrentThread().add("a", 1);
+        assertSame(writer, LogfmtWriter.forCurrentThread());
+        assertEquals(0, writer.length(), "forCurrentThread() empties the shared writer");
+
+        writer.add("b", 2);
+        StringBuilder out = new StringBuilder("> ");
+        writer.writeTo(out);
+        assertEquals("> b=2", out.toString());
+    }
+}
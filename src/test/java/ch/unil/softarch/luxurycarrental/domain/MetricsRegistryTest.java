@@ -0,0 +1,86 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.metrics.Counter;
+import ch.unil.softarch.luxurycarrental.domain.metrics.Gauge;
+import ch.unil.softarch.luxurycarrental.domain.metrics.LatencyHistogram;
+import ch.unil.softarch.luxurycarrental.domain.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MetricsRegistry}.
+ */
+class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    void testSameSeriesReturnsSameInstance() {
+        Counter counter = registry.counter("requests_total", "Requests", "method", "GET");
+        assertSame(counter, registry.counter("requests_total", "Requests", "method", "GET"));
+        assertNotSame(counter, registry.counter("requests_total", "Requests", "method", "POST"));
+    }
+
+    @Test
+    void testInvalidRegistrations() {
+        registry.counter("requests_total", "Requests");
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("requests_total", "Requests"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("1st", "Bad name"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("ok", "Odd labels", "method"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("ok", "Bad label", "a-b", "x"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("ok", "Null value", "a", null));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("ok", "Help").add(-1));
+    }
+
+    @Test
+    void testPrometheusText() throws IOException {
+        registry.counter("requests_total", "Requests", "path", "/cars \"all\"").add(3);
+        Gauge gauge = registry.gauge("in_flight", "In-flight requests");
+        gauge.increment();
+        gauge.increment();
+        gauge.decrement();
+        LatencyHistogram histogram = registry.histogram("request_seconds", "Request time", "path", "/cars");
+        histogram.record(1_000_000);
+        histogram.record(3_000_000);
+
+        StringBuilder out = new StringBuilder();
+        registry.writePrometheus(out);
+
+        assertEquals("""
+                # HELP in_flight In-flight requests
+                # TYPE in_flight gauge
+                in_flight 1
+                # HELP request_seconds Request time
+                # TYPE request_seconds summary
+                request_seconds{path="/cars",quantile="0.5"} 0.001
+                request_seconds{path="/cars",quantile="0.9"} 0.003
+                request_seconds{path="/cars",quantile="0.99"} 0.003
+                request_seconds{path="/cars",quantile="0.999"} 0.003
+                request_seconds_sum{path="/cars"} 0.004
+                request_seconds_count{path="/cars"} 2
+                # HELP requests_total Requests
+                # TYPE requests_total counter
+                requests_total{path="/cars \\"all\\""} 3
+                """, out.toString().replaceAll("(\\d\\.\\d{3})\\d+", "$1"));
+    }
+
+    @Test
+    void testWriteFileReplacesAtomically(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("carrental.prom");
+        Files.writeString(file, "stale");
+        registry.counter("requests_total", "Requests").increment();
+
+        registry.writePrometheus(file);
+
+        assertTrue(Files.readString(file).contains("requests_total 1\n"));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count(), "The temporary file is renamed, not left behind");
+        }
+    }
+}
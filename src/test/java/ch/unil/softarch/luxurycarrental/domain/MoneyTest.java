@@ -0,0 +1,103 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.BookingTotals;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.money.MoneyConverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Money}, {@link MoneyConverter} and {@link BookingTotals}.
+ */
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private static Booking booking(Money totalCost, Money deposit) {
+        LocalDate start = LocalDate.of(2025, 11, 1);
+        return new Booking(null, null, start, start.plusDays(1), totalCost, deposit,
+                BookingStatus.COMPLETED, PaymentStatus.SUCCESSFUL);
+    }
+
+    @Test
+    void testFactoriesAndArithmetic() {
+        Money price = Money.of(new BigDecimal("450.05"));
+
+        assertEquals(45_005L, price.getMinorUnits());
+        assertEquals(Money.DEFAULT_CURRENCY, price.getCurrency());
+        assertEquals(Money.ofMinor(90_010L), price.plus(price));
+        assertEquals(Money.ofMinor(5L), price.minus(Money.of(450)));
+        assertEquals(Money.ofMinor(135_015L), price.times(3));
+        assertEquals(Money.ofMinor(51_756L), price.times(1.15));  // 51755.75 rounds up
+        assertTrue(price.negate().isNegative());
+        assertTrue(price.minus(price).isZero());
+        assertTrue(price.isGreaterThan(Money.of(450)));
+        assertEquals("CHF 450.05", price.toString());
+        assertEquals(new BigDecimal("450.05"), price.getAmount());
+    }
+
+    @Test
+    void testInvalidAmounts() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1.005")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1).plus(Money.ofMinor(100, EUR)));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofApproximate(Double.NaN, EUR));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+    }
+
+    @Test
+    void testEqualityIgnoresScaleButNotCurrency() {
+        assertEquals(Money.of(new BigDecimal("12.50")), Money.of(new BigDecimal("12.5")));
+        assertEquals(Money.of(12).hashCode(), Money.ofMinor(1_200).hashCode());
+        assertNotEquals(Money.ofMinor(1_200), Money.ofMinor(1_200, EUR));
+        assertEquals(Money.ofMinor(1_999, EUR), Money.ofApproximate(19.99, EUR));
+    }
+
+    @Test
+    void testConverter() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(Long.valueOf(45_005L), converter.convertToDatabaseColumn(Money.ofMinor(45_005L)));
+        assertEquals(Money.ofMinor(45_005L), converter.convertToEntityAttribute(45_005L));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn(Money.ofMinor(1, EUR)));
+
+        Customer customer = new Customer();
+        assertThrows(IllegalArgumentException.class, () -> customer.setBalance(Money.ofMinor(1, EUR)),
+                "Rejected when set, not when flushed");
+        assertThrows(IllegalArgumentException.class, () -> new Car().setDepositAmount(Money.ofMinor(1, EUR)));
+        customer.setBalance(null);
+        assertNull(customer.getBalance());
+    }
+
+    @Test
+    void testBookingTotals() {
+        Booking[] bookings = {
+                booking(Money.ofMinor(10_010), Money.of(500)),
+                booking(Money.ofMinor(20_020), null),
+                booking(null, Money.of(1_000)),
+                booking(Money.ofMinor(30_030), Money.of(500)),
+        };
+
+        assertEquals(Money.ofMinor(60_060), BookingTotals.totalCost(bookings));
+        assertEquals(Money.ofMinor(20_020), BookingTotals.totalCost(bookings, 1, 3));
+        assertEquals(Money.of(2_000), BookingTotals.depositAmount(bookings));
+        assertEquals(Money.ZERO, BookingTotals.totalCost(new Booking[0]));
+        assertEquals(Money.ofMinor(300, EUR),
+                BookingTotals.sum(new Money[] {Money.ofMinor(100, EUR), null, Money.ofMinor(200, EUR)}));
+
+        assertThrows(IllegalArgumentException.class, () -> booking(Money.ofMinor(100, EUR), Money.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> BookingTotals.totalCost(bookings, 2, 5));
+    }
+}
@@ -0,0 +1,150 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.analytics.OccupancyMismatch;
+import ch.unil.softarch.luxurycarrental.domain.analytics.OccupancyView;
+import ch.unil.softarch.luxurycarrental.domain.analytics.OccupancyView.Dimension;
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.CarStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link OccupancyView}.
+ */
+class OccupancyViewTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 7, 1);
+
+    private Car supercar;
+    private Car limousine;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        supercar = car("Supercar");
+        limousine = car("Limousine");
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+    }
+
+    private static Car car(String category) {
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setStatus(CarStatus.AVAILABLE);
+        car.setCarType(new CarType(category, "Brand", "Model", "V8", 600, 320, 3.0, 1500, null, null, 2, "", List.of()));
+        return car;
+    }
+
+    private Booking booking(Car car, LocalDate start, int days) {
+        Booking booking = new Booking(car, customer, start, start.plusDays(days), Money.of(1_000), Money.of(5_000),
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        booking.setBookingId(UUID.randomUUID());
+        return booking;
+    }
+
+    @Test
+    void testAppliesInsertsCancellationsAndDateShifts() {
+        OccupancyView view = new OccupancyView(Dimension.CATEGORY, FROM, TO);
+        Booking first = booking(supercar, FROM.plusDays(2), 3);
+        Booking second = booking(supercar, FROM.plusDays(3), 5);
+        Booking third = booking(limousine, FROM.minusDays(2), 4);   // Clipped to the first two days
+        view.applyAll(List.of(first, second, third));
+
+        assertEquals(2, view.carsOut("supercar ", FROM.plusDays(3)));
+        assertEquals(1, view.carsOut("Supercar", FROM.plusDays(7)));
+        assertEquals(0, view.carsOut("Supercar", FROM.plusDays(8)));
+        assertEquals(1, view.carsOut("Limousine", FROM.plusDays(1)));
+        assertEquals(3 + 5, view.carDays("Supercar", FROM, TO));
+        assertEquals(3 + 5 + 2, view.carDays(FROM, TO));
+        assertEquals(2, view.carDays("Supercar", FROM.plusDays(3), FROM.plusDays(4)));
+        assertEquals(0, view.carsOut("Convertible", FROM));
+        assertEquals(List.of("Supercar", "Limousine"), view.groups());
+
+        // Date shift
+        first.setStartDate(FROM.plusDays(20));
+        first.setEndDate(FROM.plusDays(22));
+        view.apply(first);
+        assertEquals(1, view.carsOut("Supercar", FROM.plusDays(3)));
+        assertEquals(1, view.carsOut("Supercar", FROM.plusDays(21)));
+
+        // Cancellation and completion
+        second.setBookingStatus(BookingStatus.CANCELLED);
+        view.apply(second);
+        third.setPaymentStatus(PaymentStatus.SUCCESSFUL);
+        third.setBookingStatus(BookingStatus.CONFIRMED);
+        third.setBookingStatus(BookingStatus.COMPLETED);
+        view.apply(third);
+        assertEquals(0, view.carsOut(FROM.plusDays(3)));
+        assertEquals(2 + 2, view.carDays(FROM, TO), "Completed bookings still count");
+        assertEquals(2, view.size());
+
+        assertTrue(view.remove(first.getBookingId()));
+        assertFalse(view.remove(first.getBookingId()));
+        assertEquals(2, view.carDays(FROM, TO));
+    }
+
+    @Test
+    void testVerifyDetectsMissedUpdates() {
+        OccupancyView view = new OccupancyView(Dimension.CAR_STATUS, FROM, TO);
+        Random random = new Random(3);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Booking booking = booking(random.nextBoolean() ? supercar : limousine,
+                    FROM.plusDays(random.nextInt(40) - 5), 1 + random.nextInt(7));
+            bookings.add(booking);
+            view.apply(booking);
+        }
+        for (int i = 0; i < 100; i++) {
+            Booking booking = bookings.get(random.nextInt(bookings.size()));
+            if (booking.getBookingStatus() == BookingStatus.PENDING && random.nextBoolean()) {
+                booking.setBookingStatus(BookingStatus.CANCELLED);
+            } else {
+                booking.setEndDate(booking.getEndDate().plusDays(1));
+            }
+            view.apply(booking);
+        }
+        assertEquals(List.of(), view.verify(bookings));
+
+        // The view is not told that the limousine went to maintenance
+        limousine.setStatus(CarStatus.UNAVAILABLE);
+        List<OccupancyMismatch> mismatches = view.verify(bookings);
+        assertFalse(mismatches.isEmpty());
+        assertTrue(mismatches.stream().anyMatch(m -> m.getGroup().equals("UNAVAILABLE") && m.getActual() == 0));
+
+        for (Booking booking : bookings) {
+            if (booking.getCar() == limousine) {
+                view.apply(booking);
+            }
+        }
+        assertEquals(List.of(), view.verify(bookings));
+        assertTrue(view.carsOut("unavailable", FROM.plusDays(10)) > 0);
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        OccupancyView view = new OccupancyView(Dimension.CATEGORY, FROM, TO);
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyView(Dimension.CATEGORY, TO, FROM));
+        Booking withoutId = new Booking();
+        withoutId.setBookingId(null);
+        assertThrows(IllegalArgumentException.class, () -> view.apply(withoutId));
+        assertThrows(IllegalArgumentException.class, () -> view.carsOut(TO));
+        assertThrows(IllegalArgumentException.class, () -> view.carDays(FROM, TO.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> view.carDays(FROM.plusDays(2), FROM));
+    }
+}
@@ -0,0 +1,138 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.CarType;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PriceQuote;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingEngine;
+import ch.unil.softarch.luxurycarrental.domain.pricing.PricingRules;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PricingEngine}.
+ */
+class PricingEngineTest {
+
+    // Monday 3 November 2025
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 3);
+
+    private PricingEngine engine;
+    private Car sedan;
+    private Car sportsCar;
+
+    @BeforeEach
+    void setUp() {
+        PricingRules rules = new PricingRules()
+                .season(MonthDay.of(12, 20), MonthDay.of(1, 5), 1.5)
+                .weekendMultiplier(1.2)
+                .categorySurcharge("Sport", 1.1)
+                .longRentalDiscount(7, 0.10)
+                .longRentalDiscount(28, 0.25);
+        engine = new PricingEngine(rules, LocalDate.of(2025, 1, 1), 730);
+
+        sedan = car("Sedan", 100, 1000);
+        sportsCar = car("sport", 200, 5000);
+    }
+
+    private static Car car(String category, long dailyPrice, long deposit) {
+        CarType type = new CarType();
+        type.setCategory(category);
+        Car car = new Car();
+        car.setCarType(type);
+        car.setDailyRentalPrice(Money.of(dailyPrice));
+        car.setDepositAmount(Money.of(deposit));
+        return car;
+    }
+
+    @Test
+    void testWeekdaysAndWeekend() {
+        // Mon-Wed: 3 plain days
+        assertEquals(Money.of(300), engine.quote(sedan, MONDAY, MONDAY.plusDays(3)).getTotalCost());
+        // Fri-Mon: Friday plain, Saturday and Sunday at +20 %
+        PriceQuote weekend = engine.quote(sedan, MONDAY.plusDays(4), MONDAY.plusDays(7));
+        assertEquals(3, weekend.getDays());
+        assertEquals(Money.of(340), weekend.getTotalCost());
+        assertEquals(Money.of(1000), weekend.getDepositAmount());
+    }
+
+    @Test
+    void testCategorySurchargeSeasonWrapAndDiscount() {
+        // Category surcharge, case-insensitive
+        assertEquals(Money.of(220), engine.quote(sportsCar, MONDAY, MONDAY.plusDays(1)).getTotalCost());
+
+        // Wednesday 31 Dec and Thursday 1 Jan fall into the season spanning New Year
+        LocalDate newYearsEve = LocalDate.of(2025, 12, 31);
+        assertEquals(Money.of(300), engine.quote(sedan, newYearsEve, newYearsEve.plusDays(2)).getTotalCost());
+
+        // A full week: 5 weekdays + 2 weekend days = 740, minus 10 %
+        assertEquals(Money.of(666), engine.quote(sedan, MONDAY, MONDAY.plusDays(7)).getTotalCost());
+        // Four weeks: 4 x 740, minus 25 %
+        assertEquals(Money.of(2220), engine.quote(sedan, MONDAY, MONDAY.plusDays(28)).getTotalCost());
+    }
+
+    @Test
+    void testBatchQuoteMatchesSingleQuotes() {
+        LocalDate start = MONDAY.plusDays(4);
+        LocalDate end = start.plusDays(10);
+        Money[] totals = engine.quoteAll(List.of(sedan, sportsCar), start, end);
+
+        assertEquals(engine.quote(sedan, start, end).getTotalCost(), totals[0]);
+        assertEquals(engine.quote(sportsCar, start, end).getTotalCost(), totals[1]);
+    }
+
+    @Test
+    void testPriceChangeRebuildsTable() {
+        assertEquals(Money.of(100), engine.quote(sedan, MONDAY, MONDAY.plusDays(1)).getTotalCost());
+        sedan.setDailyRentalPrice(Money.of(120));
+        assertEquals(Money.of(120), engine.quote(sedan, MONDAY, MONDAY.plusDays(1)).getTotalCost());
+    }
+
+    @Test
+    void testCategoryChangeRebuildsTable() {
+        assertEquals(Money.of(100), engine.quote(sedan, MONDAY, MONDAY.plusDays(1)).getTotalCost());
+        sedan.getCarType().setCategory("Sport");
+        assertEquals(Money.of(110), engine.quote(sedan, MONDAY, MONDAY.plusDays(1)).getTotalCost());
+    }
+
+    @Test
+    void testLaterRuleEditsDoNotAffectEngine() {
+        PricingRules rules = new PricingRules();
+        PricingEngine snapshot = new PricingEngine(rules, MONDAY, 30);
+        rules.categorySurcharge("Sedan", 2.0).weekendMultiplier(3.0).longRentalDiscount(1, 0.5);
+
+        assertEquals(Money.of(700), snapshot.quote(sedan, MONDAY, MONDAY.plusDays(7)).getTotalCost());
+    }
+
+    @Test
+    void testPriceBooking() {
+        Booking booking = new Booking(sedan, null, MONDAY, MONDAY.plusDays(2), Money.ZERO, Money.ZERO,
+                BookingStatus.PENDING, PaymentStatus.PENDING);
+        engine.price(booking);
+
+        assertEquals(Money.of(200), booking.getTotalCost());
+        assertEquals(Money.of(1000), booking.getDepositAmount());
+    }
+
+    @Test
+    void testRangesOutsideHorizonAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.quote(sedan, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.quote(sedan, LocalDate.of(2026, 12, 30), LocalDate.of(2027, 1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> engine.quote(sedan, MONDAY, MONDAY));
+
+        LocalDate farAway = MONDAY.plusDays(1L << 32);  // Would wrap onto MONDAY with an int cast
+        assertThrows(IllegalArgumentException.class, () -> engine.quote(sedan, farAway, farAway.plusDays(2)));
+    }
+}
@@ -0,0 +1,196 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Booking;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.enums.BookingStatus;
+import ch.unil.softarch.luxurycarrental.domain.enums.PaymentStatus;
+import ch.unil.softarch.luxurycarrental.domain.money.Money;
+import ch.unil.softarch.luxurycarrental.domain.reservation.ReservationBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and stress tests for the {@link ReservationBook}.
+ */
+class ReservationBookTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 11, 1);
+
+    private ReservationBook book;
+    private Car car;
+
+    @BeforeEach
+    void setUp() {
+        book = new ReservationBook();
+        car = new Car();
+    }
+
+    private Booking booking(int startOffset, int days) {
+        return new Booking(car, null, BASE.plusDays(startOffset), BASE.plusDays(startOffset + days),
+                Money.ZERO, Money.ZERO, BookingStatus.PENDING, PaymentStatus.PENDING);
+    }
+
+    @Test
+    void testOverlappingReservationIsRefused() {
+        Booking first = booking(0, 5);
+        Booking overlapping = booking(4, 3);
+        Booking afterReturn = booking(5, 2);
+
+        assertTrue(book.reserve(first));
+        assertFalse(book.reserve(overlapping));
+        assertTrue(book.reserve(afterReturn), "The return day can be booked again");
+        assertTrue(book.reserve(first), "Repeating a reservation is idempotent");
+        assertEquals(2, book.reservationCount(car.getId()));
+    }
+
+    @Test
+    void testBookingHoldsOneReservationPerCar() {
+        Booking first = booking(0, 5);
+        assertTrue(book.reserve(first));
+
+        assertFalse(book.reserve(car.getId(), first.getBookingId(), BASE.plusDays(20), BASE.plusDays(22)),
+                "Other dates for the same booking go through reschedule");
+        assertEquals(1, book.reservationCount(car.getId()));
+
+        assertTrue(book.release(first));
+        assertEquals(0, book.reservationCount(car.getId()), "Nothing left behind after release");
+        assertTrue(book.isFree(car.getId(), BASE.plusDays(20), BASE.plusDays(22)));
+    }
+
+    @Test
+    void testReleaseAndReschedule() {
+        Booking first = booking(0, 5);
+        Booking second = booking(10, 2);
+        assertTrue(book.reserve(first));
+        assertTrue(book.reserve(second));
+
+        assertFalse(book.reschedule(car.getId(), first.getBookingId(), BASE.plusDays(9), BASE.plusDays(11)));
+        assertFalse(book.isFree(car.getId(), BASE, BASE.plusDays(1)), "Failed reschedule keeps the old dates");
+        assertTrue(book.reschedule(car.getId(), first.getBookingId(), BASE.plusDays(5), BASE.plusDays(10)));
+        assertTrue(book.isFree(car.getId(), BASE, BASE.plusDays(5)));
+
+        assertTrue(book.release(second));
+        assertFalse(book.release(second));
+        assertTrue(book.isFree(car.getId(), BASE.plusDays(10), BASE.plusDays(12)));
+    }
+
+    @Test
+    void testReleasedStatusesCannotReserve() {
+        Booking cancelled = booking(0, 1);
+        cancelled.setBookingStatus(BookingStatus.CANCELLED);
+        assertThrows(IllegalArgumentException.class, () -> book.reserve(cancelled));
+    }
+
+    @Test
+    void testPurgeDropsEndedReservations() {
+        Booking past = booking(0, 3);
+        Booking endingToday = booking(3, 2);
+        Booking ongoing = booking(5, 4);
+        assertTrue(book.reserve(past));
+        assertTrue(book.reserve(endingToday));
+        assertTrue(book.reserve(ongoing));
+
+        assertEquals(2, book.purgeBefore(BASE.plusDays(5)));
+        assertEquals(1, book.reservationCount(car.getId()));
+        assertFalse(book.release(past), "Purged reservations are gone");
+        assertFalse(book.isFree(car.getId(), BASE.plusDays(8), BASE.plusDays(9)));
+        assertEquals(0, book.purgeBefore(BASE.plusDays(5)));
+
+        assertEquals(1, book.purgeBefore(BASE.plusDays(9)));
+        assertEquals(0, book.reservationCount(car.getId()));
+        assertTrue(book.reserve(booking(9, 1)));
+    }
+
+    /**
+     * Many threads race for a small fleet, with some cancellations reopening dates.
+     * No two live reservations of a car may overlap, whatever the thread count.
+     */
+    @Test
+    void testNoDoubleBookingsUnderContention() throws InterruptedException {
+        for (int threads : new int[] {1, 2, 4, 8, 16}) {
+            runStress(threads);
+        }
+    }
+
+    private void runStress(int threads) throws InterruptedException {
+        ReservationBook stressBook = new ReservationBook();
+        int carCount = 20;
+        int attemptsPerThread = 20_000;
+        UUID[] cars = new UUID[carCount];
+        for (int i = 0; i < carCount; i++) {
+            cars[i] = UUID.randomUUID();
+        }
+
+        Map<UUID, int[]> live = new ConcurrentHashMap<>();  // Booking ID -> {carIndex, start, end}
+        AtomicInteger acceptedCount = new AtomicInteger();
+        AtomicInteger lostReleases = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int carIndex = random.nextInt(carCount);
+                    int from = random.nextInt(365);
+                    int to = from + 1 + random.nextInt(7);
+                    UUID bookingId = new UUID(random.nextLong(), random.nextLong());
+                    if (stressBook.reserve(cars[carIndex], bookingId, BASE.plusDays(from), BASE.plusDays(to))) {
+                        acceptedCount.incrementAndGet();
+                        live.put(bookingId, new int[] {carIndex, from, to});
+                        if (random.nextInt(4) == 0) {
+                            live.remove(bookingId);
+                            if (!stressBook.release(cars[carIndex], bookingId)) {
+                                lostReleases.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(acceptedCount.get() > 0, "Some reservations are accepted");
+
+        assertEquals(0, lostReleases.get(), "Every accepted reservation can be released");
+        int held = 0;
+        for (UUID carId : cars) {
+            held += stressBook.reservationCount(carId);
+        }
+        assertEquals(live.size(), held, "Every live reservation is held exactly once");
+
+        Map<Integer, List<int[]>> perCar = live.values().stream().collect(Collectors.groupingBy(r -> r[0]));
+        for (List<int[]> reservations : perCar.values()) {
+            reservations.sort(Comparator.comparingInt(r -> r[1]));
+            for (int i = 1; i < reservations.size(); i++) {
+                assertTrue(reservations.get(i - 1)[2] <= reservations.get(i)[1],
+                        "Double booking detected with " + threads + " threads");
+            }
+        }
+    }
+}
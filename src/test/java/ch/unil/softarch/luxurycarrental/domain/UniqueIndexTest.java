@@ -0,0 +1,145 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.entities.Admin;
+import ch.unil.softarch.luxurycarrental.domain.entities.Car;
+import ch.unil.softarch.luxurycarrental.domain.entities.Customer;
+import ch.unil.softarch.luxurycarrental.domain.registry.UniqueIndex;
+import ch.unil.softarch.luxurycarrental.domain.registry.UniqueKey;
+import ch.unil.softarch.luxurycarrental.domain.registry.UniqueViolation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UniqueIndex}.
+ */
+class UniqueIndexTest {
+
+    private static Car car(String plate, String vin) {
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setLicensePlate(plate);
+        car.setVin(vin);
+        return car;
+    }
+
+    private static Customer customer(String email, String license) {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setEmail(email);
+        customer.setDrivingLicenseNumber(license);
+        return customer;
+    }
+
+    @Test
+    void testNormalization() {
+        assertEquals("VD123456", UniqueKey.CAR_LICENSE_PLATE.normalize(" vd 123\t456 "));
+        assertEquals("jane.doe@example.com", UniqueKey.CUSTOMER_EMAIL.normalize("  Jane.Doe@Example.COM "));
+        assertNull(UniqueKey.CAR_VIN.normalize("   "));
+        assertNull(UniqueKey.ADMIN_USERNAME.normalize(null));
+    }
+
+    @Test
+    void testRegisterDetectsDuplicatesAndMovesEditedKeys() {
+        UniqueIndex index = new UniqueIndex();
+        Car car = car("VD 123 456", "WP0ZZZ99ZTS392124");
+        index.register(car);
+
+        assertEquals(car.getId(), index.ownerOf(UniqueKey.CAR_LICENSE_PLATE, "vd123456"));
+        assertTrue(index.isTaken(UniqueKey.CAR_VIN, "wp0zzz99zts392124"));
+        assertFalse(index.isTakenByOther(UniqueKey.CAR_VIN, "WP0ZZZ99ZTS392124", car.getId()));
+
+        // The second car's plate is free but its VIN is not: nothing is claimed
+        Car copy = car("GE 1", "WP0ZZZ 99ZTS392124");
+        assertThrows(IllegalStateException.class, () -> index.register(copy));
+        assertFalse(index.isTaken(UniqueKey.CAR_LICENSE_PLATE, "GE 1"));
+
+        car.setLicensePlate("VD 999");
+        index.register(car);
+        assertFalse(index.isTaken(UniqueKey.CAR_LICENSE_PLATE, "VD 123 456"));
+        assertEquals(car.getId(), index.ownerOf(UniqueKey.CAR_LICENSE_PLATE, "VD999"));
+        assertEquals(1, index.size(UniqueKey.CAR_LICENSE_PLATE));
+
+        // A failed edit keeps the keys the car already had
+        Car other = car("ZH 42", "ZFF00000000000001");
+        index.register(other);
+        car.setVin("ZFF00000000000001");
+        assertThrows(IllegalStateException.class, () -> index.register(car));
+        assertEquals(car.getId(), index.ownerOf(UniqueKey.CAR_LICENSE_PLATE, "VD999"));
+        assertEquals(car.getId(), index.ownerOf(UniqueKey.CAR_VIN, "WP0ZZZ99ZTS392124"));
+
+        index.unregister(other);
+        index.register(car);
+        assertEquals(car.getId(), index.ownerOf(UniqueKey.CAR_VIN, "ZFF00000000000001"));
+        assertFalse(index.isTaken(UniqueKey.CAR_VIN, "WP0ZZZ99ZTS392124"));
+
+        Admin admin = new Admin();
+        admin.setId(UUID.randomUUID());
+        admin.setUsername("Root");
+        admin.setEmail("jane@example.com");
+        index.register(admin);
+        index.register(customer("JANE@example.com", null));  // Customer and admin emails are separate keys
+        assertEquals(admin.getId(), index.ownerOf(UniqueKey.ADMIN_USERNAME, "root"));
+        Car withoutId = new Car();
+        withoutId.setId(null);
+        assertThrows(IllegalArgumentException.class, () -> index.register(withoutId));
+    }
+
+    @Test
+    void testConcurrentRegistrationHasOneWinner() throws InterruptedException {
+        UniqueIndex index = new UniqueIndex();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Customer customer = customer("same@example.com", "DL-" + t);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    index.register(customer);
+                    winners.incrementAndGet();
+                } catch (IllegalStateException expected) {
+                    // Lost the race
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, winners.get());
+        assertEquals(1, index.size(UniqueKey.CUSTOMER_EMAIL));
+        assertEquals(1, index.size(UniqueKey.CUSTOMER_DRIVING_LICENSE), "Losers claim no licence");
+    }
+
+    @Test
+    void testRebuildReportsSnapshotDuplicates() {
+        UniqueIndex index = new UniqueIndex();
+        index.register(car("OLD 1", null));
+        Customer first = customer("a@example.com", "DL1");
+        Customer second = customer(" A@EXAMPLE.com", "DL2");
+
+        List<UniqueViolation> violations = index.rebuild(
+                List.of(car("VD 1", "VIN1"), car("VD 2", "VIN2")), List.of(first, second), List.of());
+
+        assertEquals(1, violations.size());
+        assertEquals(UniqueKey.CUSTOMER_EMAIL, violations.get(0).getKey());
+        assertEquals(first.getId(), violations.get(0).getOwner());
+        assertEquals(second.getId(), violations.get(0).getDuplicate());
+        assertEquals(second.getId(), index.ownerOf(UniqueKey.CUSTOMER_DRIVING_LICENSE, "DL2"));
+        assertFalse(index.isTaken(UniqueKey.CAR_LICENSE_PLATE, "OLD 1"));
+        assertEquals(2, index.size(UniqueKey.CAR_VIN));
+    }
+}
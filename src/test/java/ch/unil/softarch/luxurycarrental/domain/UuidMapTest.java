@@ -0,0 +1,130 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UuidMap}.
+ */
+class UuidMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        UuidMap<String> map = new UuidMap<>();
+        UUID id = UUID.randomUUID();
+        UUID nil = new UUID(0, 0);
+
+        assertNull(map.put(id, "first"));
+        assertEquals("first", map.put(id, "second"));
+        assertEquals("second", map.putIfAbsent(id, "third"));
+        assertNull(map.putIfAbsent(nil, "nil"));
+        assertEquals("second", map.get(id));
+        assertEquals("second", map.get(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        assertEquals("nil", map.get(nil));
+        assertEquals(2, map.size());
+
+        assertEquals("second", map.remove(id));
+        assertNull(map.remove(id));
+        assertFalse(map.containsKey(id));
+        assertNull(map.put(id, "again"));
+        assertEquals("again", map.get(id));
+        assertEquals(2, map.size());
+        assertEquals(2, map.values().size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(nil));
+        assertThrows(NullPointerException.class, () -> map.put(id, null));
+    }
+
+    @Test
+    void testMatchesHashMapAcrossResizes() {
+        Random random = new Random(11);
+        UuidMap<Integer> map = new UuidMap<>();
+        Map<UUID, Integer> expected = new HashMap<>();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || keys.isEmpty()) {
+                UUID key = UUID.randomUUID();
+                keys.add(key);
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (operation < 8) {
+                UUID key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else {
+                UUID key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            if (i % 1_000 == 0) {
+                UUID key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (UUID key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        Map<UUID, Integer> iterated = new HashMap<>();
+        map.forEach((key, value) -> assertNull(iterated.put(key, value), "Each entry is visited once"));
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testReadersSeeStableEntriesWhileWriterResizes() throws InterruptedException {
+        UuidMap<UUID> map = new UuidMap<>();
+        List<UUID> stable = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID key = UUID.randomUUID();
+            stable.add(key);
+            map.put(key, key);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Thread reader = new Thread(() -> {
+                int i = 0;
+                while (writing.get()) {
+                    UUID key = stable.get(i++ % stable.size());
+                    if (!key.equals(map.get(key))) {
+                        misses.incrementAndGet();
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        List<UUID> churn = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            UUID key = UUID.randomUUID();
+            map.put(key, key);
+            churn.add(key);
+            if (i % 3 == 0) {
+                map.remove(churn.get(i / 2));
+            }
+        }
+        writing.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, misses.get());
+        for (UUID key : stable) {
+            assertEquals(key, map.get(key));
+        }
+    }
+}
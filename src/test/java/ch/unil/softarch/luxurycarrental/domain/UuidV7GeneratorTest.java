@@ -0,0 +1,93 @@
+package ch.unil.softarch.luxurycarrental.domain;
+
+import ch.unil.softarch.luxurycarrental.domain.ids.EntityIds;
+import ch.unil.softarch.luxurycarrental.domain.ids.IdGenerator;
+import ch.unil.softarch.luxurycarrental.domain.ids.UuidV7Generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UuidV7Generator}.
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_761_955_200_000L;  // 2025-11-01T00:00:00Z
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        UUID id = new UuidV7Generator(() -> NOW).next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant(), "RFC 4122/9562 variant");
+        assertEquals(NOW, UuidV7Generator.timestampOf(id));
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void testMonotonicWithinSameMillisecondAndAfterClockRegression() {
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        UUID previous = generator.next();
+        for (int i = 0; i < 20_000; i++) {
+            if (i == 10_000) {
+                clock.set(NOW - 5_000);  // Clock jumps backwards
+            }
+            UUID next = generator.next();
+            assertTrue(next.compareTo(previous) > 0, "IDs must be strictly increasing");
+            previous = next;
+        }
+        // 20k IDs in one frozen millisecond overflow the 12-bit counter into later timestamps
+        assertTrue(UuidV7Generator.timestampOf(previous) > NOW);
+    }
+
+    @Test
+    void testOrderedByTime() {
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        UUID earlier = generator.next();
+        clock.addAndGet(1);
+        assertTrue(generator.next().compareTo(earlier) > 0);
+    }
+
+    @Test
+    void testUniqueAcrossThreads() throws InterruptedException {
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = Collections.synchronizedSet(new HashSet<>());
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.next());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    void testEntityIdsIsPluggable() {
+        IdGenerator original = EntityIds.getGenerator();
+        try {
+            UUID fixed = UUID.randomUUID();
+            EntityIds.setGenerator(() -> fixed);
+            assertEquals(fixed, EntityIds.next());
+            assertThrows(NullPointerException.class, () -> EntityIds.setGenerator(null));
+        } finally {
+            EntityIds.setGenerator(original);
+        }
+        assertEquals(7, EntityIds.next().version(), "Time-ordered IDs are the default");
+    }
+}